@@ -26,12 +26,37 @@ public class AuditProperties {
     //ToDo: make system user name globally configurable?
     String systemUsername;
 
+    /**
+     * Whether entity log records are inserted using JDBC batch statements instead of persisting them
+     * through the entity manager.
+     */
+    boolean entityLogBatchInsertEnabled;
+
+    /**
+     * Whether entity log records are written by a background thread after the transaction is committed.
+     * Records are inserted using JDBC batch statements. Records that are not written yet are lost if the
+     * application stops abnormally.
+     */
+    boolean entityLogAsyncWriteEnabled;
+
+    /**
+     * Max amount of committed transactions waiting for their entity log records to be written in the background.
+     * If the limit is reached, the committing thread writes its records itself.
+     */
+    int entityLogAsyncWriteQueueCapacity;
+
     public AuditProperties(
             @DefaultValue("true") boolean enabled,
-            @DefaultValue("system") String systemUsername
+            @DefaultValue("system") String systemUsername,
+            @DefaultValue("false") boolean entityLogBatchInsertEnabled,
+            @DefaultValue("false") boolean entityLogAsyncWriteEnabled,
+            @DefaultValue("1000") int entityLogAsyncWriteQueueCapacity
     ) {
         this.enabled = enabled;
         this.systemUsername = systemUsername;
+        this.entityLogBatchInsertEnabled = entityLogBatchInsertEnabled;
+        this.entityLogAsyncWriteEnabled = entityLogAsyncWriteEnabled;
+        this.entityLogAsyncWriteQueueCapacity = entityLogAsyncWriteQueueCapacity;
     }
 
     public boolean isEnabled() {
@@ -41,4 +66,25 @@ public class AuditProperties {
     public String getSystemUsername() {
         return systemUsername;
     }
+
+    /**
+     * @see #entityLogBatchInsertEnabled
+     */
+    public boolean isEntityLogBatchInsertEnabled() {
+        return entityLogBatchInsertEnabled;
+    }
+
+    /**
+     * @see #entityLogAsyncWriteEnabled
+     */
+    public boolean isEntityLogAsyncWriteEnabled() {
+        return entityLogAsyncWriteEnabled;
+    }
+
+    /**
+     * @see #entityLogAsyncWriteQueueCapacity
+     */
+    public int getEntityLogAsyncWriteQueueCapacity() {
+        return entityLogAsyncWriteQueueCapacity;
+    }
 }
@@ -16,6 +16,7 @@
 package io.jmix.audit.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.audit.AuditProperties;
 import io.jmix.audit.EntityLog;
 import io.jmix.audit.entity.EntityLogAttr;
@@ -37,12 +38,18 @@ import io.jmix.core.metamodel.model.Range;
 import io.jmix.core.security.EntityOp;
 import io.jmix.data.AttributeChangesProvider;
 import io.jmix.data.AuditInfoProvider;
+import io.jmix.data.StoreAwareLocator;
+import io.jmix.data.entity.ReferenceToEntity;
+import io.jmix.data.impl.EntityAuditValues;
 import io.jmix.data.impl.EntityEventManager;
 import io.jmix.data.impl.JpaLifecycleListener;
+import io.jmix.data.persistence.DbTypeConverter;
+import io.jmix.data.persistence.DbmsSpecifics;
 import org.apache.commons.lang3.BooleanUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -50,12 +57,18 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.*;
 
 import org.springframework.lang.Nullable;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -67,6 +80,13 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
 
     public static final String RESOURCE_HOLDER_KEY = EntityLogResourceHolder.class.getName();
 
+    protected static final String INSERT_ITEM_SQL = "insert into AUDIT_ENTITY_LOG " +
+            "(ID, CREATE_TS, CREATED_BY, EVENT_TS, USERNAME, CHANGE_TYPE, ENTITY, ENTITY_INSTANCE_NAME, " +
+            "ENTITY_ID, STRING_ENTITY_ID, INT_ENTITY_ID, LONG_ENTITY_ID, CHANGES, SYS_TENANT_ID) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    protected static final int INSERT_BATCH_SIZE = 500;
+
     @Autowired
     protected TimeSource timeSource;
     @Autowired
@@ -89,6 +109,12 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     protected AttributeChangesProvider attributeChangesProvider;
     @Autowired
     protected EntityEventManager entityEventManager;
+    @Autowired
+    protected EntityAuditValues entityAuditValues;
+    @Autowired
+    protected StoreAwareLocator storeAwareLocator;
+    @Autowired
+    protected DbmsSpecifics dbmsSpecifics;
 
     @PersistenceContext
     protected EntityManager entityManager;
@@ -113,6 +139,8 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     protected ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     protected ThreadLocal<Boolean> entityLogSwitchedOn = new ThreadLocal<>();
 
+    protected volatile ThreadPoolExecutor asyncWriteExecutor;
+
     @Autowired
     public void setProperties(AuditProperties properties) {
         this.properties = properties;
@@ -161,20 +189,28 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
         if (items == null || items.isEmpty())
             return;
 
-        Set<EntityLogItem> saved = new LinkedHashSet<>();
+        Map<Object, List<EntityLogItem>> itemsByEntity = new LinkedHashMap<>();
         for (EntityLogItem item : items) {
-            List<EntityLogItem> sameEntityList = items.stream()
-                    .filter(entityLogItem -> entityLogItem.getDbGeneratedIdEntity() != null ?
-                            entityLogItem.getDbGeneratedIdEntity().equals(item.getDbGeneratedIdEntity()) :
-                            entityLogItem.getEntityRef().getObjectEntityId().equals(item.getEntityRef().getObjectEntityId()))
-                    .collect(Collectors.toList());
+            itemsByEntity.computeIfAbsent(getEntityKey(item), key -> new ArrayList<>(1)).add(item);
+        }
+
+        List<EntityLogItem> itemsToSave = new ArrayList<>(itemsByEntity.size());
+        for (List<EntityLogItem> sameEntityList : itemsByEntity.values()) {
             EntityLogItem itemToSave = sameEntityList.get(0);
-            if (!saved.contains(itemToSave)) {
-                computeChanges(itemToSave, sameEntityList);
-                saved.add(itemToSave);
-                saveItem(itemToSave);
-            }
+            computeChanges(itemToSave, sameEntityList);
+            itemsToSave.add(itemToSave);
         }
+        saveItems(itemsToSave);
+    }
+
+    /**
+     * Returns a key identifying the logged entity instance. Items with equal keys are coalesced into one record.
+     */
+    protected Object getEntityKey(EntityLogItem item) {
+        Object entityKey = item.getDbGeneratedIdEntity() != null ?
+                item.getDbGeneratedIdEntity() :
+                item.getEntityRef().getObjectEntityId();
+        return Arrays.asList(item.getEntity(), entityKey);
     }
 
     protected void computeChanges(EntityLogItem itemToSave, List<EntityLogItem> sameEntityList) {
@@ -212,20 +248,30 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
     }
 
     protected void processAttributes(EntityLogItem itemToSave, List<EntityLogItem> sameEntityList, Set<String> attributes) {
+        Map<String, EntityLogAttr> firstItemAttributes = getAttributesByName(sameEntityList.get(0));
+        Map<String, EntityLogAttr> lastItemAttributes = getAttributesByName(sameEntityList.get(sameEntityList.size() - 1));
         for (String attributeName : attributes) {
             // old value from the first item
-            sameEntityList.get(0).getAttributes().stream()
-                    .filter(entityLogAttr -> entityLogAttr.getName().equals(attributeName))
-                    .findFirst()
-                    .ifPresent(entityLogAttr -> setAttributeOldValue(entityLogAttr, itemToSave));
+            EntityLogAttr oldValueAttr = firstItemAttributes.get(attributeName);
+            if (oldValueAttr != null) {
+                setAttributeOldValue(oldValueAttr, itemToSave);
+            }
             // new value from the last item
-            sameEntityList.get(sameEntityList.size() - 1).getAttributes().stream()
-                    .filter(entityLogAttr -> entityLogAttr.getName().equals(attributeName))
-                    .findFirst()
-                    .ifPresent(entityLogAttr -> setAttributeNewValue(entityLogAttr, itemToSave));
+            EntityLogAttr newValueAttr = lastItemAttributes.get(attributeName);
+            if (newValueAttr != null) {
+                setAttributeNewValue(newValueAttr, itemToSave);
+            }
         }
     }
 
+    protected Map<String, EntityLogAttr> getAttributesByName(EntityLogItem item) {
+        Map<String, EntityLogAttr> result = new HashMap<>();
+        for (EntityLogAttr attr : item.getAttributes()) {
+            result.putIfAbsent(attr.getName(), attr);
+        }
+        return result;
+    }
+
     protected void setAttributeOldValue(EntityLogAttr entityLogAttr, EntityLogItem itemToSave) {
         EntityLogAttr attr = getAttrToSave(entityLogAttr, itemToSave);
         attr.setOldValue(entityLogAttr.getOldValue());
@@ -251,6 +297,151 @@ public class EntityLogImpl implements EntityLog, JpaLifecycleListener {
         return attr;
     }
 
+    protected void saveItems(List<EntityLogItem> items) {
+        if (!properties.isEntityLogBatchInsertEnabled() && !properties.isEntityLogAsyncWriteEnabled()) {
+            items.forEach(this::saveItem);
+            return;
+        }
+
+        Map<Boolean, List<EntityLogItem>> itemsByStore = new HashMap<>();
+        for (EntityLogItem item : items) {
+            entityEventManager.publishEntitySavingEvent(item, true);//workaround for jmix-framework/jmix#1069
+            entityAuditValues.setCreateInfo(item, timeSource.currentTimestamp(), auditInfoProvider.getCurrentUser());
+            if (item.getDbGeneratedIdEntity() == null) {
+                String storeName = metadata.getClass(item.getEntity()).getStore().getName();
+                itemsByStore.computeIfAbsent(Stores.isMain(storeName), key -> new ArrayList<>()).add(item);
+            } else {
+                registerAfterCommit(() -> {
+                    Object id = EntityValues.getId(item.getDbGeneratedIdEntity());
+                    item.getEntityRef().setObjectEntityId(id);
+                    if (properties.isEntityLogAsyncWriteEnabled()) {
+                        writeItemsAsync(Collections.singletonList(item));
+                    } else {
+                        writeItems(Collections.singletonList(item));
+                    }
+                });
+            }
+        }
+
+        List<EntityLogItem> mainStoreItems = itemsByStore.getOrDefault(true, Collections.emptyList());
+        List<EntityLogItem> additionalStoreItems = itemsByStore.getOrDefault(false, Collections.emptyList());
+        if (properties.isEntityLogAsyncWriteEnabled()) {
+            List<EntityLogItem> allItems = new ArrayList<>(mainStoreItems);
+            allItems.addAll(additionalStoreItems);
+            if (!allItems.isEmpty()) {
+                registerAfterCommit(() -> writeItemsAsync(allItems));
+            }
+        } else {
+            if (!mainStoreItems.isEmpty()) {
+                insertItems(mainStoreItems);
+            }
+            if (!additionalStoreItems.isEmpty()) {
+                // Create a new transaction in main DB if we are saving entities from additional data store
+                writeItems(additionalStoreItems);
+            }
+        }
+    }
+
+    protected void registerAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Inserts entity log records in a new transaction, either in the current thread or in the background
+     * if asynchronous writing is enabled.
+     */
+    protected void writeItemsAsync(List<EntityLogItem> items) {
+        getAsyncWriteExecutor().execute(() -> {
+            try {
+                writeItems(items);
+            } catch (RuntimeException e) {
+                log.error("Unable to write {} entity log records", items.size(), e);
+            }
+        });
+    }
+
+    protected void writeItems(List<EntityLogItem> items) {
+        transaction.executeWithoutResult(status -> insertItems(items));
+    }
+
+    /**
+     * Inserts entity log records into the main data store using JDBC batch statements.
+     * Must be invoked in a transaction of the main data store.
+     */
+    protected void insertItems(List<EntityLogItem> items) {
+        DbTypeConverter converter = dbmsSpecifics.getDbTypeConverter();
+        JdbcTemplate jdbcTemplate = storeAwareLocator.getJdbcTemplate(Stores.MAIN);
+        jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, INSERT_BATCH_SIZE, (ps, item) -> {
+            ReferenceToEntity entityRef = item.getEntityRef();
+            setParameter(ps, 1, item.getId(), UUID.class, converter);
+            setParameter(ps, 2, item.getCreateTs(), Date.class, converter);
+            setParameter(ps, 3, item.getCreatedBy(), String.class, converter);
+            setParameter(ps, 4, item.getEventTs(), Date.class, converter);
+            setParameter(ps, 5, item.getUsername(), String.class, converter);
+            setParameter(ps, 6, item.getType() == null ? null : item.getType().getId(), String.class, converter);
+            setParameter(ps, 7, item.getEntity(), String.class, converter);
+            setParameter(ps, 8, item.getEntityInstanceName(), String.class, converter);
+            setParameter(ps, 9, entityRef.getEntityId(), UUID.class, converter);
+            setParameter(ps, 10, entityRef.getStringEntityId(), String.class, converter);
+            setParameter(ps, 11, entityRef.getIntEntityId(), Integer.class, converter);
+            setParameter(ps, 12, entityRef.getLongEntityId(), Long.class, converter);
+            setParameter(ps, 13, item.getChanges(), String.class, converter);
+            setParameter(ps, 14, item.getSysTenantId(), String.class, converter);
+        });
+        log.debug("Inserted {} entity log records", items.size());
+    }
+
+    protected void setParameter(PreparedStatement ps, int index, @Nullable Object value, Class<?> javaClass,
+                                DbTypeConverter converter) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, converter.getSqlType(javaClass));
+        } else {
+            ps.setObject(index, converter.getSqlObject(value));
+        }
+    }
+
+    protected ThreadPoolExecutor getAsyncWriteExecutor() {
+        ThreadPoolExecutor executor = asyncWriteExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = asyncWriteExecutor;
+                if (executor == null) {
+                    executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(properties.getEntityLogAsyncWriteQueueCapacity()),
+                            new ThreadFactoryBuilder().setNameFormat("EntityLogWriter-%d").setDaemon(true).build(),
+                            new ThreadPoolExecutor.CallerRunsPolicy());
+                    asyncWriteExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        ThreadPoolExecutor executor = asyncWriteExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("Entity log records were not written in 30 seconds, {} transactions are skipped",
+                            executor.shutdownNow().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     protected void saveItem(EntityLogItem item) {
         String storeName = metadata.getClass(item.getEntity()).getStore().getName();
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import io.jmix.audit.AuditProperties
+import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.EntityLogImpl
+import test_support.testmodel.cascade.CascOrderReview
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class EntityLogAsyncWriteTest extends AbstractEntityLogTest {
+
+    void setup() {
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY")
+
+        withTransaction {
+            clearTable(em, "AUDIT_ENTITY_LOG")
+            saveEntityLogAutoConfFor('cascop_OrderReview', 'title', 'text')
+        }
+
+        initEntityLogAPI()
+        setAsyncWrite(true, 1000)
+    }
+
+    void cleanup() {
+        setAsyncWrite(false, 1000)
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY", "CASCOP_ORDER_REVIEW")
+    }
+
+    def "records are written after commit by the writer thread"() {
+        given:
+        CascOrderReview review = createReview('Review')
+
+        when:
+        withTransaction {
+            em.persist(review)
+        }
+        awaitAsyncWrites()
+
+        then:
+        def item = getLatestEntityLogItem('cascop_OrderReview', review.id)
+        item.type == EntityLogItem.Type.CREATE
+        loggedValueMatches(item, 'text', 'Draft')
+    }
+
+    def "nothing is written if transaction is rolled back"() {
+        given:
+        CascOrderReview review = createReview('Review')
+
+        when:
+        transaction.executeWithoutResult { status ->
+            em.persist(review)
+            em.flush()
+            status.setRollbackOnly()
+        }
+        awaitAsyncWrites()
+
+        then:
+        getEntityLogItems('cascop_OrderReview', review.id).isEmpty()
+    }
+
+    def "records are written by the committing thread when the queue is full"() {
+        given:
+        setAsyncWrite(true, 1)
+        def writerBlocked = new CountDownLatch(1)
+        def releaseWriter = new CountDownLatch(1)
+        def executor = entityLogImpl().getAsyncWriteExecutor()
+        executor.execute {
+            writerBlocked.countDown()
+            releaseWriter.await(10, TimeUnit.SECONDS)
+        }
+        writerBlocked.await(10, TimeUnit.SECONDS)
+        executor.execute {}
+
+        CascOrderReview review = createReview('Review')
+
+        when:
+        withTransaction {
+            em.persist(review)
+        }
+
+        then: "the record is written while the writer thread is still blocked"
+        getEntityLogItems('cascop_OrderReview', review.id).size() == 1
+
+        cleanup:
+        releaseWriter.countDown()
+        awaitAsyncWrites()
+    }
+
+    def "error on the writer thread doesn't stop writing of next records"() {
+        given:
+        EntityLogItem brokenItem = metadata.create(EntityLogItem)
+        brokenItem.entityRef = null
+
+        CascOrderReview review = createReview('Review')
+
+        when:
+        entityLogImpl().writeItemsAsync([brokenItem])
+        withTransaction {
+            em.persist(review)
+        }
+        awaitAsyncWrites()
+
+        then:
+        getEntityLogItems('cascop_OrderReview', review.id).size() == 1
+    }
+
+    private CascOrderReview createReview(String title) {
+        CascOrderReview review = metadata.create(CascOrderReview)
+        review.title = title
+        review.text = 'Draft'
+        review
+    }
+
+    private EntityLogImpl entityLogImpl() {
+        (EntityLogImpl) entityLog
+    }
+
+    private void setAsyncWrite(boolean enabled, int queueCapacity) {
+        EntityLogImpl impl = entityLogImpl()
+        awaitAsyncWrites()
+        impl.shutdown()
+        impl.asyncWriteExecutor = null
+        impl.setProperties(new AuditProperties(true, 'system', false, enabled, queueCapacity))
+    }
+
+    /**
+     * The writer is single-threaded, so all previously submitted writes are finished when a no-op task completes.
+     */
+    private void awaitAsyncWrites() {
+        def executor = entityLogImpl().asyncWriteExecutor
+        if (executor != null && !executor.isShutdown()) {
+            executor.submit({} as Runnable).get(10, TimeUnit.SECONDS)
+        }
+    }
+}
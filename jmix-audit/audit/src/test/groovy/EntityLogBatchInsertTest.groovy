@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import io.jmix.audit.AuditProperties
+import io.jmix.audit.entity.EntityLogItem
+import io.jmix.audit.impl.EntityLogImpl
+import test_support.testmodel.cascade.CascOrderReview
+
+class EntityLogBatchInsertTest extends AbstractEntityLogTest {
+
+    void setup() {
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY")
+
+        withTransaction {
+            clearTable(em, "AUDIT_ENTITY_LOG")
+            saveEntityLogAutoConfFor('cascop_OrderReview', 'title', 'text')
+        }
+
+        initEntityLogAPI()
+        ((EntityLogImpl) entityLog).setProperties(new AuditProperties(true, 'system', true, false, 1000))
+    }
+
+    void cleanup() {
+        ((EntityLogImpl) entityLog).setProperties(new AuditProperties(true, 'system', false, false, 1000))
+        clearTables("AUDIT_LOGGED_ATTR", "AUDIT_LOGGED_ENTITY", "CASCOP_ORDER_REVIEW")
+    }
+
+    def "changes of the same instance in one transaction are coalesced into one record"() {
+        given:
+        CascOrderReview review1 = metadata.create(CascOrderReview)
+        review1.title = 'Review 1'
+        review1.text = 'Draft'
+
+        CascOrderReview review2 = metadata.create(CascOrderReview)
+        review2.title = 'Review 2'
+        review2.text = 'Passed'
+
+        when:
+        withTransaction {
+            em.persist(review1)
+            em.persist(review2)
+            em.flush()
+            review1.text = 'Approved'
+        }
+
+        then:
+        def items1 = getEntityLogItems('cascop_OrderReview', review1.id)
+        items1.size() == 1
+        items1[0].type == EntityLogItem.Type.CREATE
+        items1[0].createTs != null
+        loggedValueMatches(items1[0], 'text', 'Approved')
+        loggedValueMatches(items1[0], 'title', 'Review 1')
+
+        def items2 = getEntityLogItems('cascop_OrderReview', review2.id)
+        items2.size() == 1
+        loggedValueMatches(items2[0], 'text', 'Passed')
+    }
+
+    def "modification is logged with old and new values"() {
+        given:
+        CascOrderReview review = metadata.create(CascOrderReview)
+        review.title = 'Review'
+        review.text = 'Draft'
+        withTransaction {
+            em.persist(review)
+        }
+
+        when:
+        withTransaction {
+            CascOrderReview loaded = em.find(CascOrderReview, review.id)
+            loaded.text = 'Passed'
+        }
+
+        then:
+        def item = getLatestEntityLogItem('cascop_OrderReview', review.id)
+        item.type == EntityLogItem.Type.MODIFY
+        loggedValueMatches(item, 'text', 'Passed')
+        loggedOldValueMatches(item, 'text', 'Draft')
+    }
+}
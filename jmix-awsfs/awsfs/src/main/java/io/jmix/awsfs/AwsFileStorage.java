@@ -18,14 +18,18 @@ package io.jmix.awsfs;
 
 import com.google.common.base.Strings;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.FileMetadata;
 import io.jmix.core.FileRef;
-import io.jmix.core.FileStorage;
+import io.jmix.core.RangeFileStorage;
 import io.jmix.core.FileStorageException;
 import io.jmix.core.TimeSource;
 import io.jmix.core.UuidProvider;
 import io.jmix.core.annotation.Internal;
 import io.jmix.core.common.util.Preconditions;
+import jakarta.annotation.PreDestroy;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,31 +54,44 @@ import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Internal
 @Component("awsfs_FileStorage")
-public class AwsFileStorage implements FileStorage {
+public class AwsFileStorage implements RangeFileStorage {
 
     private static final Logger log = LoggerFactory.getLogger(AwsFileStorage.class);
     private static final String DEFAULT_STORAGE_NAME = "s3";
+    private static final int DEFAULT_UPLOAD_PARALLELISM = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_PARTS = 8;
 
     protected String storageName;
 
@@ -89,12 +106,17 @@ public class AwsFileStorage implements FileStorage {
     protected String bucket;
     protected int chunkSize;
     protected String endpointUrl;
+    protected int uploadParallelism = DEFAULT_UPLOAD_PARALLELISM;
+    protected int maxInFlightParts = DEFAULT_MAX_IN_FLIGHT_PARTS;
 
     @Autowired
     protected TimeSource timeSource;
 
     protected AtomicReference<S3Client> s3ClientReference = new AtomicReference<>();
 
+    protected volatile ExecutorService uploadExecutor;
+    protected volatile Semaphore uploadPermits;
+
     public AwsFileStorage() {
         this(DEFAULT_STORAGE_NAME);
     }
@@ -131,6 +153,8 @@ public class AwsFileStorage implements FileStorage {
             this.bucket = properties.getBucket();
             this.chunkSize = properties.getChunkSize();
             this.endpointUrl = properties.getEndpointUrl();
+            this.uploadParallelism = properties.getUploadParallelism();
+            this.maxInFlightParts = properties.getMaxInFlightParts();
         }
     }
 
@@ -197,9 +221,9 @@ public class AwsFileStorage implements FileStorage {
         Map<String, String> fileRefParameters = Maps.toMap(parameters.keySet(), key -> parameters.get(key).toString());
         FileRef fileRef = new FileRef(getStorageName(), fileKey, fileName, fileRefParameters);
 
-        try (BufferedInputStream bos = new BufferedInputStream(inputStream, s3ChunkSizeBytes)) {
+        try (InputStream is = inputStream) {
             byte[] chunkBytes = new byte[s3ChunkSizeBytes];
-            int nBytes = bos.read(chunkBytes);
+            int nBytes = IOUtils.read(is, chunkBytes);
             S3Client s3Client = s3ClientReference.get();
             if (nBytes < s3ChunkSizeBytes) {
                 s3Client.putObject(objectBuilder -> objectBuilder
@@ -212,29 +236,27 @@ public class AwsFileStorage implements FileStorage {
             CreateMultipartUploadResponse response = s3Client.createMultipartUpload(uploadBuilder -> uploadBuilder
                     .bucket(bucket)
                     .key(fileKey));
+            String uploadId = response.uploadId();
 
-            List<CompletedPart> completedParts = new ArrayList<>();
             UploadPartRequest.Builder partBuilder = UploadPartRequest.builder()
                     .bucket(bucket)
                     .key(fileKey)
-                    .uploadId(response.uploadId());
-            for (int partNumber = 1; 0 < nBytes; partNumber++) {
-                UploadPartResponse partResponse = s3Client.uploadPart(partBuilder
-                        .partNumber(partNumber)
-                        .build(), fromBytes(chunkBytes, nBytes));
-                CompletedPart completedPart = CompletedPart.builder()
-                        .partNumber(partNumber)
-                        .eTag(partResponse.eTag())
-                        .build();
-                completedParts.add(completedPart);
-                nBytes = bos.read(chunkBytes);
+                    .uploadId(uploadId);
+            List<CompletedPart> completedParts;
+            try {
+                completedParts = uploadParallelism > 1
+                        ? uploadPartsInParallel(s3Client, partBuilder, is, chunkBytes, nBytes)
+                        : uploadParts(s3Client, partBuilder, is, chunkBytes, nBytes);
+
+                s3Client.completeMultipartUpload(completeBuilder -> completeBuilder
+                        .bucket(bucket)
+                        .key(fileKey)
+                        .uploadId(uploadId)
+                        .multipartUpload(multipartBuilder -> multipartBuilder.parts(completedParts)));
+            } catch (IOException | RuntimeException e) {
+                abortMultipartUpload(s3Client, bucket, fileKey, uploadId);
+                throw e;
             }
-
-            s3Client.completeMultipartUpload(completeBuilder -> completeBuilder
-                    .bucket(bucket)
-                    .key(fileKey)
-                    .uploadId(response.uploadId())
-                    .multipartUpload(multipartBuilder -> multipartBuilder.parts(completedParts)));
             return fileRef;
         } catch (IOException | SdkException e) {
             log.error("Error saving file to S3 storage", e);
@@ -243,20 +265,171 @@ public class AwsFileStorage implements FileStorage {
         }
     }
 
+    /**
+     * Uploads parts sequentially in the calling thread reusing a single buffer.
+     */
+    protected List<CompletedPart> uploadParts(S3Client s3Client, UploadPartRequest.Builder partBuilder,
+                                              InputStream inputStream, byte[] chunkBytes, int nBytes) throws IOException {
+        List<CompletedPart> completedParts = new ArrayList<>();
+        for (int partNumber = 1; 0 < nBytes; partNumber++) {
+            completedParts.add(uploadPart(s3Client, partBuilder.partNumber(partNumber).build(),
+                    fromBytes(chunkBytes, nBytes)));
+            nBytes = IOUtils.read(inputStream, chunkBytes);
+        }
+        return completedParts;
+    }
+
+    /**
+     * Uploads parts concurrently using the upload executor. Each part is read into its own buffer,
+     * the number of buffers held by all uploads is limited by {@link #maxInFlightParts}.
+     */
+    protected List<CompletedPart> uploadPartsInParallel(S3Client s3Client, UploadPartRequest.Builder partBuilder,
+                                                        InputStream inputStream, byte[] firstChunkBytes, int nBytes)
+            throws IOException {
+        ExecutorService executor = getUploadExecutor();
+        Semaphore permits = uploadPermits;
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+
+        // a permit is held for each buffer which is read but not uploaded yet
+        acquirePermit(permits);
+        boolean permitHeld = true;
+        try {
+            byte[] chunkBytes = firstChunkBytes;
+            for (int partNumber = 1; 0 < nBytes && !failed.get(); partNumber++) {
+                UploadPartRequest partRequest = partBuilder.partNumber(partNumber).build();
+                RequestBody requestBody = wrapBytes(chunkBytes, nBytes);
+
+                CompletableFuture<CompletedPart> future =
+                        CompletableFuture.supplyAsync(() -> uploadPart(s3Client, partRequest, requestBody), executor);
+                permitHeld = false;
+                futures.add(future.whenComplete((part, throwable) -> {
+                    if (throwable != null) {
+                        failed.set(true);
+                    }
+                    permits.release();
+                }));
+
+                acquirePermit(permits);
+                permitHeld = true;
+                chunkBytes = new byte[chunkBytes.length];
+                nBytes = IOUtils.read(inputStream, chunkBytes);
+            }
+
+            List<CompletedPart> completedParts = new ArrayList<>(futures.size());
+            for (CompletableFuture<CompletedPart> future : futures) {
+                completedParts.add(future.join());
+            }
+            return completedParts;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } finally {
+            if (permitHeld) {
+                permits.release();
+            }
+            // do not complete or abort the upload while its parts are still being sent
+            for (CompletableFuture<CompletedPart> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException ignored) {
+                }
+            }
+        }
+    }
+
+    protected CompletedPart uploadPart(S3Client s3Client, UploadPartRequest partRequest, RequestBody requestBody) {
+        UploadPartResponse partResponse = s3Client.uploadPart(partRequest, requestBody);
+        return CompletedPart.builder()
+                .partNumber(partRequest.partNumber())
+                .eTag(partResponse.eTag())
+                .build();
+    }
+
+    protected void abortMultipartUpload(S3Client s3Client, String bucket, String fileKey, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(abortBuilder -> abortBuilder
+                    .bucket(bucket)
+                    .key(fileKey)
+                    .uploadId(uploadId));
+        } catch (SdkException e) {
+            log.warn("Unable to abort multipart upload {} of {}", uploadId, fileKey, e);
+        }
+    }
+
+    protected void acquirePermit(Semaphore permits) throws InterruptedIOException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for parts to be uploaded");
+        }
+    }
+
+    protected ExecutorService getUploadExecutor() {
+        ExecutorService executor = uploadExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = uploadExecutor;
+                if (executor == null) {
+                    uploadPermits = new Semaphore(Math.max(maxInFlightParts, 1));
+                    executor = Executors.newFixedThreadPool(uploadParallelism,
+                            new ThreadFactoryBuilder().setNameFormat("AwsFileStorageUploader-%d").build());
+                    uploadExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    protected void stopUploadExecutor() {
+        ExecutorService executor = uploadExecutor;
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
     protected RequestBody fromBytes(byte[] buffer, int length) {
         length = Math.max(0, length);
         byte[] bytes = Arrays.copyOf(buffer, length);
         return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(bytes), length, Mimetype.MIMETYPE_OCTET_STREAM);
     }
 
+    /**
+     * Creates a request body backed by the given buffer without copying it. The buffer must not be changed afterwards.
+     */
+    protected RequestBody wrapBytes(byte[] buffer, int length) {
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(buffer, 0, length), length,
+                Mimetype.MIMETYPE_OCTET_STREAM);
+    }
+
     @Override
     public InputStream openStream(FileRef reference) {
+        return openStream(reference, null);
+    }
+
+    @Override
+    public InputStream openStream(FileRef reference, long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Offset and length must not be negative");
+        }
+        if (length == 0) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+        return openStream(reference, "bytes=" + offset + "-" + (offset + length - 1));
+    }
+
+    protected InputStream openStream(FileRef reference, @Nullable String range) {
         InputStream is;
         try {
             S3Client s3Client = s3ClientReference.get();
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucket)
                     .key(reference.getPath())
+                    .range(range)
                     .build();
             is = s3Client.getObject(getObjectRequest, ResponseTransformer.toInputStream());
         } catch (SdkException e) {
@@ -267,6 +440,35 @@ public class AwsFileStorage implements FileStorage {
         return is;
     }
 
+    @Override
+    public FileMetadata getFileMetadata(FileRef reference) {
+        HeadObjectResponse response = headObject(reference);
+        return new FileMetadata(response.contentLength(),
+                response.lastModified() != null ? Date.from(response.lastModified()) : null,
+                response.contentType());
+    }
+
+    protected HeadObjectResponse headObject(FileRef reference) {
+        try {
+            S3Client s3Client = s3ClientReference.get();
+            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(reference.getPath())
+                    .build();
+            return s3Client.headObject(headObjectRequest);
+        } catch (NoSuchKeyException e) {
+            throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND, reference.getFileName());
+        } catch (SdkException e) {
+            // HeadObject response has no body, so a missing key can be reported as a generic 404 error
+            if (e instanceof S3Exception && ((S3Exception) e).statusCode() == 404) {
+                throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND, reference.getFileName());
+            }
+            log.error("Error loading file metadata from S3 storage", e);
+            String message = String.format("Could not load metadata of file %s.", reference.getFileName());
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, message);
+        }
+    }
+
     @Override
     public void removeFile(FileRef reference) {
         try {
@@ -321,4 +523,12 @@ public class AwsFileStorage implements FileStorage {
     public void setEndpointUrl(@Nullable String endpointUrl) {
         this.endpointUrl = endpointUrl;
     }
+
+    public void setUploadParallelism(int uploadParallelism) {
+        this.uploadParallelism = uploadParallelism;
+    }
+
+    public void setMaxInFlightParts(int maxInFlightParts) {
+        this.maxInFlightParts = maxInFlightParts;
+    }
 }
@@ -36,19 +36,35 @@ public class AwsFileStorageProperties {
      */
     String endpointUrl;
 
+    /**
+     * Number of threads uploading parts of multipart uploads concurrently. If 1 (default), parts are uploaded
+     * sequentially in the calling thread and no upload thread pool is created.
+     */
+    int uploadParallelism;
+
+    /**
+     * Maximum number of read but not yet uploaded parts of all multipart uploads. Limits the memory used by parallel
+     * uploads to this number multiplied by {@link #chunkSize}.
+     */
+    int maxInFlightParts;
+
     public AwsFileStorageProperties(
             String accessKey,
             String secretAccessKey,
             String region,
             String bucket,
             @DefaultValue("8192") int chunkSize,
-            @DefaultValue("") String endpointUrl) {
+            @DefaultValue("") String endpointUrl,
+            @DefaultValue("1") int uploadParallelism,
+            @DefaultValue("8") int maxInFlightParts) {
         this.accessKey = accessKey;
         this.secretAccessKey = secretAccessKey;
         this.region = region;
         this.bucket = bucket;
         this.chunkSize = chunkSize;
         this.endpointUrl = endpointUrl;
+        this.uploadParallelism = uploadParallelism;
+        this.maxInFlightParts = maxInFlightParts;
     }
 
     /**
@@ -92,4 +108,18 @@ public class AwsFileStorageProperties {
     public String getEndpointUrl() {
         return endpointUrl;
     }
+
+    /**
+     * @see #uploadParallelism
+     */
+    public int getUploadParallelism() {
+        return uploadParallelism;
+    }
+
+    /**
+     * @see #maxInFlightParts
+     */
+    public int getMaxInFlightParts() {
+        return maxInFlightParts;
+    }
 }
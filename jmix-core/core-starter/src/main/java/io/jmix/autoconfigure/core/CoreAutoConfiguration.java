@@ -17,7 +17,9 @@
 package io.jmix.autoconfigure.core;
 
 import io.jmix.core.*;
+import io.jmix.core.impl.CachingGroovyScriptEvaluator;
 import io.jmix.core.impl.JmixMessageSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -32,7 +34,6 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.jmx.export.naming.ObjectNamingStrategy;
 import org.springframework.scripting.ScriptEvaluator;
-import org.springframework.scripting.groovy.GroovyScriptEvaluator;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
@@ -53,8 +54,8 @@ public class CoreAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(type = "org.springframework.scripting.ScriptEvaluator")
-    public ScriptEvaluator scriptEvaluator() {
-        return new GroovyScriptEvaluator();
+    public ScriptEvaluator scriptEvaluator(CoreProperties coreProperties, MeterRegistry meterRegistry) {
+        return new CachingGroovyScriptEvaluator(coreProperties.getScriptCacheMaxSize(), meterRegistry);
     }
 
     @Bean
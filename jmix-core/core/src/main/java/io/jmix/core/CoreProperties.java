@@ -106,6 +106,28 @@ public class CoreProperties {
      */
     boolean skipNullOrEmptyConditionsByDefault;
 
+    /**
+     * Time during which cluster application events are collected into a single message before sending. Zero
+     * (the default) disables batching: each event is sent in a separate message.
+     *
+     * @see io.jmix.core.cluster.ClusterApplicationEventPublisher
+     */
+    Duration clusterEventsBatchWindow;
+
+    /**
+     * Maximum number of cluster application events in a single message. When the number of collected events reaches
+     * this value, the batch is sent without waiting for the end of the batch window.
+     */
+    int clusterEventsMaxBatchSize;
+
+    /**
+     * Maximum number of compiled Groovy scripts kept by the default {@code ScriptEvaluator}. Least recently used
+     * scripts are evicted when the limit is reached. Zero disables caching.
+     *
+     * @see io.jmix.core.impl.CachingGroovyScriptEvaluator
+     */
+    int scriptCacheMaxSize;
+
     public CoreProperties(
             String webHostName,
             String webPort,
@@ -126,7 +148,10 @@ public class CoreProperties {
             @DefaultValue("true") boolean triggerFilesEnabled,
             @DefaultValue("5000") Duration triggerFilesProcessInterval,
             @DefaultValue("true") boolean roundDecimalValueByFormat,
-            @DefaultValue("false") boolean skipNullOrEmptyConditionsByDefault) {
+            @DefaultValue("false") boolean skipNullOrEmptyConditionsByDefault,
+            @DefaultValue("0") Duration clusterEventsBatchWindow,
+            @DefaultValue("100") int clusterEventsMaxBatchSize,
+            @DefaultValue("500") int scriptCacheMaxSize) {
         this.webHostName = webHostName;
         this.webPort = webPort;
         this.confDir = confDir;
@@ -156,6 +181,9 @@ public class CoreProperties {
         this.triggerFilesProcessInterval = triggerFilesProcessInterval;
         this.roundDecimalValueByFormat = roundDecimalValueByFormat;
         this.skipNullOrEmptyConditionsByDefault = skipNullOrEmptyConditionsByDefault;
+        this.clusterEventsBatchWindow = clusterEventsBatchWindow;
+        this.clusterEventsMaxBatchSize = clusterEventsMaxBatchSize;
+        this.scriptCacheMaxSize = scriptCacheMaxSize;
     }
 
     public String getWebHostName() {
@@ -266,4 +294,25 @@ public class CoreProperties {
     public boolean isSkipNullOrEmptyConditionsByDefault() {
         return skipNullOrEmptyConditionsByDefault;
     }
+
+    /**
+     * @see #clusterEventsBatchWindow
+     */
+    public Duration getClusterEventsBatchWindow() {
+        return clusterEventsBatchWindow;
+    }
+
+    /**
+     * @see #clusterEventsMaxBatchSize
+     */
+    public int getClusterEventsMaxBatchSize() {
+        return clusterEventsMaxBatchSize;
+    }
+
+    /**
+     * @see #scriptCacheMaxSize
+     */
+    public int getScriptCacheMaxSize() {
+        return scriptCacheMaxSize;
+    }
 }
@@ -16,11 +16,13 @@
 
 package io.jmix.core;
 
+import io.jmix.core.datastore.ScrollUtils;
 import io.jmix.core.entity.KeyValueEntity;
 
 import org.springframework.lang.Nullable;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Interface defining methods for CRUD operations on entities.
@@ -55,6 +57,24 @@ public interface DataStore {
      */
     List<Object> loadList(LoadContext<?> context);
 
+    /**
+     * Loads collection of entity instances in batches and passes each batch to the given consumer, so that
+     * the whole result is never held in memory at once.
+     * <p>
+     * The default implementation pages through the result using {@link #loadList(LoadContext)} with increasing
+     * {@code firstResult}. Implementations should override it to read the result using a database cursor.
+     *
+     * @param context       defines what and how to load
+     * @param batchSize     maximum number of instances passed to the consumer at once
+     * @param batchConsumer receives loaded instances, never receives an empty list
+     */
+    default void scroll(LoadContext<?> context, int batchSize, Consumer<List<Object>> batchConsumer) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        ScrollUtils.scrollByPages(context, batchSize, this::loadList, batchConsumer);
+    }
+
     /**
      * Returns the number of entity instances for the given query passed in the {@link LoadContext}.
      *
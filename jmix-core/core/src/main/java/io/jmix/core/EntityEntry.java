@@ -23,6 +23,7 @@ import io.jmix.core.entity.SecurityState;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
 import io.jmix.core.impl.EntityInternals;
+import io.jmix.core.metamodel.model.MetaProperty;
 
 import org.springframework.lang.Nullable;
 import jakarta.persistence.EmbeddedId;
@@ -79,6 +80,23 @@ public interface EntityEntry extends Serializable {
 
     void setAttributeValue(String name, @Nullable Object value, boolean checkEquals);
 
+    /**
+     * Returns the value of the given attribute. Implementations may use {@link MetaProperty#getOrdinal()}
+     * to avoid looking up the attribute by name.
+     */
+    @Nullable
+    default <T> T getAttributeValue(MetaProperty property) {
+        return getAttributeValue(property.getName());
+    }
+
+    /**
+     * Sets the value of the given attribute. Implementations may use {@link MetaProperty#getOrdinal()}
+     * to avoid looking up the attribute by name.
+     */
+    default void setAttributeValue(MetaProperty property, @Nullable Object value, boolean checkEquals) {
+        setAttributeValue(property.getName(), value, checkEquals);
+    }
+
     default boolean isEmbeddable() {
         return false;
     }
@@ -19,6 +19,8 @@ package io.jmix.core;
 import io.jmix.core.metamodel.model.MetaClass;
 
 import org.springframework.lang.Nullable;
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.util.Collection;
 
@@ -64,6 +66,27 @@ public interface EntitySerialization {
                   @Nullable FetchPlan fetchPlan,
                   EntitySerializationOption... options);
 
+    /**
+     * Serializes a collection of entities to the JSON array and writes it to the given writer. Method works like the
+     * {@link #toJson(Collection, FetchPlan, EntitySerializationOption...)}, but doesn't build the whole result in memory:
+     * entities are written one by one as they are serialized.
+     * <p>
+     * The writer is flushed but not closed.
+     *
+     * @param entities  a list of entities to be serialized
+     * @param fetchPlan a fetch plan that defines which entity properties should be added to the result JSON object
+     * @param writer    a writer to write the JSON array to
+     * @param options   options specifying how an entity should be serialized
+     * @throws IOException if writing to the writer fails
+     */
+    default void toJson(Collection<?> entities,
+                        @Nullable FetchPlan fetchPlan,
+                        Writer writer,
+                        EntitySerializationOption... options) throws IOException {
+        writer.write(toJson(entities, fetchPlan, options));
+        writer.flush();
+    }
+
     /**
      * An overloaded version of the {@link #toJson(Object, FetchPlan, EntitySerializationOption...)} method with a null
      * {@code fetchPlan} parameter and with no serialization options.
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Date;
+
+/**
+ * Metadata of a file stored in a {@link FileStorage}.
+ *
+ * @see FileStorage#getFileMetadata(FileRef)
+ */
+public class FileMetadata {
+
+    private final long size;
+    private final Date lastModified;
+    private final String contentType;
+
+    public FileMetadata(long size, @Nullable Date lastModified, @Nullable String contentType) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return file size in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return time of the last modification of the file, or null if the storage doesn't provide it
+     */
+    @Nullable
+    public Date getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return content type saved by the storage, or null if the storage doesn't provide it
+     */
+    @Nullable
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String toString() {
+        return "FileMetadata{" +
+                "size=" + size +
+                ", lastModified=" + lastModified +
+                ", contentType='" + contentType + '\'' +
+                '}';
+    }
+}
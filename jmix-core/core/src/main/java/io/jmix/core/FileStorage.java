@@ -16,7 +16,13 @@
 
 package io.jmix.core;
 
+import org.apache.commons.io.IOUtils;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Collections;
 import java.util.Map;
 
@@ -68,6 +74,36 @@ public interface FileStorage {
      */
     InputStream openStream(FileRef reference);
 
+    /**
+     * Writes a file contents to the given channel. By default, the contents is copied from {@link #openStream(FileRef)}.
+     * Implementations can override this method to use a more efficient transfer, e.g.
+     * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}.
+     *
+     * @param reference file reference
+     * @param target    channel to write the contents to, is not closed by this method
+     * @return number of bytes written
+     * @throws IOException          if writing to the channel fails
+     * @throws FileStorageException if the file cannot be loaded
+     */
+    default long transferTo(FileRef reference, WritableByteChannel target) throws IOException {
+        try (InputStream inputStream = openStream(reference)) {
+            return IOUtils.copyLarge(inputStream, Channels.newOutputStream(target));
+        }
+    }
+
+    /**
+     * Returns metadata of a file: its size, last modification time and content type.
+     *
+     * @param reference file reference
+     * @return file metadata or null if the storage doesn't provide it
+     * @throws IllegalArgumentException if arguments are incorrect
+     * @throws FileStorageException     if something goes wrong
+     */
+    @Nullable
+    default FileMetadata getFileMetadata(FileRef reference) {
+        return null;
+    }
+
     /**
      * Removes a file from the file storage.
      *
@@ -17,6 +17,7 @@
 package io.jmix.core;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +33,20 @@ public interface FileTransferService {
                                   Boolean attachment,
                                   HttpServletResponse response) throws FileTransferException;
 
+    /**
+     * Writes the file contents to the response. If the file storage implements {@link RangeFileStorage} and
+     * the request contains the {@code Range} header, only the requested part of the file is written.
+     *
+     * @param request current request, can be null if ranges are not supported by the caller
+     */
+    default void downloadAndWriteResponse(FileRef fileReference,
+                                          String fileStorageName,
+                                          Boolean attachment,
+                                          @Nullable HttpServletRequest request,
+                                          HttpServletResponse response) throws FileTransferException {
+        downloadAndWriteResponse(fileReference, fileStorageName, attachment, response);
+    }
+
     ResponseEntity<FileInfoResponse> multipartFileUpload(MultipartFile file,
                                                          String name,
                                                          String fileStorageName,
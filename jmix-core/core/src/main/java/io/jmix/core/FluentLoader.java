@@ -93,6 +93,10 @@ public class FluentLoader<E> {
         return loadContext;
     }
 
+    void forEachBatch(LoadContext<E> loadContext, int batchSize, Consumer<List<E>> batchConsumer) {
+        dataManager.scroll(loadContext, batchSize, batchConsumer);
+    }
+
     protected LoadContext<E> instantiateLoadContext(MetaClass metaClass) {
         return new LoadContext<>(metaClass);
     }
@@ -569,6 +573,24 @@ public class FluentLoader<E> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities in batches of the given size and passes each batch to the consumer.
+         * Use it instead of {@link #list()} to process large result sets with constant memory consumption.
+         * <p>
+         * For example:
+         * <pre>
+         * dataManager.load(Customer.class)
+         *      .all()
+         *      .forEachBatch(1000, customers -&gt; export(customers));
+         * </pre>
+         * Entities passed to the consumer are detached.
+         *
+         * @see UnconstrainedDataManager#scroll(LoadContext, int, Consumer)
+         */
+        public void forEachBatch(int batchSize, Consumer<List<E>> batchConsumer) {
+            loader.forEachBatch(createLoadContext(), batchSize, batchConsumer);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
@@ -818,6 +840,15 @@ public class FluentLoader<E> {
             return loader.dataManager.loadList(loadContext);
         }
 
+        /**
+         * Loads entities in batches of the given size and passes each batch to the consumer.
+         *
+         * @see ByQuery#forEachBatch(int, Consumer)
+         */
+        public void forEachBatch(int batchSize, Consumer<List<E>> batchConsumer) {
+            loader.forEachBatch(createLoadContext(), batchSize, batchConsumer);
+        }
+
         /**
          * Loads a single instance and wraps it in Optional.
          */
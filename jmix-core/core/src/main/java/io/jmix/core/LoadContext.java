@@ -326,6 +326,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
         private Condition condition;
         private Sort sort;
         private boolean distinct;
+        private List<Object> afterKey;
 
         protected Query() {
         }
@@ -442,6 +443,31 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             return this;
         }
 
+        /**
+         * Enables keyset (seek) pagination. Unlike {@link #setFirstResult(int)}, the cost of loading a page
+         * doesn't depend on the page position.
+         * <p>
+         * The key consists of values of the sort properties followed by the primary key of the last instance
+         * of the previous page, see {@link io.jmix.core.datastore.KeysetPaginationSupport#getKey(Object, Sort)}.
+         * Pass an empty list to load the first page. Sort properties must be local persistent attributes,
+         * instances having null values of sort properties are not returned after the first page.
+         *
+         * @param afterKey key of the last instance of the previous page, or null to disable keyset pagination
+         * @return this query instance for chaining
+         */
+        public Query setAfterKey(@Nullable List<?> afterKey) {
+            this.afterKey = afterKey == null ? null : new ArrayList<>(afterKey);
+            return this;
+        }
+
+        /**
+         * @return key of the last instance of the previous page if keyset pagination is used, null otherwise
+         */
+        @Nullable
+        public List<Object> getAfterKey() {
+            return afterKey;
+        }
+
         /**
          * Indicates that the query results should be cached.
          *
@@ -505,6 +531,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
             query.cacheable = this.cacheable;
             query.condition = this.condition == null ? null : this.condition.copy();
             query.sort = this.sort;
+            query.afterKey = this.afterKey == null ? null : new ArrayList<>(this.afterKey);
         }
 
         @Override
@@ -537,6 +564,7 @@ public class LoadContext<E> implements DataLoadContext, Serializable {
                     ", sort=" + sort +
                     ", firstResult=" + firstResult +
                     ", maxResults=" + maxResults +
+                    (afterKey != null ? ", afterKey=" + afterKey : "") +
                     ", distinct=" + distinct +
                     "}";
             return StringHelper.removeExtraSpaces(stringResult.replace('\n', ' '));
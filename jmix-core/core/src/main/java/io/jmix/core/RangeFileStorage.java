@@ -0,0 +1,86 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link FileStorage} that can load a part of a file contents without reading the preceding bytes.
+ * <p>
+ * Used by {@link FileTransferService} to serve HTTP {@code Range} requests.
+ */
+public interface RangeFileStorage extends FileStorage {
+
+    /**
+     * Returns metadata of a file. Range requests can't be served without the file size, so range storages
+     * must provide metadata.
+     *
+     * @param reference file reference
+     * @return file metadata
+     * @throws IllegalArgumentException if arguments are incorrect
+     * @throws FileStorageException     if something goes wrong
+     */
+    @Override
+    FileMetadata getFileMetadata(FileRef reference);
+
+    /**
+     * Returns the size of a file in bytes.
+     *
+     * @param reference file reference
+     * @return file size
+     * @throws IllegalArgumentException if arguments are incorrect
+     * @throws FileStorageException     if something goes wrong
+     */
+    default long getFileSize(FileRef reference) {
+        return getFileMetadata(reference).getSize();
+    }
+
+    /**
+     * Returns an input stream to load a part of a file contents.
+     *
+     * @param reference file reference
+     * @param offset    position of the first byte to load
+     * @param length    number of bytes to load
+     * @return input stream, must be closed after use
+     * @throws IllegalArgumentException if arguments are incorrect
+     * @throws FileStorageException     if something goes wrong
+     */
+    InputStream openStream(FileRef reference, long offset, long length);
+
+    /**
+     * Writes a part of a file contents to the given channel.
+     *
+     * @param reference file reference
+     * @param offset    position of the first byte to write
+     * @param length    number of bytes to write
+     * @param target    channel to write the contents to, is not closed by this method
+     * @return number of bytes written
+     * @throws IOException          if writing to the channel fails
+     * @throws FileStorageException if the file cannot be loaded
+     * @see FileStorage#transferTo(FileRef, WritableByteChannel)
+     */
+    default long transferTo(FileRef reference, long offset, long length, WritableByteChannel target) throws IOException {
+        try (InputStream inputStream = openStream(reference, offset, length)) {
+            return IOUtils.copyLarge(inputStream, Channels.newOutputStream(target));
+        }
+    }
+}
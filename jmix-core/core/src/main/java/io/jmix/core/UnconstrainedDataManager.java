@@ -22,6 +22,7 @@ import org.springframework.lang.Nullable;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Central interface to provide CRUD functionality for entities.
@@ -54,6 +55,18 @@ public interface UnconstrainedDataManager {
      */
     <E> List<E> loadList(LoadContext<E> context);
 
+    /**
+     * Loads collection of entity instances in batches and passes each batch to the given consumer.
+     * <p>Use this method instead of {@link #loadList(LoadContext)} to process large result sets: the data store
+     * reads the result using a database cursor, so the memory consumption does not depend on the result size.
+     * The consumer is invoked inside the load transaction.</p>
+     *
+     * @param context       {@link LoadContext} object, defining what and how to load
+     * @param batchSize     maximum number of instances passed to the consumer at once
+     * @param batchConsumer receives loaded instances
+     */
+    <E> void scroll(LoadContext<E> context, int batchSize, Consumer<List<E>> batchConsumer);
+
     /**
      * Returns the number of entity instances for the given query passed in the {@link LoadContext}.
      *
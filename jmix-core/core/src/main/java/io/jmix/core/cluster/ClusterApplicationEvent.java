@@ -17,6 +17,7 @@
 package io.jmix.core.cluster;
 
 import org.springframework.context.ApplicationEvent;
+import org.springframework.lang.Nullable;
 
 import java.time.Clock;
 
@@ -34,4 +35,18 @@ public abstract class ClusterApplicationEvent extends ApplicationEvent {
     public ClusterApplicationEvent(Object source, Clock clock) {
         super(source, clock);
     }
+
+    /**
+     * Returns a key of the state affected by this event. If several events of the same class with equal keys are
+     * published within one batch, only the last of them is sent to the cluster.
+     * <p>
+     * Return a non-null key only from idempotent events, e.g. invalidations, whose last occurrence fully
+     * supersedes the previous ones. By default returns null, so the event is never coalesced.
+     *
+     * @see io.jmix.core.CoreProperties#getClusterEventsBatchWindow()
+     */
+    @Nullable
+    public Object getCoalescingKey() {
+        return null;
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.cluster;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A batch of cluster application events sent in a single message by {@link ClusterApplicationEventPublisher}.
+ */
+public class ClusterApplicationEventBatch implements Serializable {
+
+    private static final long serialVersionUID = 4917324725480563012L;
+
+    protected final List<ClusterApplicationEvent> events;
+    protected final long timestamp;
+
+    public ClusterApplicationEventBatch(List<ClusterApplicationEvent> events, long timestamp) {
+        this.events = events;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * @return events in the order of publishing
+     */
+    public List<ClusterApplicationEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * @return time in milliseconds when the batch was sent
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "ClusterApplicationEventBatch{" +
+                "events=" + events.size() +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -16,8 +16,17 @@
 
 package io.jmix.core.cluster;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.core.CoreProperties;
+import io.jmix.core.impl.StandardSerialization;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,30 +35,122 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
 /**
  * A component that allows to publish application events to application instances of a cluster
+ * <p>
+ * If the {@code jmix.core.cluster-events-batch-window} property is set, events are collected during the window
+ * and sent in a single message (or earlier, when {@code jmix.core.cluster-events-max-batch-size} events are
+ * collected). Events of the same class with equal {@link ClusterApplicationEvent#getCoalescingKey()} are
+ * collapsed to the last one within a batch. A batch is sent as a compressed Java serialization stream, so
+ * class descriptors are written once per batch instead of once per event.
+ * <p>
+ * The following metrics are registered with the {@code channel} tag:
+ * <ul>
+ *     <li>{@code jmix.cluster.events.out} - events published by this instance</li>
+ *     <li>{@code jmix.cluster.events.in} - events received from the cluster</li>
+ *     <li>{@code jmix.cluster.events.coalesced} - events dropped because a later event has the same key</li>
+ *     <li>{@code jmix.cluster.events.batchSize} - number of events in sent batches</li>
+ *     <li>{@code jmix.cluster.events.lag} - time between sending and receiving of batches</li>
+ * </ul>
  */
 @Component("core_ClusterApplicationEventPublisher")
 public class ClusterApplicationEventPublisher {
 
     private static final Logger log = LoggerFactory.getLogger(ClusterApplicationEventPublisher.class);
 
+    protected static final String METRICS_PREFIX = "jmix.cluster.events";
+    protected static final String CHANNEL_TAG_VALUE = "application";
+
     protected ApplicationEventPublisher applicationEventPublisher;
     protected ClusterApplicationEventChannelSupplier appEventChannelSupplier;
 
+    protected CoreProperties coreProperties;
+    protected StandardSerialization serialization;
+
+    protected Counter eventsOut;
+    protected Counter eventsIn;
+    protected Counter eventsCoalesced;
+    protected DistributionSummary batchSize;
+    protected Timer lag;
+
+    protected final Object lock = new Object();
+    protected Map<Object, ClusterApplicationEvent> pendingEvents = new LinkedHashMap<>();
+    protected ScheduledFuture<?> flushFuture;
+    protected volatile ScheduledExecutorService flushExecutor;
+
     public ClusterApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher,
                                             ClusterApplicationEventChannelSupplier appEventChannelSupplier) {
         this.applicationEventPublisher = applicationEventPublisher;
         this.appEventChannelSupplier = appEventChannelSupplier;
     }
 
+    @Autowired
+    public void setCoreProperties(CoreProperties coreProperties) {
+        this.coreProperties = coreProperties;
+    }
+
+    @Autowired
+    public void setSerialization(StandardSerialization serialization) {
+        this.serialization = serialization;
+    }
+
+    @Autowired
+    public void setMeterRegistry(MeterRegistry meterRegistry) {
+        eventsOut = meterRegistry.counter(METRICS_PREFIX + ".out", "channel", CHANNEL_TAG_VALUE);
+        eventsIn = meterRegistry.counter(METRICS_PREFIX + ".in", "channel", CHANNEL_TAG_VALUE);
+        eventsCoalesced = meterRegistry.counter(METRICS_PREFIX + ".coalesced", "channel", CHANNEL_TAG_VALUE);
+        batchSize = DistributionSummary.builder(METRICS_PREFIX + ".batchSize")
+                .tag("channel", CHANNEL_TAG_VALUE)
+                .register(meterRegistry);
+        lag = Timer.builder(METRICS_PREFIX + ".lag")
+                .tag("channel", CHANNEL_TAG_VALUE)
+                .register(meterRegistry);
+    }
+
     @EventListener
     public void onApplicationStarted(ApplicationStartedEvent event) {
         appEventChannelSupplier.get().subscribe(this::onAppEventMessage);
     }
 
     protected void onAppEventMessage(Message<?> message) {
-        ApplicationEvent event = (ApplicationEvent) message.getPayload();
+        Object payload = message.getPayload();
+        if (payload instanceof byte[] bytes) {
+            ClusterApplicationEventBatch batch = decodeBatch(bytes);
+            if (lag != null) {
+                lag.record(Math.max(0, System.currentTimeMillis() - batch.getTimestamp()), TimeUnit.MILLISECONDS);
+            }
+
+            log.debug("Receiving {}", batch);
+
+            for (ClusterApplicationEvent event : batch.getEvents()) {
+                receiveEvent(event);
+            }
+        } else {
+            receiveEvent((ApplicationEvent) payload);
+        }
+    }
+
+    protected void receiveEvent(ApplicationEvent event) {
+        if (eventsIn != null) {
+            eventsIn.increment();
+        }
 
         log.debug("Receiving event {}", event);
 
@@ -63,10 +164,129 @@ public class ClusterApplicationEventPublisher {
      * @param event an event to publish
      */
     public void publish(ClusterApplicationEvent event) {
-        Message<?> message = MessageBuilder.withPayload(event).build();
+        if (eventsOut != null) {
+            eventsOut.increment();
+        }
+
+        if (!isBatchingEnabled()) {
+            Message<?> message = MessageBuilder.withPayload(event).build();
 
-        log.debug("Publishing event {}", event);
+            log.debug("Publishing event {}", event);
+
+            appEventChannelSupplier.get().send(message);
+            return;
+        }
+
+        log.debug("Adding event {} to batch", event);
+
+        List<ClusterApplicationEvent> events = null;
+        synchronized (lock) {
+            Object coalescingKey = event.getCoalescingKey();
+            Object key = coalescingKey != null ? List.of(event.getClass(), coalescingKey) : new Object();
+            // remove and put to move the event to the end and keep the publishing order
+            if (pendingEvents.remove(key) != null && eventsCoalesced != null) {
+                eventsCoalesced.increment();
+            }
+            pendingEvents.put(key, event);
+
+            if (pendingEvents.size() >= Math.max(1, coreProperties.getClusterEventsMaxBatchSize())) {
+                events = drainPendingEvents();
+            } else if (flushFuture == null) {
+                flushFuture = getFlushExecutor().schedule(this::flush,
+                        coreProperties.getClusterEventsBatchWindow().toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (events != null) {
+            sendBatch(events);
+        }
+    }
+
+    /**
+     * Sends events collected in the current batch immediately.
+     */
+    public void flush() {
+        List<ClusterApplicationEvent> events;
+        synchronized (lock) {
+            events = drainPendingEvents();
+        }
+        if (!events.isEmpty()) {
+            sendBatch(events);
+        }
+    }
+
+    protected boolean isBatchingEnabled() {
+        if (coreProperties == null || serialization == null) {
+            return false;
+        }
+        Duration batchWindow = coreProperties.getClusterEventsBatchWindow();
+        return batchWindow != null && !batchWindow.isZero() && !batchWindow.isNegative();
+    }
+
+    protected List<ClusterApplicationEvent> drainPendingEvents() {
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+            flushFuture = null;
+        }
+        List<ClusterApplicationEvent> events = new ArrayList<>(pendingEvents.values());
+        pendingEvents.clear();
+        return events;
+    }
+
+    protected void sendBatch(List<ClusterApplicationEvent> events) {
+        ClusterApplicationEventBatch batch = new ClusterApplicationEventBatch(events, System.currentTimeMillis());
+        Message<?> message = MessageBuilder.withPayload(encodeBatch(batch)).build();
+
+        log.debug("Publishing {}", batch);
+
+        if (batchSize != null) {
+            batchSize.record(events.size());
+        }
+        try {
+            appEventChannelSupplier.get().send(message);
+        } catch (RuntimeException e) {
+            log.error("Unable to publish batch of {} cluster events", events.size(), e);
+        }
+    }
+
+    /**
+     * Serializes the batch into a single Java serialization stream compressed with the DEFLATE algorithm.
+     */
+    protected byte[] encodeBatch(ClusterApplicationEventBatch batch) {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            DeflaterOutputStream dos = new DeflaterOutputStream(bos, deflater);
+            serialization.serialize(batch, dos);
+            dos.finish();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to encode cluster events batch", e);
+        } finally {
+            deflater.end();
+        }
+        return bos.toByteArray();
+    }
+
+    protected ClusterApplicationEventBatch decodeBatch(byte[] bytes) {
+        try (InputStream is = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return (ClusterApplicationEventBatch) serialization.deserialize(is);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to decode cluster events batch", e);
+        }
+    }
+
+    protected ScheduledExecutorService getFlushExecutor() {
+        if (flushExecutor == null) {
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("ClusterEventsFlush-%d").setDaemon(true).build());
+        }
+        return flushExecutor;
+    }
 
-        appEventChannelSupplier.get().send(message);
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
     }
 }
@@ -29,6 +29,7 @@ import org.springframework.lang.Nullable;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -39,6 +40,7 @@ public abstract class AbstractDataStore implements DataStore {
     protected MetadataTools metadataTools;
     protected EntityStates entityStates;
     protected KeyValueMapper keyValueMapper;
+    protected KeysetPaginationSupport keysetPaginationSupport;
 
     private static final Logger log = LoggerFactory.getLogger(AbstractDataStore.class);
 
@@ -62,6 +64,11 @@ public abstract class AbstractDataStore implements DataStore {
         this.keyValueMapper = keyValueMapper;
     }
 
+    @Autowired
+    public void setKeysetPaginationSupport(KeysetPaginationSupport keysetPaginationSupport) {
+        this.keysetPaginationSupport = keysetPaginationSupport;
+    }
+
     @Nullable
     @Override
     public Object load(LoadContext<?> context) {
@@ -160,6 +167,56 @@ public abstract class AbstractDataStore implements DataStore {
         return afterLoadEvent.getResultEntities();
     }
 
+    /**
+     * Loads entities in batches inside a single load transaction. Loading and after-load events are fired for
+     * each batch, so in-memory row-level constraints are applied to every batch before it is passed to the consumer.
+     * The consumer is invoked inside the transaction.
+     */
+    @Override
+    public void scroll(LoadContext<?> context, int batchSize, Consumer<List<Object>> batchConsumer) {
+        Preconditions.checkArgument(batchSize > 0, "batchSize must be positive");
+
+        if (log.isDebugEnabled()) {
+            log.debug("scroll: store={}, metaClass={}, fetchPlan={}, batchSize={}, query={}",
+                    getName(), context.getEntityMetaClass(), context.getFetchPlan(), batchSize, context.getQuery());
+        }
+
+        EventSharedState loadState = new EventSharedState();
+
+        DataStoreBeforeEntityLoadEvent beforeLoadEvent = new DataStoreBeforeEntityLoadEvent(context, loadState);
+        fireEvent(beforeLoadEvent);
+
+        if (beforeLoadEvent.loadPrevented()) {
+            return;
+        }
+
+        Object transaction = beginLoadTransaction(context.isJoinTransaction());
+        try {
+            TransactionContextState txContextState = getTransactionContextState(context.isJoinTransaction());
+            scrollAll(context, batchSize, entities -> {
+                DataStoreEntityLoadingEvent loadEvent = new DataStoreEntityLoadingEvent(context, entities, loadState);
+                fireEvent(loadEvent);
+
+                List<Object> resultList = loadEvent.getResultEntities();
+
+                beforeLoadTransactionCommit(context, resultList, txContextState);
+
+                DataStoreAfterEntityLoadEvent afterLoadEvent =
+                        new DataStoreAfterEntityLoadEvent(context, resultList, loadState);
+                fireEvent(afterLoadEvent);
+
+                beforeBatchConsumed(context, entities);
+
+                if (!afterLoadEvent.getResultEntities().isEmpty()) {
+                    batchConsumer.accept(afterLoadEvent.getResultEntities());
+                }
+            });
+            commitTransaction(transaction);
+        } finally {
+            rollbackTransaction(transaction);
+        }
+    }
+
     @Override
     public long getCount(LoadContext<?> context) {
         if (log.isDebugEnabled()) {
@@ -310,6 +367,26 @@ public abstract class AbstractDataStore implements DataStore {
 
     protected abstract long countAll(LoadContext<?> context);
 
+    /**
+     * Reads entities for {@link #scroll(LoadContext, int, Consumer)} and passes them to the consumer in batches.
+     * Invoked inside the load transaction.
+     * <p>
+     * The default implementation pages through the result using {@link #loadAll(LoadContext)} with increasing
+     * {@code firstResult}. Override it to read the result using a database cursor.
+     */
+    protected void scrollAll(LoadContext<?> context, int batchSize, Consumer<List<Object>> batchConsumer) {
+        ScrollUtils.scrollByPages(context, batchSize, this::loadAll, batchConsumer);
+    }
+
+    /**
+     * Invoked by {@link #scroll(LoadContext, int, Consumer)} for each batch of loaded entities before passing it
+     * to the consumer. Implementations can release resources held for the entities here.
+     *
+     * @param entities all entities of the batch, including the ones filtered out by load events
+     */
+    protected void beforeBatchConsumed(LoadContext<?> context, List<Object> entities) {
+    }
+
     protected abstract Set<Object> saveAll(SaveContext context);
 
     protected abstract Set<Object> deleteAll(SaveContext context);
@@ -357,6 +434,10 @@ public abstract class AbstractDataStore implements DataStore {
     protected List<Object> loadListByBatches(LoadContext<?> context, int actualSize, EventSharedState eventState) {
         assert context.getQuery() != null;
 
+        if (isKeysetPaginationApplicable(context)) {
+            return loadListByKeysetBatches(context, actualSize, eventState);
+        }
+
         List<Object> entities = new ArrayList<>();
 
         int requestedFirst = context.getQuery().getFirstResult();
@@ -407,6 +488,70 @@ public abstract class AbstractDataStore implements DataStore {
         return resultList;
     }
 
+    /**
+     * Same as {@link #loadListByBatches(LoadContext, int, EventSharedState)} but each next batch is selected
+     * by the key of the last loaded instance instead of the offset, so the cost of a batch doesn't grow.
+     */
+    protected List<Object> loadListByKeysetBatches(LoadContext<?> context, int actualSize, EventSharedState eventState) {
+        LoadContext.Query query = context.getQuery();
+        assert query != null;
+
+        List<Object> entities = new ArrayList<>();
+
+        int requestedFirst = query.getFirstResult();
+        int requestedMax = query.getMaxResults();
+
+        int expectedSize = requestedMax + requestedFirst;
+        int factor = actualSize == 0 ? 2 : requestedMax / actualSize * 2;
+
+        int maxResults = (requestedFirst + requestedMax) * factor;
+        List<Object> afterKey = query.getAfterKey() != null ? query.getAfterKey() : Collections.emptyList();
+        int i = 0;
+        while (entities.size() < expectedSize) {
+            if (i++ > 100000) {
+                log.warn("Loading by keyset batches. Endless loop detected for {}", context);
+                break;
+            }
+
+            LoadContext<?> batchContext = context.copy();
+
+            assert batchContext.getQuery() != null;
+            batchContext.getQuery()
+                    .setFirstResult(0)
+                    .setMaxResults(maxResults)
+                    .setAfterKey(afterKey);
+
+            List<Object> list = loadAll(batchContext);
+            if (list.size() == 0) {
+                break;
+            }
+            afterKey = keysetPaginationSupport.getKey(list.get(list.size() - 1), query.getSort());
+
+            DataStoreEntityLoadingEvent loadEvent = new DataStoreEntityLoadingEvent(context, list, eventState);
+            fireEvent(loadEvent);
+
+            entities.addAll(loadEvent.getResultEntities());
+            if (list.size() < maxResults) {
+                break;
+            }
+        }
+
+        int max = Math.min(requestedFirst + requestedMax, entities.size());
+        List<Object> resultList = new ArrayList<>(Math.max(max - requestedFirst, 0));
+        for (int j = requestedFirst; j < max; j++) {
+            resultList.add(entities.get(j));
+        }
+        return resultList;
+    }
+
+    /**
+     * Returns true if the data store supports {@link LoadContext.Query#setAfterKey(List)} for the given context
+     * and it can be used to load batches in {@link #loadListByBatches(LoadContext, int, EventSharedState)}.
+     */
+    protected boolean isKeysetPaginationApplicable(LoadContext<?> context) {
+        return false;
+    }
+
     protected List<Object> checkAndReorderLoadedEntities(LoadContext<?> context, List<Object> entities) {
         List<Object> result = new ArrayList<>(context.getIds().size());
         Map<Object, Object> idToEntityMap = entities.stream().collect(Collectors.toMap(EntityValues::getId, Function.identity()));
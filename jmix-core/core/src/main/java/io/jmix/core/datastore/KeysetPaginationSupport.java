@@ -0,0 +1,116 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.datastore;
+
+import io.jmix.core.LoadContext;
+import io.jmix.core.Metadata;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.Sort;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Defines the keys used for keyset (seek) pagination, see {@link LoadContext.Query#setAfterKey(List)}.
+ * <p>
+ * The key of an entity instance consists of the values of the sort properties followed by the primary key,
+ * if the sort doesn't contain it already.
+ */
+@Component("core_KeysetPaginationSupport")
+public class KeysetPaginationSupport {
+
+    @Autowired
+    protected Metadata metadata;
+
+    @Autowired
+    protected MetadataTools metadataTools;
+
+    /**
+     * Returns sort orders defining the key: orders of the given sort followed by the ascending order
+     * by primary key.
+     */
+    public List<Sort.Order> getKeyOrders(MetaClass metaClass, @Nullable Sort sort) {
+        String pkName = metadataTools.getPrimaryKeyName(metaClass);
+        if (pkName == null) {
+            throw new IllegalStateException("Entity " + metaClass.getName() + " has no primary key");
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        boolean pkFound = false;
+        if (sort != null) {
+            for (Sort.Order order : sort.getOrders()) {
+                orders.add(order);
+                if (order.getProperty().equals(pkName)) {
+                    pkFound = true;
+                    break;
+                }
+            }
+        }
+        if (!pkFound) {
+            orders.add(Sort.Order.asc(pkName));
+        }
+        return orders;
+    }
+
+    /**
+     * Returns the key of the given entity instance to pass to {@link LoadContext.Query#setAfterKey(List)}
+     * for loading the next page.
+     */
+    public List<Object> getKey(Object entity, @Nullable Sort sort) {
+        MetaClass metaClass = metadata.getClass(entity);
+        List<Sort.Order> orders = getKeyOrders(metaClass, sort);
+
+        List<Object> key = new ArrayList<>(orders.size());
+        for (Sort.Order order : orders) {
+            key.add(EntityValues.getValue(entity, order.getProperty()));
+        }
+        return key;
+    }
+
+    /**
+     * Checks whether keyset pagination can be used for the given entity and sort. It requires a simple primary key
+     * and sorting by local persistent non-LOB attributes only.
+     *
+     * @param mandatoryOnly if true, all sort properties must also be mandatory, so no rows are skipped because
+     *                      of null values
+     */
+    public boolean isApplicable(MetaClass metaClass, @Nullable Sort sort, boolean mandatoryOnly) {
+        MetaProperty pkProperty = metadataTools.getPrimaryKeyProperty(metaClass);
+        if (pkProperty == null || metadataTools.hasCompositePrimaryKey(metaClass)) {
+            return false;
+        }
+        for (Sort.Order order : getKeyOrders(metaClass, sort)) {
+            MetaProperty property = metaClass.findProperty(order.getProperty());
+            if (property == null
+                    || property.getRange().isClass()
+                    || !metadataTools.isJpa(property)
+                    || metadataTools.isLob(property)) {
+                return false;
+            }
+            if (mandatoryOnly && !property.isMandatory() && !property.equals(pkProperty)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
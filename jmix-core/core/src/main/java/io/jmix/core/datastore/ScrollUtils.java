@@ -0,0 +1,77 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.jmix.core.datastore;
+
+import com.google.common.collect.Lists;
+import io.jmix.core.DataStore;
+import io.jmix.core.LoadContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Offset paging used by {@link DataStore#scroll(LoadContext, int, Consumer)} implementations that cannot read
+ * the result using a database cursor.
+ */
+public class ScrollUtils {
+
+    /**
+     * Pages through the result of the given load context using increasing {@code firstResult} and passes each
+     * non-empty page to the consumer. If the context has no query or loads by ids, the whole result is loaded
+     * at once and split into batches.
+     *
+     * @param context       defines what and how to load
+     * @param batchSize     maximum number of instances passed to the consumer at once
+     * @param loader        loads a list of instances for the given context
+     * @param batchConsumer receives loaded instances
+     */
+    public static void scrollByPages(LoadContext<?> context, int batchSize,
+                                     Function<LoadContext<?>, List<Object>> loader,
+                                     Consumer<List<Object>> batchConsumer) {
+        LoadContext.Query query = context.getQuery();
+        if (query == null || !context.getIds().isEmpty()) {
+            List<Object> entities = loader.apply(context);
+            for (List<Object> batch : Lists.partition(entities, batchSize)) {
+                batchConsumer.accept(new ArrayList<>(batch));
+            }
+            return;
+        }
+
+        int firstResult = query.getFirstResult();
+        int remaining = query.getMaxResults() == 0 ? Integer.MAX_VALUE : query.getMaxResults();
+        while (remaining > 0) {
+            int size = Math.min(batchSize, remaining);
+
+            LoadContext<?> batchContext = context.copy();
+            assert batchContext.getQuery() != null;
+            batchContext.getQuery().setFirstResult(firstResult).setMaxResults(size);
+
+            List<Object> entities = loader.apply(batchContext);
+            if (!entities.isEmpty()) {
+                batchConsumer.accept(entities);
+            }
+            if (entities.size() < size) {
+                break;
+            }
+            firstResult += size;
+            remaining -= size;
+        }
+    }
+}
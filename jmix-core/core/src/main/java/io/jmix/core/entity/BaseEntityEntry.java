@@ -24,6 +24,8 @@ import io.jmix.core.annotation.Internal;
 import io.jmix.core.common.util.ReflectionHelper;
 import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.entity.annotation.JmixId;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.metamodel.model.utils.MethodsCache;
 import io.jmix.core.metamodel.model.utils.RelatedPropertiesCache;
 import org.springframework.lang.NonNull;
@@ -40,6 +42,10 @@ import java.util.function.BiConsumer;
  * Used by enhancing process. Direct subclass of {@link BaseEntityEntry} will be created for entity, that
  * has primary key (an attribute annotated with {@link Id}, {@link EmbeddedId} or {@link JmixId}) and this primary key
  * annotated with {@link JmixGeneratedValue}
+ * <p>
+ * The enhancer also generates {@link #getIndexedAttributeNames()}, {@link #getAttributeValue(int)} and
+ * {@link #setAttributeValue(int, Object)} in the subclass, so attributes can be accessed by
+ * {@link MetaProperty#getOrdinal()} without looking up getters and setters by name.
  */
 @Internal
 public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
@@ -57,6 +63,15 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
 
     protected static final int PROPERTY_CHANGE_LISTENERS_INITIAL_CAPACITY = 4;
 
+    protected static final String[] NO_INDEXED_ATTRIBUTES = new String[0];
+
+    protected static final ClassValue<IndexedAttributes> INDEXED_ATTRIBUTES = new ClassValue<IndexedAttributes>() {
+        @Override
+        protected IndexedAttributes computeValue(Class<?> type) {
+            return new IndexedAttributes();
+        }
+    };
+
     public BaseEntityEntry(Entity source) {
         this.source = source;
     }
@@ -85,6 +100,57 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
         return (T) MethodsCache.getOrCreate(getSource().getClass()).getGetter(name).apply(getSource());
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAttributeValue(@NonNull MetaProperty property) {
+        if (entityValuesProviders == null) {
+            int index = INDEXED_ATTRIBUTES.get(getClass()).indexOf(property, this);
+            if (index >= 0) {
+                return (T) getAttributeValue(index);
+            }
+        }
+        return getAttributeValue(property.getName());
+    }
+
+    @Override
+    public void setAttributeValue(@NonNull MetaProperty property, @Nullable Object value, boolean checkEquals) {
+        if (entityValuesProviders == null) {
+            int index = INDEXED_ATTRIBUTES.get(getClass()).indexOf(property, this);
+            if (index >= 0) {
+                if (!checkEquals || !EntityValues.propertyValueEquals(getAttributeValue(index), value)) {
+                    setAttributeValue(index, value);
+                }
+                return;
+            }
+        }
+        setAttributeValue(property.getName(), value, checkEquals);
+    }
+
+    /**
+     * Returns names of the attributes which can be accessed by {@link #getAttributeValue(int)} and
+     * {@link #setAttributeValue(int, Object)}, in the order of their indexes. Overridden by the enhancer.
+     */
+    protected String[] getIndexedAttributeNames() {
+        return NO_INDEXED_ATTRIBUTES;
+    }
+
+    /**
+     * Returns the value of the attribute with the given index in {@link #getIndexedAttributeNames()}.
+     * Overridden by the enhancer.
+     */
+    @Nullable
+    public Object getAttributeValue(int index) {
+        throw new IllegalArgumentException("Attribute with index " + index + " not found in " + getSource().getClass());
+    }
+
+    /**
+     * Sets the value of the attribute with the given index in {@link #getIndexedAttributeNames()} by invoking
+     * its setter. Overridden by the enhancer.
+     */
+    public void setAttributeValue(int index, @Nullable Object value) {
+        throw new IllegalArgumentException("Attribute with index " + index + " not found in " + getSource().getClass());
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public void setAttributeValue(@NonNull String name, Object value, boolean checkEquals) {
@@ -265,4 +331,68 @@ public abstract class BaseEntityEntry implements EntityEntry, Cloneable {
         }
         oos.defaultWriteObject();
     }
+
+    /**
+     * Maps {@link MetaProperty#getOrdinal()} to indexes of the attributes generated by the enhancer
+     * for a particular entity entry class. Ordinals are unique only within the {@link MetaProperty#getDomain() domain}
+     * meta-class, and an entity can be accessed by properties of its own meta-class and of its ancestors,
+     * so slots are kept separately for each domain.
+     */
+    protected static class IndexedAttributes {
+
+        protected volatile Map<String, Integer> indexByName;
+
+        protected volatile Map<MetaClass, Slot[]> slotsByDomain = Collections.emptyMap();
+
+        protected int indexOf(MetaProperty property, BaseEntityEntry entry) {
+            int ordinal = property.getOrdinal();
+            if (ordinal < 0 || property.getDomain() == null) {
+                return -1;
+            }
+            Slot[] slots = slotsByDomain.get(property.getDomain());
+            if (slots != null && ordinal < slots.length) {
+                Slot slot = slots[ordinal];
+                if (slot != null && slot.property == property) {
+                    return slot.index;
+                }
+            }
+            return resolve(property, entry);
+        }
+
+        protected synchronized int resolve(MetaProperty property, BaseEntityEntry entry) {
+            if (indexByName == null) {
+                String[] names = entry.getIndexedAttributeNames();
+                Map<String, Integer> map = new HashMap<>(names.length * 2);
+                for (int i = 0; i < names.length; i++) {
+                    map.put(names[i], i);
+                }
+                indexByName = map;
+            }
+            Integer index = indexByName.get(property.getName());
+            int result = index == null ? -1 : index;
+
+            MetaClass domain = property.getDomain();
+            int ordinal = property.getOrdinal();
+            Slot[] slots = slotsByDomain.get(domain);
+            Slot[] newSlots = slots == null
+                    ? new Slot[Math.max(ordinal + 1, domain.getProperties().size())]
+                    : Arrays.copyOf(slots, Math.max(slots.length, ordinal + 1));
+            newSlots[ordinal] = new Slot(property, result);
+
+            Map<MetaClass, Slot[]> newSlotsByDomain = new IdentityHashMap<>(slotsByDomain);
+            newSlotsByDomain.put(domain, newSlots);
+            slotsByDomain = newSlotsByDomain;
+            return result;
+        }
+    }
+
+    protected static class Slot {
+        protected final MetaProperty property;
+        protected final int index;
+
+        protected Slot(MetaProperty property, int index) {
+            this.property = property;
+            this.index = index;
+        }
+    }
 }
@@ -18,6 +18,8 @@ package io.jmix.core.entity;
 
 import io.jmix.core.Entity;
 import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.core.metamodel.model.PropertyPath;
 import org.apache.commons.lang3.ArrayUtils;
 
@@ -89,6 +91,19 @@ public class EntityValues {
         getEntityEntry(entity).setAttributeValue(name, value, checkEquals);
     }
 
+    /**
+     * Set an attribute value. Works like {@link #setValue(Object, String, Object, boolean)} but avoids looking up
+     * the attribute by name if the entity supports access by {@link MetaProperty#getOrdinal()}.
+     *
+     * @param property    attribute
+     * @param value       attribute value
+     * @param checkEquals check equals for previous and new value.
+     *                    If flag is true and objects equals, then setter will not be invoked
+     */
+    public static void setValue(Object entity, MetaProperty property, Object value, boolean checkEquals) {
+        getEntityEntry(entity).setAttributeValue(property, value, checkEquals);
+    }
+
     /**
      * Get an attribute value.
      *
@@ -100,6 +115,18 @@ public class EntityValues {
         return getEntityEntry(entity).getAttributeValue(name);
     }
 
+    /**
+     * Get an attribute value. Works like {@link #getValue(Object, String)} but avoids looking up the attribute
+     * by name if the entity supports access by {@link MetaProperty#getOrdinal()}.
+     *
+     * @param property attribute
+     * @return attribute value
+     */
+    @Nullable
+    public static <T> T getValue(Object entity, MetaProperty property) {
+        return getEntityEntry(entity).getAttributeValue(property);
+    }
+
     /**
      * Get an attribute value. Locates the attribute by the given path in object graph starting from this instance.
      * <br>
@@ -127,7 +154,9 @@ public class EntityValues {
      */
     @Nullable
     public static <T> T getValueEx(Object entity, PropertyPath propertyPath) {
-        if (propertyPath.isDirectProperty()) {
+        if (propertyPath instanceof MetaPropertyPath) {
+            return getValueEx(entity, ((MetaPropertyPath) propertyPath).getMetaProperties());
+        } else if (propertyPath.isDirectProperty()) {
             return getValue(entity, propertyPath.getFirstPropertyName());
         } else {
             return getValueEx(entity, propertyPath.getPropertyNames());
@@ -231,6 +260,28 @@ public class EntityValues {
         return (T) currentValue;
     }
 
+    @SuppressWarnings("unchecked")
+    @Nullable
+    private static <T> T getValueEx(Object entity, MetaProperty[] properties) {
+        Object currentValue = null;
+        Object currentEntity = entity;
+        for (MetaProperty property : properties) {
+            if (currentEntity == null) {
+                break;
+            }
+
+            currentValue = getValue(currentEntity, property);
+
+            if (currentValue == null) {
+                break;
+            }
+
+            currentEntity = currentValue instanceof Entity ? (Entity) currentValue : null;
+        }
+
+        return (T) currentValue;
+    }
+
     /**
      * Used by {@link } to check whether a property value has been changed.
      *
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.core.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.Script;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.lang.Nullable;
+import org.springframework.scripting.ScriptCompilationException;
+import org.springframework.scripting.ScriptEvaluator;
+import org.springframework.scripting.ScriptSource;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Groovy {@link ScriptEvaluator} that keeps compiled script classes in a bounded cache, so a script is compiled
+ * only once for the same text. On each evaluation, a new instance of the script class is created with its own
+ * binding of the arguments.
+ * <p>
+ * Each script is compiled by its own {@link GroovyClassLoader}, so the class can be unloaded after it is evicted
+ * from the cache.
+ * <p>
+ * Registers the {@code jmix.scripting.compile} and {@code jmix.scripting.eval} timers and
+ * the {@code jmix.scripting.cache.size} gauge.
+ */
+public class CachingGroovyScriptEvaluator implements ScriptEvaluator, BeanClassLoaderAware {
+
+    protected final Cache<String, Class<? extends Script>> scriptClasses;
+
+    protected final Timer compileTimer;
+    protected final Timer evalTimer;
+
+    @Nullable
+    protected ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+    public CachingGroovyScriptEvaluator(int maxSize, MeterRegistry meterRegistry) {
+        this.scriptClasses = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+
+        this.compileTimer = Timer.builder("jmix.scripting.compile")
+                .description("Time of Groovy script compilation")
+                .register(meterRegistry);
+        this.evalTimer = Timer.builder("jmix.scripting.eval")
+                .description("Time of Groovy script evaluation")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("jmix.scripting.cache.size", Collections.emptyList(), scriptClasses.asMap());
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Nullable
+    @Override
+    public Object evaluate(ScriptSource script) {
+        return evaluate(script, null);
+    }
+
+    @Nullable
+    @Override
+    public Object evaluate(ScriptSource script, @Nullable Map<String, Object> arguments) {
+        String scriptText;
+        try {
+            scriptText = script.getScriptAsString();
+        } catch (IOException e) {
+            throw new ScriptCompilationException(script, "Cannot access Groovy script", e);
+        }
+
+        Class<? extends Script> scriptClass = getScriptClass(script, scriptText);
+
+        Binding binding = arguments == null ? new Binding() : new Binding(arguments);
+        Timer.Sample sample = Timer.start();
+        try {
+            return InvokerHelper.createScript(scriptClass, binding).run();
+        } finally {
+            sample.stop(evalTimer);
+        }
+    }
+
+    /**
+     * Removes all compiled scripts from the cache.
+     */
+    public void clearCache() {
+        scriptClasses.invalidateAll();
+    }
+
+    protected Class<? extends Script> getScriptClass(ScriptSource script, String scriptText) {
+        try {
+            return scriptClasses.get(scriptText, () -> compile(scriptText));
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompilationFailedException) {
+                throw new ScriptCompilationException(script, cause);
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ScriptCompilationException(script, "Cannot compile Groovy script", cause);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Class<? extends Script> compile(String scriptText) {
+        Timer.Sample sample = Timer.start();
+        try {
+            GroovyClassLoader groovyClassLoader = new GroovyClassLoader(classLoader);
+            Class<?> scriptClass = groovyClassLoader.parseClass(scriptText);
+            if (!Script.class.isAssignableFrom(scriptClass)) {
+                throw new IllegalArgumentException("Groovy script must not declare a class: " + scriptClass.getName());
+            }
+            return (Class<? extends Script>) scriptClass;
+        } finally {
+            sample.stop(compileTimer);
+        }
+    }
+}
@@ -19,13 +19,13 @@ package io.jmix.core.impl;
 import com.google.common.base.Strings;
 import io.jmix.core.*;
 import io.jmix.core.common.util.URLEncodeUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -38,8 +38,13 @@ import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -57,18 +62,40 @@ public class FileTransferServiceImpl implements FileTransferService {
                                          String fileStorageName,
                                          Boolean attachment,
                                          HttpServletResponse response) throws FileTransferException {
+        downloadAndWriteResponse(fileReference, fileStorageName, attachment, null, response);
+    }
+
+    @Override
+    public void downloadAndWriteResponse(FileRef fileReference,
+                                         String fileStorageName,
+                                         Boolean attachment,
+                                         @Nullable HttpServletRequest request,
+                                         HttpServletResponse response) throws FileTransferException {
         FileStorage fileStorage = getFileStorageByNameOrDefault(fileStorageName);
 
-        if (!fileStorage.fileExists(fileReference)) {
-            throw new FileTransferException("File not found", "File not found. File reference: " +
-                    fileReference, HttpStatus.NOT_FOUND);
+        // metadata request also checks that the file exists, so the storage is not requested twice
+        FileMetadata metadata;
+        try {
+            metadata = fileStorage.getFileMetadata(fileReference);
+        } catch (FileStorageException e) {
+            if (e.getType() == FileStorageException.Type.FILE_NOT_FOUND) {
+                throw createFileNotFoundException(fileReference);
+            }
+            log.error("Error on downloading the file {}", fileReference, e);
+            throw new FileTransferException("Error on downloading the file", "", HttpStatus.INTERNAL_SERVER_ERROR, e);
+        }
+        if (metadata == null && !fileStorage.fileExists(fileReference)) {
+            throw createFileNotFoundException(fileReference);
         }
 
         try {
+            String eTag = metadata != null ? createETag(metadata) : null;
+            Date lastModified = metadata != null ? metadata.getLastModified() : null;
+
             response.setHeader("Cache-Control", "no-cache");
             response.setHeader("Pragma", "no-cache");
             response.setDateHeader("Expires", 0);
-            response.setHeader("Content-Type", fileReference.getContentType());
+            response.setHeader("Content-Type", getContentType(fileReference, metadata));
 
             String filename = fileReference.getFileName();
             String contentDisposition = BooleanUtils.isTrue(attachment) ? "attachment" : "inline";
@@ -77,17 +104,171 @@ public class FileTransferServiceImpl implements FileTransferService {
             }
             response.setHeader("Content-Disposition", contentDisposition);
 
-            ServletOutputStream os = response.getOutputStream();
-            InputStream is = fileStorage.openStream(fileReference);
-            IOUtils.copy(is, os);
-            os.flush();
+            if (eTag != null) {
+                response.setHeader(HttpHeaders.ETAG, eTag);
+            }
+            if (lastModified != null) {
+                response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.getTime());
+            }
+            if (request != null && isNotModified(request, eTag, lastModified)) {
+                response.setStatus(HttpStatus.NOT_MODIFIED.value());
+                return;
+            }
 
+            if (fileStorage instanceof RangeFileStorage) {
+                RangeFileStorage rangeFileStorage = (RangeFileStorage) fileStorage;
+                // range storages always provide metadata
+                long fileSize = Objects.requireNonNull(metadata).getSize();
+                HttpServletRequest rangeRequest = request != null && isRangeApplicable(request, eTag, lastModified)
+                        ? request : null;
+                writeFileContent(rangeFileStorage, fileReference, fileSize, rangeRequest, response);
+            } else {
+                if (metadata != null) {
+                    response.setContentLengthLong(metadata.getSize());
+                }
+                ServletOutputStream os = response.getOutputStream();
+                fileStorage.transferTo(fileReference, Channels.newChannel(os));
+                os.flush();
+            }
         } catch (Exception e) {
             log.error("Error on downloading the file {}", fileReference, e);
             throw new FileTransferException("Error on downloading the file", "", HttpStatus.INTERNAL_SERVER_ERROR, e);
         }
     }
 
+    private FileTransferException createFileNotFoundException(FileRef fileReference) {
+        return new FileTransferException("File not found", "File not found. File reference: " +
+                fileReference, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Returns the content type determined by the file name, or the one saved by the storage if the file name
+     * doesn't define it.
+     */
+    private String getContentType(FileRef fileReference, @Nullable FileMetadata metadata) {
+        String contentType = fileReference.getContentType();
+        if (FileTypesHelper.DEFAULT_MIME_TYPE.equals(contentType)
+                && metadata != null && metadata.getContentType() != null) {
+            return metadata.getContentType();
+        }
+        return contentType;
+    }
+
+    private void writeFileContent(RangeFileStorage fileStorage,
+                                  FileRef fileReference,
+                                  long fileSize,
+                                  @Nullable HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        String rangeHeader = request != null ? request.getHeader(HttpHeaders.RANGE) : null;
+        HttpRange range = null;
+        if (StringUtils.isNotEmpty(rangeHeader)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                // RFC 7233: a syntactically invalid Range header is ignored and the whole file is returned
+                log.debug("Ignoring malformed range '{}' requested for the file {}", rangeHeader, fileReference);
+                ranges = Collections.emptyList();
+            }
+            // multipart/byteranges responses are not supported, the whole file is returned instead
+            if (ranges.size() == 1) {
+                range = ranges.get(0);
+                if (!isSatisfiable(range, fileSize)) {
+                    log.debug("Unsatisfiable range '{}' requested for the file {}", rangeHeader, fileReference);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+            }
+        }
+
+        ServletOutputStream os = response.getOutputStream();
+        if (range == null) {
+            response.setContentLengthLong(fileSize);
+            fileStorage.transferTo(fileReference, Channels.newChannel(os));
+        } else {
+            long start = range.getRangeStart(fileSize);
+            long end = range.getRangeEnd(fileSize);
+            long length = end - start + 1;
+
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + fileSize);
+            response.setContentLengthLong(length);
+            fileStorage.transferTo(fileReference, start, length, Channels.newChannel(os));
+        }
+        os.flush();
+    }
+
+    private boolean isSatisfiable(HttpRange range, long fileSize) {
+        try {
+            range.getRangeStart(fileSize);
+            range.getRangeEnd(fileSize);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a strong entity tag from the file size and modification time. Files in storages are not updated
+     * in place, so these values identify the contents of a file reference.
+     */
+    @Nullable
+    private String createETag(FileMetadata metadata) {
+        if (metadata.getLastModified() == null) {
+            return null;
+        }
+        return "\"" + Long.toHexString(metadata.getSize()) + "-"
+                + Long.toHexString(metadata.getLastModified().getTime()) + "\"";
+    }
+
+    private boolean isNotModified(HttpServletRequest request, @Nullable String eTag, @Nullable Date lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-Modified-Since is ignored when If-None-Match is present
+            return eTag != null && matchesETag(ifNoneMatch, eTag);
+        }
+        if (lastModified != null) {
+            long ifModifiedSince = getDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince != -1 && lastModified.getTime() / 1000 <= ifModifiedSince / 1000;
+        }
+        return false;
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        for (String candidate : StringUtils.split(ifNoneMatch, ',')) {
+            candidate = candidate.trim();
+            if ("*".equals(candidate) || StringUtils.removeStart(candidate, "W/").equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRangeApplicable(HttpServletRequest request, @Nullable String eTag, @Nullable Date lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // strong comparison is required, weak tags never match
+            return ifRange.equals(eTag);
+        }
+        long date = getDateHeader(request, HttpHeaders.IF_RANGE);
+        return lastModified != null && date != -1 && lastModified.getTime() / 1000 == date / 1000;
+    }
+
+    private long getDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
     private String getContentDispositionFilename(String filename) {
         String encodedFilename = rfc5987Encode(filename);
 
@@ -38,6 +38,7 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 @Primary
 @Component("core_UnconstrainedDataManager")
@@ -115,6 +116,22 @@ public class UnconstrainedDataManagerImpl implements UnconstrainedDataManager {
         return entities;
     }
 
+    @Override
+    public <E> void scroll(LoadContext<E> context, int batchSize, Consumer<List<E>> batchConsumer) {
+        MetaClass metaClass = getEffectiveMetaClassFromContext(context);
+        DataStore storage = dataStoreFactory.get(getStoreName(metaClass));
+
+        context.setAccessConstraints(mergeConstraints(context.getAccessConstraints()));
+
+        storage.scroll(context, batchSize, batch -> {
+            @SuppressWarnings("unchecked")
+            List<E> entities = (List<E>) batch;
+
+            readCrossDataStoreReferences(entities, context.getFetchPlan(), metaClass, context.isJoinTransaction());
+            batchConsumer.accept(entities);
+        });
+    }
+
     @Override
     public long getCount(LoadContext<?> context) {
         MetaClass metaClass = getEffectiveMetaClassFromContext(context);
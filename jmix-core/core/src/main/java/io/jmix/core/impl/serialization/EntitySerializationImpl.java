@@ -22,10 +22,12 @@ import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.ExportImportEntityContext;
 import io.jmix.core.annotation.Secret;
 import io.jmix.core.entity.EntityValues;
+import io.jmix.core.impl.keyvalue.KeyValueMetaClass;
 import io.jmix.core.metamodel.datatype.Datatype;
 import io.jmix.core.metamodel.datatype.DatatypeRegistry;
 import io.jmix.core.metamodel.model.MetaClass;
@@ -40,12 +42,16 @@ import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Component("core_EntitySerialization")
 public class EntitySerializationImpl implements EntitySerialization {
@@ -79,6 +85,13 @@ public class EntitySerializationImpl implements EntitySerialization {
     protected ThreadLocal<EntitySerializationContext> context =
             ThreadLocal.withInitial(EntitySerializationContext::new);
 
+    /**
+     * Gson instances for serialization without a fetch plan, by sets of options.
+     */
+    protected ConcurrentMap<Set<EntitySerializationOption>, Gson> serializationGsonCache = new ConcurrentHashMap<>();
+
+    protected ConcurrentMap<MetaClass, SerializedClassInfo> serializedClassInfoCache = new ConcurrentHashMap<>();
+
     /**
      * Class is used for storing a collection of entities already processed during the serialization.
      */
@@ -90,6 +103,27 @@ public class EntitySerializationImpl implements EntitySerialization {
         }
     }
 
+    /**
+     * Metadata of an entity class that is required for serialization of every instance and doesn't change at runtime.
+     */
+    protected static class SerializedClassInfo {
+        protected final MetaProperty primaryKeyProperty;
+        protected final boolean compositePrimaryKey;
+        protected final boolean embeddable;
+        protected final Set<MetaProperty> properties;
+        protected final Set<MetaProperty> secretProperties;
+
+        protected SerializedClassInfo(@Nullable MetaProperty primaryKeyProperty, boolean compositePrimaryKey,
+                                      boolean embeddable, Set<MetaProperty> properties,
+                                      Set<MetaProperty> secretProperties) {
+            this.primaryKeyProperty = primaryKeyProperty;
+            this.compositePrimaryKey = compositePrimaryKey;
+            this.embeddable = embeddable;
+            this.properties = properties;
+            this.secretProperties = secretProperties;
+        }
+    }
+
     @Override
     public String toJson(Object entity) {
         return toJson(entity, null);
@@ -100,7 +134,7 @@ public class EntitySerializationImpl implements EntitySerialization {
                          @Nullable FetchPlan fetchPlan,
                          EntitySerializationOption... options) {
         context.remove();
-        return createGsonForSerialization(fetchPlan, options).toJson(entity);
+        return getGsonForSerialization(fetchPlan, options).toJson(entity);
     }
 
     @Override
@@ -113,13 +147,33 @@ public class EntitySerializationImpl implements EntitySerialization {
                          @Nullable FetchPlan fetchPlan,
                          EntitySerializationOption... options) {
         context.remove();
-        return createGsonForSerialization(fetchPlan, options).toJson(entities);
+        return getGsonForSerialization(fetchPlan, options).toJson(entities);
+    }
+
+    @Override
+    public void toJson(Collection<?> entities,
+                       @Nullable FetchPlan fetchPlan,
+                       Writer writer,
+                       EntitySerializationOption... options) throws IOException {
+        context.remove();
+        Gson gson = getGsonForSerialization(fetchPlan, options);
+        JsonWriter jsonWriter = gson.newJsonWriter(writer);
+        jsonWriter.beginArray();
+        for (Object entity : entities) {
+            if (entity == null) {
+                gson.toJson(JsonNull.INSTANCE, jsonWriter);
+            } else {
+                gson.toJson(entity, entity.getClass(), jsonWriter);
+            }
+        }
+        jsonWriter.endArray();
+        jsonWriter.flush();
     }
 
     @Override
     public String objectToJson(Object object, EntitySerializationOption... options) {
         context.remove();
-        return createGsonForSerialization(null, options).toJson(object);
+        return getGsonForSerialization(null, options).toJson(object);
     }
 
     @SuppressWarnings("unchecked")
@@ -147,6 +201,41 @@ public class EntitySerializationImpl implements EntitySerialization {
         return createGsonForDeserialization(null, options).fromJson(json, type);
     }
 
+    protected Gson getGsonForSerialization(@Nullable FetchPlan fetchPlan, EntitySerializationOption... options) {
+        if (fetchPlan != null) {
+            return createGsonForSerialization(fetchPlan, options);
+        }
+        Set<EntitySerializationOption> optionSet = options == null || options.length == 0 ?
+                EnumSet.noneOf(EntitySerializationOption.class) :
+                EnumSet.copyOf(Arrays.asList(options));
+        return serializationGsonCache.computeIfAbsent(optionSet,
+                key -> createGsonForSerialization(null, key.toArray(new EntitySerializationOption[0])));
+    }
+
+    protected SerializedClassInfo getSerializedClassInfo(MetaClass metaClass) {
+        if (metaClass instanceof KeyValueMetaClass) {
+            // key-value meta classes are created for each query and must not be cached
+            return createSerializedClassInfo(metaClass);
+        }
+        return serializedClassInfoCache.computeIfAbsent(metaClass, this::createSerializedClassInfo);
+    }
+
+    protected SerializedClassInfo createSerializedClassInfo(MetaClass metaClass) {
+        Set<MetaProperty> properties = new HashSet<>(metaClass.getProperties());
+        Set<MetaProperty> secretProperties = new HashSet<>();
+        for (MetaProperty metaProperty : properties) {
+            if (metaProperty.getAnnotatedElement().isAnnotationPresent(Secret.class)) {
+                secretProperties.add(metaProperty);
+            }
+        }
+        return new SerializedClassInfo(
+                metadataTools.getPrimaryKeyProperty(metaClass),
+                metadataTools.hasCompositePrimaryKey(metaClass),
+                metadataTools.isJpaEmbeddable(metaClass),
+                properties,
+                secretProperties);
+    }
+
     protected Gson createGsonForSerialization(@Nullable FetchPlan fetchPlan, EntitySerializationOption... options) {
         GsonBuilder gsonBuilder = new GsonBuilder();
         if (ArrayUtils.contains(options, EntitySerializationOption.PRETTY_PRINT)) {
@@ -225,7 +314,7 @@ public class EntitySerializationImpl implements EntitySerialization {
         protected JsonObject serializeEntity(Entity entity, @Nullable FetchPlan fetchPlan, Set<Entity> cyclicReferences) {
             JsonObject jsonObject = new JsonObject();
             MetaClass metaClass = metadata.getClass(entity);
-            if (!metadataTools.isJpaEmbeddable(metaClass)) {
+            if (!getSerializedClassInfo(metaClass).embeddable) {
                 jsonObject.addProperty(ENTITY_NAME_PROP, metaClass.getName());
                 if (serializeInstanceName) {
                     String instanceName = null;
@@ -265,13 +354,14 @@ public class EntitySerializationImpl implements EntitySerialization {
 
         protected void writeIdField(Entity entity, JsonObject jsonObject) {
             MetaClass metaClass = metadata.getClass(entity);
-            MetaProperty primaryKeyProperty = metadataTools.getPrimaryKeyProperty(metaClass);
+            SerializedClassInfo classInfo = getSerializedClassInfo(metaClass);
+            MetaProperty primaryKeyProperty = classInfo.primaryKeyProperty;
             if (primaryKeyProperty == null) {
                 primaryKeyProperty = metaClass.getProperty("id");
             }
             if (primaryKeyProperty == null)
                 throw new EntitySerializationException("Primary key property not found for entity " + metaClass);
-            if (metadataTools.hasCompositePrimaryKey(metaClass)) {
+            if (classInfo.compositePrimaryKey) {
                 JsonObject serializedIdEntity = serializeEntity((Entity) EntityValues.getId(entity), null, Collections.emptySet());
                 jsonObject.add("id", serializedIdEntity);
             } else {
@@ -281,12 +371,14 @@ public class EntitySerializationImpl implements EntitySerialization {
         }
 
         protected boolean propertyWritingAllowed(MetaProperty metaProperty, Entity entity, ExportImportEntityContext exportImportContext) {
-            if (!serializeSecretFields && metaProperty.getAnnotatedElement().isAnnotationPresent(Secret.class)) {
+            MetaClass metaClass = metadata.getClass(entity);
+            SerializedClassInfo classInfo = getSerializedClassInfo(metaClass);
+            if (!serializeSecretFields && isSecretProperty(metaProperty, classInfo)) {
                 return false;
             }
-            MetaClass metaClass = metadata.getClass(entity);
 
-            String primaryKeyName = metadataTools.getPrimaryKeyName(metaClass);
+            MetaProperty primaryKeyProperty = classInfo.primaryKeyProperty;
+            String primaryKeyName = primaryKeyProperty == null ? null : primaryKeyProperty.getName();
             String propertyName = metaProperty.getName();
 
             if (!Objects.equals(primaryKeyName, propertyName)) {
@@ -300,6 +392,14 @@ public class EntitySerializationImpl implements EntitySerialization {
             return true;
         }
 
+        protected boolean isSecretProperty(MetaProperty metaProperty, SerializedClassInfo classInfo) {
+            if (classInfo.properties.contains(metaProperty)) {
+                return classInfo.secretProperties.contains(metaProperty);
+            }
+            // additional properties are not cached as they can change at runtime
+            return metaProperty.getAnnotatedElement().isAnnotationPresent(Secret.class);
+        }
+
         protected void writeFields(Entity entity, JsonObject jsonObject, @Nullable FetchPlan fetchPlan, Set<Entity> cyclicReferences) {
             MetaClass metaClass = metadata.getClass(entity);
             Collection<MetaProperty> properties = new ArrayList<>(metaClass.getProperties());
@@ -330,7 +430,7 @@ public class EntitySerializationImpl implements EntitySerialization {
 
                 Object fieldValue;
                 try {
-                    fieldValue = EntityValues.getValue(entity, metaProperty.getName());
+                    fieldValue = EntityValues.getValue(entity, metaProperty);
                 } catch (EntityValueAccessException e) {
                     continue;
                 }
@@ -114,4 +114,13 @@ public interface MetaProperty extends MetadataObject {
     Class<?> getDeclaringClass();
 
     Store getStore();
+
+    /**
+     * @return index of the property which is unique and stable within its {@link #getDomain() domain} meta-class,
+     * or -1 if the property has no ordinal. Used for fast access to attribute values, see
+     * {@link io.jmix.core.EntityEntry#getAttributeValue(MetaProperty)}.
+     */
+    default int getOrdinal() {
+        return -1;
+    }
 }
\ No newline at end of file
@@ -24,6 +24,7 @@ public class MetaClassImpl extends MetadataObjectImpl implements MetaClass {
 
 	private Map<String, MetaProperty> propertyByName = new HashMap<>();
     private Map<String, MetaProperty> ownPropertyByName = new HashMap<>();
+    private int nextOrdinal;
 
 	private final Session session;
     private Class javaClass;
@@ -146,6 +147,7 @@ public class MetaClassImpl extends MetadataObjectImpl implements MetaClass {
     }
 
     public void registerProperty(MetaProperty metaProperty) {
+        assignOrdinal(metaProperty);
         propertyByName.put(metaProperty.getName(), metaProperty);
         ownPropertyByName.put(metaProperty.getName(), metaProperty);
         for (MetaClass descendant : descendants) {
@@ -158,10 +160,19 @@ public class MetaClassImpl extends MetadataObjectImpl implements MetaClass {
         if (prop == null) {
             MetaPropertyImpl clone = new MetaPropertyImpl((MetaPropertyImpl) metaProperty);
             clone.setDomain(this);
+            assignOrdinal(clone);
             propertyByName.put(metaProperty.getName(), clone);
         }
     }
 
+    protected void assignOrdinal(MetaProperty metaProperty) {
+        if (metaProperty instanceof MetaPropertyImpl) {
+            MetaProperty existing = propertyByName.get(metaProperty.getName());
+            int ordinal = existing != null && existing.getOrdinal() >= 0 ? existing.getOrdinal() : nextOrdinal++;
+            ((MetaPropertyImpl) metaProperty).setOrdinal(ordinal);
+        }
+    }
+
     @Override
     public String toString() {
         return name;
@@ -39,6 +39,7 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
     private AnnotatedElement annotatedElement;
     private Class<?> javaType;
     private Class<?> declaringClass;
+    private int ordinal = -1;
 
     public MetaPropertyImpl(MetaClass domain, String name) {
         this.domain = domain;
@@ -132,6 +133,15 @@ public class MetaPropertyImpl extends MetadataObjectImpl implements MetaProperty
         this.store = store;
     }
 
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    public void setOrdinal(int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     public void setDeclaringClass(Class<?> declaringClass) {
         this.declaringClass = declaringClass;
         withClones(clone -> clone.declaringClass = declaringClass);
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cluster_events
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.cluster.ClusterApplicationEvent
+import io.jmix.core.cluster.ClusterApplicationEventBatch
+import io.jmix.core.cluster.ClusterApplicationEventChannelSupplier
+import io.jmix.core.cluster.ClusterApplicationEventPublisher
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.messaging.Message
+import org.springframework.messaging.MessageHandler
+import org.springframework.test.context.ContextConfiguration
+import org.springframework.test.context.TestPropertySource
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+import test_support.base.TestBaseConfiguration
+
+@ContextConfiguration(classes = [CoreConfiguration, TestBaseConfiguration])
+@TestPropertySource(properties = [
+        "jmix.core.cluster-events-batch-window=1s",
+        "jmix.core.cluster-events-max-batch-size=3"
+])
+class ClusterEventsBatchingTest extends Specification {
+
+    @Autowired
+    ClusterApplicationEventPublisher publisher
+
+    @Autowired
+    ClusterApplicationEventChannelSupplier channelSupplier
+
+    @Autowired
+    MeterRegistry meterRegistry
+
+    List<Message<?>> messages = Collections.synchronizedList([])
+
+    MessageHandler handler = { Message<?> message -> messages.add(message) } as MessageHandler
+
+    def setup() {
+        channelSupplier.get().subscribe(handler)
+    }
+
+    def cleanup() {
+        publisher.flush()
+        channelSupplier.get().unsubscribe(handler)
+    }
+
+    def "batch is sent when max batch size is reached"() {
+        def batchCount = meterRegistry.summary('jmix.cluster.events.batchSize', 'channel', 'application').count()
+
+        when:
+        publisher.publish(new TestEvent('a', null))
+        publisher.publish(new TestEvent('b', null))
+
+        then:
+        messages.isEmpty()
+
+        when:
+        publisher.publish(new TestEvent('c', null))
+
+        then:
+        messages.size() == 1
+        decode(messages[0]).events*.value == ['a', 'b', 'c']
+        meterRegistry.summary('jmix.cluster.events.batchSize', 'channel', 'application').count() == batchCount + 1
+    }
+
+    def "events with equal keys are coalesced"() {
+        def coalesced = meterRegistry.counter('jmix.cluster.events.coalesced', 'channel', 'application').count()
+
+        when:
+        publisher.publish(new TestEvent('a', 'key1'))
+        publisher.publish(new TestEvent('b', 'key2'))
+        publisher.publish(new TestEvent('c', 'key1'))
+        publisher.flush()
+
+        then:
+        messages.size() == 1
+        decode(messages[0]).events*.value == ['b', 'c']
+        meterRegistry.counter('jmix.cluster.events.coalesced', 'channel', 'application').count() == coalesced + 1
+    }
+
+    def "batch is sent when batch window elapses"() {
+        when:
+        publisher.publish(new TestEvent('a', null))
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert messages.size() == 1
+        }
+        decode(messages[0]).events*.value == ['a']
+    }
+
+    def "received batch is published as separate events"() {
+        def received = meterRegistry.counter('jmix.cluster.events.in', 'channel', 'application').count()
+
+        when:
+        publisher.publish(new TestEvent('a', null))
+        publisher.publish(new TestEvent('b', null))
+        publisher.flush()
+        publisher.onAppEventMessage(messages[0])
+
+        then:
+        meterRegistry.counter('jmix.cluster.events.in', 'channel', 'application').count() == received + 2
+    }
+
+    ClusterApplicationEventBatch decode(Message<?> message) {
+        assert message.payload instanceof byte[]
+        return publisher.decodeBatch(message.payload as byte[])
+    }
+
+    static class TestEvent extends ClusterApplicationEvent {
+
+        String value
+        String key
+
+        TestEvent(String value, String key) {
+            super(value)
+            this.value = value
+            this.key = key
+        }
+
+        @Override
+        Object getCoalescingKey() {
+            return key
+        }
+    }
+}
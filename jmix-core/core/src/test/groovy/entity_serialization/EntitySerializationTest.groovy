@@ -69,4 +69,31 @@ class EntitySerializationTest extends Specification {
         jsonFields['regularField'] == 'regular'
         jsonFields['secretField'] == 'secret'
     }
+
+    def "streaming serialization of collection produces the same JSON"() {
+
+        TestSecretFieldEntity entity1 = metadata.create(TestSecretFieldEntity.class)
+        entity1.regularField = 'regular1'
+        entity1.secretField = 'secret1'
+
+        TestSecretFieldEntity entity2 = metadata.create(TestSecretFieldEntity.class)
+        entity2.regularField = 'regular2'
+
+        def entities = [entity1, entity2]
+
+        when:
+
+        def writer = new StringWriter()
+        entitySerialization.toJson(entities, null, writer, EntitySerializationOption.SERIALIZE_NULLS)
+
+        then:
+        writer.toString() == entitySerialization.toJson(entities, null, EntitySerializationOption.SERIALIZE_NULLS)
+
+        List<Map<String, Object>> jsonList = new Gson().fromJson(writer.toString(), new TypeToken<List<Map<String, Object>>>() {}.getType())
+        jsonList.size() == 2
+        jsonList[0]['regularField'] == 'regular1'
+        !jsonList[0].containsKey('secretField')
+        jsonList[1]['regularField'] == 'regular2'
+        !jsonList[1].containsKey('secretField')
+    }
 }
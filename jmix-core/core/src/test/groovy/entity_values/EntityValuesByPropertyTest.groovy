@@ -0,0 +1,112 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package entity_values
+
+import io.jmix.core.CoreConfiguration
+import io.jmix.core.Metadata
+import io.jmix.core.entity.BaseEntityEntry
+import io.jmix.core.entity.EntityValues
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.ContextConfiguration
+import spock.lang.Specification
+import test_support.addon1.TestAddon1Configuration
+import test_support.app.TestAppConfiguration
+import test_support.app.entity.Owner
+import test_support.app.entity.Pet
+import test_support.app.entity.sales.OrderLine
+import test_support.app.entity.sales.OrderLineA
+import test_support.base.TestBaseConfiguration
+
+@ContextConfiguration(classes = [CoreConfiguration, TestBaseConfiguration, TestAddon1Configuration, TestAppConfiguration])
+class EntityValuesByPropertyTest extends Specification {
+
+    @Autowired
+    Metadata metadata
+
+    def "property ordinals are unique within meta-class"() {
+        def properties = metadata.getClass(Pet).properties
+
+        expect:
+        properties.every { it.ordinal >= 0 }
+        properties.collect { it.ordinal }.toSet().size() == properties.size()
+    }
+
+    def "enhanced entity provides indexed access to attributes"() {
+        def pet = metadata.create(Pet)
+        def entry = pet.__getEntityEntry()
+        def nameProperty = metadata.getClass(Pet).getProperty('name')
+
+        when:
+        EntityValues.setValue(pet, nameProperty, 'Rex', false)
+        def index = BaseEntityEntry.INDEXED_ATTRIBUTES.get(entry.getClass()).indexOf(nameProperty, entry)
+
+        then:
+        entry.getIndexedAttributeNames().length > 0
+        index >= 0
+        entry.getIndexedAttributeNames()[index] == 'name'
+        entry.getAttributeValue(index) == 'Rex'
+    }
+
+    def "values are the same when accessed by property and by name"() {
+        def owner = metadata.create(Owner)
+        def pet = metadata.create(Pet)
+        pet.name = 'Rex'
+        pet.nick = 'rex'
+        pet.owner = owner
+
+        expect:
+        metadata.getClass(Pet).properties.every {
+            EntityValues.getValue(pet, it) == EntityValues.getValue(pet, it.name)
+        }
+    }
+
+    def "value is set by property"() {
+        def pet = metadata.create(Pet)
+        def nameProperty = metadata.getClass(Pet).getProperty('name')
+
+        when:
+        EntityValues.setValue(pet, nameProperty, 'Rex', true)
+
+        then:
+        pet.name == 'Rex'
+        EntityValues.getValue(pet, nameProperty) == 'Rex'
+        EntityValues.getValueEx(pet, metadata.getClass(Pet).getPropertyPath('name')) == 'Rex'
+    }
+
+    def "properties of ancestor and descendant meta-classes with the same ordinal don't share slots"() {
+        def line = metadata.create(OrderLineA)
+        line.quantity = 5
+        line.param1 = 'p1'
+
+        def ancestorProperties = metadata.getClass(OrderLine).properties
+        def descendantProperties = metadata.getClass(OrderLineA).properties
+        def indexedAttributes = BaseEntityEntry.INDEXED_ATTRIBUTES.get(line.__getEntityEntry().getClass())
+
+        when:
+        (ancestorProperties + descendantProperties).each { EntityValues.getValue(line, it) }
+        def slotsByDomain = indexedAttributes.slotsByDomain
+
+        then:
+        (ancestorProperties + descendantProperties).every {
+            EntityValues.getValue(line, it) == EntityValues.getValue(line, it.name)
+        }
+        // no slot is re-resolved after all properties have been accessed once
+        indexedAttributes.slotsByDomain.is(slotsByDomain)
+        EntityValues.getValue(line, metadata.getClass(OrderLine).getProperty('quantity')) == 5
+        EntityValues.getValue(line, metadata.getClass(OrderLineA).getProperty('param1')) == 'p1'
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package scripting
+
+import io.jmix.core.impl.CachingGroovyScriptEvaluator
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.scripting.ScriptCompilationException
+import org.springframework.scripting.support.StaticScriptSource
+import spock.lang.Specification
+
+class CachingGroovyScriptEvaluatorTest extends Specification {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry()
+
+    def "script is compiled once and evaluated with own arguments"() {
+        def evaluator = new CachingGroovyScriptEvaluator(10, meterRegistry)
+
+        when:
+        def results = (1..100).collect {
+            evaluator.evaluate(new StaticScriptSource('return a * 2'), [a: it])
+        }
+
+        then:
+        results == (1..100).collect { it * 2 }
+        meterRegistry.get('jmix.scripting.compile').timer().count() == 1
+        meterRegistry.get('jmix.scripting.eval').timer().count() == 100
+    }
+
+    def "least recently used scripts are evicted"() {
+        def evaluator = new CachingGroovyScriptEvaluator(2, meterRegistry)
+
+        when:
+        evaluator.evaluate(new StaticScriptSource('return 1'))
+        evaluator.evaluate(new StaticScriptSource('return 2'))
+        evaluator.evaluate(new StaticScriptSource('return 3'))
+        evaluator.evaluate(new StaticScriptSource('return 1'))
+
+        then:
+        meterRegistry.get('jmix.scripting.compile').timer().count() == 4
+        meterRegistry.get('jmix.scripting.cache.size').gauge().value() <= 2
+    }
+
+    def "compilation error"() {
+        def evaluator = new CachingGroovyScriptEvaluator(10, meterRegistry)
+
+        when:
+        evaluator.evaluate(new StaticScriptSource('return {'))
+
+        then:
+        thrown(ScriptCompilationException)
+    }
+}
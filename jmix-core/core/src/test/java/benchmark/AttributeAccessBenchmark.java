@@ -0,0 +1,122 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package benchmark;
+
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.impl.MetaClassImpl;
+import io.jmix.core.metamodel.model.impl.MetaPropertyImpl;
+import io.jmix.core.metamodel.model.impl.SessionImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and writing all attributes of a 50-attribute entity by name and by
+ * {@link MetaProperty#getOrdinal()}.
+ * <p>
+ * Run with the {@link #main(String[])} method from the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeAccessBenchmark {
+
+    private Object entity;
+    private String[] names;
+    private MetaProperty[] properties;
+
+    @Setup
+    public void setUp() {
+        MetaClassImpl metaClass = new MetaClassImpl(new SessionImpl(), "bench_WideEntity");
+        metaClass.setJavaClass(WideEntity.class);
+
+        List<String> fieldNames = new ArrayList<>();
+        for (Field field : WideEntity.class.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) && !field.getName().startsWith("_")) {
+                fieldNames.add(field.getName());
+            }
+        }
+        names = fieldNames.toArray(new String[0]);
+        for (String name : names) {
+            // the constructor registers the property in the meta-class, which assigns its ordinal
+            new MetaPropertyImpl(metaClass, name);
+        }
+        properties = new MetaProperty[names.length];
+        for (int i = 0; i < names.length; i++) {
+            properties[i] = metaClass.getProperty(names[i]);
+            if (properties[i].getOrdinal() < 0) {
+                throw new IllegalStateException("Property " + names[i] + " is not registered");
+            }
+        }
+
+        WideEntity wideEntity = new WideEntity();
+        wideEntity.setId(UUID.randomUUID());
+        for (int i = 1; i < 50; i++) {
+            EntityValues.setValue(wideEntity, "attr" + i, i % 2 == 1 ? "value" + i : Integer.valueOf(i));
+        }
+        entity = wideEntity;
+    }
+
+    @Benchmark
+    public void getByName(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume((Object) EntityValues.getValue(entity, name));
+        }
+    }
+
+    @Benchmark
+    public void getByOrdinal(Blackhole blackhole) {
+        for (MetaProperty property : properties) {
+            blackhole.consume((Object) EntityValues.getValue(entity, property));
+        }
+    }
+
+    @Benchmark
+    public void setByName() {
+        for (String name : names) {
+            EntityValues.setValue(entity, name, EntityValues.getValue(entity, name), false);
+        }
+    }
+
+    @Benchmark
+    public void setByOrdinal() {
+        for (MetaProperty property : properties) {
+            EntityValues.setValue(entity, property, EntityValues.getValue(entity, property), false);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AttributeAccessBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
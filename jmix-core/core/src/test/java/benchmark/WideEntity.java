@@ -0,0 +1,484 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package benchmark;
+
+import io.jmix.core.entity.annotation.JmixGeneratedValue;
+import io.jmix.core.entity.annotation.JmixId;
+import io.jmix.core.metamodel.annotation.JmixEntity;
+
+import java.util.UUID;
+
+/**
+ * Entity with 50 attributes used by {@link AttributeAccessBenchmark}.
+ */
+@JmixEntity(name = "bench_WideEntity")
+public class WideEntity {
+
+    @JmixId
+    @JmixGeneratedValue
+    private UUID id;
+
+    private String attr1;
+    private Integer attr2;
+    private String attr3;
+    private Integer attr4;
+    private String attr5;
+    private Integer attr6;
+    private String attr7;
+    private Integer attr8;
+    private String attr9;
+    private Integer attr10;
+    private String attr11;
+    private Integer attr12;
+    private String attr13;
+    private Integer attr14;
+    private String attr15;
+    private Integer attr16;
+    private String attr17;
+    private Integer attr18;
+    private String attr19;
+    private Integer attr20;
+    private String attr21;
+    private Integer attr22;
+    private String attr23;
+    private Integer attr24;
+    private String attr25;
+    private Integer attr26;
+    private String attr27;
+    private Integer attr28;
+    private String attr29;
+    private Integer attr30;
+    private String attr31;
+    private Integer attr32;
+    private String attr33;
+    private Integer attr34;
+    private String attr35;
+    private Integer attr36;
+    private String attr37;
+    private Integer attr38;
+    private String attr39;
+    private Integer attr40;
+    private String attr41;
+    private Integer attr42;
+    private String attr43;
+    private Integer attr44;
+    private String attr45;
+    private Integer attr46;
+    private String attr47;
+    private Integer attr48;
+    private String attr49;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getAttr1() {
+        return attr1;
+    }
+
+    public void setAttr1(String attr1) {
+        this.attr1 = attr1;
+    }
+
+    public Integer getAttr2() {
+        return attr2;
+    }
+
+    public void setAttr2(Integer attr2) {
+        this.attr2 = attr2;
+    }
+
+    public String getAttr3() {
+        return attr3;
+    }
+
+    public void setAttr3(String attr3) {
+        this.attr3 = attr3;
+    }
+
+    public Integer getAttr4() {
+        return attr4;
+    }
+
+    public void setAttr4(Integer attr4) {
+        this.attr4 = attr4;
+    }
+
+    public String getAttr5() {
+        return attr5;
+    }
+
+    public void setAttr5(String attr5) {
+        this.attr5 = attr5;
+    }
+
+    public Integer getAttr6() {
+        return attr6;
+    }
+
+    public void setAttr6(Integer attr6) {
+        this.attr6 = attr6;
+    }
+
+    public String getAttr7() {
+        return attr7;
+    }
+
+    public void setAttr7(String attr7) {
+        this.attr7 = attr7;
+    }
+
+    public Integer getAttr8() {
+        return attr8;
+    }
+
+    public void setAttr8(Integer attr8) {
+        this.attr8 = attr8;
+    }
+
+    public String getAttr9() {
+        return attr9;
+    }
+
+    public void setAttr9(String attr9) {
+        this.attr9 = attr9;
+    }
+
+    public Integer getAttr10() {
+        return attr10;
+    }
+
+    public void setAttr10(Integer attr10) {
+        this.attr10 = attr10;
+    }
+
+    public String getAttr11() {
+        return attr11;
+    }
+
+    public void setAttr11(String attr11) {
+        this.attr11 = attr11;
+    }
+
+    public Integer getAttr12() {
+        return attr12;
+    }
+
+    public void setAttr12(Integer attr12) {
+        this.attr12 = attr12;
+    }
+
+    public String getAttr13() {
+        return attr13;
+    }
+
+    public void setAttr13(String attr13) {
+        this.attr13 = attr13;
+    }
+
+    public Integer getAttr14() {
+        return attr14;
+    }
+
+    public void setAttr14(Integer attr14) {
+        this.attr14 = attr14;
+    }
+
+    public String getAttr15() {
+        return attr15;
+    }
+
+    public void setAttr15(String attr15) {
+        this.attr15 = attr15;
+    }
+
+    public Integer getAttr16() {
+        return attr16;
+    }
+
+    public void setAttr16(Integer attr16) {
+        this.attr16 = attr16;
+    }
+
+    public String getAttr17() {
+        return attr17;
+    }
+
+    public void setAttr17(String attr17) {
+        this.attr17 = attr17;
+    }
+
+    public Integer getAttr18() {
+        return attr18;
+    }
+
+    public void setAttr18(Integer attr18) {
+        this.attr18 = attr18;
+    }
+
+    public String getAttr19() {
+        return attr19;
+    }
+
+    public void setAttr19(String attr19) {
+        this.attr19 = attr19;
+    }
+
+    public Integer getAttr20() {
+        return attr20;
+    }
+
+    public void setAttr20(Integer attr20) {
+        this.attr20 = attr20;
+    }
+
+    public String getAttr21() {
+        return attr21;
+    }
+
+    public void setAttr21(String attr21) {
+        this.attr21 = attr21;
+    }
+
+    public Integer getAttr22() {
+        return attr22;
+    }
+
+    public void setAttr22(Integer attr22) {
+        this.attr22 = attr22;
+    }
+
+    public String getAttr23() {
+        return attr23;
+    }
+
+    public void setAttr23(String attr23) {
+        this.attr23 = attr23;
+    }
+
+    public Integer getAttr24() {
+        return attr24;
+    }
+
+    public void setAttr24(Integer attr24) {
+        this.attr24 = attr24;
+    }
+
+    public String getAttr25() {
+        return attr25;
+    }
+
+    public void setAttr25(String attr25) {
+        this.attr25 = attr25;
+    }
+
+    public Integer getAttr26() {
+        return attr26;
+    }
+
+    public void setAttr26(Integer attr26) {
+        this.attr26 = attr26;
+    }
+
+    public String getAttr27() {
+        return attr27;
+    }
+
+    public void setAttr27(String attr27) {
+        this.attr27 = attr27;
+    }
+
+    public Integer getAttr28() {
+        return attr28;
+    }
+
+    public void setAttr28(Integer attr28) {
+        this.attr28 = attr28;
+    }
+
+    public String getAttr29() {
+        return attr29;
+    }
+
+    public void setAttr29(String attr29) {
+        this.attr29 = attr29;
+    }
+
+    public Integer getAttr30() {
+        return attr30;
+    }
+
+    public void setAttr30(Integer attr30) {
+        this.attr30 = attr30;
+    }
+
+    public String getAttr31() {
+        return attr31;
+    }
+
+    public void setAttr31(String attr31) {
+        this.attr31 = attr31;
+    }
+
+    public Integer getAttr32() {
+        return attr32;
+    }
+
+    public void setAttr32(Integer attr32) {
+        this.attr32 = attr32;
+    }
+
+    public String getAttr33() {
+        return attr33;
+    }
+
+    public void setAttr33(String attr33) {
+        this.attr33 = attr33;
+    }
+
+    public Integer getAttr34() {
+        return attr34;
+    }
+
+    public void setAttr34(Integer attr34) {
+        this.attr34 = attr34;
+    }
+
+    public String getAttr35() {
+        return attr35;
+    }
+
+    public void setAttr35(String attr35) {
+        this.attr35 = attr35;
+    }
+
+    public Integer getAttr36() {
+        return attr36;
+    }
+
+    public void setAttr36(Integer attr36) {
+        this.attr36 = attr36;
+    }
+
+    public String getAttr37() {
+        return attr37;
+    }
+
+    public void setAttr37(String attr37) {
+        this.attr37 = attr37;
+    }
+
+    public Integer getAttr38() {
+        return attr38;
+    }
+
+    public void setAttr38(Integer attr38) {
+        this.attr38 = attr38;
+    }
+
+    public String getAttr39() {
+        return attr39;
+    }
+
+    public void setAttr39(String attr39) {
+        this.attr39 = attr39;
+    }
+
+    public Integer getAttr40() {
+        return attr40;
+    }
+
+    public void setAttr40(Integer attr40) {
+        this.attr40 = attr40;
+    }
+
+    public String getAttr41() {
+        return attr41;
+    }
+
+    public void setAttr41(String attr41) {
+        this.attr41 = attr41;
+    }
+
+    public Integer getAttr42() {
+        return attr42;
+    }
+
+    public void setAttr42(Integer attr42) {
+        this.attr42 = attr42;
+    }
+
+    public String getAttr43() {
+        return attr43;
+    }
+
+    public void setAttr43(String attr43) {
+        this.attr43 = attr43;
+    }
+
+    public Integer getAttr44() {
+        return attr44;
+    }
+
+    public void setAttr44(Integer attr44) {
+        this.attr44 = attr44;
+    }
+
+    public String getAttr45() {
+        return attr45;
+    }
+
+    public void setAttr45(String attr45) {
+        this.attr45 = attr45;
+    }
+
+    public Integer getAttr46() {
+        return attr46;
+    }
+
+    public void setAttr46(Integer attr46) {
+        this.attr46 = attr46;
+    }
+
+    public String getAttr47() {
+        return attr47;
+    }
+
+    public void setAttr47(String attr47) {
+        this.attr47 = attr47;
+    }
+
+    public Integer getAttr48() {
+        return attr48;
+    }
+
+    public void setAttr48(Integer attr48) {
+        this.attr48 = attr48;
+    }
+
+    public String getAttr49() {
+        return attr49;
+    }
+
+    public void setAttr49(String attr49) {
+        this.attr49 = attr49;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package file_storage;
+
+import io.jmix.core.CoreConfiguration;
+import io.jmix.core.FileRef;
+import io.jmix.core.FileTransferException;
+import io.jmix.core.FileTransferService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import test_support.addon1.TestAddon1Configuration;
+import test_support.app.TestAppConfiguration;
+import test_support.app.TestFileStorage;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {CoreConfiguration.class, TestAddon1Configuration.class, TestAppConfiguration.class})
+public class FileTransferServiceTest {
+
+    @Autowired
+    TestFileStorage fileStorage;
+
+    @Autowired
+    FileTransferService fileTransferService;
+
+    @Test
+    void testDownload() throws Exception {
+        FileRef ref = fileStorage.saveStream("test.txt", new ByteArrayInputStream("some content".getBytes()));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileTransferService.downloadAndWriteResponse(ref, "testFs", false, new MockHttpServletRequest(), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("some content", response.getContentAsString());
+        assertEquals(12, response.getContentLengthLong());
+        assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+        assertNotNull(response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testRangeDownload() throws Exception {
+        FileRef ref = fileStorage.saveStream("test.txt", new ByteArrayInputStream("some content".getBytes()));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=5-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileTransferService.downloadAndWriteResponse(ref, "testFs", false, request, response);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("content", response.getContentAsString());
+        assertEquals("bytes 5-11/12", response.getHeader(HttpHeaders.CONTENT_RANGE));
+
+        request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+        response = new MockHttpServletResponse();
+        fileTransferService.downloadAndWriteResponse(ref, "testFs", false, request, response);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */12", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void testMalformedRangeIgnored() throws Exception {
+        FileRef ref = fileStorage.saveStream("test.txt", new ByteArrayInputStream("some content".getBytes()));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=abc");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileTransferService.downloadAndWriteResponse(ref, "testFs", false, request, response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("some content", response.getContentAsString());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void testNotModified() throws Exception {
+        FileRef ref = fileStorage.saveStream("test.txt", new ByteArrayInputStream("some content".getBytes()));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileTransferService.downloadAndWriteResponse(ref, "testFs", false, new MockHttpServletRequest(), response);
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        response = new MockHttpServletResponse();
+        fileTransferService.downloadAndWriteResponse(ref, "testFs", false, request, response);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testContentTypeFromMetadata() throws Exception {
+        FileRef ref = fileStorage.saveStream("data", new ByteArrayInputStream("a,b".getBytes()),
+                Collections.singletonMap("contentType", "text/csv"));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileTransferService.downloadAndWriteResponse(ref, "testFs", false, new MockHttpServletRequest(), response);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("text/csv", response.getHeader(HttpHeaders.CONTENT_TYPE));
+    }
+
+    @Test
+    void testFileNotFound() {
+        FileRef ref = new FileRef("testFs", "missing.txt", "missing.txt");
+
+        FileTransferException exception = assertThrows(FileTransferException.class, () ->
+                fileTransferService.downloadAndWriteResponse(ref, "testFs", false,
+                        new MockHttpServletRequest(), new MockHttpServletResponse()));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+}
@@ -18,19 +18,22 @@ package test_support.app;
 
 import com.google.common.collect.Maps;
 import com.google.common.io.ByteStreams;
+import io.jmix.core.FileMetadata;
 import io.jmix.core.FileRef;
-import io.jmix.core.FileStorage;
 import io.jmix.core.FileStorageException;
+import io.jmix.core.RangeFileStorage;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
-public class TestFileStorage implements FileStorage {
+public class TestFileStorage implements RangeFileStorage {
 
     private Map<FileRef, byte[]> files = new HashMap<>();
+    private Map<FileRef, Date> modificationDates = new HashMap<>();
     private String storageName;
 
     public TestFileStorage() {
@@ -57,6 +60,7 @@ public class TestFileStorage implements FileStorage {
         Map<String, String> fileRefParams = Maps.toMap(parameters.keySet(), key -> parameters.get(key).toString());
         FileRef reference = new FileRef("testFs", fileName, fileName, fileRefParams);
         files.put(reference, bytes);
+        modificationDates.put(reference, new Date());
         return reference;
     }
 
@@ -69,9 +73,30 @@ public class TestFileStorage implements FileStorage {
         return new ByteArrayInputStream(bytes);
     }
 
+    @Override
+    public InputStream openStream(FileRef reference, long offset, long length) {
+        if (!fileExists(reference)) {
+            throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND, "File not found");
+        }
+        byte[] bytes = files.get(reference);
+        int from = (int) Math.min(offset, bytes.length);
+        int to = (int) Math.min(offset + length, bytes.length);
+        return new ByteArrayInputStream(bytes, from, to - from);
+    }
+
+    @Override
+    public FileMetadata getFileMetadata(FileRef reference) {
+        if (!fileExists(reference)) {
+            throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND, "File not found");
+        }
+        return new FileMetadata(files.get(reference).length, modificationDates.get(reference),
+                reference.getParameters().get("contentType"));
+    }
+
     @Override
     public void removeFile(FileRef reference) {
         files.remove(reference);
+        modificationDates.remove(reference);
     }
 
     @Override
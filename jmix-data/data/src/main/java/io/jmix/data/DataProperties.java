@@ -25,6 +25,12 @@ public class DataProperties {
 
     boolean useReadOnlyTransactionForLoad;
     int numberIdCacheSize;
+
+    /**
+     * Number of ids left in the cached block at which the next block is reserved asynchronously.
+     * 0 disables prefetching, so the next block is reserved when the current one is exhausted.
+     */
+    int numberIdCachePrefetchThreshold;
     boolean useEntityDataStoreForIdSequence;
 
     /**
@@ -33,17 +39,27 @@ public class DataProperties {
     String uniqueConstraintViolationPattern;
     boolean useUserLocaleForRelativeDateTimeMoments;
 
+    /**
+     * Maximum number of JPQL queries whose parsing and transformation results are cached.
+     * 0 disables caching.
+     */
+    int jpqlCacheSize;
+
     public DataProperties(
             @DefaultValue("true") boolean useReadOnlyTransactionForLoad,
             @DefaultValue("100") int numberIdCacheSize,
+            @DefaultValue("0") int numberIdCachePrefetchThreshold,
             boolean useEntityDataStoreForIdSequence,
             @Nullable String uniqueConstraintViolationPattern,
-            @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments) {
+            @DefaultValue("true") boolean useUserLocaleForRelativeDateTimeMoments,
+            @DefaultValue("1000") int jpqlCacheSize) {
         this.useReadOnlyTransactionForLoad = useReadOnlyTransactionForLoad;
         this.numberIdCacheSize = numberIdCacheSize;
+        this.numberIdCachePrefetchThreshold = numberIdCachePrefetchThreshold;
         this.useEntityDataStoreForIdSequence = useEntityDataStoreForIdSequence;
         this.uniqueConstraintViolationPattern = uniqueConstraintViolationPattern;
         this.useUserLocaleForRelativeDateTimeMoments = useUserLocaleForRelativeDateTimeMoments;
+        this.jpqlCacheSize = jpqlCacheSize;
     }
 
     public boolean isUseReadOnlyTransactionForLoad() {
@@ -54,6 +70,13 @@ public class DataProperties {
         return numberIdCacheSize;
     }
 
+    /**
+     * @see #numberIdCachePrefetchThreshold
+     */
+    public int getNumberIdCachePrefetchThreshold() {
+        return numberIdCachePrefetchThreshold;
+    }
+
     public boolean isUseEntityDataStoreForIdSequence() {
         return useEntityDataStoreForIdSequence;
     }
@@ -69,4 +92,11 @@ public class DataProperties {
     public boolean isUseUserLocaleForRelativeDateTimeMoments() {
         return useUserLocaleForRelativeDateTimeMoments;
     }
+
+    /**
+     * @see #jpqlCacheSize
+     */
+    public int getJpqlCacheSize() {
+        return jpqlCacheSize;
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Provides the key of the database which connections of the current thread are routed to if the data source
+ * of a data store routes connections to different databases, e.g. to a database of each tenant.
+ * <p>
+ * Caches of data depending on the database, such as query cache results, reserved ids and created sequences,
+ * keep the data separately for each key.
+ */
+public interface DataSourceRoutingKeyProvider {
+
+    /**
+     * @param storeName data store name
+     * @return key of the database used by the current thread or null if connections of the data store
+     * are not routed or routed to the default database
+     */
+    @Nullable
+    String getCurrentKey(String storeName);
+}
@@ -15,8 +15,11 @@
  */
 package io.jmix.data;
 
+import io.jmix.data.impl.jpql.CachingQueryParser;
+import io.jmix.data.impl.jpql.CachingQueryTransformer;
 import io.jmix.data.impl.jpql.DomainModel;
 import io.jmix.data.impl.jpql.DomainModelBuilder;
+import io.jmix.data.impl.jpql.JpqlQueryCache;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +28,9 @@ import org.springframework.stereotype.Component;
 
 /**
  * Factory to get {@link QueryParser} and {@link QueryTransformer} instances.
+ * <p>
+ * If {@link JpqlQueryCache} is enabled, the returned instances take parsing and transformation results
+ * from the cache and parse the query only on a cache miss.
  */
 @Component("data_QueryTransformerFactory")
 public class QueryTransformerFactory {
@@ -41,17 +47,31 @@ public class QueryTransformerFactory {
     @Autowired
     protected ObjectProvider<QueryParser> queryParserProvider;
 
+    @Autowired
+    protected JpqlQueryCache jpqlQueryCache;
+
     public QueryTransformer transformer(String query) {
-        if (domainModel == null) {
-            domainModel = domainModelBuilder.produce();
+        DomainModel model = getDomainModel();
+        if (jpqlQueryCache.isEnabled()) {
+            return new CachingQueryTransformer(jpqlQueryCache, query,
+                    () -> beanFactory.getBean(QueryTransformer.class, model, query));
         }
-        return beanFactory.getBean(QueryTransformer.class, domainModel, query);
+        return beanFactory.getBean(QueryTransformer.class, model, query);
     }
 
     public QueryParser parser(String query) {
+        DomainModel model = getDomainModel();
+        if (jpqlQueryCache.isEnabled()) {
+            return new CachingQueryParser(jpqlQueryCache, query,
+                    () -> queryParserProvider.getObject(model, query));
+        }
+        return queryParserProvider.getObject(model, query);
+    }
+
+    protected DomainModel getDomainModel() {
         if (domainModel == null) {
             domainModel = domainModelBuilder.produce();
         }
-        return queryParserProvider.getObject(domainModel, query);
+        return domainModel;
     }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import io.jmix.core.*;
 import io.jmix.core.common.util.StringHelper;
+import io.jmix.core.datastore.KeysetPaginationSupport;
 import io.jmix.core.impl.QueryParamValuesManager;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
@@ -35,6 +36,7 @@ import io.jmix.data.impl.jpql.generator.ConditionGenerationContext;
 import io.jmix.data.impl.jpql.generator.ConditionJpqlGenerator;
 import io.jmix.data.impl.jpql.generator.ParameterJpqlGenerator;
 import io.jmix.data.impl.jpql.generator.SortJpqlGenerator;
+import io.jmix.data.persistence.JpqlSortExpressionProvider;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.Query;
@@ -61,6 +63,7 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
     protected Map<String, Object> queryParameters;
     protected Condition condition;
     protected Sort sort;
+    protected List<?> afterKey;
 
     protected String entityName;
     protected List<String> valueProperties;
@@ -104,6 +107,12 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
     @Autowired
     protected CoreProperties coreProperties;
 
+    @Autowired
+    protected KeysetPaginationSupport keysetPaginationSupport;
+
+    @Autowired
+    protected JpqlSortExpressionProvider jpqlSortExpressionProvider;
+
     public JpqlQueryBuilder setId(@Nullable Object id) {
         this.id = id;
         return this;
@@ -144,6 +153,16 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
         return this;
     }
 
+    /**
+     * Sets the key of the last instance of the previous page for keyset pagination.
+     *
+     * @see io.jmix.core.LoadContext.Query#setAfterKey(List)
+     */
+    public JpqlQueryBuilder setAfterKey(@Nullable List<?> afterKey) {
+        this.afterKey = afterKey;
+        return this;
+    }
+
     public JpqlQueryBuilder setPreviousResults(UUID sessionId, int queryKey) {
         this.previousResults = true;
         this.sessionId = sessionId;
@@ -231,12 +250,85 @@ public class JpqlQueryBuilder<Q extends JmixQuery> {
             }
         }
         applyFiltering();
+        applyKeyset();
         applySorting();
         applyCount();
         applyDistinct();
         restrictByPreviousResults();
     }
 
+    protected void applyKeyset() {
+        if (afterKey == null || entityName == null || countQuery) {
+            return;
+        }
+        MetaClass metaClass = metadata.getClass(entityName);
+        if (!keysetPaginationSupport.isApplicable(metaClass, sort, false)) {
+            throw new DevelopmentException(String.format(
+                    "Keyset pagination requires sorting by local persistent attributes of %s, sort: %s", entityName, sort));
+        }
+
+        List<Sort.Order> keyOrders = keysetPaginationSupport.getKeyOrders(metaClass, sort);
+        for (Sort.Order order : keyOrders) {
+            MetaPropertyPath propertyPath = Objects.requireNonNull(metaClass.getPropertyPath(order.getProperty()));
+            if (!jpqlSortExpressionProvider.isPlainDatatypeSortExpression(propertyPath,
+                    order.getDirection() == Sort.Direction.ASC)) {
+                // the key values can't be compared with a custom sort expression, e.g. upper(...) or 'nulls first'
+                throw new DevelopmentException(String.format(
+                        "Keyset pagination doesn't support custom sort expression of %s.%s",
+                        entityName, order.getProperty()));
+            }
+        }
+        // the sort generator adds the primary key to the end of 'order by', so the result order matches the key
+        sort = Sort.by(keyOrders);
+
+        if (afterKey.isEmpty()) {
+            return;
+        }
+        if (afterKey.size() != keyOrders.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Keyset pagination key %s doesn't match sort orders %s", afterKey, keyOrders));
+        }
+
+        Map<String, Object> keyParameters = new HashMap<>();
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < keyOrders.size(); i++) {
+            if (i > 0) {
+                where.append(" or ");
+            }
+            where.append("(");
+            for (int j = 0; j <= i; j++) {
+                Sort.Order order = keyOrders.get(j);
+                Object value = afterKey.get(j);
+                if (value == null) {
+                    throw new IllegalArgumentException(String.format(
+                            "Keyset pagination key %s contains null value of '%s'", afterKey, order.getProperty()));
+                }
+                String paramName = "_ks" + j;
+                String expression = "{E}." + order.getProperty();
+
+                if (j > 0) {
+                    where.append(" and ");
+                }
+                if (j < i) {
+                    where.append(expression).append(" = :").append(paramName);
+                } else {
+                    where.append(expression)
+                            .append(order.getDirection() == Sort.Direction.ASC ? " > :" : " < :")
+                            .append(paramName);
+                }
+                keyParameters.put(paramName, value);
+            }
+            where.append(")");
+        }
+
+        QueryTransformer transformer = queryTransformerFactory.transformer(resultQuery);
+        transformer.addWhere(where.toString());
+        resultQuery = transformer.getResult();
+
+        resultParameters = resultParameters == null ? new HashMap<>() : new HashMap<>(resultParameters);
+        resultParameters.putAll(keyParameters);
+    }
+
     protected void applySorting() {
         if (sort != null) {
             resultQuery = sortJpqlGenerator.processQuery(entityName, valueProperties, resultQuery, sort);
@@ -17,6 +17,7 @@
 package io.jmix.data.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.annotation.Internal;
@@ -24,22 +25,51 @@ import io.jmix.core.entity.annotation.JmixGeneratedValue;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.data.DataProperties;
+import io.jmix.data.DataSourceRoutingKeyProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import org.springframework.lang.Nullable;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Intermediate cache for generated ids of entities with long/integer PK.
  * The cache size is determined by the {@code jmix.data.numberIdCacheSize} property.
+ * <p>
+ * Ids are taken from the reserved block without locking. When the number of ids left in the block reaches
+ * the {@code jmix.data.numberIdCachePrefetchThreshold} property, the next block is reserved asynchronously.
+ * <p>
+ * If connections are routed to different databases, see {@link DataSourceRoutingKeyProvider}, blocks are reserved
+ * separately in each database.
+ * <p>
+ * The following metrics are registered for each sequence (tag {@code sequence}):
+ * <ul>
+ *     <li>{@code jmix.data.numberIdCache.hits} - ids taken from a reserved block</li>
+ *     <li>{@code jmix.data.numberIdCache.refills} - blocks reserved in the database</li>
+ *     <li>{@code jmix.data.numberIdCache.prefetches} - blocks reserved in advance</li>
+ * </ul>
  */
 @Component("data_NumberIdCache")
 public class NumberIdCache {
 
+    private static final Logger log = LoggerFactory.getLogger(NumberIdCache.class);
+
+    protected static final String METRICS_PREFIX = "jmix.data.numberIdCache";
+
     @Autowired
     protected Metadata metadata;
     @Autowired
@@ -47,49 +77,130 @@ public class NumberIdCache {
     @Autowired
     protected DataProperties dataProperties;
     @Autowired
+    protected MeterRegistry meterRegistry;
+    @Autowired
     private MetadataTools metadataTools;
+    @Autowired(required = false)
+    protected DataSourceRoutingKeyProvider dataSourceRoutingKeyProvider;
 
     protected ConcurrentMap<String, Generator> cache = new ConcurrentHashMap<>();
 
+    protected ConcurrentMap<String, SequenceParams> sequenceParamsCache = new ConcurrentHashMap<>();
+
+    protected ExecutorService prefetchExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("NumberIdPrefetch-%d").setDaemon(true).build());
+
     protected class Generator {
-        protected long counter;
-        protected long sequenceValue;
         protected String entityName;
         protected String sequenceName;
         protected boolean cached;
 
+        protected final AtomicReference<Block> currentBlock = new AtomicReference<>();
+        protected final AtomicReference<CompletableFuture<Block>> nextBlock = new AtomicReference<>();
+        protected final Object refillLock = new Object();
+
+        protected final Counter hits;
+        protected final Counter refills;
+        protected final Counter prefetches;
+
         public Generator(String entityName,
                          @Nullable String sequenceName,
                          boolean cached) {
             this.entityName = entityName;
             this.sequenceName = sequenceName;
             this.cached = cached;
-            if (useIdCache()) {
-                createCachedCounter();
-            }
+
+            String sequenceTag = getCacheKey(entityName, sequenceName);
+            this.hits = meterRegistry.counter(METRICS_PREFIX + ".hits", "sequence", sequenceTag);
+            this.refills = meterRegistry.counter(METRICS_PREFIX + ".refills", "sequence", sequenceTag);
+            this.prefetches = meterRegistry.counter(METRICS_PREFIX + ".prefetches", "sequence", sequenceTag);
         }
 
         protected boolean useIdCache() {
             return dataProperties.getNumberIdCacheSize() != 0 && cached;
         }
 
-        protected void createCachedCounter() {
-            sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
-            counter = sequenceValue;
-        }
-
-        public synchronized long getNext() {
+        public long getNext() {
             if (!useIdCache()) {
                 return numberIdWorker.createLongId(entityName, sequenceName);
-            } else {
-                long next = ++counter;
-                if (next > sequenceValue + dataProperties.getNumberIdCacheSize()) {
-                    createCachedCounter();
-                    next = ++counter;
+            }
+            while (true) {
+                Block block = currentBlock.get();
+                if (block != null) {
+                    long next = block.counter.incrementAndGet();
+                    if (next <= block.last) {
+                        hits.increment();
+                        // exactly one thread gets the id at the low-water mark
+                        if (block.last - next == block.prefetchThreshold) {
+                            prefetchNextBlock();
+                        }
+                        return next;
+                    }
                 }
-                return next;
+                refill(block);
             }
         }
+
+        protected void refill(@Nullable Block exhaustedBlock) {
+            synchronized (refillLock) {
+                if (currentBlock.get() != exhaustedBlock) {
+                    // another thread has already switched to the next block
+                    return;
+                }
+                Block block = null;
+                CompletableFuture<Block> future = nextBlock.getAndSet(null);
+                if (future != null) {
+                    try {
+                        block = future.join();
+                    } catch (CompletionException e) {
+                        log.warn("Unable to prefetch ids for {}, reserving synchronously", entityName, e.getCause());
+                    }
+                }
+                if (block == null) {
+                    block = reserveBlock();
+                }
+                currentBlock.set(block);
+            }
+        }
+
+        protected void prefetchNextBlock() {
+            CompletableFuture<Block> future = new CompletableFuture<>();
+            if (nextBlock.compareAndSet(null, future)) {
+                prefetchExecutor.execute(() -> {
+                    try {
+                        future.complete(reserveBlock());
+                        prefetches.increment();
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                });
+            }
+        }
+
+        protected Block reserveBlock() {
+            int size = dataProperties.getNumberIdCacheSize();
+            long sequenceValue = numberIdWorker.createCachedLongId(entityName, sequenceName);
+            refills.increment();
+
+            int threshold = dataProperties.getNumberIdCachePrefetchThreshold();
+            return new Block(sequenceValue, size, threshold > 0 ? Math.min(threshold, size - 1) : -1);
+        }
+    }
+
+    /**
+     * Immutable range of ids reserved in the database: from {@code sequenceValue + 1} to {@code last} inclusive.
+     */
+    protected static class Block {
+
+        protected final AtomicLong counter;
+        protected final long last;
+        protected final long prefetchThreshold;
+
+        public Block(long sequenceValue, int size, long prefetchThreshold) {
+            this.counter = new AtomicLong(sequenceValue);
+            this.last = sequenceValue + size;
+            this.prefetchThreshold = prefetchThreshold;
+        }
     }
 
     protected static class SequenceParams {
@@ -115,16 +226,20 @@ public class NumberIdCache {
      * @return next id
      */
     public Long createLongId(String entityName) {
-        MetaClass metaClass = metadata.findClass(entityName);
-        SequenceParams sequenceParams;
-        if (metaClass != null) {
-            sequenceParams = getSequenceParams(metaClass);
-        } else {
-            sequenceParams = new SequenceParams();
+        SequenceParams sequenceParams = sequenceParamsCache.computeIfAbsent(entityName, name -> {
+            MetaClass metaClass = metadata.findClass(name);
+            return metaClass != null ? getSequenceParams(metaClass) : new SequenceParams();
+        });
+
+        // sequence params are defined by the entity annotations, so they are the same for all databases
+        String cacheKey = getCacheKey(entityName, sequenceParams.name);
+        String routingKey = getRoutingKey(entityName);
+        if (routingKey != null) {
+            cacheKey = cacheKey + '/' + routingKey;
         }
 
         Generator gen = cache.computeIfAbsent(
-                getCacheKey(entityName, sequenceParams.name),
+                cacheKey,
                 s -> new Generator(entityName, sequenceParams.name, sequenceParams.cached)
         );
         return gen.getNext();
@@ -152,9 +267,22 @@ public class NumberIdCache {
     @Internal
     public void reset() {
         cache.clear();
+        sequenceParamsCache.clear();
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        prefetchExecutor.shutdownNow();
     }
 
     protected String getCacheKey(String entityName, @Nullable String sequenceName) {
         return sequenceName == null ? entityName : sequenceName;
     }
+
+    @Nullable
+    protected String getRoutingKey(String entityName) {
+        return dataSourceRoutingKeyProvider != null
+                ? dataSourceRoutingKeyProvider.getCurrentKey(numberIdWorker.getDataStore(entityName))
+                : null;
+    }
 }
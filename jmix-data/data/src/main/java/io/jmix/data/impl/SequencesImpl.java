@@ -18,6 +18,7 @@ package io.jmix.data.impl;
 
 import com.google.common.base.Preconditions;
 import io.jmix.core.Stores;
+import io.jmix.data.DataSourceRoutingKeyProvider;
 import io.jmix.data.Sequence;
 import io.jmix.data.persistence.SequenceSupport;
 import io.jmix.data.Sequences;
@@ -53,6 +54,8 @@ public class SequencesImpl implements Sequences {
     protected StoreAwareLocator storeAwareLocator;
     @Autowired
     protected DbmsSpecifics dbmsSpecifics;
+    @Autowired(required = false)
+    protected DataSourceRoutingKeyProvider dataSourceRoutingKeyProvider;
 
     protected ReadWriteLock lock = new ReentrantReadWriteLock();
     protected Set<String> existingSequences = ConcurrentHashMap.newKeySet();
@@ -98,19 +101,20 @@ public class SequencesImpl implements Sequences {
         Preconditions.checkNotNull(sequence, "Sequence can't be null");
         checkSequenceName(sequence.getName());
         String sequenceName = sequence.getName();
-        if (!existingSequences.contains(sequenceName)) {
+        String sequenceKey = getExistingSequenceKey(sequence);
+        if (!existingSequences.contains(sequenceKey)) {
             throw new IllegalStateException(String.format("Attempt to delete nonexistent sequence '%s'", sequence));
         }
         String sqlScript = getSequenceSupport(sequence).deleteSequenceSql(sequenceName);
         lock.writeLock().lock();
         try {
-            if (!existingSequences.contains(sequenceName)) {
+            if (!existingSequences.contains(sequenceKey)) {
                 return;
             }
             TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(getDataStore(sequence));
             transactionTemplate.executeWithoutResult(status -> {
                 executeScript(sequence, sqlScript);
-                existingSequences.remove(sequenceName);
+                existingSequences.remove(sequenceKey);
             });
         } finally {
             lock.writeLock().unlock();
@@ -151,7 +155,8 @@ public class SequencesImpl implements Sequences {
 
     protected void checkSequenceExists(Sequence sequence) {
         String sequenceName = sequence.getName();
-        if (existingSequences.contains(sequenceName)) {
+        String sequenceKey = getExistingSequenceKey(sequence);
+        if (existingSequences.contains(sequenceKey)) {
             return;
         }
 
@@ -174,7 +179,7 @@ public class SequencesImpl implements Sequences {
                                 sequenceSupport.createSequenceSql(sequenceName, sequence.getStartValue(), sequence.getIncrement()));
                         query.executeUpdate();
                     }
-                    existingSequences.add(sequenceName);
+                    existingSequences.add(sequenceKey);
                 });
             } finally {
                 lock.readLock().lock();
@@ -219,6 +224,17 @@ public class SequencesImpl implements Sequences {
         return sequence.getDataStore() == null ? Stores.MAIN : sequence.getDataStore();
     }
 
+    /**
+     * Returns the key of the sequence in {@link #existingSequences}. A sequence created in one of the databases
+     * which connections are routed to doesn't exist in the others.
+     */
+    protected String getExistingSequenceKey(Sequence sequence) {
+        String routingKey = dataSourceRoutingKeyProvider != null
+                ? dataSourceRoutingKeyProvider.getCurrentKey(getDataStore(sequence))
+                : null;
+        return routingKey == null ? sequence.getName() : sequence.getName() + '/' + routingKey;
+    }
+
     protected void checkSequenceName(String sequenceName) {
         if (StringUtils.isBlank(sequenceName))
             throw new IllegalArgumentException("Sequence name can not be blank");
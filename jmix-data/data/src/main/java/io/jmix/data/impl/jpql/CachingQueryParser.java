@@ -0,0 +1,152 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import io.jmix.data.QueryParser;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * {@link QueryParser} that takes results from {@link JpqlQueryCache} and creates the delegate parser
+ * only when a result for the query is not cached yet.
+ */
+public class CachingQueryParser implements QueryParser {
+
+    protected final JpqlQueryCache cache;
+    protected final String query;
+    protected final Supplier<QueryParser> delegateFactory;
+
+    protected QueryParser delegate;
+
+    public CachingQueryParser(JpqlQueryCache cache, String query, Supplier<QueryParser> delegateFactory) {
+        this.cache = cache;
+        this.query = query;
+        this.delegateFactory = delegateFactory;
+    }
+
+    protected QueryParser getDelegate() {
+        if (delegate == null) {
+            delegate = delegateFactory.get();
+        }
+        return delegate;
+    }
+
+    protected <T> T getResult(String resultKey, Function<QueryParser, T> function) {
+        return cache.getParserResult(query, resultKey, () -> function.apply(getDelegate()));
+    }
+
+    @Override
+    public Set<String> getParamNames() {
+        return copyOf(getResult("paramNames", parser -> immutableCopyOf(parser.getParamNames())));
+    }
+
+    @Override
+    public String getEntityName() {
+        return getResult("entityName", QueryParser::getEntityName);
+    }
+
+    @Override
+    public Set<String> getAllEntityNames() {
+        return copyOf(getResult("allEntityNames", parser -> immutableCopyOf(parser.getAllEntityNames())));
+    }
+
+    @Override
+    public String getEntityAlias(String targetEntity) {
+        return getResult("entityAlias:" + targetEntity, parser -> parser.getEntityAlias(targetEntity));
+    }
+
+    @Override
+    public String getEntityAlias() {
+        return getResult("entityAlias", QueryParser::getEntityAlias);
+    }
+
+    @Override
+    public boolean isEntitySelect(String targetEntity) {
+        return getResult("entitySelect:" + targetEntity, parser -> parser.isEntitySelect(targetEntity));
+    }
+
+    @Override
+    public boolean hasIsNullCondition(String attribute) {
+        return getResult("isNullCondition:" + attribute, parser -> parser.hasIsNullCondition(attribute));
+    }
+
+    @Override
+    public boolean hasIsNotNullCondition(String attribute) {
+        return getResult("isNotNullCondition:" + attribute, parser -> parser.hasIsNotNullCondition(attribute));
+    }
+
+    @Override
+    public boolean isQueryWithJoins() {
+        return getResult("queryWithJoins", QueryParser::isQueryWithJoins);
+    }
+
+    @Override
+    public String getOriginalEntityName() {
+        return getResult("originalEntityName", QueryParser::getOriginalEntityName);
+    }
+
+    @Override
+    public String getOriginalEntityPath() {
+        return getResult("originalEntityPath", QueryParser::getOriginalEntityPath);
+    }
+
+    @Override
+    public boolean isCollectionOriginalEntitySelect() {
+        return getResult("collectionOriginalEntitySelect", QueryParser::isCollectionOriginalEntitySelect);
+    }
+
+    @Override
+    public boolean isParameterInCondition(String parameterName) {
+        return getResult("parameterInCondition:" + parameterName,
+                parser -> parser.isParameterInCondition(parameterName));
+    }
+
+    @Override
+    public List<String> getSelectedExpressionsList() {
+        List<String> list = getResult("selectedExpressions",
+                parser -> Collections.unmodifiableList(new ArrayList<>(parser.getSelectedExpressionsList())));
+        return new ArrayList<>(list);
+    }
+
+    @Override
+    public List<QueryPath> getQueryPaths() {
+        List<QueryPath> list = getResult("queryPaths",
+                parser -> Collections.unmodifiableList(new ArrayList<>(parser.getQueryPaths())));
+        return new ArrayList<>(list);
+    }
+
+    @Override
+    public boolean isParameterUsedInAnyCondition(String paramName) {
+        return getResult("parameterUsedInAnyCondition:" + paramName,
+                parser -> parser.isParameterUsedInAnyCondition(paramName));
+    }
+
+    protected static Set<String> immutableCopyOf(@Nullable Set<String> set) {
+        return set == null ? null : Collections.unmodifiableSet(new LinkedHashSet<>(set));
+    }
+
+    protected static Set<String> copyOf(@Nullable Set<String> set) {
+        return set == null ? null : new LinkedHashSet<>(set);
+    }
+}
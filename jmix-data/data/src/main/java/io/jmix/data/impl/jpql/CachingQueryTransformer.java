@@ -0,0 +1,303 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import io.jmix.core.Sort;
+import io.jmix.data.QueryTransformer;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link QueryTransformer} that records transformations instead of applying them to a query tree right away.
+ * The results are taken from {@link JpqlQueryCache} by the key consisting of the source query and the recorded
+ * transformations. The delegate transformer is created and the transformations are replayed on it only when
+ * a result is not cached yet.
+ * <p>
+ * Parameter names are replaced in the key by placeholders numbered in the order of appearance, and the cached
+ * results contain the same placeholders. So the queries which differ only in parameter names, e.g. generated
+ * by {@link io.jmix.core.querycondition.PropertyConditionUtils#generateParameterName(String)}, share cached results.
+ */
+public class CachingQueryTransformer implements QueryTransformer {
+
+    protected static final char QUERY_SEPARATOR = '\u0000';
+    protected static final char OPERATION_SEPARATOR = '\u0001';
+    protected static final char ARGUMENT_SEPARATOR = '\u0002';
+    protected static final char PARAM_PLACEHOLDER_MARK = '\u0003';
+
+    protected static final Pattern PARAM_PATTERN = Pattern.compile("(?<!:):([\\w$]+)");
+    protected static final Pattern PARAM_PLACEHOLDER_PATTERN =
+            Pattern.compile(PARAM_PLACEHOLDER_MARK + "(\\d+)" + PARAM_PLACEHOLDER_MARK);
+
+    protected final JpqlQueryCache cache;
+    protected final String query;
+    protected final Supplier<QueryTransformer> delegateFactory;
+
+    protected final List<Consumer<QueryTransformer>> operations = new ArrayList<>();
+    protected final List<String> paramNames = new ArrayList<>();
+    protected final Map<String, String> paramPlaceholders = new HashMap<>();
+    protected String key;
+
+    protected QueryTransformer delegate;
+
+    public CachingQueryTransformer(JpqlQueryCache cache, String query, Supplier<QueryTransformer> delegateFactory) {
+        this.cache = cache;
+        this.query = query;
+        this.delegateFactory = delegateFactory;
+        this.key = normalizeParams(query, true) + QUERY_SEPARATOR;
+    }
+
+    /**
+     * Returns the delegate transformer with all recorded transformations applied.
+     */
+    protected QueryTransformer getDelegate() {
+        if (delegate == null) {
+            QueryTransformer transformer = delegateFactory.get();
+            for (Consumer<QueryTransformer> operation : operations) {
+                operation.accept(transformer);
+            }
+            delegate = transformer;
+        }
+        return delegate;
+    }
+
+    protected void record(Consumer<QueryTransformer> operation, String name, Object... args) {
+        operations.add(operation);
+        key = operationKey(name, args);
+        if (delegate != null) {
+            operation.accept(delegate);
+        }
+    }
+
+    /**
+     * Records a transformation which returns a value depending on the query. The value is cached along with
+     * transformation results.
+     */
+    protected <T> T recordAndGet(Function<QueryTransformer, T> operation, String name, Object... args) {
+        String operationKey = operationKey(name, args);
+        boolean[] applied = {false};
+        T result = cache.getTransformerResult(operationKey + OPERATION_SEPARATOR + "?", () -> {
+            T value = operation.apply(getDelegate());
+            applied[0] = true;
+            return value;
+        });
+        operations.add(operation::apply);
+        key = operationKey;
+        if (delegate != null && !applied[0]) {
+            operation.apply(delegate);
+        }
+        return result;
+    }
+
+    protected String operationKey(String name, Object... args) {
+        StringBuilder sb = new StringBuilder(key).append(OPERATION_SEPARATOR).append(name);
+        for (Object arg : args) {
+            sb.append(ARGUMENT_SEPARATOR).append(arg instanceof String ? normalizeParams((String) arg, true) : arg);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the key argument for a parameter name passed to a transformation without the colon.
+     */
+    protected String paramArg(String paramName) {
+        return ":" + paramName;
+    }
+
+    /**
+     * Replaces parameter names in the text by placeholders.
+     *
+     * @param register whether to assign placeholders to the parameters met for the first time. If false, such
+     *                 parameters are left as is.
+     */
+    protected String normalizeParams(String text, boolean register) {
+        if (text.indexOf(':') < 0) {
+            return text;
+        }
+        return PARAM_PATTERN.matcher(text).replaceAll(match -> {
+            String placeholder = getParamPlaceholder(match.group(1), register);
+            return Matcher.quoteReplacement(":" + (placeholder != null ? placeholder : match.group(1)));
+        });
+    }
+
+    /**
+     * Replaces placeholders in the cached text by the parameter names of this transformer.
+     */
+    protected String denormalizeParams(String text) {
+        if (text.indexOf(PARAM_PLACEHOLDER_MARK) < 0) {
+            return text;
+        }
+        return PARAM_PLACEHOLDER_PATTERN.matcher(text).replaceAll(match ->
+                Matcher.quoteReplacement(paramNames.get(Integer.parseInt(match.group(1)))));
+    }
+
+    @Nullable
+    protected String getParamPlaceholder(String paramName, boolean register) {
+        String placeholder = paramPlaceholders.get(paramName);
+        if (placeholder == null && register) {
+            placeholder = PARAM_PLACEHOLDER_MARK + String.valueOf(paramNames.size()) + PARAM_PLACEHOLDER_MARK;
+            paramNames.add(paramName);
+            paramPlaceholders.put(paramName, placeholder);
+        }
+        return placeholder;
+    }
+
+    @Override
+    public void addWhere(String where) {
+        record(transformer -> transformer.addWhere(where), "addWhere", where);
+    }
+
+    @Override
+    public void addWhereAsIs(String where) {
+        record(transformer -> transformer.addWhereAsIs(where), "addWhereAsIs", where);
+    }
+
+    @Override
+    public void addJoinAndWhere(String join, String where) {
+        record(transformer -> transformer.addJoinAndWhere(join, where), "addJoinAndWhere", join, where);
+    }
+
+    @Override
+    public void replaceOrderByExpressions(Map<String, Sort.Direction> sortExpressions) {
+        List<Object> args = new ArrayList<>(sortExpressions.size() * 2);
+        for (Map.Entry<String, Sort.Direction> entry : sortExpressions.entrySet()) {
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        record(transformer -> transformer.replaceOrderByExpressions(sortExpressions),
+                "replaceOrderByExpressions", args.toArray());
+    }
+
+    @Override
+    public void addFirstSelectionSource(String selection) {
+        record(transformer -> transformer.addFirstSelectionSource(selection), "addFirstSelectionSource", selection);
+    }
+
+    @Override
+    public void replaceWithCount() {
+        record(QueryTransformer::replaceWithCount, "replaceWithCount");
+    }
+
+    @Override
+    public void replaceWithSelectId(String pkName) {
+        record(transformer -> transformer.replaceWithSelectId(pkName), "replaceWithSelectId", pkName);
+    }
+
+    @Override
+    public void replaceWithSelectEntityVariable(String selectEntityVariable) {
+        record(transformer -> transformer.replaceWithSelectEntityVariable(selectEntityVariable),
+                "replaceWithSelectEntityVariable", selectEntityVariable);
+    }
+
+    @Override
+    public boolean removeDistinct() {
+        return recordAndGet(QueryTransformer::removeDistinct, "removeDistinct");
+    }
+
+    @Override
+    public void addDistinct() {
+        record(QueryTransformer::addDistinct, "addDistinct");
+    }
+
+    @Override
+    public void addOrderByIdIfNotExists(String idProperty) {
+        record(transformer -> transformer.addOrderByIdIfNotExists(idProperty), "addOrderByIdIfNotExists", idProperty);
+    }
+
+    @Override
+    public void addEntityInGroupBy(String entityAlias) {
+        record(transformer -> transformer.addEntityInGroupBy(entityAlias), "addEntityInGroupBy", entityAlias);
+    }
+
+    @Override
+    public void removeOrderBy() {
+        record(QueryTransformer::removeOrderBy, "removeOrderBy");
+    }
+
+    @Override
+    public void replaceEntityName(String newName) {
+        record(transformer -> transformer.replaceEntityName(newName), "replaceEntityName", newName);
+    }
+
+    @Override
+    public void reset() {
+        operations.clear();
+        paramNames.clear();
+        paramPlaceholders.clear();
+        key = normalizeParams(query, true) + QUERY_SEPARATOR;
+        if (delegate != null) {
+            delegate.reset();
+        }
+    }
+
+    @Override
+    public String getResult() {
+        // parameters not registered by the key are never introduced by transformations, so they are kept as is
+        return denormalizeParams(cache.getTransformerResult(key,
+                () -> normalizeParams(getDelegate().getResult(), false)));
+    }
+
+    @Override
+    public Set<String> getAddedParams() {
+        Set<String> addedParams = cache.getTransformerResult(key + OPERATION_SEPARATOR + "addedParams", () -> {
+            Set<String> normalized = new HashSet<>();
+            for (String paramName : getDelegate().getAddedParams()) {
+                String placeholder = getParamPlaceholder(paramName, false);
+                normalized.add(placeholder != null ? placeholder : paramName);
+            }
+            return Collections.unmodifiableSet(normalized);
+        });
+        Set<String> result = new HashSet<>(addedParams.size());
+        for (String paramName : addedParams) {
+            result.add(denormalizeParams(paramName));
+        }
+        return result;
+    }
+
+    @Override
+    public void handleCaseInsensitiveParam(String paramName) {
+        record(transformer -> transformer.handleCaseInsensitiveParam(paramName),
+                "handleCaseInsensitiveParam", paramArg(paramName));
+    }
+
+    @Override
+    public void replaceInCondition(String paramName) {
+        record(transformer -> transformer.replaceInCondition(paramName), "replaceInCondition", paramArg(paramName));
+    }
+
+    @Override
+    public void addJoin(String join) {
+        record(transformer -> transformer.addJoin(join), "addJoin", join);
+    }
+
+    @Override
+    public boolean replaceIsNullStatements(String paramName, boolean isNullValue) {
+        return recordAndGet(transformer -> transformer.replaceIsNullStatements(paramName, isNullValue),
+                "replaceIsNullStatements", paramArg(paramName), isNullValue);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.data.impl.jpql;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.jmix.data.DataProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of JPQL parsing and transformation results shared by {@link CachingQueryParser} and
+ * {@link CachingQueryTransformer}. The maximum number of cached queries is determined by the
+ * {@code jmix.data.jpqlCacheSize} property, 0 disables caching.
+ * <p>
+ * Query trees are mutable, so they are never cached themselves: the cache stores only the immutable results
+ * of parsing and transformations, and a new tree is built when a result is missing.
+ * <p>
+ * The following metrics are registered (tag {@code type} is {@code parser} or {@code transformer}):
+ * <ul>
+ *     <li>{@code jmix.data.jpqlCache.hits} - results taken from the cache</li>
+ *     <li>{@code jmix.data.jpqlCache.misses} - results computed by parsing the query</li>
+ * </ul>
+ */
+@Component("data_JpqlQueryCache")
+public class JpqlQueryCache {
+
+    protected static final String METRICS_PREFIX = "jmix.data.jpqlCache";
+
+    protected static final Object NULL = new Object();
+
+    @Autowired
+    protected DataProperties dataProperties;
+    @Autowired
+    protected MeterRegistry meterRegistry;
+
+    protected volatile Cache<String, ConcurrentMap<String, Object>> parserResults;
+    protected volatile Cache<String, Object> transformerResults;
+
+    protected volatile Counter parserHits;
+    protected volatile Counter parserMisses;
+    protected volatile Counter transformerHits;
+    protected volatile Counter transformerMisses;
+
+    public boolean isEnabled() {
+        return dataProperties.getJpqlCacheSize() > 0;
+    }
+
+    /**
+     * Returns the result of a parser method for the given query, computing it by the supplier if it is not cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getParserResult(String query, String resultKey, Supplier<T> supplier) {
+        ConcurrentMap<String, Object> results;
+        try {
+            results = getParserResults().get(query, ConcurrentHashMap::new);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+        Object result = results.get(resultKey);
+        if (result != null) {
+            parserHits.increment();
+            return result == NULL ? null : (T) result;
+        }
+        parserMisses.increment();
+        T computed = supplier.get();
+        results.putIfAbsent(resultKey, computed == null ? NULL : computed);
+        return computed;
+    }
+
+    /**
+     * Returns the result of transformations identified by the given key, computing it by the supplier
+     * if it is not cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getTransformerResult(String resultKey, Supplier<T> supplier) {
+        Cache<String, Object> cache = getTransformerResults();
+        Object result = cache.getIfPresent(resultKey);
+        if (result != null) {
+            transformerHits.increment();
+            return (T) result;
+        }
+        transformerMisses.increment();
+        T computed = supplier.get();
+        if (computed != null) {
+            cache.put(resultKey, computed);
+        }
+        return computed;
+    }
+
+    public void invalidateAll() {
+        if (parserResults != null) {
+            parserResults.invalidateAll();
+        }
+        if (transformerResults != null) {
+            transformerResults.invalidateAll();
+        }
+    }
+
+    protected Cache<String, ConcurrentMap<String, Object>> getParserResults() {
+        if (parserResults == null) {
+            initCaches();
+        }
+        return parserResults;
+    }
+
+    protected Cache<String, Object> getTransformerResults() {
+        if (transformerResults == null) {
+            initCaches();
+        }
+        return transformerResults;
+    }
+
+    protected synchronized void initCaches() {
+        if (transformerResults != null) {
+            return;
+        }
+        int size = dataProperties.getJpqlCacheSize();
+        parserHits = meterRegistry.counter(METRICS_PREFIX + ".hits", "type", "parser");
+        parserMisses = meterRegistry.counter(METRICS_PREFIX + ".misses", "type", "parser");
+        transformerHits = meterRegistry.counter(METRICS_PREFIX + ".hits", "type", "transformer");
+        transformerMisses = meterRegistry.counter(METRICS_PREFIX + ".misses", "type", "transformer");
+        parserResults = CacheBuilder.newBuilder().maximumSize(size).build();
+        // several transformation chains are usually applied to the same query
+        transformerResults = CacheBuilder.newBuilder().maximumSize(size * 4L).build();
+    }
+}
@@ -37,6 +37,15 @@ public interface JpqlSortExpressionProvider {
      */
     String getDatatypeSortExpression(MetaPropertyPath metaPropertyPath, boolean sortDirectionAsc);
 
+    /**
+     * Returns true if the datatype sort expression of the specified property is the plain property path,
+     * i.e. <code>{E}.property</code> without functions and null ordering. Values of such properties can be
+     * compared in a query in the same order as the result is sorted, e.g. for keyset pagination.
+     */
+    default boolean isPlainDatatypeSortExpression(MetaPropertyPath metaPropertyPath, boolean sortDirectionAsc) {
+        return ("{E}." + metaPropertyPath).equals(getDatatypeSortExpression(metaPropertyPath, sortDirectionAsc));
+    }
+
     /**
      * Returns JPQL order expression for specified lob property.
      */
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package query_parser;
+
+import io.jmix.data.DataProperties;
+import io.jmix.data.QueryParser;
+import io.jmix.data.QueryTransformer;
+import io.jmix.data.impl.jpql.CachingQueryParser;
+import io.jmix.data.impl.jpql.CachingQueryTransformer;
+import io.jmix.data.impl.jpql.DomainModel;
+import io.jmix.data.impl.jpql.JpqlQueryCache;
+import io.jmix.data.impl.jpql.QueryParserAstBased;
+import io.jmix.data.impl.jpql.model.EntityBuilder;
+import io.jmix.data.impl.jpql.model.JpqlEntityModel;
+import io.jmix.data.impl.jpql.transform.QueryTransformerAstBased;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JpqlQueryCacheTest {
+
+    private static final String QUERY = "select u from sec_User u where u.login = :login";
+
+    private DomainModel model;
+    private MeterRegistry registry;
+    private JpqlQueryCache cache;
+    private AtomicInteger created;
+
+    @BeforeEach
+    public void setUp() {
+        model = prepareDomainModel();
+        registry = new SimpleMeterRegistry();
+        created = new AtomicInteger();
+        cache = new JpqlQueryCache() {{
+            dataProperties = new DataProperties(true, 100, 0, false, null, true, 10);
+            meterRegistry = registry;
+        }};
+    }
+
+    @Test
+    public void testParserResultsAreCached() {
+        QueryParser parser = parser(QUERY);
+        assertEquals("sec_User", parser.getEntityName());
+        assertEquals(Set.of("login"), parser.getParamNames());
+
+        parser = parser(QUERY);
+        assertEquals("sec_User", parser.getEntityName());
+        assertEquals("u", parser.getEntityAlias());
+        Set<String> paramNames = parser.getParamNames();
+        assertEquals(Set.of("login"), paramNames);
+
+        // the returned collections are copies
+        paramNames.add("other");
+        assertEquals(Set.of("login"), parser(QUERY).getParamNames());
+
+        assertEquals(2, created.get());
+        assertEquals(3, registry.counter("jmix.data.jpqlCache.misses", "type", "parser").count());
+        assertEquals(3, registry.counter("jmix.data.jpqlCache.hits", "type", "parser").count());
+    }
+
+    @Test
+    public void testTransformationResultsAreCached() {
+        QueryTransformer transformer = transformer(QUERY);
+        transformer.addWhere("{E}.int1 = :int1");
+        transformer.replaceWithCount();
+        String result = transformer.getResult();
+
+        QueryTransformer expected = new QueryTransformerAstBased(model, QUERY);
+        expected.addWhere("{E}.int1 = :int1");
+        expected.replaceWithCount();
+        assertEquals(expected.getResult(), result);
+
+        transformer = transformer(QUERY);
+        transformer.addWhere("{E}.int1 = :int1");
+        transformer.replaceWithCount();
+        assertEquals(result, transformer.getResult());
+        assertEquals(1, created.get());
+
+        // different transformations of the same query
+        transformer = transformer(QUERY);
+        transformer.addWhere("{E}.int2 = :int2");
+        expected = new QueryTransformerAstBased(model, QUERY);
+        expected.addWhere("{E}.int2 = :int2");
+        assertEquals(expected.getResult(), transformer.getResult());
+        assertEquals(2, created.get());
+
+        assertEquals(1, registry.counter("jmix.data.jpqlCache.hits", "type", "transformer").count());
+        assertEquals(2, registry.counter("jmix.data.jpqlCache.misses", "type", "transformer").count());
+    }
+
+    @Test
+    public void testParameterNamesAreNormalized() {
+        QueryTransformer transformer = transformer(QUERY);
+        transformer.addWhere("{E}.int1 = :int1abcdefgh");
+        transformer.handleCaseInsensitiveParam("login");
+        assertEquals(Set.of("int1abcdefgh"), transformer.getAddedParams());
+
+        QueryTransformer expected = new QueryTransformerAstBased(model, QUERY);
+        expected.addWhere("{E}.int1 = :int1abcdefgh");
+        expected.handleCaseInsensitiveParam("login");
+        assertEquals(expected.getResult(), transformer.getResult());
+
+        // the same transformations with other parameter names
+        String otherQuery = "select u from sec_User u where u.login = :name";
+        transformer = transformer(otherQuery);
+        transformer.addWhere("{E}.int1 = :int1zyxwvuts");
+        transformer.handleCaseInsensitiveParam("name");
+        assertEquals(Set.of("int1zyxwvuts"), transformer.getAddedParams());
+
+        expected = new QueryTransformerAstBased(model, otherQuery);
+        expected.addWhere("{E}.int1 = :int1zyxwvuts");
+        expected.handleCaseInsensitiveParam("name");
+        assertEquals(expected.getResult(), transformer.getResult());
+
+        assertEquals(1, created.get());
+        assertEquals(2, registry.counter("jmix.data.jpqlCache.hits", "type", "transformer").count());
+    }
+
+    @Test
+    public void testTransformationsAfterResult() {
+        QueryTransformer transformer = transformer(QUERY);
+        QueryTransformer expected = new QueryTransformerAstBased(model, QUERY);
+
+        transformer.addWhere("{E}.int1 = :int1");
+        expected.addWhere("{E}.int1 = :int1");
+        assertEquals(expected.getResult(), transformer.getResult());
+
+        transformer.replaceWithCount();
+        expected.replaceWithCount();
+        assertEquals(expected.getResult(), transformer.getResult());
+
+        transformer.reset();
+        expected.reset();
+        transformer.addWhere("{E}.int2 = :int2");
+        expected.addWhere("{E}.int2 = :int2");
+        assertEquals(expected.getResult(), transformer.getResult());
+    }
+
+    @Test
+    public void testValueReturningTransformation() {
+        String query = "select distinct u from sec_User u";
+
+        QueryTransformer expected = new QueryTransformerAstBased(model, query);
+        assertTrue(expected.removeDistinct());
+
+        QueryTransformer transformer = transformer(query);
+        assertTrue(transformer.removeDistinct());
+        assertEquals(expected.getResult(), transformer.getResult());
+
+        transformer = transformer(query);
+        assertTrue(transformer.removeDistinct());
+        assertFalse(transformer.removeDistinct());
+        assertEquals(expected.getResult(), transformer.getResult());
+    }
+
+    private QueryParser parser(String query) {
+        return new CachingQueryParser(cache, query, () -> {
+            created.incrementAndGet();
+            return new QueryParserAstBased(model, query);
+        });
+    }
+
+    private QueryTransformer transformer(String query) {
+        return new CachingQueryTransformer(cache, query, () -> {
+            created.incrementAndGet();
+            return new QueryTransformerAstBased(model, query);
+        });
+    }
+
+    private DomainModel prepareDomainModel() {
+        EntityBuilder builder = EntityBuilder.create();
+        builder.startNewEntity("sec_User");
+        builder.addStringAttribute("login");
+        builder.addSingleValueAttribute(Integer.class, "int1");
+        builder.addSingleValueAttribute(Integer.class, "int2");
+        JpqlEntityModel userEntity = builder.produce();
+
+        return new DomainModel(userEntity);
+    }
+}
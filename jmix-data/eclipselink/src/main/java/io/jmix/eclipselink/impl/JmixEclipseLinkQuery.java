@@ -46,6 +46,7 @@ import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.JmixUtil;
 import org.eclipse.persistence.internal.jpa.EJBQueryImpl;
 import org.eclipse.persistence.jpa.JpaQuery;
+import org.eclipse.persistence.queries.CursoredStream;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
 import org.slf4j.Logger;
@@ -83,6 +84,7 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
     protected Collection<QueryMacroHandler> macroHandlers;
     protected Collection<QueryConstantHandler> constantHandlers;
     protected List<AdditionalCriteriaProvider> additionalCriteriaProviders;
+    protected DataSourceRoutingKeyProvider dataSourceRoutingKeyProvider;
     protected QueryParamValuesManager queryParamValuesManager;
 
     protected JpaQuery query;
@@ -123,6 +125,7 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
         macroHandlers = beanFactory.getBeanProvider(QueryMacroHandler.class).stream().collect(Collectors.toList());
         constantHandlers = beanFactory.getBeanProvider(QueryConstantHandler.class).stream().collect(Collectors.toList());
         additionalCriteriaProviders = beanFactory.getBeanProvider(AdditionalCriteriaProvider.class).stream().collect(Collectors.toList());
+        dataSourceRoutingKeyProvider = beanFactory.getBeanProvider(DataSourceRoutingKeyProvider.class).getIfAvailable();
         queryParamValuesManager = beanFactory.getBean(QueryParamValuesManager.class);
     }
 
@@ -424,6 +427,45 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
         }
     }
 
+    /**
+     * Executes the query using a database cursor and passes the result to the consumer in batches.
+     * The query cache is not used. Instances of previous batches are released by the cursor,
+     * so the caller is responsible for detaching them from the persistence context.
+     *
+     * @param batchSize     number of rows fetched from the database and passed to the consumer at once
+     * @param batchConsumer receives loaded instances
+     */
+    public void scroll(int batchSize, Consumer<List<E>> batchConsumer) {
+        logQueryString();
+
+        singleResultExpected = false;
+
+        JpaQuery<E> jpaQuery = getQuery();
+        jpaQuery.setHint(QueryHints.CURSOR, HintValues.TRUE);
+        jpaQuery.setHint(QueryHints.CURSOR_PAGE_SIZE, batchSize);
+        jpaQuery.setHint(QueryHints.JDBC_FETCH_SIZE, batchSize);
+        preExecute(jpaQuery);
+
+        CursoredStream cursor = (CursoredStream) jpaQuery.getSingleResult();
+        try {
+            while (cursor.hasNext()) {
+                @SuppressWarnings("unchecked")
+                List<E> batch = new ArrayList<>((List<E>) cursor.next(batchSize));
+                for (Object item : batch) {
+                    if (item instanceof Entity) {
+                        for (FetchPlan fetchPlan : fetchPlans) {
+                            entityFetcher.fetch((Entity) item, fetchPlan);
+                        }
+                    }
+                }
+                batchConsumer.accept(batch);
+                cursor.releasePrevious();
+            }
+        } finally {
+            cursor.close();
+        }
+    }
+
     public String getQueryString() {
         return queryString;
     }
@@ -820,7 +862,8 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
                         PersistenceHints.isSoftDeletion(entityManager),
                         singleResult,
                         jpaQuery,
-                        getAdditionalCriteriaParameters());
+                        getAdditionalCriteriaParameters(),
+                        getDataSourceKey(entityName));
                 result = singleResult ? queryCacheMgr.getSingleResultFromCache(queryKey, fetchPlans) :
                         queryCacheMgr.getResultListFromCache(queryKey, fetchPlans);
                 if (result != null) {
@@ -848,6 +891,14 @@ public class JmixEclipseLinkQuery<E> implements JmixQuery<E> {
         return result;
     }
 
+    @Nullable
+    private String getDataSourceKey(String entityName) {
+        if (dataSourceRoutingKeyProvider == null) {
+            return null;
+        }
+        return dataSourceRoutingKeyProvider.getCurrentKey(metadata.getClass(entityName).getStore().getName());
+    }
+
     private Map<String, Object> getAdditionalCriteriaParameters() {
         Map<String, Object> parameters = new HashMap<>();
         for (AdditionalCriteriaProvider acp : additionalCriteriaProviders) {
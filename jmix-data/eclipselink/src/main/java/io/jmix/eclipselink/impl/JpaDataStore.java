@@ -25,6 +25,7 @@ import io.jmix.core.entity.EntityValues;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.data.DataProperties;
 import io.jmix.data.PersistenceHints;
 import io.jmix.data.QueryTransformerFactory;
@@ -36,6 +37,7 @@ import io.jmix.data.impl.EntityEventManager;
 import io.jmix.data.impl.JpqlQueryBuilder;
 import io.jmix.data.impl.QueryResultsManager;
 import io.jmix.data.persistence.DbmsSpecifics;
+import io.jmix.data.persistence.JpqlSortExpressionProvider;
 import io.jmix.eclipselink.impl.lazyloading.LazyLoadingContext;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.*;
@@ -57,6 +59,7 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -120,6 +123,9 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
     @Autowired
     protected FetchPlanRepository fetchPlanRepository;
 
+    @Autowired
+    protected JpqlSortExpressionProvider jpqlSortExpressionProvider;
+
     protected String storeName;
 
     protected static final AtomicLong txCount = new AtomicLong();
@@ -170,6 +176,36 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         }
     }
 
+    @Override
+    protected void scrollAll(LoadContext<?> context, int batchSize, Consumer<List<Object>> batchConsumer) {
+        if (!context.getIds().isEmpty()) {
+            super.scrollAll(context, batchSize, batchConsumer);
+            return;
+        }
+
+        queryResultsManager.savePreviousQueryResults(context);
+
+        EntityManager em = storeAwareLocator.getEntityManager(storeName);
+        em.setProperty(PersistenceHints.SOFT_DELETION, context.getHints().get(PersistenceHints.SOFT_DELETION));
+
+        //noinspection unchecked
+        JmixEclipseLinkQuery<Object> query = (JmixEclipseLinkQuery<Object>) createQuery(em, context, false);
+        query.scroll(batchSize, batchConsumer);
+    }
+
+    /**
+     * Detaches the batch before it is passed to the consumer, so the consumer receives detached entities as
+     * from {@link #loadList(LoadContext)} and the persistence context stays small regardless of the result size.
+     */
+    @Override
+    protected void beforeBatchConsumed(LoadContext<?> context, List<Object> entities) {
+        EntityManager em = storeAwareLocator.getEntityManager(storeName);
+        FetchPlan fetchPlan = createFetchPlan(context);
+        for (Object entity : entities) {
+            detachEntity(em, entity, fetchPlan, false);
+        }
+    }
+
     protected List<Object> loadAllByIds(LoadContext<?> context, EntityManager em) {
         LoadContext<?> contextCopy = context.copy();
         contextCopy.setIds(Collections.emptyList());
@@ -207,6 +243,28 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
         return resultList;
     }
 
+    @Override
+    protected boolean isKeysetPaginationApplicable(LoadContext<?> context) {
+        LoadContext.Query query = context.getQuery();
+        if (query == null || query.getSort() == null || query.getSort().getOrders().isEmpty()
+                || !context.getPreviousQueries().isEmpty()) {
+            return false;
+        }
+        MetaClass metaClass = extendedEntities.getEffectiveMetaClass(context.getEntityMetaClass());
+        if (!keysetPaginationSupport.isApplicable(metaClass, query.getSort(), true)) {
+            return false;
+        }
+        // key values can be compared only with plain sort expressions
+        for (Sort.Order order : keysetPaginationSupport.getKeyOrders(metaClass, query.getSort())) {
+            MetaPropertyPath propertyPath = Objects.requireNonNull(metaClass.getPropertyPath(order.getProperty()));
+            if (!jpqlSortExpressionProvider.isPlainDatatypeSortExpression(propertyPath,
+                    order.getDirection() == Sort.Direction.ASC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     protected long countAll(LoadContext<?> context) {
         queryResultsManager.savePreviousQueryResults(context);
@@ -499,7 +557,8 @@ public class JpaDataStore extends AbstractDataStore implements DataSortingOption
                     .setDistinct(contextQuery.isDistinct())
                     .setQueryParameters(contextQuery.getParameters());
             if (!countQuery) {
-                queryBuilder.setSort(contextQuery.getSort());
+                queryBuilder.setSort(contextQuery.getSort())
+                        .setAfterKey(contextQuery.getAfterKey());
             }
         }
 
@@ -53,4 +53,25 @@ public interface QueryCache {
      * Returns number of entries in this cache.
      */
     long size();
+
+    /**
+     * Returns number of {@link #get(QueryKey)} calls that found a cached result.
+     */
+    default long getHitCount() {
+        return 0;
+    }
+
+    /**
+     * Returns number of {@link #get(QueryKey)} calls that found nothing.
+     */
+    default long getMissCount() {
+        return 0;
+    }
+
+    /**
+     * Returns number of entries evicted by invalidation for entity types.
+     */
+    default long getEvictionCount() {
+        return 0;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.eclipselink.impl.entitycache;
+
+import io.jmix.core.cluster.ClusterApplicationEvent;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Cluster event discarding cached query results related to the given entity types on all application instances.
+ * <p>
+ * Invalidation is idempotent, so events with the same set of types published within one batch are coalesced.
+ *
+ * @see QueryCacheManager#onQueryCacheInvalidation(QueryCacheInvalidationEvent)
+ */
+public class QueryCacheInvalidationEvent extends ClusterApplicationEvent {
+
+    private static final long serialVersionUID = -2263146781375385142L;
+
+    protected final Set<String> typeNames;
+
+    public QueryCacheInvalidationEvent(Object source, Set<String> typeNames) {
+        super(source);
+        this.typeNames = Collections.unmodifiableSet(new TreeSet<>(typeNames));
+    }
+
+    /**
+     * @return names of meta-classes whose cached query results must be discarded
+     */
+    public Set<String> getTypeNames() {
+        return typeNames;
+    }
+
+    @Override
+    public Object getCoalescingKey() {
+        return typeNames;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCacheInvalidationEvent{" +
+                "typeNames=" + typeNames +
+                '}';
+    }
+}
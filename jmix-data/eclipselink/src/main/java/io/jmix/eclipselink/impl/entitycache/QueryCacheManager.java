@@ -36,6 +36,7 @@ import jakarta.persistence.TypedQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -272,6 +273,15 @@ public class QueryCacheManager {
         }
     }
 
+    /**
+     * Discards cached query results for the types changed on this or another cluster node.
+     */
+    @EventListener
+    public void onQueryCacheInvalidation(QueryCacheInvalidationEvent event) {
+        log.debug("Invalidating query cache for types {}", event.getTypeNames());
+        invalidate(event.getTypeNames());
+    }
+
     public void invalidateAll() {
         if (isEnabled()) {
             queryCache.invalidateAll();
@@ -18,6 +18,7 @@ package io.jmix.eclipselink.impl.entitycache;
 
 import com.google.common.base.MoreObjects;
 import io.jmix.core.UuidProvider;
+import org.springframework.lang.Nullable;
 
 import jakarta.persistence.Parameter;
 import jakarta.persistence.Query;
@@ -41,6 +42,10 @@ public class QueryKey implements Serializable {
     protected final Object[] normalizedParameters;
     protected final Object[] positionalParameters;
     protected final Object[] additionalCriteriaParameters;
+    /**
+     * Key of the database the query is executed in, see {@link io.jmix.data.DataSourceRoutingKeyProvider}
+     */
+    protected final String dataSourceKey;
     protected final int hashCode;
 
     //transient attributes
@@ -56,8 +61,14 @@ public class QueryKey implements Serializable {
     protected static final Pattern PARAMETER_TEMPLATE_PATTERN = Pattern.compile("(:[\\w_$]+)");
 
     public static QueryKey create(String queryString, boolean softDeletion, boolean singleResult, Query jpaQuery, Map<String, Object> additionalCriteriaParameters) {
+        return create(queryString, softDeletion, singleResult, jpaQuery, additionalCriteriaParameters, null);
+    }
+
+    public static QueryKey create(String queryString, boolean softDeletion, boolean singleResult, Query jpaQuery,
+                                  Map<String, Object> additionalCriteriaParameters, @Nullable String dataSourceKey) {
         return new QueryKey(queryString, jpaQuery.getFirstResult(), jpaQuery.getMaxResults(), softDeletion, singleResult,
-                getNamedParameters(jpaQuery), getPositionalParameters(jpaQuery), additionalCriteriaParameters);
+                getNamedParameters(jpaQuery), getPositionalParameters(jpaQuery), additionalCriteriaParameters,
+                dataSourceKey);
     }
 
     private static Map<String, Object> getNamedParameters(Query jpaQuery) {
@@ -104,6 +115,16 @@ public class QueryKey implements Serializable {
                        Map<String, Object> namedParameters,
                        Object[] positionalParameters,
                        Map<String, Object> additionalCriteriaParameters) {
+        this(queryString, firstRow, maxRows, softDeletion, singleResult, namedParameters, positionalParameters,
+                additionalCriteriaParameters, null);
+    }
+
+    protected QueryKey(String queryString, int firstRow, int maxRows,
+                       boolean softDeletion, boolean singleResult,
+                       Map<String, Object> namedParameters,
+                       Object[] positionalParameters,
+                       Map<String, Object> additionalCriteriaParameters,
+                       @Nullable String dataSourceKey) {
         this.id = UuidProvider.createUuid();
         this.originalQueryString = queryString;
         this.firstRow = firstRow;
@@ -155,6 +176,7 @@ public class QueryKey implements Serializable {
         }
 
         this.positionalParameters = positionalParameters;
+        this.dataSourceKey = dataSourceKey;
 
         this.hashCode = generateHashCode();
     }
@@ -173,6 +195,7 @@ public class QueryKey implements Serializable {
                 .add("positionalParameters", Arrays.deepToString(positionalParameters))
                 .add("normalizedParameters", Arrays.deepToString(normalizedParameters))
                 .add("additionalCriteriaParameters", Arrays.deepToString(additionalCriteriaParameters))
+                .add("dataSourceKey", dataSourceKey)
                 .toString();
     }
 
@@ -191,7 +214,8 @@ public class QueryKey implements Serializable {
                 && firstRow == queryKey.firstRow
                 && maxRows == queryKey.maxRows
                 && softDeletion == queryKey.softDeletion
-                && singleResult == queryKey.singleResult;
+                && singleResult == queryKey.singleResult
+                && Objects.equals(dataSourceKey, queryKey.dataSourceKey);
     }
 
     protected boolean equalsParams(QueryKey queryKey) {
@@ -218,6 +242,7 @@ public class QueryKey implements Serializable {
 
         result = 31 * result + (normalizedParameters == null ? 0 : Arrays.deepHashCode(normalizedParameters));
         result = 31 * result + (additionalCriteriaParameters == null ? 0 : Arrays.deepHashCode(additionalCriteriaParameters));
+        result = 31 * result + Objects.hashCode(dataSourceKey);
         return result;
     }
 
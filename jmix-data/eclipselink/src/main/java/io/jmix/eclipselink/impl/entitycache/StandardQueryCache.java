@@ -24,18 +24,53 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * Query cache backed by the {@value QUERY_CACHE_NAME} Spring cache.
+ * <p>
+ * If the cache is node-local, keeps a reverse index from entity names to keys of the queries related to them, so
+ * invalidation on commit evicts only affected entries instead of scanning the whole cache. Other caches can contain
+ * entries put by other nodes of a cluster, so they are scanned on invalidation.
+ * <p>
+ * Puts hold the shared index lock and invalidations hold the exclusive one, so a result is never stored after its
+ * types have been invalidated without being indexed. Keys of entries removed from the cache by other means are
+ * pruned from the index incrementally.
+ */
 @Component("eclipselink_QueryCache")
 public class StandardQueryCache implements QueryCache {
 
     protected Cache queries;
 
+    protected static final int INDEX_PRUNE_INTERVAL = 1000;
+    protected static final int INDEX_PRUNE_BATCH_SIZE = 1000;
+
+    protected ConcurrentMap<String, Set<QueryKey>> keysByType = new ConcurrentHashMap<>();
+    protected ConcurrentMap<QueryKey, Set<String>> typesByKey = new ConcurrentHashMap<>();
+    protected ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    protected AtomicLong indexedPutCount = new AtomicLong();
+    protected Lock pruneLock = new ReentrantLock();
+    protected Iterator<QueryKey> pruneIterator;
+
+    protected AtomicLong hitCount = new AtomicLong();
+    protected AtomicLong missCount = new AtomicLong();
+    protected AtomicLong evictionCount = new AtomicLong();
+
     @Autowired
     protected CacheManager cacheManager;
     @Autowired
@@ -55,12 +90,37 @@ public class StandardQueryCache implements QueryCache {
 
     @Override
     public QueryResult get(QueryKey queryKey) {
-        return queries.get(queryKey, QueryResult.class);
+        QueryResult queryResult = queries.get(queryKey, QueryResult.class);
+        if (queryResult != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return queryResult;
     }
 
     @Override
     public void put(QueryKey queryKey, QueryResult queryResult) {
-        queries.put(queryKey, queryResult);
+        if (!isLocalCache()) {
+            queries.put(queryKey, queryResult);
+            return;
+        }
+
+        indexLock.readLock().lock();
+        try {
+            Set<String> relatedTypes = queryResult.getRelatedTypes();
+            typesByKey.put(queryKey, new HashSet<>(relatedTypes));
+            for (String typeName : relatedTypes) {
+                keysByType.computeIfAbsent(typeName, k -> ConcurrentHashMap.newKeySet()).add(queryKey);
+            }
+            queries.put(queryKey, queryResult);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+
+        if (indexedPutCount.incrementAndGet() % INDEX_PRUNE_INTERVAL == 0) {
+            pruneIndex();
+        }
     }
 
     @Override
@@ -76,7 +136,24 @@ public class StandardQueryCache implements QueryCache {
     }
 
     protected void invalidateByTypes(Set<String> typeNames) {
-        if (cacheOperations.isIterableCache(queries)) {
+        if (isLocalCache()) {
+            indexLock.writeLock().lock();
+            try {
+                for (String typeName : typeNames) {
+                    Set<QueryKey> keys = keysByType.remove(typeName);
+                    if (keys != null) {
+                        for (QueryKey queryKey : keys) {
+                            removeFromIndex(queryKey);
+                            if (queries.evictIfPresent(queryKey)) {
+                                evictionCount.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+        } else if (cacheOperations.isIterableCache(queries)) {
             Set<QueryKey> evicted = new HashSet<>();
 
             cacheOperations.<QueryKey, QueryResult>forEach(queries, (queryKey, queryResult) -> {
@@ -86,23 +163,115 @@ public class StandardQueryCache implements QueryCache {
             });
 
             for (QueryKey queryKey : evicted) {
-                queries.evictIfPresent(queryKey);
-
+                if (queries.evictIfPresent(queryKey)) {
+                    evictionCount.incrementAndGet();
+                }
             }
         } else {
             queries.invalidate();
         }
     }
 
+    /**
+     * Returns true if the cache is held by this node only, so all its entries are put through this bean and can be
+     * indexed.
+     */
+    protected boolean isLocalCache() {
+        return queries instanceof ConcurrentMapCache;
+    }
+
+    /**
+     * Removes the key from the sets of all its related types. Must be called under the exclusive index lock.
+     */
+    protected void removeFromIndex(QueryKey queryKey) {
+        Set<String> relatedTypes = typesByKey.remove(queryKey);
+        if (relatedTypes == null) {
+            return;
+        }
+        for (String typeName : relatedTypes) {
+            Set<QueryKey> keys = keysByType.get(typeName);
+            if (keys != null) {
+                keys.remove(queryKey);
+                if (keys.isEmpty()) {
+                    keysByType.remove(typeName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes keys of the entries that have left the cache without invalidation from the index. Checks up to
+     * {@link #INDEX_PRUNE_BATCH_SIZE} keys continuing from the previous call, and holds the exclusive index lock
+     * only while removing the found keys.
+     */
+    protected void pruneIndex() {
+        if (!pruneLock.tryLock()) {
+            return;
+        }
+        try {
+            List<QueryKey> staleKeys = new ArrayList<>();
+            boolean restarted = false;
+            for (int i = 0; i < INDEX_PRUNE_BATCH_SIZE; i++) {
+                if (pruneIterator == null || !pruneIterator.hasNext()) {
+                    if (restarted) {
+                        break;
+                    }
+                    pruneIterator = typesByKey.keySet().iterator();
+                    restarted = true;
+                    if (!pruneIterator.hasNext()) {
+                        break;
+                    }
+                }
+                QueryKey queryKey = pruneIterator.next();
+                if (queries.get(queryKey) == null) {
+                    staleKeys.add(queryKey);
+                }
+            }
+            if (staleKeys.isEmpty()) {
+                return;
+            }
+
+            indexLock.writeLock().lock();
+            try {
+                for (QueryKey queryKey : staleKeys) {
+                    // the result could be stored again after the check
+                    if (queries.get(queryKey) == null) {
+                        removeFromIndex(queryKey);
+                    }
+                }
+            } finally {
+                indexLock.writeLock().unlock();
+            }
+        } finally {
+            pruneLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of keys in the index.
+     */
+    public int getIndexSize() {
+        return typesByKey.size();
+    }
+
     @Override
     public void invalidateAll() {
         log.debug("Invalidate all cache");
-        queries.invalidate();
+        indexLock.writeLock().lock();
+        try {
+            keysByType.clear();
+            typesByKey.clear();
+            queries.invalidate();
+        } finally {
+            indexLock.writeLock().unlock();
+        }
     }
 
     @Override
     public long size() {
-        if (cacheOperations.isIterableCache(queries)) {
+        if (queries instanceof ConcurrentMapCache) {
+            return ((ConcurrentMapCache) queries).getNativeCache().size();
+        } else if (cacheOperations.isIterableCache(queries)) {
             AtomicLong count = new AtomicLong();
             cacheOperations.forEach(queries, (queryKey, queryResult) -> count.incrementAndGet());
             return count.get();
@@ -110,4 +279,19 @@ public class StandardQueryCache implements QueryCache {
             return 0;
         }
     }
+
+    @Override
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
 }
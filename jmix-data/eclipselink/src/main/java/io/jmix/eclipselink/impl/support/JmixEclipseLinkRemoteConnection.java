@@ -17,10 +17,12 @@
 package io.jmix.eclipselink.impl.support;
 
 import io.jmix.core.ExtendedEntities;
+import io.jmix.core.cluster.ClusterApplicationEventPublisher;
 import io.jmix.core.Metadata;
 import io.jmix.core.common.util.ReflectionHelper;
 import io.jmix.core.impl.StandardSerialization;
 import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.eclipselink.impl.entitycache.QueryCacheInvalidationEvent;
 import io.jmix.eclipselink.impl.entitycache.QueryCacheManager;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
@@ -52,6 +54,8 @@ public class JmixEclipseLinkRemoteConnection extends BroadcastRemoteConnection {
     protected EclipseLinkChannelSupplier channelSupplier;
     @Autowired
     protected StandardSerialization serialization;
+    @Autowired
+    protected ClusterApplicationEventPublisher clusterApplicationEventPublisher;
 
     public JmixEclipseLinkRemoteConnection(RemoteCommandManager rcm) {
         super(rcm);
@@ -106,7 +110,12 @@ public class JmixEclipseLinkRemoteConnection extends BroadcastRemoteConnection {
 
         Object command = serialization.deserialize((byte[]) message.getPayload());
         if (queryCacheManager.isEnabled()) {
-            invalidateQueryCache(command);
+            // the sender's QueryCacheInvalidationEvent can be delayed by batching or not sent at all
+            // by an older application version, so the cache is invalidated by the received changes too
+            Set<String> typeNames = getChangedTypeNames(command);
+            if (!typeNames.isEmpty()) {
+                queryCacheManager.invalidate(typeNames);
+            }
         }
         processReceivedObject(command, "");
     }
@@ -130,12 +139,27 @@ public class JmixEclipseLinkRemoteConnection extends BroadcastRemoteConnection {
         return false;
     }
 
+    /**
+     * Discards cached query results for the entity types changed by the command in this application instance
+     * immediately and in other instances by {@link QueryCacheInvalidationEvent}. The event is published through
+     * {@link ClusterApplicationEventPublisher}, so invalidations of the same types are coalesced if cluster events
+     * are batched. Other instances also invalidate their caches when they receive the command itself,
+     * see {@link #onMessage(Message)}.
+     */
     protected void invalidateQueryCache(Object command) {
+        Set<String> typeNames = getChangedTypeNames(command);
+        if (!typeNames.isEmpty()) {
+            queryCacheManager.invalidate(typeNames);
+            clusterApplicationEventPublisher.publish(new QueryCacheInvalidationEvent(this, typeNames));
+        }
+    }
+
+    protected Set<String> getChangedTypeNames(Object command) {
+        Set<String> typeNames = new HashSet<>();
         if (command instanceof MergeChangeSetCommand) {
             MergeChangeSetCommand changeSetCommand = (MergeChangeSetCommand) command;
             UnitOfWorkChangeSet changeSet = changeSetCommand.getChangeSet(null);
             if (changeSet != null && changeSet.getAllChangeSets() != null) {
-                Set<String> typeNames = new HashSet<>();
                 changeSet.getAllChangeSets().values().stream().filter(obj -> obj.getClassName() != null).forEach(obj -> {
                     MetaClass metaClass = metadata.findClass(ReflectionHelper.getClass(obj.getClassName()));
                     if (metaClass != null) {
@@ -143,8 +167,8 @@ public class JmixEclipseLinkRemoteConnection extends BroadcastRemoteConnection {
                         typeNames.add(metaClass.getName());
                     }
                 });
-                queryCacheManager.invalidate(typeNames);
             }
         }
+        return typeNames;
     }
 }
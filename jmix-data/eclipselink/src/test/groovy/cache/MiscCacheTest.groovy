@@ -18,12 +18,14 @@ package cache
 
 import io.jmix.core.DataManager
 import io.jmix.data.PersistenceHints
+import io.jmix.eclipselink.impl.entitycache.QueryCache
 import jakarta.persistence.EntityManager
 import jakarta.persistence.PersistenceContext
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.transaction.support.TransactionTemplate
 import test_support.DataSpec
 import test_support.entity.cache.CacheableEntity
+import test_support.entity.sales.Customer
 
 class MiscCacheTest extends DataSpec {
     public static final String ALL_QUERY = "select e from test_CacheableEntity e where e.name like concat(:name,'%')"
@@ -37,6 +39,9 @@ class MiscCacheTest extends DataSpec {
     @Autowired
     private TransactionTemplate transaction;
 
+    @Autowired
+    private QueryCache queryCache
+
     def "check soft deletion considered"() {
         setup:
         generateEntities(10)
@@ -185,6 +190,47 @@ class MiscCacheTest extends DataSpec {
         dropAllEntities()
     }
 
+    def "invalidation evicts only queries of changed entity"() {
+        setup:
+        generateEntities(3)
+        queryCache.invalidateAll()
+        def hits = queryCache.hitCount
+        def evictions = queryCache.evictionCount
+
+        when:
+        dataManager.load(CacheableEntity)
+                .query(ALL_QUERY)
+                .parameter("name", "test_")
+                .cacheable(true)
+                .list()
+        dataManager.load(Customer)
+                .query("select e from sales_Customer e")
+                .cacheable(true)
+                .list()
+        dataManager.load(CacheableEntity)
+                .query(ALL_QUERY)
+                .parameter("name", "test_")
+                .cacheable(true)
+                .list()
+
+        then:
+        queryCache.size() == 2
+        queryCache.hitCount == hits + 1
+
+        when:
+        def customer = dataManager.create(Customer)
+        customer.name = "test"
+        dataManager.save(customer)
+
+        then:
+        queryCache.size() == 1
+        queryCache.evictionCount == evictions + 1
+
+        cleanup:
+        queryCache.invalidateAll()
+        dropAllEntities()
+    }
+
     def generateEntities(int count) {
         for (int i = 0; i < count; i++) {
             jdbc.update(String.format(
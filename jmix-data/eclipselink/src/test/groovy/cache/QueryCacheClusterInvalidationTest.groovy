@@ -0,0 +1,127 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cache
+
+import io.jmix.core.DataManager
+import io.jmix.core.cluster.ClusterApplicationEventBatch
+import io.jmix.core.cluster.ClusterApplicationEventChannelSupplier
+import io.jmix.core.cluster.ClusterApplicationEventPublisher
+import io.jmix.eclipselink.impl.entitycache.QueryCache
+import io.jmix.eclipselink.impl.entitycache.QueryCacheInvalidationEvent
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.messaging.Message
+import org.springframework.messaging.MessageHandler
+import org.springframework.test.context.TestPropertySource
+import test_support.DataSpec
+import test_support.entity.cache.CacheableEntity
+
+@TestPropertySource(properties = [
+        "jmix.core.cluster-events-batch-window=1h",
+        "jmix.core.cluster-events-max-batch-size=100"
+])
+class QueryCacheClusterInvalidationTest extends DataSpec {
+
+    public static final String ALL_QUERY = "select e from test_CacheableEntity e"
+
+    @Autowired
+    DataManager dataManager
+
+    @Autowired
+    QueryCache queryCache
+
+    @Autowired
+    ClusterApplicationEventPublisher publisher
+
+    @Autowired
+    ClusterApplicationEventChannelSupplier channelSupplier
+
+    List<Message<?>> messages = Collections.synchronizedList([])
+
+    MessageHandler handler = { Message<?> message -> messages.add(message) } as MessageHandler
+
+    void setup() {
+        publisher.flush()
+        channelSupplier.get().subscribe(handler)
+    }
+
+    void cleanup() {
+        publisher.flush()
+        channelSupplier.get().unsubscribe(handler)
+        jdbc.update('delete from TEST_CACHEABLE_ENTITY')
+        queryCache.invalidateAll()
+    }
+
+    def "invalidations of the same type are coalesced into one cluster event"() {
+        when:
+        def entity = dataManager.create(CacheableEntity)
+        entity.name = 'first'
+        entity = dataManager.save(entity)
+
+        entity.name = 'second'
+        dataManager.save(entity)
+
+        then: "nothing is sent until the batch is flushed"
+        messages.isEmpty()
+
+        when:
+        publisher.flush()
+
+        then:
+        messages.size() == 1
+        def events = decode(messages[0]).events.findAll { it instanceof QueryCacheInvalidationEvent }
+        events.size() == 1
+        events[0].typeNames == ['test_CacheableEntity'] as Set
+    }
+
+    def "received invalidation event discards cached query results"() {
+        def entity = dataManager.create(CacheableEntity)
+        entity.name = 'first'
+        dataManager.save(entity)
+        publisher.flush()
+        messages.clear()
+
+        loadCacheable()
+
+        expect:
+        queryCache.size() == 1
+
+        when: "event published by another node is received"
+        publisher.publish(new QueryCacheInvalidationEvent(this, ['test_CacheableEntity'] as Set))
+
+        then: "cache is not invalidated until the batch is delivered"
+        queryCache.size() == 1
+
+        when:
+        publisher.flush()
+
+        then:
+        messages.size() == 1
+        queryCache.size() == 0
+    }
+
+    List<CacheableEntity> loadCacheable() {
+        return dataManager.load(CacheableEntity)
+                .query(ALL_QUERY)
+                .cacheable(true)
+                .list()
+    }
+
+    ClusterApplicationEventBatch decode(Message<?> message) {
+        assert message.payload instanceof byte[]
+        return publisher.decodeBatch(message.payload as byte[])
+    }
+}
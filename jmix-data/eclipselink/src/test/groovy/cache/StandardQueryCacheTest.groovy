@@ -0,0 +1,153 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package cache
+
+import io.jmix.core.CacheOperations
+import io.jmix.eclipselink.impl.entitycache.QueryKey
+import io.jmix.eclipselink.impl.entitycache.QueryResult
+import io.jmix.eclipselink.impl.entitycache.StandardQueryCache
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager
+import spock.lang.Specification
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+
+class StandardQueryCacheTest extends Specification {
+
+    StandardQueryCache queryCache
+
+    def setup() {
+        queryCache = new StandardQueryCache()
+        queryCache.cacheManager = new ConcurrentMapCacheManager(StandardQueryCache.QUERY_CACHE_NAME)
+        queryCache.cacheOperations = new CacheOperations()
+        queryCache.init()
+    }
+
+    def "query related to several types is removed from index of all of them"() {
+        def multiTypeKey = key('select e from A e join e.b b')
+        def singleTypeKey = key('select e from B e')
+
+        queryCache.put(multiTypeKey, result('A', ['A', 'B']))
+        queryCache.put(singleTypeKey, result('B', ['B']))
+
+        when:
+        queryCache.invalidate('A')
+
+        then:
+        queryCache.size() == 1
+        queryCache.get(multiTypeKey) == null
+        queryCache.get(singleTypeKey) != null
+        queryCache.indexSize == 1
+
+        when:
+        queryCache.invalidate('B')
+
+        then:
+        queryCache.size() == 0
+        queryCache.indexSize == 0
+    }
+
+    def "keys of entries evicted by the cache are pruned from index"() {
+        def queryKey = key('select e from A e')
+        queryCache.put(queryKey, result('A', ['A']))
+
+        when:
+        queryCache.cacheManager.getCache(StandardQueryCache.QUERY_CACHE_NAME).evict(queryKey)
+        queryCache.pruneIndex()
+
+        then:
+        queryCache.indexSize == 0
+    }
+
+    def "entries of shared cache put by other nodes are invalidated by scanning the cache"() {
+        def sharedCache = new StandardQueryCache() {
+            @Override
+            protected boolean isLocalCache() {
+                return false
+            }
+        }
+        sharedCache.cacheManager = queryCache.cacheManager
+        sharedCache.cacheOperations = queryCache.cacheOperations
+        sharedCache.init()
+
+        def queryKey = key('select e from A e')
+
+        when: "the entry is put by another node"
+        queryCache.cacheManager.getCache(StandardQueryCache.QUERY_CACHE_NAME).put(queryKey, result('A', ['A']))
+        sharedCache.invalidate('A')
+
+        then:
+        sharedCache.get(queryKey) == null
+        sharedCache.indexSize == 0
+    }
+
+    def "stored results stay indexed when invalidation runs concurrently"() {
+        def executor = Executors.newFixedThreadPool(5)
+        def stop = new AtomicBoolean()
+        def started = new CountDownLatch(5)
+
+        when:
+        def putters = (1..4).collect { thread ->
+            executor.submit {
+                started.countDown()
+                for (int i = 0; i < 2000; i++) {
+                    queryCache.put(key("select e from A e where e.n = $thread and e.i = $i"), result('A', ['A', 'B']))
+                }
+            }
+        }
+        def invalidator = executor.submit {
+            started.countDown()
+            while (!stop.get()) {
+                queryCache.invalidate('A')
+            }
+        }
+        putters*.get()
+        stop.set(true)
+        invalidator.get()
+        executor.shutdown()
+        executor.awaitTermination(10, TimeUnit.SECONDS)
+
+        queryCache.invalidate('A')
+
+        then:
+        queryCache.size() == 0
+        queryCache.indexSize == 0
+    }
+
+    def "results of the same query in different databases are cached separately"() {
+        def tenant1Key = new QueryKey('select e from A e', 0, 0, false, false, null, null, [:], 'tenant1')
+        def tenant2Key = new QueryKey('select e from A e', 0, 0, false, false, null, null, [:], 'tenant2')
+
+        when:
+        queryCache.put(tenant1Key, result('A', ['A']))
+
+        then:
+        tenant1Key != tenant2Key
+        queryCache.get(new QueryKey('select e from A e', 0, 0, false, false, null, null, [:], 'tenant1')) != null
+        queryCache.get(tenant2Key) == null
+    }
+
+    private static QueryKey key(String queryString) {
+        new QueryKey(queryString, 0, 0, false, false, null, null, [:])
+    }
+
+    private static QueryResult result(String type, List<String> relatedTypes) {
+        new QueryResult([], type, relatedTypes as Set)
+    }
+}
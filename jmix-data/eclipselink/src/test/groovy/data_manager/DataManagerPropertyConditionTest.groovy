@@ -21,6 +21,7 @@ import io.jmix.core.querycondition.LogicalCondition
 import io.jmix.core.querycondition.PropertyCondition
 import io.jmix.data.impl.jpql.generator.ConditionGenerationContext
 import io.jmix.data.impl.jpql.generator.PropertyConditionGenerator
+import io.micrometer.core.instrument.MeterRegistry
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.beans.factory.annotation.Qualifier
 import test_support.DataSpec
@@ -32,10 +33,42 @@ class DataManagerPropertyConditionTest extends DataSpec {
     @Autowired
     DataManager dataManager
 
+    @Autowired
+    MeterRegistry meterRegistry
+
     @Autowired
     @Qualifier("data_PropertyConditionGenerator")
     PropertyConditionGenerator propertyConditionGenerator
 
+    def "identical PropertyCondition loads share cached query transformations"() {
+
+        TestAppEntity testEntity = dataManager.create(TestAppEntity)
+        testEntity.name = 'one'
+        dataManager.save(testEntity)
+
+        def hits = meterRegistry.counter("jmix.data.jpqlCache.hits", "type", "transformer")
+        def misses = meterRegistry.counter("jmix.data.jpqlCache.misses", "type", "transformer")
+
+        when:
+
+        def list1 = dataManager.load(TestAppEntity)
+                .condition(PropertyCondition.equal("name", "one"))
+                .list()
+        def hitsBefore = hits.count()
+        def missesBefore = misses.count()
+
+        def list2 = dataManager.load(TestAppEntity)
+                .condition(PropertyCondition.equal("name", "one"))
+                .list()
+
+        then:
+
+        list1 == [testEntity]
+        list2 == [testEntity]
+        hits.count() > hitsBefore
+        misses.count() == missesBefore
+    }
+
     def "load using PropertyCondition starts with"() {
 
         TestAppEntity testEntity1 = dataManager.create(TestAppEntity)
@@ -17,9 +17,12 @@
 package data_manager
 
 import io.jmix.core.*
+import io.jmix.core.datastore.KeysetPaginationSupport
 import io.jmix.core.querycondition.PropertyCondition
+import io.jmix.data.persistence.JpqlSortExpressionProvider
 import org.springframework.beans.factory.annotation.Autowired
 import test_support.DataSpec
+import test_support.TestJpqlSortExpressionProvider
 import test_support.entity.TestAppEntity
 import test_support.entity.TestCompositeKeyEntity
 import test_support.entity.TestEntityKey
@@ -35,6 +38,15 @@ class DataManagerTest extends DataSpec {
     @Autowired
     EntityStates entityStates
 
+    @Autowired
+    Metadata metadata
+
+    @Autowired
+    KeysetPaginationSupport keysetPaginationSupport
+
+    @Autowired
+    JpqlSortExpressionProvider sortExpressionProvider
+
     def "create commit load"() {
         when:
 
@@ -282,6 +294,69 @@ class DataManagerTest extends DataSpec {
         list2 == [line2, line1]
     }
 
+    def "load with keyset pagination"() {
+
+        def products = (1..5).collect {
+            def product = dataManager.create(Product)
+            product.name = 'p' + it
+            product.quantity = it % 2
+            product
+        }
+        dataManager.saveAll(products)
+
+        def sort = Sort.by(Sort.Order.desc('quantity'), Sort.Order.asc('name'))
+
+        when:
+
+        def context = new LoadContext(metadata.getClass(Product))
+        context.setQuery(new LoadContext.Query('select e from sales_Product e')
+                .setSort(sort)
+                .setMaxResults(2)
+                .setAfterKey([]))
+        def page1 = dataManager.loadList(context)
+
+        context.query.afterKey = keysetPaginationSupport.getKey(page1.last(), sort)
+        def page2 = dataManager.loadList(context)
+
+        context.query.afterKey = keysetPaginationSupport.getKey(page2.last(), sort)
+        def page3 = dataManager.loadList(context)
+
+        then:
+
+        page1*.name == ['p1', 'p3']
+        page2*.name == ['p5', 'p2']
+        page3*.name == ['p4']
+    }
+
+    def "keyset pagination is rejected for custom sort expression"() {
+
+        def product = dataManager.create(Product)
+        product.name = 'p1'
+        product.quantity = 1
+        dataManager.save(product)
+
+        ((TestJpqlSortExpressionProvider) sortExpressionProvider).addToUpperPath(metadata.getClass(Product).getPropertyPath('name'))
+
+        def sort = Sort.by(Sort.Order.asc('name'))
+
+        when:
+
+        def context = new LoadContext(metadata.getClass(Product))
+        context.setQuery(new LoadContext.Query('select e from sales_Product e')
+                .setSort(sort)
+                .setMaxResults(2)
+                .setAfterKey(['p0', product.id]))
+        dataManager.loadList(context)
+
+        then:
+
+        thrown(DevelopmentException)
+
+        cleanup:
+
+        ((TestJpqlSortExpressionProvider) sortExpressionProvider).resetToUpperPaths()
+    }
+
     def "load by condition"() {
 
         def product1 = dataManager.create(Product)
@@ -34,6 +34,8 @@ class FluentLoaderTest extends DataSpec {
     private FetchPlanRepository viewRepository
     @Autowired
     private Metadata metadata
+    @Autowired
+    private EntityStates entityStates
 
     private FetchPlan baseFP
     private Customer customer, customer2
@@ -427,4 +429,63 @@ class FluentLoaderTest extends DataSpec {
         loadContext.query.parameters['_p10'] == 'v10'
         loadContext.query.parameters['_p11'] == 'v11'
     }
+
+    def "forEachBatch loads all instances in batches"() {
+        given:
+
+        (1..5).each {
+            def c = metadata.create(Customer)
+            c.name = "batch-$it"
+            dataManager.save(c)
+        }
+        List<List<Customer>> batches = []
+
+        when:
+
+        dataManager.load(Customer)
+                .query('select c from sales_Customer c where c.name like :name')
+                .parameter('name', 'batch-%')
+                .sort(Sort.by('name'))
+                .forEachBatch(2) { batches.add(it) }
+
+        then:
+
+        batches.collect { it.size() } == [2, 2, 1]
+        batches.flatten().collect { it.name } == ['batch-1', 'batch-2', 'batch-3', 'batch-4', 'batch-5']
+
+        when:
+
+        batches.clear()
+        dataManager.load(Customer).all()
+                .firstResult(1)
+                .maxResults(3)
+                .sort(Sort.by('name'))
+                .forEachBatch(2) { batches.add(it) }
+
+        then:
+
+        batches.collect { it.size() } == [2, 1]
+    }
+
+    def "forEachBatch passes detached instances"() {
+        given:
+
+        (1..3).each {
+            def c = metadata.create(Customer)
+            c.name = "detached-$it"
+            dataManager.save(c)
+        }
+        List<Boolean> detached = []
+
+        when:
+
+        dataManager.load(Customer)
+                .query('select c from sales_Customer c where c.name like :name')
+                .parameter('name', 'detached-%')
+                .forEachBatch(2) { batch -> batch.each { detached.add(entityStates.isDetached(it)) } }
+
+        then:
+
+        detached == [true, true, true]
+    }
 }
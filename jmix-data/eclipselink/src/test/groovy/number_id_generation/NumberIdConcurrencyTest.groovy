@@ -24,6 +24,7 @@ import io.jmix.data.persistence.SequenceSupport
 import io.jmix.data.impl.NumberIdCache
 import io.jmix.data.impl.NumberIdWorker
 import io.jmix.data.persistence.DbmsSpecifics
+import io.micrometer.core.instrument.MeterRegistry
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.jdbc.core.JdbcTemplate
@@ -53,6 +54,8 @@ class NumberIdConcurrencyTest extends DataSpec {
     private DataProperties dataProperties
     @Autowired
     private DataSource dataSource
+    @Autowired
+    private MeterRegistry meterRegistry
 
     private SequenceSupport sequenceSupport
 
@@ -119,6 +122,27 @@ class NumberIdConcurrencyTest extends DataSpec {
         DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
     }
 
+    def "generating ids with prefetching"() {
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 20)
+        DataConfigPropertiesAccess.setNumberIdCachePrefetchThreshold(dataProperties, 5)
+
+        when:
+
+        generateSomeEntities(500)
+
+        then:
+
+        countEntities() == 500
+        meterRegistry.counter('jmix.data.numberIdCache.hits', 'sequence', 'test$NumberIdSingleTableRoot').count() >= 500
+        meterRegistry.counter('jmix.data.numberIdCache.prefetches', 'sequence', 'test$NumberIdSingleTableRoot').count() > 0
+
+        cleanup:
+
+        DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 100)
+        DataConfigPropertiesAccess.setNumberIdCachePrefetchThreshold(dataProperties, 0)
+    }
+
     def "generate with zero size cache"() {
         DataConfigPropertiesAccess.setNumberIdCacheSize(dataProperties, 0)
 
@@ -21,7 +21,9 @@ import io.jmix.dataimport.configuration.UniqueEntityConfiguration;
 import io.jmix.dataimport.extractor.data.ImportedData;
 
 import org.springframework.lang.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -39,6 +41,31 @@ public interface DuplicateEntityManager {
     @Nullable
     Object load(Object entity, UniqueEntityConfiguration configuration, FetchPlan fetchPlan);
 
+    /**
+     * Searches in the database the duplicates for specified entities by properties from the given {@link UniqueEntityConfiguration}.
+     * The result can also contain entities that are not duplicates of any specified entity,
+     * so {@link #isDuplicated(Object, Object, UniqueEntityConfiguration)} should be used to find the duplicate of a particular entity.
+     * Note that the database compares string values according to its collation, e.g. case-insensitively,
+     * while {@link #isDuplicated(Object, Object, UniqueEntityConfiguration)} compares them exactly.
+     * <br>
+     * The default implementation searches the duplicate of each entity separately.
+     *
+     * @param entities      entities for which duplicates are searched
+     * @param configuration unique entity configuration
+     * @param fetchPlan     fetch plan with which the duplicate entities are loaded
+     * @return found duplicates
+     */
+    default List<Object> loadAll(Collection<?> entities, UniqueEntityConfiguration configuration, FetchPlan fetchPlan) {
+        List<Object> result = new ArrayList<>();
+        for (Object entity : entities) {
+            Object existingEntity = load(entity, configuration, fetchPlan);
+            if (existingEntity != null && !result.contains(existingEntity)) {
+                result.add(existingEntity);
+            }
+        }
+        return result;
+    }
+
     /**
      * Checks whether specified entities are duplicates by properties from the given {@link UniqueEntityConfiguration}.
      *
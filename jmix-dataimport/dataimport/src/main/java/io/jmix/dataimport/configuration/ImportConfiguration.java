@@ -34,6 +34,7 @@ import java.util.function.Predicate;
  *     <li>Property mappings: list of {@link PropertyMapping}.</li>
  *     <li>Transaction strategy: {@link ImportTransactionStrategy}. By default, each entity is imported in the separate transaction.</li>
  *     <li>Import batch size: number of entities that will imported in one batch if {@link ImportTransactionStrategy#TRANSACTION_PER_BATCH} is used. By default, 100. </li>
+ *     <li>Streaming import: whether input data is parsed while importing instead of being parsed completely before import. By default, false.</li>
  *     <li>Date format: date format used in the input data.</li>
  *     <li>Custom formats of boolean true and false values.</li>
  *     <li>Pre-import predicate: a predicate that is executed for each extracted entity before import. If the predicate returns false, the entity won't be imported.</li>
@@ -83,6 +84,7 @@ public class ImportConfiguration {
 
     protected ImportTransactionStrategy transactionStrategy;
     protected int importBatchSize = 100;
+    protected boolean streamingImport;
 
     protected String inputDataFormat;
 
@@ -175,6 +177,31 @@ public class ImportConfiguration {
         return this;
     }
 
+    /**
+     * Gets whether input data is parsed while importing.
+     *
+     * @return true if input data is parsed while importing
+     */
+    public boolean isStreamingImport() {
+        return streamingImport;
+    }
+
+    /**
+     * Sets whether input data is parsed while importing instead of being parsed completely before import.
+     * In this case, memory consumption doesn't depend on the input data size, but an error in the input data
+     * stops the import when the entities from the preceding items can be already imported.
+     * <br>
+     * Note: it is actual if {@link ImportTransactionStrategy#TRANSACTION_PER_BATCH} or
+     * {@link ImportTransactionStrategy#TRANSACTION_PER_ENTITY} is used.
+     *
+     * @param streamingImport whether input data is parsed while importing
+     * @return current instance of import configuration
+     */
+    public ImportConfiguration setStreamingImport(boolean streamingImport) {
+        this.streamingImport = streamingImport;
+        return this;
+    }
+
     /**
      * Gets a class of entity to import.
      *
@@ -36,6 +36,7 @@ import java.util.function.Predicate;
  *     <li>Property mappings: list of {@link PropertyMapping}</li>
  *     <li>Transaction strategy: {@link ImportTransactionStrategy}. By default, each entity is imported in the separate transaction.</li>
  *     <li>Import batch size: number of entities that will imported in one batch if {@link ImportTransactionStrategy#TRANSACTION_PER_BATCH} is used. By default, 100. </li>
+ *     <li>Streaming import: whether input data is parsed while importing instead of being parsed completely before import. By default, false.</li>
  *     <li>Date format</li>
  *     <li>Custom formats of boolean true and false values</li>
  *     <li>Pre-import predicate: a predicate that is executed for each extracted entity before import. If the predicate returns false, the entity won't be imported.</li>
@@ -50,6 +51,7 @@ public class ImportConfigurationBuilder {
 
     private ImportTransactionStrategy transactionStrategy;
     private int importBatchSize = 100;
+    private boolean streamingImport;
 
     private String inputDataFormat;
 
@@ -154,6 +156,18 @@ public class ImportConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Sets whether input data is parsed while importing instead of being parsed completely before import.
+     *
+     * @param streamingImport whether input data is parsed while importing
+     * @return current instance of builder
+     * @see ImportConfiguration#setStreamingImport(boolean)
+     */
+    public ImportConfigurationBuilder withStreamingImport(boolean streamingImport) {
+        this.streamingImport = streamingImport;
+        return this;
+    }
+
     /**
      * Creates and adds a property mapping for the reference property mapped by one data field.
      *
@@ -249,6 +263,7 @@ public class ImportConfigurationBuilder {
                 .setBooleanFalseValue(booleanFalseValue)
                 .setTransactionStrategy(this.transactionStrategy)
                 .setImportBatchSize(importBatchSize)
+                .setStreamingImport(streamingImport)
                 .setPropertyMappings(propertyMappings)
                 .setInputDataCharset(this.inputDataCharset)
                 .setPreImportPredicate(this.preImportPredicate)
@@ -44,6 +44,20 @@ public interface ImportedDataExtractor {
      */
     ImportedData extract(ImportConfiguration importConfiguration, byte[] inputData);
 
+    /**
+     * Parses input data specified as input stream lazily: items are parsed while the returned iterator is traversed.
+     * The input stream is not closed by the returned iterator.
+     * <br>
+     * The default implementation parses the whole input data using {@link #extract(ImportConfiguration, InputStream)}.
+     *
+     * @param importConfiguration import configuration
+     * @param inputStream input data
+     * @return an iterator over {@link ImportedDataItem}s with raw values for entity properties
+     */
+    default ImportedDataIterator extractItems(ImportConfiguration importConfiguration, InputStream inputStream) {
+        return ImportedDataIterator.of(extract(importConfiguration, inputStream));
+    }
+
     /**
      * @return supported format of input data
      */
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.dataimport.extractor.data;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * Iterator over {@link ImportedDataItem}s that are parsed from the input data on demand, so the whole input data
+ * is not held in memory. Must be closed after use.
+ *
+ * @see ImportedDataExtractor#extractItems(io.jmix.dataimport.configuration.ImportConfiguration, java.io.InputStream)
+ */
+public interface ImportedDataIterator extends Iterator<ImportedDataItem>, Closeable {
+
+    /**
+     * Creates an iterator over the items of already extracted {@link ImportedData}.
+     *
+     * @param importedData extracted data
+     * @return iterator over the imported data items
+     */
+    static ImportedDataIterator of(ImportedData importedData) {
+        Iterator<ImportedDataItem> iterator = importedData.getItems().iterator();
+        return new ImportedDataIterator() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public ImportedDataItem next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Releases the resources used to parse the input data. The input stream the iterator was created for
+     * is not closed: it is closed by the code that opened it.
+     *
+     * @throws io.jmix.dataimport.exception.ImportException if the input data cannot be closed
+     */
+    @Override
+    void close();
+}
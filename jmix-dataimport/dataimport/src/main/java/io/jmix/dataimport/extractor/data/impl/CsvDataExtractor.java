@@ -24,12 +24,15 @@ import io.jmix.dataimport.exception.ImportException;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractor;
 import io.jmix.dataimport.extractor.data.ImportedDataItem;
-import org.apache.commons.collections4.CollectionUtils;
+import io.jmix.dataimport.extractor.data.ImportedDataIterator;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 @Component("datimp_CsvDataExtractor")
 public class CsvDataExtractor implements ImportedDataExtractor {
@@ -56,33 +59,84 @@ public class CsvDataExtractor implements ImportedDataExtractor {
         return getImportedData(csvReader);
     }
 
+    @Override
+    public ImportedDataIterator extractItems(ImportConfiguration importConfiguration, InputStream inputStream) {
+        CSVReader csvReader;
+        try {
+            csvReader = new CSVReader(new InputStreamReader(inputStream, importConfiguration.getInputDataCharset()));
+        } catch (UnsupportedEncodingException e) {
+            throw new ImportException(e, "Unable to read lines from CSV: " + e.getMessage());
+        }
+        return new CsvDataIterator(csvReader);
+    }
+
     @Override
     public String getSupportedDataFormat() {
         return InputDataFormat.CSV;
     }
 
     protected ImportedData getImportedData(CSVReader csvReader) {
-        List<String[]> strings;
+        ImportedData importedData = new ImportedData();
+        CsvDataIterator iterator = new CsvDataIterator(csvReader);
+        if (!iterator.getColumnNames().isEmpty()) {
+            importedData.setDataFieldNames(iterator.getColumnNames());
+        }
+        iterator.forEachRemaining(importedData::addItem);
+        return importedData;
+    }
+
+    @Nullable
+    protected static String[] readNext(CSVReader csvReader) {
         try {
-            strings = csvReader.readAll();
+            return csvReader.readNext();
         } catch (IOException | CsvException e) {
             throw new ImportException(e, "Unable to read lines from CSV: " + e.getMessage());
         }
-        ImportedData importedData = new ImportedData();
-        if (CollectionUtils.isNotEmpty(strings)) {
-            List<String> columnNames = Arrays.asList(strings.get(0));
-            importedData.setDataFieldNames(columnNames);
-            for (int i = 1; i < strings.size(); i++) {
-                ImportedDataItem importedDataItem = new ImportedDataItem();
-                importedDataItem.setItemIndex(i);
-                String[] values = strings.get(i);
-                for (int j = 0; j < values.length; j++) {
-                    importedDataItem.addRawValue(columnNames.get(j), values[j]);
-                }
-                importedData.addItem(importedDataItem);
+    }
+
+    /**
+     * Reads CSV lines one by one. The first line contains column names.
+     */
+    protected static class CsvDataIterator implements ImportedDataIterator {
+        protected final CSVReader csvReader;
+        protected final List<String> columnNames;
+        protected String[] nextLine;
+        protected int itemIndex = 1;
+
+        public CsvDataIterator(CSVReader csvReader) {
+            this.csvReader = csvReader;
+            String[] header = readNext(csvReader);
+            this.columnNames = header != null ? Arrays.asList(header) : Collections.emptyList();
+            this.nextLine = header != null ? readNext(csvReader) : null;
+        }
+
+        public List<String> getColumnNames() {
+            return columnNames;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextLine != null;
+        }
+
+        @Override
+        public ImportedDataItem next() {
+            if (nextLine == null) {
+                throw new NoSuchElementException();
             }
+            ImportedDataItem importedDataItem = new ImportedDataItem();
+            importedDataItem.setItemIndex(itemIndex++);
+            for (int j = 0; j < nextLine.length; j++) {
+                importedDataItem.addRawValue(columnNames.get(j), nextLine[j]);
+            }
+            nextLine = readNext(csvReader);
+            return importedDataItem;
+        }
 
+        @Override
+        public void close() {
+            // closing the CSV reader would close the input stream which is owned by the caller
+            nextLine = null;
         }
-        return importedData;
     }
 }
@@ -16,13 +16,16 @@
 
 package io.jmix.dataimport.extractor.data.impl;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jmix.dataimport.InputDataFormat;
 import io.jmix.dataimport.configuration.ImportConfiguration;
 import io.jmix.dataimport.exception.ImportException;
 import io.jmix.dataimport.extractor.data.*;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -31,6 +34,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 
 @Component("datimp_JsonDataExtractor")
 public class JsonDataExtractor implements ImportedDataExtractor {
@@ -61,6 +65,27 @@ public class JsonDataExtractor implements ImportedDataExtractor {
         }
     }
 
+    @Override
+    public ImportedDataIterator extractItems(ImportConfiguration importConfiguration, InputStream inputStream) {
+        ObjectMapper mapper = new ObjectMapper();
+        try {
+            JsonParser parser = mapper.getFactory().createParser(inputStream);
+            // the input stream is owned by the caller
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                return new JsonDataIterator(mapper, parser);
+            }
+            try (parser) {
+                JsonNode rootNode = parser.currentToken() != null ? mapper.readTree(parser) : null;
+                return ImportedDataIterator.of(rootNode != null ? getImportedData(rootNode) : new ImportedData());
+            }
+        } catch (JsonProcessingException e) {
+            throw new ImportException(e, "Error while parsing JSON: " + e.getMessage());
+        } catch (IOException e) {
+            throw new ImportException(e, "I/O error: " + e.getMessage());
+        }
+    }
+
     @Override
     public String getSupportedDataFormat() {
         return InputDataFormat.JSON;
@@ -148,5 +173,58 @@ public class JsonDataExtractor implements ImportedDataExtractor {
         return listObject;
     }
 
+    /**
+     * Reads elements of the root JSON array one by one.
+     */
+    protected class JsonDataIterator implements ImportedDataIterator {
+        protected final ObjectMapper mapper;
+        protected final JsonParser parser;
+        protected JsonNode nextNode;
+        protected int itemIndex = 1;
+
+        public JsonDataIterator(ObjectMapper mapper, JsonParser parser) {
+            this.mapper = mapper;
+            this.parser = parser;
+            this.nextNode = readNextNode();
+        }
 
+        @Nullable
+        protected JsonNode readNextNode() {
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                return mapper.readTree(parser);
+            } catch (JsonProcessingException e) {
+                throw new ImportException(e, "Error while parsing JSON: " + e.getMessage());
+            } catch (IOException e) {
+                throw new ImportException(e, "I/O error: " + e.getMessage());
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public ImportedDataItem next() {
+            if (nextNode == null) {
+                throw new NoSuchElementException();
+            }
+            ImportedDataItem importedDataItem = createImportedDataItem(nextNode, itemIndex++);
+            nextNode = readNextNode();
+            return importedDataItem;
+        }
+
+        @Override
+        public void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new ImportException(e, "I/O error: " + e.getMessage());
+            }
+        }
+    }
 }
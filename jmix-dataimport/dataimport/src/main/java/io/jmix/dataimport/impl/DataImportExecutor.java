@@ -31,9 +31,11 @@ import io.jmix.dataimport.configuration.mapping.PropertyMapping;
 import io.jmix.dataimport.configuration.mapping.ReferenceMultiFieldPropertyMapping;
 import io.jmix.dataimport.configuration.mapping.ReferencePropertyMapping;
 import io.jmix.dataimport.configuration.mapping.SimplePropertyMapping;
+import io.jmix.dataimport.exception.ImportException;
 import io.jmix.dataimport.exception.ImportUniqueAbortException;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataItem;
+import io.jmix.dataimport.extractor.data.ImportedDataIterator;
 import io.jmix.dataimport.extractor.entity.EntityExtractionResult;
 import io.jmix.dataimport.extractor.entity.EntityExtractor;
 import io.jmix.dataimport.property.populator.EntityInfo;
@@ -54,11 +56,15 @@ import jakarta.persistence.PersistenceException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
- * Executes import for a given import configuration and {@link ImportedData}.
+ * Executes import for a given import configuration and {@link ImportedData} or {@link ImportedDataIterator}.
  */
 @Component("datimp_DataImportExecutor")
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
@@ -88,12 +94,25 @@ public class DataImportExecutor {
 
     protected ImportConfiguration importConfiguration;
     protected ImportedData importedData;
+    protected ImportedDataIterator importedDataIterator;
+
+    protected Set<Object> importedEntityIds = new HashSet<>();
+    protected Map<UniqueEntityConfiguration, List<Object>> loadedDuplicates;
 
     public DataImportExecutor(ImportConfiguration importConfiguration, ImportedData importedData) {
         this.importConfiguration = importConfiguration;
         this.importedData = importedData;
     }
 
+    /**
+     * Creates an executor that imports the items while they are parsed from the input data.
+     * The iterator is not closed by the executor.
+     */
+    public DataImportExecutor(ImportConfiguration importConfiguration, ImportedDataIterator importedDataIterator) {
+        this.importConfiguration = importConfiguration;
+        this.importedDataIterator = importedDataIterator;
+    }
+
     public ImportResult importData() {
         if (importConfiguration == null) {
             throw new IllegalStateException("Import configuration is not set to execute data import");
@@ -114,7 +133,7 @@ public class DataImportExecutor {
         try {
             List<EntityExtractionResult> extractionResults = null;
             try {
-                extractionResults = entityExtractor.extractEntities(importConfiguration, importedData);
+                extractionResults = entityExtractor.extractEntities(importConfiguration, getImportedData());
             } catch (Exception e) {
                 createErrorResult(e, "Entities extraction failed: " + e.getMessage());
             }
@@ -134,25 +153,25 @@ public class DataImportExecutor {
     }
 
     protected void importByBatches() {
-        int offset = 0;
         int batchSize = importConfiguration.getImportBatchSize();
-        List<ImportedDataItem> allItems = importedData.getItems();
-        while (true) {
-            int end = offset + batchSize;
-            List<ImportedDataItem> importedDataItemsBatch = allItems.subList(offset, Math.min(end, allItems.size()));
-            try {
-                processBatch(importedDataItemsBatch);
-            } catch (ImportUniqueAbortException e) {
-                createErrorResult(e, String.format("Unique violation occurred with Unique Policy ABORT for entity: '%s' with data item: '%s'. Found entity: '%s'",
-                        e.getCreatedEntity(), e.getImportedDataItem(),
-                        e.getExistingEntity()));
-                break;
-            }
-            if (end >= allItems.size()) {
-                break;
-            } else {
-                offset += batchSize;
+        ImportedDataIterator items = getImportedDataIterator();
+        try {
+            while (items.hasNext()) {
+                List<ImportedDataItem> importedDataItemsBatch = new ArrayList<>(batchSize);
+                while (importedDataItemsBatch.size() < batchSize && items.hasNext()) {
+                    importedDataItemsBatch.add(items.next());
+                }
+                try {
+                    processBatch(importedDataItemsBatch);
+                } catch (ImportUniqueAbortException e) {
+                    createErrorResult(e, String.format("Unique violation occurred with Unique Policy ABORT for entity: '%s' with data item: '%s'. Found entity: '%s'",
+                            e.getCreatedEntity(), e.getImportedDataItem(),
+                            e.getExistingEntity()));
+                    break;
+                }
             }
+        } catch (ImportException e) {
+            createErrorResult(e, "Error while reading the input data: " + e.getMessage());
         }
     }
 
@@ -170,11 +189,10 @@ public class DataImportExecutor {
             }
 
             if (extractionResults != null) {
+                loadedDuplicates = loadDuplicates(extractionResults);
                 List<Object> entitiesToImport = checkExtractionResults(extractionResults);
                 Collection<Object> importedEntities = importEntities(entitiesToImport);
-                importedEntities.stream()
-                        .filter(importedEntityId -> !importResult.getImportedEntityIds().contains(importedEntityId))
-                        .forEach(importedEntityId -> importResult.addImportedEntityId(importedEntityId));
+                importedEntities.forEach(this::addImportedEntityId);
             }
         } catch (ImportUniqueAbortException e) {
             throw e;
@@ -188,13 +206,36 @@ public class DataImportExecutor {
                         .setErrorMessage(e.getMessage())));
             }
 
+        } finally {
+            loadedDuplicates = null;
+        }
+    }
+
+    /**
+     * Loads the existing duplicates of all entities of the batch with one query per unique entity configuration.
+     */
+    protected Map<UniqueEntityConfiguration, List<Object>> loadDuplicates(List<EntityExtractionResult> extractionResults) {
+        Map<UniqueEntityConfiguration, List<Object>> duplicates = new HashMap<>();
+        if (CollectionUtils.isNotEmpty(importConfiguration.getUniqueEntityConfigurations()) && !extractionResults.isEmpty()) {
+            FetchPlanBuilder fetchPlanBuilder = fetchPlans.builder(importConfiguration.getEntityClass());
+            List<Object> extractedEntities = new ArrayList<>(extractionResults.size());
+            for (EntityExtractionResult extractionResult : extractionResults) {
+                Object extractedEntity = extractionResult.getEntity();
+                fetchPlanBuilder.merge(getFetchPlanBuilder(createEntityImportPlan(extractedEntity)).build());
+                extractedEntities.add(extractedEntity);
+            }
+            FetchPlan fetchPlan = fetchPlanBuilder.build();
+            for (UniqueEntityConfiguration configuration : importConfiguration.getUniqueEntityConfigurations()) {
+                duplicates.put(configuration, duplicateEntityManager.loadAll(extractedEntities, configuration, fetchPlan));
+            }
         }
+        return duplicates;
     }
 
     protected void importInMultipleTransactions() {
         try {
             importResult.setSuccess(true);
-            importedData.getItems().forEach(dataItem -> {
+            getImportedDataIterator().forEachRemaining(dataItem -> {
                 EntityExtractionResult extractionResult = null;
                 try {
                     extractionResult = entityExtractor.extractEntity(importConfiguration, dataItem);
@@ -218,6 +259,8 @@ public class DataImportExecutor {
                     e.getImportedDataItem(),
                     e.getExistingEntity());
             createErrorResult(e, errorMessage);
+        } catch (ImportException e) {
+            createErrorResult(e, "Error while reading the input data: " + e.getMessage());
         }
     }
 
@@ -291,8 +334,22 @@ public class DataImportExecutor {
 
     @Nullable
     protected Object getDuplicateEntity(Object extractedEntity, UniqueEntityConfiguration configuration, @Nullable List<EntityExtractionResult> processedResults) {
-        FetchPlan fetchPlan = getFetchPlanBuilder(createEntityImportPlan(extractedEntity)).build();
-        Object existingEntity = duplicateEntityManager.load(extractedEntity, configuration, fetchPlan);
+        Object existingEntity;
+        List<Object> duplicates = loadedDuplicates != null ? loadedDuplicates.get(configuration) : null;
+        if (duplicates != null) {
+            existingEntity = duplicates.stream()
+                    .filter(duplicate -> duplicateEntityManager.isDuplicated(extractedEntity, duplicate, configuration))
+                    .findFirst()
+                    .orElse(null);
+            if (existingEntity == null && duplicates.stream()
+                    .anyMatch(duplicate -> isDuplicatedIgnoreCase(extractedEntity, duplicate, configuration))) {
+                // the database may compare strings case-insensitively depending on the collation,
+                // so the database decides whether such a candidate is a duplicate
+                existingEntity = loadDuplicateEntity(extractedEntity, configuration);
+            }
+        } else {
+            existingEntity = loadDuplicateEntity(extractedEntity, configuration);
+        }
         if (existingEntity == null) {
             if (processedResults != null) {
                 EntityExtractionResult duplicateResult = processedResults.stream()
@@ -307,6 +364,28 @@ public class DataImportExecutor {
         return existingEntity;
     }
 
+    @Nullable
+    protected Object loadDuplicateEntity(Object extractedEntity, UniqueEntityConfiguration configuration) {
+        FetchPlan fetchPlan = getFetchPlanBuilder(createEntityImportPlan(extractedEntity)).build();
+        return duplicateEntityManager.load(extractedEntity, configuration, fetchPlan);
+    }
+
+    /**
+     * Checks whether the entities have the same values of unique properties if string values are compared
+     * case-insensitively. Used to detect batch-loaded candidates that the database can consider duplicates
+     * while {@link DuplicateEntityManager#isDuplicated(Object, Object, UniqueEntityConfiguration)} doesn't.
+     */
+    protected boolean isDuplicatedIgnoreCase(Object extractedEntity, Object candidate, UniqueEntityConfiguration configuration) {
+        return configuration.getEntityPropertyNames().stream().allMatch(propertyName -> {
+            Object extractedValue = EntityValues.getValueEx(extractedEntity, propertyName);
+            Object candidateValue = EntityValues.getValueEx(candidate, propertyName);
+            if (extractedValue instanceof String && candidateValue instanceof String) {
+                return ((String) extractedValue).equalsIgnoreCase((String) candidateValue);
+            }
+            return EntityValues.propertyValueEquals(extractedValue, candidateValue);
+        });
+    }
+
     protected boolean checkPreImportPredicate(EntityExtractionResult entityExtractionResult) {
         if (importConfiguration.getPreImportPredicate() != null) {
             boolean needToImport = importConfiguration.getPreImportPredicate().test(entityExtractionResult);
@@ -329,9 +408,7 @@ public class DataImportExecutor {
         try {
             Collection<Object> importedEntities = importEntities(Collections.singletonList(entityExtractionResult.getEntity()));
             Object importedEntityId = importedEntities.iterator().next();
-            if (!importResult.getImportedEntityIds().contains(importedEntityId)) {
-                importResult.addImportedEntityId(importedEntityId);
-            }
+            addImportedEntityId(importedEntityId);
         } catch (EntityValidationException e) {
             log.error(String.format("Import failed for entity: %s, data item: %s",
                     entityImportExport.exportEntitiesToJSON(Collections.singletonList(entityExtractionResult.getEntity())),
@@ -366,6 +443,24 @@ public class DataImportExecutor {
                 .collect(Collectors.toList());
     }
 
+    protected void addImportedEntityId(Object importedEntityId) {
+        if (importedEntityIds.add(importedEntityId)) {
+            importResult.addImportedEntityId(importedEntityId);
+        }
+    }
+
+    protected ImportedData getImportedData() {
+        if (importedData == null) {
+            importedData = new ImportedData();
+            importedDataIterator.forEachRemaining(importedData::addItem);
+        }
+        return importedData;
+    }
+
+    protected ImportedDataIterator getImportedDataIterator() {
+        return importedDataIterator != null ? importedDataIterator : ImportedDataIterator.of(importedData);
+    }
+
     protected EntityImportError createEntityImportErrorResult(EntityExtractionResult result, String errorMessage, EntityImportErrorType entityImportErrorType) {
         return new EntityImportError(result.getEntity())
                 .setImportedDataItem(result.getImportedDataItem())
@@ -18,9 +18,11 @@ package io.jmix.dataimport.impl;
 
 import io.jmix.dataimport.DataImporter;
 import io.jmix.dataimport.configuration.ImportConfiguration;
+import io.jmix.dataimport.configuration.ImportTransactionStrategy;
 import io.jmix.dataimport.extractor.data.ImportedData;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractor;
 import io.jmix.dataimport.extractor.data.ImportedDataExtractors;
+import io.jmix.dataimport.extractor.data.ImportedDataIterator;
 import io.jmix.dataimport.result.ImportResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +30,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 
 @Component("datimp_DataImporter")
@@ -45,6 +48,9 @@ public class DataImporterImpl implements DataImporter {
         try {
             importConfigurationValidator.validate(configuration);
             ImportedDataExtractor dataExtractor = importedDataExtractors.getExtractor(configuration.getInputDataFormat());
+            if (isStreamingImport(configuration)) {
+                return importData(configuration, dataExtractor.extractItems(configuration, new ByteArrayInputStream(content)));
+            }
             ImportedData importedData = dataExtractor.extract(configuration, content);
             return importData(configuration, importedData);
         } catch (Exception e) {
@@ -61,6 +67,9 @@ public class DataImporterImpl implements DataImporter {
         try {
             importConfigurationValidator.validate(configuration);
             ImportedDataExtractor dataExtractor = importedDataExtractors.getExtractor(configuration.getInputDataFormat());
+            if (isStreamingImport(configuration)) {
+                return importData(configuration, dataExtractor.extractItems(configuration, inputStream));
+            }
             ImportedData importedData = dataExtractor.extract(configuration, inputStream);
             return importData(configuration, importedData);
         } catch (Exception e) {
@@ -77,4 +86,16 @@ public class DataImporterImpl implements DataImporter {
         return dataImportExecutor.importData();
     }
 
+    protected ImportResult importData(ImportConfiguration configuration, ImportedDataIterator importedDataIterator) {
+        try (importedDataIterator) {
+            DataImportExecutor dataImportExecutor = dataImportExecutors.getObject(configuration, importedDataIterator);
+            return dataImportExecutor.importData();
+        }
+    }
+
+    protected boolean isStreamingImport(ImportConfiguration configuration) {
+        return configuration.isStreamingImport()
+                && configuration.getTransactionStrategy() != ImportTransactionStrategy.SINGLE_TRANSACTION;
+    }
+
 }
@@ -28,8 +28,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Component("datimp_DuplicateEntityManager")
 public class DuplicateEntityManagerImpl implements DuplicateEntityManager {
@@ -50,6 +55,54 @@ public class DuplicateEntityManagerImpl implements DuplicateEntityManager {
         return loadByCondition(entity.getClass(), fetchPlan, condition);
     }
 
+    /**
+     * Loads possible duplicates of all entities with one query containing an {@code IN} condition for each unique property.
+     * Entities having null values of unique properties are processed separately.
+     */
+    @Override
+    public List<Object> loadAll(Collection<?> entities, UniqueEntityConfiguration configuration, FetchPlan fetchPlan) {
+        List<Object> result = new ArrayList<>();
+        List<String> propertyNames = configuration.getEntityPropertyNames();
+        if (entities.isEmpty() || CollectionUtils.isEmpty(propertyNames)) {
+            return result;
+        }
+
+        Map<String, Set<Object>> valuesByProperties = new LinkedHashMap<>();
+        List<Object> entitiesWithNullValues = new ArrayList<>();
+        for (Object entity : entities) {
+            List<Object> values = new ArrayList<>(propertyNames.size());
+            for (String propertyName : propertyNames) {
+                values.add(EntityValues.getValueEx(entity, propertyName));
+            }
+            if (values.contains(null)) {
+                entitiesWithNullValues.add(entity);
+            } else {
+                for (int i = 0; i < propertyNames.size(); i++) {
+                    valuesByProperties.computeIfAbsent(propertyNames.get(i), name -> new LinkedHashSet<>()).add(values.get(i));
+                }
+            }
+        }
+
+        if (!valuesByProperties.isEmpty()) {
+            Class entityClass = entities.iterator().next().getClass();
+            LogicalCondition condition = LogicalCondition.and();
+            valuesByProperties.forEach((propertyName, values) ->
+                    condition.add(PropertyCondition.inList(propertyName, new ArrayList<>(values))));
+            List<Object> loadedEntities = dataManager.load(entityClass)
+                    .condition(condition)
+                    .fetchPlan(fetchPlan)
+                    .list();
+            result.addAll(loadedEntities);
+        }
+        for (Object entity : entitiesWithNullValues) {
+            Object existingEntity = load(entity, configuration, fetchPlan);
+            if (existingEntity != null && !result.contains(existingEntity)) {
+                result.add(existingEntity);
+            }
+        }
+        return result;
+    }
+
     @Override
     public boolean isDuplicated(Object firstEntity, Object secondEntity, UniqueEntityConfiguration configuration) {
         return !findNotEqualValue(firstEntity, secondEntity, configuration);
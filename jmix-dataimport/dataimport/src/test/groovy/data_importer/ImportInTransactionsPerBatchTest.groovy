@@ -38,6 +38,8 @@ import test_support.entity.OrderLine
 import test_support.entity.PaymentType
 import test_support.entity.Product
 
+import java.util.concurrent.atomic.AtomicBoolean
+
 class ImportInTransactionsPerBatchTest extends DataImportSpec {
 
     @Autowired
@@ -618,4 +620,62 @@ class ImportInTransactionsPerBatchTest extends DataImportSpec {
         def customer2 = loadEntity(Customer, importResult.importedEntityIds[1], FetchPlan.LOCAL) as Customer
         checkCustomer(customer2, 'Tom Smith', 't.smith@mail.com', CustomerGrade.BRONZE)
     }
+
+    def 'test streaming import with unique entity configuration'() {
+        given:
+        def existingCustomer = dataManager.create(Customer)
+        existingCustomer.name = 'Tom Smith'
+        existingCustomer.email = 'tom@mail.com'
+        dataManager.save(existingCustomer)
+
+        def importConfig = ImportConfiguration.builder(Customer, InputDataFormat.CSV)
+                .addSimplePropertyMapping("name", "Name")
+                .addSimplePropertyMapping("email", "Email")
+                .withTransactionStrategy(ImportTransactionStrategy.TRANSACTION_PER_BATCH)
+                .withStreamingImport(true)
+                .addUniqueEntityConfiguration(DuplicateEntityPolicy.SKIP, Arrays.asList("name"))
+                .build()
+        InputStream csvContent = resources.getResourceAsStream("/test_support/input_data_files/csv/customers.csv")
+
+        when: 'data imported'
+        def importResult = dataImporter.importData(importConfig, csvContent)
+
+        then:
+        importResult.success
+        importResult.importedEntityIds.size() == 1
+        importResult.failedEntities.size() == 1
+        importResult.failedEntities[0].errorType == EntityImportErrorType.UNIQUE_VIOLATION
+
+        def customer = loadEntity(Customer, importResult.importedEntityIds[0], FetchPlan.LOCAL) as Customer
+        checkCustomer(customer, 'John Smith', 'j.smith@mail.com', null)
+    }
+
+    def 'test streaming import does not close input stream'() {
+        given:
+        def importConfig = ImportConfiguration.builder(Customer, InputDataFormat.CSV)
+                .addSimplePropertyMapping("name", "Name")
+                .addSimplePropertyMapping("email", "Email")
+                .withTransactionStrategy(ImportTransactionStrategy.TRANSACTION_PER_BATCH)
+                .withStreamingImport(true)
+                .build()
+        def closed = new AtomicBoolean()
+        InputStream csvContent = new FilterInputStream(resources.getResourceAsStream("/test_support/input_data_files/csv/customers.csv")) {
+            @Override
+            void close() throws IOException {
+                closed.set(true)
+                super.close()
+            }
+        }
+
+        when: 'data imported'
+        def importResult = dataImporter.importData(importConfig, csvContent)
+
+        then:
+        importResult.success
+        importResult.importedEntityIds.size() == 2
+        !closed.get()
+
+        cleanup:
+        csvContent.close()
+    }
 }
@@ -17,6 +17,7 @@
 package io.jmix.dynattr.impl;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import io.jmix.core.*;
 import io.jmix.core.accesscontext.CrudEntityContext;
@@ -83,8 +84,20 @@ public class DynAttrManagerImpl implements DynAttrManager {
     public void storeValues(Collection<Object> entities, Collection<AccessConstraint<?>> accessConstraints) {
         storeAwareLocator.getTransactionTemplate(dynamicAttributesStore)
                 .executeWithoutResult(status -> {
-                    for (Object entity : entities) {
-                        doStoreValues(entity, accessConstraints);
+                    Multimap<MetaClass, Object> entitiesToStore = collectEntitiesToStore(entities);
+                    for (MetaClass metaClass : entitiesToStore.keySet()) {
+                        Collection<Object> classEntities = entitiesToStore.get(metaClass);
+                        List<Object> ids = classEntities.stream()
+                                .map(e -> referenceToEntitySupport.getReferenceId(e))
+                                .collect(Collectors.toList());
+
+                        Multimap<Object, CategoryAttributeValue> attributeValues =
+                                loadValuesInBatches(metaClass, accessConstraints, ids);
+
+                        for (Object entity : classEntities) {
+                            doStoreValues(entity, metaClass,
+                                    attributeValues.get(referenceToEntitySupport.getReferenceId(entity)));
+                        }
                     }
                 });
     }
@@ -111,8 +124,30 @@ public class DynAttrManagerImpl implements DynAttrManager {
         }
     }
 
+    /**
+     * Returns entities having changed dynamic attributes, grouped by their meta-classes.
+     */
+    protected Multimap<MetaClass, Object> collectEntitiesToStore(Collection<Object> entities) {
+        Multimap<MetaClass, Object> result = LinkedHashMultimap.create();
+        for (Object entity : entities) {
+            DynamicAttributesState state = getExtraState(entity, DynamicAttributesState.class);
+            if (state != null
+                    && state.getDynamicAttributes() != null
+                    && state.getDynamicAttributes().getChanges().hasChanges()) {
+                result.put(metadata.getClass(entity), entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies changes of dynamic attributes of the entity to the given existing attribute values and persists
+     * values of the new attributes.
+     *
+     * @param attributeValues existing values of dynamic attributes of the entity
+     */
     @SuppressWarnings("unchecked")
-    protected void doStoreValues(Object entity, Collection<AccessConstraint<?>> accessConstraints) {
+    protected void doStoreValues(Object entity, MetaClass metaClass, Collection<CategoryAttributeValue> attributeValues) {
         DynamicAttributesState state = getExtraState(entity, DynamicAttributesState.class);
         if (state != null && state.getDynamicAttributes() != null) {
             EntityManager entityManager = storeAwareLocator.getEntityManager(dynamicAttributesStore);
@@ -122,10 +157,6 @@ public class DynAttrManagerImpl implements DynAttrManager {
 
             if (changes.hasChanges()) {
 
-                MetaClass metaClass = metadata.getClass(entity);
-                List<CategoryAttributeValue> attributeValues = loadValues(metaClass, accessConstraints,
-                        Collections.singletonList(referenceToEntitySupport.getReferenceId(entity)));
-
                 for (CategoryAttributeValue attributeValue : attributeValues) {
                     String attributeName = attributeValue.getCode();
                     if (changes.isDeleted(attributeName)) {
@@ -140,7 +171,7 @@ public class DynAttrManagerImpl implements DynAttrManager {
                     }
                 }
 
-                List<String> existing = attributeValues.stream().map(CategoryAttributeValue::getCode).collect(Collectors.toList());
+                Set<String> existing = attributeValues.stream().map(CategoryAttributeValue::getCode).collect(Collectors.toSet());
                 List<String> toPersist = Stream.concat(
                                 changes.getCreated().keySet().stream(),
                                 changes.getUpdated().keySet().stream().filter(a -> !existing.contains(a))) //Haulmont/jmix-data#43
@@ -216,23 +247,7 @@ public class DynAttrManagerImpl implements DynAttrManager {
                     .map(e -> referenceToEntitySupport.getReferenceId(e))
                     .collect(Collectors.toList());
 
-            Multimap<Object, CategoryAttributeValue> allAttributeValues = HashMultimap.create();
-
-            List<Object> currentIds = new ArrayList<>();
-            for (Object id : ids) {
-                currentIds.add(id);
-                if (currentIds.size() >= MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH) {
-                    for (CategoryAttributeValue attributeValue : loadValues(metaClass, accessConstraints, currentIds)) {
-                        allAttributeValues.put(attributeValue.getObjectEntityId(), attributeValue);
-                    }
-                    currentIds = new ArrayList<>();
-                }
-            }
-            if (!currentIds.isEmpty()) {
-                for (CategoryAttributeValue attributeValue : loadValues(metaClass, accessConstraints, currentIds)) {
-                    allAttributeValues.put(attributeValue.getObjectEntityId(), attributeValue);
-                }
-            }
+            Multimap<Object, CategoryAttributeValue> allAttributeValues = loadValuesInBatches(metaClass, accessConstraints, ids);
 
             for (Object entity : entities) {
                 Collection<CategoryAttributeValue> values = allAttributeValues.get(referenceToEntitySupport.getReferenceId(entity));
@@ -253,6 +268,35 @@ public class DynAttrManagerImpl implements DynAttrManager {
         }
     }
 
+    /**
+     * Loads values of dynamic attributes of the given entities by {@link #MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH}
+     * entities per query.
+     *
+     * @return values by entity ids
+     */
+    protected Multimap<Object, CategoryAttributeValue> loadValuesInBatches(MetaClass metaClass,
+                                                                           Collection<AccessConstraint<?>> accessConstraints,
+                                                                           List<Object> entityIds) {
+        Multimap<Object, CategoryAttributeValue> allAttributeValues = HashMultimap.create();
+
+        List<Object> currentIds = new ArrayList<>();
+        for (Object id : entityIds) {
+            currentIds.add(id);
+            if (currentIds.size() >= MAX_ENTITIES_FOR_ATTRIBUTE_VALUES_BATCH) {
+                for (CategoryAttributeValue attributeValue : loadValues(metaClass, accessConstraints, currentIds)) {
+                    allAttributeValues.put(attributeValue.getObjectEntityId(), attributeValue);
+                }
+                currentIds = new ArrayList<>();
+            }
+        }
+        if (!currentIds.isEmpty()) {
+            for (CategoryAttributeValue attributeValue : loadValues(metaClass, accessConstraints, currentIds)) {
+                allAttributeValues.put(attributeValue.getObjectEntityId(), attributeValue);
+            }
+        }
+        return allAttributeValues;
+    }
+
     protected List<CategoryAttributeValue> loadValues(MetaClass metaClass, Collection<AccessConstraint<?>> accessConstraints,
                                                       List<Object> entityIds) {
 
@@ -271,6 +271,44 @@ class DynamicAttributesTest extends Specification {
         EntityValues.getValue(user, '+userAttribute') == 'userName'
     }
 
+    def "save several users with dynamic attributes at once"() {
+        setup:
+
+        def loadedUser1 = dataManager.load(User)
+                .id(user1.id)
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .one()
+        def newUsers = (1..3).collect {
+            User user = metadata.create(User)
+            user.login = "batchUser$it"
+            EntityValues.setValue(user, '+userAttribute', "batchUserName$it".toString())
+            EntityValues.setValue(user, '+userIntCollectionAttribute', [it, it + 1])
+            user
+        }
+
+        when:
+
+        EntityValues.setValue(loadedUser1, '+userAttribute', 'changedName')
+        EntityValues.setValue(loadedUser1, '+userIntCollectionAttribute', [7])
+        dataManager.save(new SaveContext().saving(newUsers + loadedUser1))
+
+        def users = dataManager.load(User)
+                .ids(newUsers*.id + user1.id)
+                .hint(DynAttrQueryHints.LOAD_DYN_ATTR, true)
+                .list()
+
+        then:
+        def savedUser1 = users.find { it.id == user1.id }
+        EntityValues.getValue(savedUser1, '+userAttribute') == 'changedName'
+        EntityValues.getValue(savedUser1, '+userIntCollectionAttribute') as List == [7]
+
+        (1..3).every { i ->
+            def user = users.find { it.login == "batchUser$i" }
+            EntityValues.getValue(user, '+userAttribute') == "batchUserName$i" &&
+                    (EntityValues.getValue(user, '+userIntCollectionAttribute') as Set) == [i, i + 1] as Set
+        }
+    }
+
     def "load nested dynamic attributes"() {
         setup:
 
@@ -19,6 +19,10 @@ package io.jmix.email;
 import io.jmix.email.entity.SendingMessage;
 
 import jakarta.mail.MessagingException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Adapter to javax.mail email sending API.
  * <br>
@@ -34,4 +38,22 @@ public interface EmailSender {
      * @throws MessagingException if delivery fails
      */
     void sendEmail(SendingMessage sendingMessage) throws MessagingException;
+
+    /**
+     * Sends the given emails, reusing a single connection to the mail server for all of them if possible.
+     * Message bodies and attachments' content must be loaded from file storage.
+     *
+     * @return exceptions of the messages that have not been sent, all other messages have been delivered
+     */
+    default Map<SendingMessage, Exception> sendEmails(List<SendingMessage> sendingMessages) {
+        Map<SendingMessage, Exception> failures = new LinkedHashMap<>();
+        for (SendingMessage sendingMessage : sendingMessages) {
+            try {
+                sendEmail(sendingMessage);
+            } catch (Exception e) {
+                failures.put(sendingMessage, e);
+            }
+        }
+        return failures;
+    }
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ package io.jmix.email;
 
 import io.jmix.email.entity.SendingAttachment;
 import io.jmix.email.entity.SendingMessage;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
@@ -118,6 +119,19 @@ public class EmailerProperties {
      */
     boolean cleanFileStorage;
 
+    /**
+     * Whether queued messages are sent in batches: messages are grouped by sender and each batch is sent over a single
+     * connection to the mail server, statuses of a batch are updated in one transaction.
+     */
+    boolean batchSendingEnabled;
+
+    /**
+     * Maximum number of connections to the mail server used to send queued messages in parallel if
+     * {@link #batchSendingEnabled} is true.
+     */
+    @Positive
+    int batchSendingConnections;
+
     public EmailerProperties(@DefaultValue("DoNotReply@localhost") String fromAddress,
                              @DefaultValue("2") int scheduledSendingDelayCallCount,
                              @DefaultValue("100") int messageQueueCapacity,
@@ -131,7 +145,9 @@ public class EmailerProperties {
                              @DefaultValue("0") int maxAgeOfImportantMessages,
                              @DefaultValue("0") int maxAgeOfNonImportantMessages,
                              @DefaultValue("0 0 0 * * ?") String emailCleaningCron,
-                             @DefaultValue("false") boolean cleanFileStorage) {
+                             @DefaultValue("false") boolean cleanFileStorage,
+                             @DefaultValue("false") boolean batchSendingEnabled,
+                             @DefaultValue("3") int batchSendingConnections) {
         this.fromAddress = fromAddress;
         this.scheduledSendingDelayCallCount = scheduledSendingDelayCallCount;
         this.messageQueueCapacity = messageQueueCapacity;
@@ -146,6 +162,8 @@ public class EmailerProperties {
         this.maxAgeOfNonImportantMessages = maxAgeOfNonImportantMessages;
         this.emailCleaningCron = emailCleaningCron;
         this.cleanFileStorage = cleanFileStorage;
+        this.batchSendingEnabled = batchSendingEnabled;
+        this.batchSendingConnections = batchSendingConnections;
     }
 
     /**
@@ -259,4 +277,18 @@ public class EmailerProperties {
     public boolean getCleanFileStorage() {
         return cleanFileStorage;
     }
+
+    /**
+     * @see #batchSendingEnabled
+     */
+    public boolean isBatchSendingEnabled() {
+        return batchSendingEnabled;
+    }
+
+    /**
+     * @see #batchSendingConnections
+     */
+    public int getBatchSendingConnections() {
+        return batchSendingConnections;
+    }
 }
@@ -28,10 +28,14 @@ import io.jmix.email.entity.SendingMessage;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.angus.mail.smtp.SMTPAddressFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.stereotype.Component;
 
 import jakarta.activation.DataHandler;
@@ -39,10 +43,17 @@ import jakarta.activation.DataSource;
 import jakarta.mail.Message;
 import jakarta.mail.MessagingException;
 import jakarta.mail.Part;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
 import jakarta.mail.internet.*;
 import java.io.*;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component("email_EmailSender")
 public class EmailSenderImpl implements EmailSender {
@@ -72,6 +83,115 @@ public class EmailSenderImpl implements EmailSender {
         log.info("Email '{}' to '{}' has been sent successfully", msg.getSubject(), sendingMessage.getAddress());
     }
 
+    /**
+     * Sends the messages over a single connection to the mail server if {@link JavaMailSenderImpl} is used,
+     * reconnecting only if the connection is broken. Records the duration of the connection, the number of messages
+     * sent over it and its throughput in messages per second.
+     */
+    @Override
+    public Map<SendingMessage, Exception> sendEmails(List<SendingMessage> sendingMessages) {
+        if (!(mailSender instanceof JavaMailSenderImpl)) {
+            return EmailSender.super.sendEmails(sendingMessages);
+        }
+        JavaMailSenderImpl javaMailSender = (JavaMailSenderImpl) mailSender;
+
+        Map<SendingMessage, Exception> failures = new LinkedHashMap<>();
+        Transport transport = null;
+        int sentCount = 0;
+        Timer.Sample connectionSample = Timer.start(meterRegistry);
+        try {
+            for (int i = 0; i < sendingMessages.size(); i++) {
+                SendingMessage sendingMessage = sendingMessages.get(i);
+                MimeMessage msg;
+                try {
+                    msg = createMimeMessage(sendingMessage);
+                } catch (Exception e) {
+                    failures.put(sendingMessage, e);
+                    continue;
+                }
+
+                if (transport == null) {
+                    try {
+                        transport = connectTransport(javaMailSender);
+                    } catch (Exception e) {
+                        MailSendException exception = new MailSendException("Unable to connect to mail server", e);
+                        for (SendingMessage notSentMessage : sendingMessages.subList(i, sendingMessages.size())) {
+                            failures.put(notSentMessage, exception);
+                        }
+                        break;
+                    }
+                }
+
+                try {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    transport.sendMessage(msg, msg.getAllRecipients());
+                    sample.stop(meterRegistry.timer("jmix.EmailSender.send"));
+                    sentCount++;
+
+                    log.info("Email '{}' to '{}' has been sent successfully", msg.getSubject(), sendingMessage.getAddress());
+                } catch (SendFailedException e) {
+                    // the server has rejected the message, the connection can be used further
+                    failures.put(sendingMessage, toMailSendException(e));
+                } catch (Exception e) {
+                    failures.put(sendingMessage, new MailSendException("Unable to send message", e));
+                    closeTransport(transport);
+                    transport = null;
+                }
+            }
+        } finally {
+            closeTransport(transport);
+            long duration = connectionSample.stop(meterRegistry.timer("jmix.EmailSender.connection"));
+            meterRegistry.summary("jmix.EmailSender.connection.messages").record(sentCount);
+            if (duration > 0) {
+                meterRegistry.summary("jmix.EmailSender.connection.throughput")
+                        .record(sentCount * (double) TimeUnit.SECONDS.toNanos(1) / duration);
+            }
+        }
+        return failures;
+    }
+
+    protected Transport connectTransport(JavaMailSenderImpl javaMailSender) throws MessagingException {
+        Session session = javaMailSender.getSession();
+        String protocol = javaMailSender.getProtocol();
+        if (protocol == null) {
+            protocol = session.getProperty("mail.transport.protocol");
+            if (protocol == null) {
+                protocol = JavaMailSenderImpl.DEFAULT_PROTOCOL;
+            }
+        }
+        String username = javaMailSender.getUsername();
+        String password = javaMailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+
+        Transport transport = session.getTransport(protocol);
+        transport.connect(javaMailSender.getHost(), javaMailSender.getPort(), username, password);
+        return transport;
+    }
+
+    protected void closeTransport(@Nullable Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Unable to close connection to mail server", e);
+        }
+    }
+
+    /**
+     * Keeps the rejected recipient as the cause, so the message is not retried.
+     */
+    protected MailSendException toMailSendException(SendFailedException e) {
+        Exception cause = e.getNextException() instanceof SMTPAddressFailedException ? e.getNextException() : e;
+        return new MailSendException(e.getMessage(), cause);
+    }
+
     protected MimeMessage createMimeMessage(SendingMessage sendingMessage) throws MessagingException {
         MimeMessage msg = mailSender.createMimeMessage();
         assignRecipient(Message.RecipientType.TO, sendingMessage.getAddress(), msg);
@@ -16,6 +16,7 @@
 package io.jmix.email.impl;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Lists;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.security.SystemAuthenticator;
@@ -281,7 +282,11 @@ public class EmailerImpl implements Emailer {
         List<SendingMessage> messagesToSend = emailDataProvider.loadEmailsToSend();
         log.trace("Found {} messages to be sent", messagesToSend.size());
 
-        messagesToSend.forEach(this::submitExecutorTask);
+        if (emailerProperties.isBatchSendingEnabled()) {
+            splitIntoBatches(messagesToSend).forEach(this::submitBatchExecutorTask);
+        } else {
+            messagesToSend.forEach(this::submitExecutorTask);
+        }
 
         if (messagesToSend.isEmpty()) {
             return "";
@@ -304,6 +309,105 @@ public class EmailerImpl implements Emailer {
         }
     }
 
+    /**
+     * Groups messages by sender and splits them into at most {@link EmailerProperties#getBatchSendingConnections()}
+     * batches, each of them is sent over its own connection. If there are fewer senders than connections, each batch
+     * contains messages of a single sender and the spare connections are given to the senders with most messages.
+     * Otherwise, all messages of a sender are put into the same batch.
+     */
+    protected List<List<SendingMessage>> splitIntoBatches(List<SendingMessage> messages) {
+        if (messages.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Map<String, List<SendingMessage>> messagesBySender = new LinkedHashMap<>();
+        for (SendingMessage message : messages) {
+            messagesBySender.computeIfAbsent(message.getFrom(), from -> new ArrayList<>()).add(message);
+        }
+        List<List<SendingMessage>> senderGroups = new ArrayList<>(messagesBySender.values());
+        senderGroups.sort(Comparator.<List<SendingMessage>>comparingInt(List::size).reversed());
+
+        int connections = Math.max(1, emailerProperties.getBatchSendingConnections());
+        if (senderGroups.size() >= connections) {
+            return packIntoBatches(senderGroups, connections);
+        }
+
+        int[] groupConnections = new int[senderGroups.size()];
+        Arrays.fill(groupConnections, 1);
+        for (int i = senderGroups.size(); i < connections; i++) {
+            // the group with the most messages per connection gets the next one
+            int busiest = 0;
+            for (int j = 1; j < senderGroups.size(); j++) {
+                if ((long) senderGroups.get(j).size() * groupConnections[busiest]
+                        > (long) senderGroups.get(busiest).size() * groupConnections[j]) {
+                    busiest = j;
+                }
+            }
+            groupConnections[busiest]++;
+        }
+
+        List<List<SendingMessage>> batches = new ArrayList<>(connections);
+        for (int i = 0; i < senderGroups.size(); i++) {
+            List<SendingMessage> group = senderGroups.get(i);
+            int batchSize = (group.size() + groupConnections[i] - 1) / groupConnections[i];
+            batches.addAll(Lists.partition(group, batchSize));
+        }
+        return batches;
+    }
+
+    /**
+     * Distributes the sender groups between the given number of batches, putting the largest groups first
+     * into the smallest batch.
+     *
+     * @param senderGroups messages grouped by sender, sorted by group size in descending order
+     */
+    protected List<List<SendingMessage>> packIntoBatches(List<List<SendingMessage>> senderGroups, int batchCount) {
+        List<List<SendingMessage>> batches = new ArrayList<>(batchCount);
+        for (int i = 0; i < batchCount; i++) {
+            batches.add(new ArrayList<>());
+        }
+        for (List<SendingMessage> group : senderGroups) {
+            List<SendingMessage> smallest = Collections.min(batches, Comparator.comparingInt(List::size));
+            smallest.addAll(group);
+        }
+        return batches;
+    }
+
+    protected void submitBatchExecutorTask(List<SendingMessage> messages) {
+        try {
+            Runnable mailSendTask = applicationContext.getBean(EmailBatchSendTask.class, messages);
+            mailSendTaskExecutor.execute(mailSendTask);
+        } catch (RejectedExecutionException e) {
+            emailDataProvider.updateStatuses(toStatuses(messages, SendingStatus.QUEUE));
+        } catch (Exception e) {
+            log.error("Exception while sending {} emails: ", messages.size(), e);
+
+            SendingStatus newStatus = isNeedToRetry(e) ? SendingStatus.QUEUE : SendingStatus.NOT_SENT;
+            emailDataProvider.updateStatuses(toStatuses(messages, newStatus));
+        }
+    }
+
+    protected void sendSendingMessages(List<SendingMessage> sendingMessages) {
+        Map<SendingMessage, Exception> failures = emailSender.sendEmails(sendingMessages);
+
+        Map<SendingMessage, SendingStatus> statuses = new LinkedHashMap<>();
+        for (SendingMessage sendingMessage : sendingMessages) {
+            Exception e = failures.get(sendingMessage);
+            if (e == null) {
+                statuses.put(sendingMessage, SendingStatus.SENT);
+            } else {
+                log.warn("Unable to send email to '{}'", sendingMessage.getAddress(), e);
+                statuses.put(sendingMessage, isNeedToRetry(e) ? SendingStatus.QUEUE : SendingStatus.NOT_SENT);
+            }
+        }
+        emailDataProvider.updateStatuses(statuses);
+    }
+
+    protected Map<SendingMessage, SendingStatus> toStatuses(List<SendingMessage> messages, SendingStatus status) {
+        Map<SendingMessage, SendingStatus> statuses = new LinkedHashMap<>();
+        messages.forEach(message -> statuses.put(message, status));
+        return statuses;
+    }
+
     protected String getContentBodyType(SendingMessage sendingMessage) {
         String bodyContentType;
         String text = sendingMessage.getContentText();
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package email_batch
+
+import io.jmix.core.UnconstrainedDataManager
+import io.jmix.email.*
+import io.jmix.email.entity.SendingMessage
+import io.jmix.email.impl.EmailerImpl
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.EmailSpecification
+import test_support.TestMailSender
+import test_support.TestSmtpServer
+
+class EmailBatchSendingTest extends EmailSpecification {
+
+    @Autowired
+    Emailer emailer
+
+    @Autowired
+    EmailerProperties emailerProperties
+
+    @Autowired
+    TestMailSender testMailSender
+
+    @Autowired
+    UnconstrainedDataManager dataManager
+
+    TestSmtpServer smtpServer
+
+    def setup() {
+        smtpServer = new TestSmtpServer()
+        testMailSender.host = '127.0.0.1'
+        testMailSender.port = smtpServer.port
+
+        EmailerConfigPropertiesAccess.setScheduledSendingDelayCallCount(emailerProperties, 0)
+        EmailerConfigPropertiesAccess.setBatchSendingEnabled(emailerProperties, true)
+        EmailerConfigPropertiesAccess.setBatchSendingConnections(emailerProperties, 2)
+    }
+
+    def cleanup() {
+        EmailerConfigPropertiesAccess.setBatchSendingEnabled(emailerProperties, false)
+        EmailerConfigPropertiesAccess.setBatchSendingConnections(emailerProperties, 3)
+        testMailSender.host = null
+        testMailSender.port = -1
+        smtpServer.close()
+    }
+
+    def "queued messages are sent over a connection per batch"() {
+        given:
+        def messages = (1..6).collect { i ->
+            emailer.sendEmailAsync(EmailInfoBuilder.create("user${i}@example.com".toString(), "Subject $i".toString(), "Body $i".toString())
+                    .setFrom(i % 2 == 0 ? 'news@example.com' : 'support@example.com')
+                    .build())
+        }
+
+        when:
+        emailer.processQueuedEmails()
+
+        then:
+        smtpServer.connectionCount == 2
+        smtpServer.receivedMessages.size() == 6
+
+        messages.every { reload(it).status == SendingStatus.SENT }
+        messages.every { reload(it).attemptsMade == 1 }
+    }
+
+    def "messages are split into batches by sender"() {
+        given:
+        EmailerConfigPropertiesAccess.setBatchSendingConnections(emailerProperties, 3)
+        def messages = (1..6).collect { i ->
+            def message = dataManager.create(SendingMessage)
+            message.from = i <= 4 ? 'news@example.com' : 'support@example.com'
+            message
+        }
+
+        when:
+        List<List<SendingMessage>> batches = ((EmailerImpl) emailer).splitIntoBatches(messages)
+
+        then: "the sender with more messages gets the spare connection"
+        batches*.size() == [2, 2, 2]
+        batches.every { batch -> batch*.from.toSet().size() == 1 }
+        batches.count { it[0].from == 'news@example.com' } == 2
+
+        when: "there are more senders than connections"
+        EmailerConfigPropertiesAccess.setBatchSendingConnections(emailerProperties, 1)
+        batches = ((EmailerImpl) emailer).splitIntoBatches(messages)
+
+        then:
+        batches.size() == 1
+        batches[0].size() == 6
+    }
+
+    def "rejected message is not sent and does not break the batch"() {
+        given:
+        EmailerConfigPropertiesAccess.setBatchSendingConnections(emailerProperties, 1)
+
+        def sent1 = emailer.sendEmailAsync(EmailInfoBuilder.create('first@example.com', 'First', 'Body').build())
+        def rejected = emailer.sendEmailAsync(EmailInfoBuilder.create("${TestSmtpServer.REJECTED_RECIPIENT_MARKER}@example.com".toString(), 'Rejected', 'Body').build())
+        def sent2 = emailer.sendEmailAsync(EmailInfoBuilder.create('second@example.com', 'Second', 'Body').build())
+
+        when:
+        emailer.processQueuedEmails()
+
+        then:
+        smtpServer.connectionCount == 1
+        smtpServer.receivedMessages.size() == 2
+
+        reload(sent1).status == SendingStatus.SENT
+        reload(sent2).status == SendingStatus.SENT
+        reload(rejected).status == SendingStatus.NOT_SENT
+    }
+
+    def "messages are returned to the queue if the mail server is not available"() {
+        given:
+        smtpServer.close()
+        def message = emailer.sendEmailAsync(EmailInfoBuilder.create('user@example.com', 'Subject', 'Body').build())
+
+        when:
+        emailer.processQueuedEmails()
+
+        then:
+        reload(message).status == SendingStatus.QUEUE
+        reload(message).attemptsMade == 1
+    }
+
+    private SendingMessage reload(SendingMessage message) {
+        dataManager.load(SendingMessage).id(message.id).one()
+    }
+}
@@ -47,4 +47,12 @@ public class EmailerConfigPropertiesAccess {
     public static void setCleanFileStorage(EmailerProperties properties, boolean cleanFileStorage) {
         properties.cleanFileStorage = cleanFileStorage;
     }
+
+    public static void setBatchSendingEnabled(EmailerProperties properties, boolean batchSendingEnabled) {
+        properties.batchSendingEnabled = batchSendingEnabled;
+    }
+
+    public static void setBatchSendingConnections(EmailerProperties properties, int batchSendingConnections) {
+        properties.batchSendingConnections = batchSendingConnections;
+    }
 }
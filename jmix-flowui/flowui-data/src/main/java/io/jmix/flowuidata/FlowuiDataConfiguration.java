@@ -31,9 +31,11 @@ import io.jmix.flowui.UiComponentProperties;
 import io.jmix.flowui.UiComponents;
 import io.jmix.flowui.component.genericfilter.FilterMetadataTools;
 import io.jmix.flowui.component.genericfilter.GenericFilterSupport;
+import io.jmix.flowui.data.aggregation.impl.AggregationQuerySupport;
 import io.jmix.flowui.model.DataComponents;
 import io.jmix.flowui.sys.ActionsConfiguration;
 import io.jmix.flowui.sys.ViewControllersConfiguration;
+import io.jmix.flowuidata.aggregation.UiDataAggregationQuerySupport;
 import io.jmix.flowuidata.genericfilter.GenericFilterConfigurationConverter;
 import io.jmix.flowuidata.genericfilter.UiDataFilterMetadataTools;
 import io.jmix.flowuidata.genericfilter.UiDataGenericFilterSupport;
@@ -92,4 +94,11 @@ public class FlowuiDataConfiguration {
         return new UiDataFilterMetadataTools(metadataTools, uiComponentProperties, accessManager,
                 queryTransformerFactory, metadata);
     }
+
+    @Bean("flowui_UiDataAggregationQuerySupport")
+    @Primary
+    public AggregationQuerySupport aggregationQuerySupport(MetadataTools metadataTools,
+                                                           QueryTransformerFactory queryTransformerFactory) {
+        return new UiDataAggregationQuerySupport(metadataTools, queryTransformerFactory);
+    }
 }
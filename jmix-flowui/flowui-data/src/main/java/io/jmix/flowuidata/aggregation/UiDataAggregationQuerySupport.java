@@ -0,0 +1,62 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowuidata.aggregation;
+
+import io.jmix.core.MetadataTools;
+import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.data.QueryParser;
+import io.jmix.data.QueryTransformer;
+import io.jmix.data.QueryTransformerFactory;
+import io.jmix.flowui.data.aggregation.impl.AggregationQuerySupport;
+
+@Internal
+public class UiDataAggregationQuerySupport extends AggregationQuerySupport {
+
+    protected MetadataTools metadataTools;
+    protected QueryTransformerFactory queryTransformerFactory;
+
+    public UiDataAggregationQuerySupport(MetadataTools metadataTools,
+                                         QueryTransformerFactory queryTransformerFactory) {
+        this.metadataTools = metadataTools;
+        this.queryTransformerFactory = queryTransformerFactory;
+    }
+
+    @Override
+    public boolean isSupported() {
+        return true;
+    }
+
+    @Override
+    public String createIdSubquery(String queryString, MetaClass metaClass) {
+        String pkName = metadataTools.getPrimaryKeyName(metaClass);
+        if (pkName == null || metadataTools.hasCompositePrimaryKey(metaClass)) {
+            throw new IllegalArgumentException("Entity without a simple primary key cannot be aggregated by database: "
+                    + metaClass.getName());
+        }
+
+        QueryParser parser = queryTransformerFactory.parser(queryString);
+        if (!parser.isEntitySelect(parser.getEntityName())) {
+            throw new IllegalArgumentException("Query cannot be used for database aggregation: " + queryString);
+        }
+
+        QueryTransformer transformer = queryTransformerFactory.transformer(queryString);
+        transformer.replaceWithSelectId(pkName);
+        transformer.removeOrderBy();
+        return transformer.getResult();
+    }
+}
@@ -16,52 +16,91 @@
 
 package io.jmix.flowuidata.settings;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.SessionDestroyEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
 import com.vaadin.flow.server.VaadinSession;
 import io.jmix.core.common.util.Preconditions;
+import io.jmix.core.security.SecurityContextHelper;
+import io.jmix.flowui.UiViewProperties;
 import io.jmix.flowui.exception.IllegalConcurrentAccessException;
 import io.jmix.flowui.settings.UserSettingsCache;
 import io.jmix.flowui.settings.UserSettingsService;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.Nullable;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Caches settings of the current user in the {@link VaadinSession}.
+ * <p>
+ * All settings of the user are loaded by a single query on the first access if {@link UserSettingsService#loadAll()}
+ * is supported. Absent settings are cached too, so they are not requested from the store again.
+ * <p>
+ * Changes are saved to the store asynchronously after {@link UiViewProperties#getSettingsWriteDelay()}. Several
+ * changes of the same setting made during the delay are saved once. Unsaved changes are also saved when
+ * the cache is cleared or the session is destroyed. They are kept in the cache until saved, so the settings
+ * loaded again after {@link #clear()} contain them too.
+ */
 @Component("flowui_UserSettingsCacheImpl")
-public class UserSettingsCacheImpl implements UserSettingsCache {
+public class UserSettingsCacheImpl implements UserSettingsCache, VaadinServiceInitListener {
 
     private static final Logger log = LoggerFactory.getLogger(UserSettingsCacheImpl.class);
 
     protected static final String ATTRIBUTE_NAME = "flowui_UserSettingsCacheImpl";
 
     protected UserSettingsService userSettingsService;
+    protected UiViewProperties viewProperties;
+
+    protected ScheduledExecutorService writeExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("UserSettingsWriter-%d").setDaemon(true).build());
 
     public UserSettingsCacheImpl(UserSettingsService userSettingsService) {
         this.userSettingsService = userSettingsService;
     }
 
+    @Autowired
+    public void setViewProperties(UiViewProperties viewProperties) {
+        this.viewProperties = viewProperties;
+    }
+
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.getSource().addSessionDestroyListener(this::onSessionDestroy);
+    }
+
     @Nullable
     @Override
     public String get(String key) {
         Preconditions.checkNotNullArgument(key);
 
-        Map<String, Optional<String>> settings = getCache();
-        Optional<String> cached = settings.getOrDefault(key, Optional.empty());
+        CachedSettings settings = getCache();
+        Optional<String> cached = settings.values.get(key);
 
-        if (cached.isPresent()) {
-            String value = cached.get();
+        if (cached != null) {
+            String value = cached.orElse(null);
 
             log.debug("Got from cache by key: '{}', value: '{}'", key, value);
 
             return value;
         }
 
-        String value = userSettingsService.load(key).orElse(null);
+        String value = settings.complete ? null : userSettingsService.load(key).orElse(null);
 
-        settings.put(key, Optional.ofNullable(value));
+        settings.values.put(key, Optional.ofNullable(value));
 
         log.debug("Cache does not contain key: '{}', loaded from store: '{}'", key, value);
 
@@ -72,9 +111,10 @@ public class UserSettingsCacheImpl implements UserSettingsCache {
     public void put(String key, @Nullable String value) {
         Preconditions.checkNotNullArgument(key);
 
-        getCache().put(key, Optional.ofNullable(value));
+        CachedSettings settings = getCache();
+        settings.values.put(key, Optional.ofNullable(value));
 
-        userSettingsService.save(key, value);
+        write(settings, key, Optional.ofNullable(value));
 
         log.debug("Put key: '{}', value: '{}'", key, value);
     }
@@ -83,37 +123,205 @@ public class UserSettingsCacheImpl implements UserSettingsCache {
     public void delete(String key) {
         Preconditions.checkNotNullArgument(key);
 
-        getCache().put(key, Optional.empty());
+        CachedSettings settings = getCache();
+        settings.values.put(key, Optional.empty());
 
-        userSettingsService.delete(key);
+        write(settings, key, null);
 
         log.debug("key: '{}' is deleted", key);
     }
 
+    @Override
+    public void flush() {
+        CachedSettings settings = getCache();
+        writeExecutor.execute(() -> writePendingChanges(settings));
+    }
+
     @Override
     public void clear() {
-        VaadinSession session = VaadinSession.getCurrent();
-        if (session == null || !session.hasLock()) {
-            throw new IllegalConcurrentAccessException("Illegal access to settings client from background thread");
-        }
+        CachedSettings settings = getSessionSettings();
+        if (settings != null) {
+            // settings are loaded again on the next access, unsaved changes are applied over the loaded ones
+            settings.values.clear();
+            settings.loaded = false;
 
-        session.setAttribute(ATTRIBUTE_NAME, null);
+            writeExecutor.execute(() -> writePendingChanges(settings));
+        }
 
         log.debug("Cache is cleared");
     }
 
-    protected Map<String, Optional<String>> getCache() {
+    @PreDestroy
+    public void shutdown() {
+        writeExecutor.shutdown();
+        try {
+            if (!writeExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Not all user settings changes are saved on shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nullable
+    protected CachedSettings getSessionSettings() {
         VaadinSession session = VaadinSession.getCurrent();
         if (session == null || !session.hasLock()) {
             throw new IllegalConcurrentAccessException("Illegal access to settings client from background thread");
         }
 
-        @SuppressWarnings("unchecked")
-        Map<String, Optional<String>> settings = (Map<String, Optional<String>>) session.getAttribute(ATTRIBUTE_NAME);
+        return (CachedSettings) session.getAttribute(ATTRIBUTE_NAME);
+    }
+
+    protected CachedSettings getCache() {
+        CachedSettings settings = getSessionSettings();
         if (settings == null) {
-            settings = new HashMap<>();
-            session.setAttribute(ATTRIBUTE_NAME, settings);
+            settings = new CachedSettings();
+            VaadinSession.getCurrent().setAttribute(ATTRIBUTE_NAME, settings);
+        }
+        if (!settings.loaded) {
+            loadSettings(settings);
         }
         return settings;
     }
+
+    protected void loadSettings(CachedSettings settings) {
+        // taken before loading: the changes being saved concurrently may be not visible in the store yet
+        Map<String, Optional<String>> unsavedChanges = getUnsavedChanges(settings);
+
+        settings.values.clear();
+        Optional<Map<String, String>> allSettings = userSettingsService.loadAll();
+        if (allSettings.isPresent()) {
+            allSettings.get().forEach((key, value) -> settings.values.put(key, Optional.ofNullable(value)));
+            settings.complete = true;
+        } else {
+            log.debug("Settings are loaded one by one: {} cannot load all settings",
+                    userSettingsService.getClass().getName());
+            settings.complete = false;
+        }
+
+        unsavedChanges.forEach((key, value) -> settings.values.put(key, value != null ? value : Optional.empty()));
+        settings.loaded = true;
+
+        log.debug("Loaded {} settings to cache", settings.values.size());
+    }
+
+    protected Map<String, Optional<String>> getUnsavedChanges(CachedSettings settings) {
+        synchronized (settings.pendingChanges) {
+            Map<String, Optional<String>> changes = new LinkedHashMap<>(settings.savingChanges);
+            changes.putAll(settings.pendingChanges);
+            return changes;
+        }
+    }
+
+    protected Duration getWriteDelay() {
+        return viewProperties != null ? viewProperties.getSettingsWriteDelay() : Duration.ZERO;
+    }
+
+    /**
+     * Saves the change immediately or adds it to the pending changes if the write delay is set.
+     *
+     * @param value a value to save or {@code null} to delete the setting
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    protected void write(CachedSettings settings, String key, @Nullable Optional<String> value) {
+        Duration delay = getWriteDelay();
+        if (delay == null || delay.isZero() || delay.isNegative()) {
+            writeToStore(key, value);
+            return;
+        }
+
+        boolean schedule;
+        synchronized (settings.pendingChanges) {
+            settings.pendingChanges.put(key, value);
+            settings.authentication = SecurityContextHelper.getAuthentication();
+            schedule = !settings.writeScheduled;
+            settings.writeScheduled = true;
+        }
+
+        if (schedule) {
+            writeExecutor.schedule(() -> writePendingChanges(settings), delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    protected void writePendingChanges(CachedSettings settings) {
+        Map<String, Optional<String>> changes;
+        Authentication authentication;
+        synchronized (settings.pendingChanges) {
+            changes = new LinkedHashMap<>(settings.pendingChanges);
+            settings.pendingChanges.clear();
+            settings.savingChanges.putAll(changes);
+            settings.writeScheduled = false;
+            authentication = settings.authentication;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Authentication previousAuthentication = SecurityContextHelper.getAuthentication();
+        SecurityContextHelper.setAuthentication(authentication);
+        try {
+            changes.forEach(this::writeToStore);
+
+            log.debug("Saved {} settings changes", changes.size());
+        } catch (RuntimeException e) {
+            log.error("Unable to save user settings", e);
+        } finally {
+            SecurityContextHelper.setAuthentication(previousAuthentication);
+
+            synchronized (settings.pendingChanges) {
+                settings.savingChanges.clear();
+            }
+        }
+    }
+
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+    protected void writeToStore(String key, @Nullable Optional<String> value) {
+        if (value == null) {
+            userSettingsService.delete(key);
+        } else {
+            userSettingsService.save(key, value.orElse(null));
+        }
+    }
+
+    protected void onSessionDestroy(SessionDestroyEvent event) {
+        CachedSettings settings = (CachedSettings) event.getSession().getAttribute(ATTRIBUTE_NAME);
+        if (settings != null) {
+            writeExecutor.execute(() -> writePendingChanges(settings));
+        }
+    }
+
+    /**
+     * Settings of a user stored in the session.
+     */
+    protected static class CachedSettings {
+
+        /**
+         * Cached values, {@code Optional.empty()} for settings absent in the store.
+         */
+        protected final Map<String, Optional<String>> values = new HashMap<>();
+
+        /**
+         * Whether {@link #values} are loaded from the store.
+         */
+        protected boolean loaded;
+
+        /**
+         * Whether {@link #values} contain all settings of the user.
+         */
+        protected boolean complete;
+
+        /**
+         * Changes not saved yet, {@code null} value for deleted settings. Also used as a lock for
+         * {@link #savingChanges}.
+         */
+        protected final Map<String, Optional<String>> pendingChanges = new LinkedHashMap<>();
+
+        /**
+         * Changes being saved by the write executor.
+         */
+        protected final Map<String, Optional<String>> savingChanges = new LinkedHashMap<>();
+        protected Authentication authentication;
+        protected boolean writeScheduled;
+    }
 }
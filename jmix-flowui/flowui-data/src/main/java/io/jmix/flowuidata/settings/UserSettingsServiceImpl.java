@@ -33,7 +33,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component("flowui_UserSettingsServiceImpl")
@@ -79,6 +82,26 @@ public class UserSettingsServiceImpl implements UserSettingsService {
         return Optional.ofNullable(value);
     }
 
+    @Override
+    public Optional<Map<String, String>> loadAll() {
+        Map<String, String> settings = transaction.execute(status -> {
+            List<UserSettingsItem> items = entityManager.createQuery(
+                            "select s from flowui_UserSettingsItem s where s.username = ?1", UserSettingsItem.class)
+                    .setParameter(1, authentication.getUser().getUsername())
+                    .getResultList();
+
+            Map<String, String> result = new HashMap<>(items.size());
+            for (UserSettingsItem item : items) {
+                result.put(item.getKey(), item.getValue());
+            }
+            return result;
+        });
+
+        log.trace("Loaded {} settings", settings == null ? 0 : settings.size());
+
+        return Optional.of(settings == null ? Collections.emptyMap() : settings);
+    }
+
     @Override
     public void save(String key, @Nullable String value) {
         Preconditions.checkNotNullArgument(key);
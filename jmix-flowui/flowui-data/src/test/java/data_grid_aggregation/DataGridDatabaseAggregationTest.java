@@ -0,0 +1,151 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_grid_aggregation;
+
+import io.jmix.core.Metadata;
+import io.jmix.core.UnconstrainedDataManager;
+import io.jmix.core.metamodel.datatype.DatatypeRegistry;
+import io.jmix.core.metamodel.model.MetaPropertyPath;
+import io.jmix.core.security.CurrentAuthentication;
+import io.jmix.flowui.UiComponents;
+import io.jmix.flowui.component.AggregationInfo;
+import io.jmix.flowui.data.grid.ContainerDataGridItems;
+import io.jmix.flowui.model.CollectionContainer;
+import io.jmix.flowui.model.CollectionLoader;
+import io.jmix.flowui.model.DataComponents;
+import io.jmix.flowui.testassist.FlowuiTestAssistConfiguration;
+import io.jmix.flowui.testassist.UiTest;
+import io.jmix.flowui.view.navigation.ViewNavigationSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import test_support.FlowuiDataTestConfiguration;
+import test_support.entity.Project;
+import test_support.view.TestMainView;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@UiTest(viewBasePackages = "test_support.view")
+@SpringBootTest(classes = {FlowuiDataTestConfiguration.class, FlowuiTestAssistConfiguration.class})
+public class DataGridDatabaseAggregationTest {
+
+    @Autowired
+    UiComponents uiComponents;
+    @Autowired
+    DataComponents dataComponents;
+    @Autowired
+    UnconstrainedDataManager dataManager;
+    @Autowired
+    Metadata metadata;
+    @Autowired
+    DatatypeRegistry datatypeRegistry;
+    @Autowired
+    CurrentAuthentication currentAuthentication;
+    @Autowired
+    ViewNavigationSupport navigationSupport;
+    @Autowired
+    JdbcTemplate jdbc;
+
+    CollectionLoader<Project> loader;
+    TestDataGrid<Project> dataGrid;
+
+    @BeforeEach
+    public void beforeEach() {
+        List.of("10.5", "20", "30").forEach(budget -> {
+            Project project = dataManager.create(Project.class);
+            project.setName("project-" + budget);
+            project.setBudget(new BigDecimal(budget));
+            dataManager.save(project);
+        });
+
+        navigationSupport.navigate(TestMainView.class);
+
+        CollectionContainer<Project> container = dataComponents.createCollectionContainer(Project.class);
+        loader = dataComponents.createCollectionLoader();
+        loader.setContainer(container);
+        loader.setQuery("select e from test_Project e where e.budget > :minBudget order by e.name");
+        loader.setParameter("minBudget", BigDecimal.ONE);
+        loader.setMaxResults(1);
+
+        //noinspection unchecked
+        dataGrid = uiComponents.create(TestDataGrid.class);
+        dataGrid.setItems(new ContainerDataGridItems<>(container));
+
+        MetaPropertyPath budgetPath = metadata.getClass(Project.class).getPropertyPath("budget");
+        dataGrid.addColumn("budget", budgetPath);
+        AggregationInfo aggregationInfo = new AggregationInfo();
+        aggregationInfo.setPropertyPath(budgetPath);
+        aggregationInfo.setType(AggregationInfo.Type.SUM);
+        dataGrid.addAggregation(dataGrid.getColumnByKey("budget"), aggregationInfo);
+        dataGrid.setDatabaseAggregation(true);
+        dataGrid.setAggregatable(true);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        jdbc.update("delete from TEST_PROJECT");
+    }
+
+    @Test
+    @DisplayName("Aggregation results are calculated over all matching entities")
+    public void aggregationResultsTest() {
+        loader.load();
+
+        assertEquals(1, loader.getContainer().getItems().size());
+        Object sum = dataGrid.getAggregationResults().get(dataGrid.getColumnByKey("budget"));
+        assertEquals(0, new BigDecimal("60.5").compareTo((BigDecimal) sum));
+    }
+
+    @Test
+    @DisplayName("Aggregation row is filled by background task")
+    public void asyncAggregationTest() {
+        loader.load();
+
+        assertTrue(dataGrid.completeDatabaseAggregation());
+        assertFalse(dataGrid.getDatabaseAggregationThreads().isEmpty());
+        assertNotSame(Thread.currentThread(), dataGrid.getDatabaseAggregationThreads().get(0));
+        assertEquals(format(new BigDecimal("60.5")), getFooterText());
+    }
+
+    @Test
+    @DisplayName("Loaded items are aggregated if database aggregation fails")
+    public void failedAggregationTest() {
+        dataGrid.setDatabaseAggregationFailing(true);
+
+        loader.load();
+
+        assertTrue(dataGrid.completeDatabaseAggregation());
+        // the fallback doesn't query the database again, it aggregates the loaded item only
+        assertFalse(dataGrid.getDatabaseAggregationThreads().contains(Thread.currentThread()));
+        assertEquals(format(new BigDecimal("10.5")), getFooterText());
+    }
+
+    protected String getFooterText() {
+        return dataGrid.getFooterRows().get(0).getCell(dataGrid.getColumnByKey("budget")).getText();
+    }
+
+    protected String format(BigDecimal value) {
+        return datatypeRegistry.get(BigDecimal.class).format(value, currentAuthentication.getLocale());
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_grid_aggregation;
+
+import io.jmix.core.LoadContext;
+import io.jmix.flowui.component.AggregationInfo;
+import io.jmix.flowui.component.delegate.GridDelegate;
+import io.jmix.flowui.component.grid.DataGrid;
+import io.jmix.flowui.data.aggregation.impl.AggregatableDelegate;
+import io.jmix.flowui.data.grid.DataGridItems;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * DataGrid which records the threads calculating aggregated values in the database and can simulate
+ * a failure of the aggregate query.
+ */
+public class TestDataGrid<E> extends DataGrid<E> {
+
+    protected final List<Thread> databaseAggregationThreads = new CopyOnWriteArrayList<>();
+    protected volatile boolean databaseAggregationFailing;
+
+    @Override
+    protected GridDelegate<E, DataGridItems<E>> createDelegate() {
+        TestGridDelegate<E> delegate = new TestGridDelegate<>(this);
+        applicationContext.getAutowireCapableBeanFactory().initializeBean(delegate, "testGridDelegate");
+        return delegate;
+    }
+
+    public List<Thread> getDatabaseAggregationThreads() {
+        return databaseAggregationThreads;
+    }
+
+    public void setDatabaseAggregationFailing(boolean databaseAggregationFailing) {
+        this.databaseAggregationFailing = databaseAggregationFailing;
+    }
+
+    /**
+     * Waits for the background database aggregation and handles its result in the current thread.
+     *
+     * @return true if the aggregation was calculated in background
+     */
+    public boolean completeDatabaseAggregation() {
+        return ((TestGridDelegate<E>) gridDelegate).completeDatabaseAggregation();
+    }
+
+    protected static class TestGridDelegate<E> extends GridDelegate<E, DataGridItems<E>> {
+
+        public TestGridDelegate(TestDataGrid<E> component) {
+            super(component);
+        }
+
+        protected boolean completeDatabaseAggregation() {
+            if (databaseAggregationTaskHandler == null) {
+                return false;
+            }
+            databaseAggregationTaskHandler.getResult();
+            return true;
+        }
+
+        @Override
+        protected AggregatableDelegate<Object> getAggregatableDelegate() {
+            if (aggregatableDelegate == null) {
+                TestDataGrid<E> grid = (TestDataGrid<E>) component;
+                aggregatableDelegate = new AggregatableDelegate<>() {
+                    @Override
+                    public Map<AggregationInfo, Object> aggregateValuesInDatabase(
+                            @Nullable AggregationInfo[] aggregationInfos, LoadContext<?> loadContext) {
+                        grid.databaseAggregationThreads.add(Thread.currentThread());
+                        if (grid.databaseAggregationFailing) {
+                            throw new IllegalStateException("Database is not available");
+                        }
+                        return super.aggregateValuesInDatabase(aggregationInfos, loadContext);
+                    }
+                };
+                applicationContext.getAutowireCapableBeanFactory().autowireBean(aggregatableDelegate);
+            }
+            return super.getAggregatableDelegate();
+        }
+    }
+}
@@ -19,9 +19,7 @@ package test_support;
 import io.jmix.flowui.settings.UserSettingsService;
 import io.jmix.flowuidata.settings.UserSettingsCacheImpl;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 
 public class TestUserSettingsCacheImpl extends UserSettingsCacheImpl {
 
@@ -29,15 +27,25 @@ public class TestUserSettingsCacheImpl extends UserSettingsCacheImpl {
         super(userSettingsService);
     }
 
-    protected Map<String, Optional<String>> cache = new ConcurrentHashMap<>();
+    protected CachedSettings cache;
 
     @Override
-    protected Map<String, Optional<String>> getCache() {
+    protected CachedSettings getCache() {
+        if (cache == null) {
+            cache = new CachedSettings();
+            loadSettings(cache);
+        }
         return cache;
     }
 
+    @Override
+    protected Duration getWriteDelay() {
+        // tests check the store right after closing a view
+        return Duration.ZERO;
+    }
+
     @Override
     public void clear() {
-        cache.clear();
+        cache = null;
     }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package user_settings_cache;
+
+import com.vaadin.flow.server.VaadinSession;
+import io.jmix.flowui.UiViewProperties;
+import io.jmix.flowui.settings.UserSettingsService;
+import io.jmix.flowui.testassist.FlowuiTestAssistConfiguration;
+import io.jmix.flowui.testassist.UiTest;
+import io.jmix.flowuidata.settings.UserSettingsCacheImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.lang.Nullable;
+import test_support.FlowuiDataTestConfiguration;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@UiTest(viewBasePackages = "test_support.view")
+@SpringBootTest(classes = {FlowuiDataTestConfiguration.class, FlowuiTestAssistConfiguration.class})
+public class UserSettingsCacheTest {
+
+    TestUserSettingsService service = new TestUserSettingsService();
+    UserSettingsCacheImpl cache = new UserSettingsCacheImpl(service);
+
+    @BeforeEach
+    public void beforeEach() {
+        VaadinSession.getCurrent().setAttribute("flowui_UserSettingsCacheImpl", null);
+        setWriteDelay(Duration.ZERO);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        service.saveLatch.countDown();
+        cache.shutdown();
+        VaadinSession.getCurrent().setAttribute("flowui_UserSettingsCacheImpl", null);
+    }
+
+    @Test
+    @DisplayName("All settings are loaded by single query")
+    public void prefetchTest() {
+        service.values.put("view1", "value1");
+        service.values.put("view2", "value2");
+
+        assertEquals("value1", cache.get("view1"));
+        assertEquals("value2", cache.get("view2"));
+        assertNull(cache.get("view3"));
+        assertNull(cache.get("view3"));
+
+        assertEquals(1, service.loadAllCount.get());
+        assertEquals(0, service.loadCount.get());
+    }
+
+    @Test
+    @DisplayName("Settings are loaded one by one if service cannot load all settings")
+    public void loadAllUnsupportedTest() {
+        service.loadAllSupported = false;
+        service.values.put("view1", "value1");
+
+        assertEquals("value1", cache.get("view1"));
+        assertEquals("value1", cache.get("view1"));
+        assertNull(cache.get("view2"));
+        assertNull(cache.get("view2"));
+
+        assertEquals(2, service.loadCount.get());
+    }
+
+    @Test
+    @DisplayName("Changes are saved once after write delay")
+    public void writeBehindTest() throws Exception {
+        setWriteDelay(Duration.ofMillis(100));
+
+        cache.put("view1", "value1");
+        cache.put("view1", "value2");
+        cache.put("view2", "value3");
+        cache.delete("view2");
+
+        assertEquals("value2", cache.get("view1"));
+        assertNull(cache.get("view2"));
+        assertEquals(0, service.saveCount.get());
+
+        waitFor(() -> service.saveCount.get() + service.deleteCount.get() >= 2);
+
+        assertEquals(1, service.saveCount.get());
+        assertEquals(1, service.deleteCount.get());
+        assertEquals("value2", service.values.get("view1"));
+        assertFalse(service.values.containsKey("view2"));
+    }
+
+    @Test
+    @DisplayName("Pending changes are saved on clear without blocking the caller")
+    public void clearTest() throws Exception {
+        setWriteDelay(Duration.ofMinutes(1));
+        service.values.put("view2", "stored");
+
+        cache.put("view1", "value1");
+        cache.delete("view2");
+        assertEquals(0, service.saveCount.get());
+
+        service.saveLatch = new CountDownLatch(1);
+        cache.clear();
+
+        // the store is not updated yet, but the settings loaded again contain the unsaved changes
+        assertEquals(1, service.loadAllCount.get());
+        assertEquals("value1", cache.get("view1"));
+        assertNull(cache.get("view2"));
+        assertEquals(2, service.loadAllCount.get());
+        assertFalse(service.values.containsKey("view1"));
+
+        service.saveLatch.countDown();
+        waitFor(() -> service.saveCount.get() == 1 && service.deleteCount.get() == 1);
+
+        assertEquals("value1", service.values.get("view1"));
+        assertFalse(service.values.containsKey("view2"));
+    }
+
+    @Test
+    @DisplayName("Changes are saved immediately without write delay")
+    public void writeThroughTest() {
+        cache.put("view1", "value1");
+
+        assertEquals(1, service.saveCount.get());
+        assertEquals("value1", service.values.get("view1"));
+    }
+
+    protected void setWriteDelay(Duration writeDelay) {
+        cache.setViewProperties(new UiViewProperties(null, null, true, true, "DEFAULT", "BOTTOM_END",
+                3000, true, false, writeDelay));
+    }
+
+    protected void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    static class TestUserSettingsService implements UserSettingsService {
+
+        Map<String, String> values = new ConcurrentHashMap<>();
+
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicInteger loadAllCount = new AtomicInteger();
+        AtomicInteger saveCount = new AtomicInteger();
+        AtomicInteger deleteCount = new AtomicInteger();
+
+        boolean loadAllSupported = true;
+        volatile CountDownLatch saveLatch = new CountDownLatch(0);
+
+        @Override
+        public Optional<String> load(String key) {
+            loadCount.incrementAndGet();
+            return Optional.ofNullable(values.get(key));
+        }
+
+        @Override
+        public Optional<Map<String, String>> loadAll() {
+            if (!loadAllSupported) {
+                return UserSettingsService.super.loadAll();
+            }
+            loadAllCount.incrementAndGet();
+            return Optional.of(new HashMap<>(values));
+        }
+
+        @Override
+        public void save(String key, @Nullable String value) {
+            awaitSaveLatch();
+            saveCount.incrementAndGet();
+            values.put(key, value);
+        }
+
+        @Override
+        public void delete(String key) {
+            awaitSaveLatch();
+            deleteCount.incrementAndGet();
+            values.remove(key);
+        }
+
+        @Override
+        public void copy(String fromUsername, String toUsername) {
+        }
+
+        protected void awaitSaveLatch() {
+            try {
+                if (!saveLatch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Save is not released");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1299,6 +1299,8 @@ public interface StudioComponents {
                     @StudioProperty(xmlAttribute = "dataContainer",
                             type = StudioPropertyType.COLLECTION_DATA_CONTAINER_REF, required = true,
                             typeParameter = "E"),
+                    @StudioProperty(xmlAttribute = "databaseAggregation", type = StudioPropertyType.BOOLEAN,
+                            defaultValue = "false"),
                     @StudioProperty(xmlAttribute = "detailsVisibleOnClick", type = StudioPropertyType.BOOLEAN,
                             defaultValue = "false"),
                     @StudioProperty(xmlAttribute = "dropMode", type = StudioPropertyType.ENUMERATION,
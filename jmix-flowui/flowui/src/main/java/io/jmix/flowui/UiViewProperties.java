@@ -20,6 +20,8 @@ import com.vaadin.flow.component.notification.Notification.Position;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "jmix.ui.view")
 public class UiViewProperties {
 
@@ -56,6 +58,12 @@ public class UiViewProperties {
      */
     boolean preventBrowserTabClosing;
 
+    /**
+     * Delay before changed user settings are saved to the store. Changes made during the delay are saved together,
+     * and repeated changes of the same setting are saved once. Zero means saving synchronously on each change.
+     */
+    Duration settingsWriteDelay;
+
     public UiViewProperties(
             String closeShortcut,
             String saveShortcut,
@@ -65,7 +73,8 @@ public class UiViewProperties {
             @DefaultValue("BOTTOM_END") String validationNotificationPosition,
             @DefaultValue("3000") Integer validationNotificationDuration,
             @DefaultValue("true") boolean reloadUnfetchedAttributesFromLookupViews,
-            @DefaultValue("false") boolean preventBrowserTabClosing
+            @DefaultValue("false") boolean preventBrowserTabClosing,
+            @DefaultValue("1s") Duration settingsWriteDelay
     ) {
         this.closeShortcut = closeShortcut;
         this.saveShortcut = saveShortcut;
@@ -76,6 +85,7 @@ public class UiViewProperties {
         this.validationNotificationDuration = validationNotificationDuration;
         this.reloadUnfetchedAttributesFromLookupViews = reloadUnfetchedAttributesFromLookupViews;
         this.preventBrowserTabClosing = preventBrowserTabClosing;
+        this.settingsWriteDelay = settingsWriteDelay;
     }
 
     public String getCloseShortcut() {
@@ -128,4 +138,11 @@ public class UiViewProperties {
     public boolean isPreventBrowserTabClosing()  {
         return preventBrowserTabClosing;
     }
-}
\ No newline at end of file
+
+    /**
+     * @see #settingsWriteDelay
+     */
+    public Duration getSettingsWriteDelay() {
+        return settingsWriteDelay;
+    }
+}
@@ -22,6 +22,7 @@ import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.Key;
 import com.vaadin.flow.component.Shortcuts;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.grid.*;
 import com.vaadin.flow.component.grid.editor.Editor;
 import com.vaadin.flow.component.html.Span;
@@ -35,6 +36,7 @@ import com.vaadin.flow.data.selection.SelectionModel;
 import com.vaadin.flow.function.ValueProvider;
 import com.vaadin.flow.shared.Registration;
 import io.jmix.core.AccessManager;
+import io.jmix.core.LoadContext;
 import io.jmix.core.MessageTools;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.accesscontext.EntityAttributeContext;
@@ -46,6 +48,10 @@ import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.flowui.UiComponents;
 import io.jmix.flowui.action.list.EditAction;
 import io.jmix.flowui.action.list.ReadAction;
+import io.jmix.flowui.backgroundtask.BackgroundTask;
+import io.jmix.flowui.backgroundtask.BackgroundTaskHandler;
+import io.jmix.flowui.backgroundtask.BackgroundWorker;
+import io.jmix.flowui.backgroundtask.TaskLifeCycle;
 import io.jmix.flowui.component.AggregationInfo;
 import io.jmix.flowui.component.ListDataComponent;
 import io.jmix.flowui.component.SupportsEnterPress.EnterPressEvent;
@@ -54,6 +60,7 @@ import io.jmix.flowui.component.grid.DataGridDataProviderChangeObserver;
 import io.jmix.flowui.component.grid.EnhancedDataGrid;
 import io.jmix.flowui.component.grid.editor.DataGridEditor;
 import io.jmix.flowui.data.BindingState;
+import io.jmix.flowui.data.ContainerDataUnit;
 import io.jmix.flowui.data.EntityDataUnit;
 import io.jmix.flowui.data.aggregation.Aggregation;
 import io.jmix.flowui.data.aggregation.Aggregations;
@@ -63,9 +70,15 @@ import io.jmix.flowui.data.provider.StringPresentationValueProvider;
 import io.jmix.flowui.kit.action.Action;
 import io.jmix.flowui.kit.component.HasActions;
 import io.jmix.flowui.kit.component.KeyCombination;
+import io.jmix.flowui.model.CollectionContainer;
+import io.jmix.flowui.model.CollectionLoader;
+import io.jmix.flowui.model.HasLoader;
 import io.jmix.flowui.sys.BeanUtil;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.MapUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
@@ -82,6 +95,10 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
         extends AbstractComponentDelegate<C>
         implements ApplicationContextAware, InitializingBean {
 
+    private static final Logger log = LoggerFactory.getLogger(AbstractGridDelegate.class);
+
+    protected static final long DATABASE_AGGREGATION_TIMEOUT_SECONDS = 60;
+
     protected ApplicationContext applicationContext;
 
     protected MetadataTools metadataTools;
@@ -108,6 +125,8 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
     protected boolean aggregatable;
     protected EnhancedDataGrid.AggregationPosition aggregationPosition = EnhancedDataGrid.AggregationPosition.BOTTOM;
     protected Map<Grid.Column<E>, AggregationInfo> aggregationMap = new LinkedHashMap<>();
+    protected boolean databaseAggregation;
+    protected BackgroundTaskHandler<Map<AggregationInfo, Object>> databaseAggregationTaskHandler;
 
     protected HeaderRow aggregationHeader;
     protected FooterRow aggregationFooter;
@@ -380,6 +399,16 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
         this.aggregationPosition = position;
     }
 
+    public boolean isDatabaseAggregation() {
+        return databaseAggregation;
+    }
+
+    public void setDatabaseAggregation(boolean databaseAggregation) {
+        this.databaseAggregation = databaseAggregation;
+
+        updateAggregationRow();
+    }
+
     public void addAggregationInfo(Grid.Column<E> column, AggregationInfo info) {
         if (aggregationMap.containsKey(column)) {
             throw new IllegalStateException(String.format("Aggregation property %s already exists", column.getKey()));
@@ -422,14 +451,112 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
 
         List<AggregationInfo> aggregationInfos = getAggregationInfos();
 
-        Map<AggregationInfo, Object> aggregationInfoMap = getAggregatableDelegate().aggregateValues(
+        LoadContext<?> loadContext = createDatabaseAggregationLoadContext();
+        if (loadContext == null) {
+            return convertAggregationKeyMapToColumnMap(aggregateValuesInMemory(aggregationInfos));
+        }
+
+        List<AggregationInfo> databaseAggregationInfos = getDatabaseAggregationInfos(aggregationInfos);
+        Map<AggregationInfo, Object> aggregationInfoMap = aggregateValuesInMemory(
+                ListUtils.removeAll(aggregationInfos, databaseAggregationInfos));
+        if (!databaseAggregationInfos.isEmpty()) {
+            aggregationInfoMap.putAll(getAggregatableDelegate().aggregateValuesInDatabase(
+                    databaseAggregationInfos.toArray(new AggregationInfo[0]), loadContext));
+        }
+
+        return convertAggregationKeyMapToColumnMap(aggregationInfoMap);
+    }
+
+    protected Map<AggregationInfo, Object> aggregateValuesInMemory(List<AggregationInfo> aggregationInfos) {
+        if (aggregationInfos.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return getAggregatableDelegate().aggregateValues(
                 aggregationInfos.toArray(new AggregationInfo[0]),
-                getItems().getItems().stream()
+                Objects.requireNonNull(getItems()).getItems().stream()
                         .map(EntityValues::getId)
                         .toList()
         );
+    }
 
-        return convertAggregationKeyMapToColumnMap(aggregationInfoMap);
+    /**
+     * Creates the load context of the items to calculate aggregated values by the database. Returns {@code null}
+     * if the database aggregation is off or the items aren't loaded by a {@link CollectionLoader} with a query.
+     */
+    @Nullable
+    protected LoadContext<?> createDatabaseAggregationLoadContext() {
+        if (!databaseAggregation
+                || !(getItems() instanceof ContainerDataUnit<?> containerDataUnit)) {
+            return null;
+        }
+
+        CollectionContainer<?> container = containerDataUnit.getContainer();
+        if (container instanceof HasLoader hasLoader
+                && hasLoader.getLoader() instanceof CollectionLoader<?> loader
+                && loader.getQuery() != null) {
+            return loader.createLoadContext();
+        }
+        return null;
+    }
+
+    protected List<AggregationInfo> getDatabaseAggregationInfos(List<AggregationInfo> aggregationInfos) {
+        AggregatableDelegate<Object> delegate = getAggregatableDelegate();
+        return aggregationInfos.stream()
+                .filter(delegate::isDatabaseAggregationSupported)
+                .toList();
+    }
+
+    /**
+     * Calculates values supported by the database in a background task, so the aggregation row is updated
+     * when the aggregate query completes. Other values are calculated in memory right away.
+     */
+    protected void updateAggregationRowFromDatabase(LoadContext<?> loadContext) {
+        if (databaseAggregationTaskHandler != null && databaseAggregationTaskHandler.isAlive()) {
+            databaseAggregationTaskHandler.cancel();
+        }
+        databaseAggregationTaskHandler = null;
+
+        List<AggregationInfo> aggregationInfos = getAggregationInfos();
+        List<AggregationInfo> databaseAggregationInfos = getDatabaseAggregationInfos(aggregationInfos);
+        Map<AggregationInfo, Object> values = aggregateValuesInMemory(
+                ListUtils.removeAll(aggregationInfos, databaseAggregationInfos));
+
+        AggregatableDelegate<Object> delegate = getAggregatableDelegate();
+        if (databaseAggregationInfos.isEmpty() || UI.getCurrent() == null) {
+            if (!databaseAggregationInfos.isEmpty()) {
+                values.putAll(delegate.aggregateValuesInDatabase(
+                        databaseAggregationInfos.toArray(new AggregationInfo[0]), loadContext));
+            }
+            fillAggregationRow(convertAggregationKeyMapToColumnMap(delegate.formatValues(values)));
+            return;
+        }
+
+        BackgroundWorker backgroundWorker = applicationContext.getBean(BackgroundWorker.class);
+        databaseAggregationTaskHandler = backgroundWorker.handle(
+                new BackgroundTask<Void, Map<AggregationInfo, Object>>(DATABASE_AGGREGATION_TIMEOUT_SECONDS) {
+                    @Override
+                    public Map<AggregationInfo, Object> run(TaskLifeCycle<Void> taskLifeCycle) {
+                        return delegate.aggregateValuesInDatabase(
+                                databaseAggregationInfos.toArray(new AggregationInfo[0]), loadContext);
+                    }
+
+                    @Override
+                    public void done(Map<AggregationInfo, Object> result) {
+                        values.putAll(result);
+                        fillAggregationRow(convertAggregationKeyMapToColumnMap(delegate.formatValues(values)));
+                    }
+
+                    @Override
+                    public boolean handleException(Exception ex) {
+                        log.warn("Unable to aggregate values of {} in database, using loaded items instead",
+                                component.getClass().getSimpleName(), ex);
+                        values.putAll(aggregateValuesInMemory(databaseAggregationInfos));
+                        fillAggregationRow(convertAggregationKeyMapToColumnMap(delegate.formatValues(values)));
+                        return true;
+                    }
+                });
+        databaseAggregationTaskHandler.execute();
     }
 
     protected <V> Map<Grid.Column<E>, V> convertAggregationKeyMapToColumnMap(Map<AggregationInfo, V> aggregationInfos) {
@@ -530,6 +657,12 @@ public abstract class AbstractGridDelegate<C extends Grid<E> & ListDataComponent
         if (isAggregatable()
                 && getItems() != null
                 && MapUtils.isNotEmpty(aggregationMap)) {
+            LoadContext<?> loadContext = createDatabaseAggregationLoadContext();
+            if (loadContext != null) {
+                updateAggregationRowFromDatabase(loadContext);
+                return;
+            }
+
             Map<Grid.Column<E>, String> results = aggregate();
             fillAggregationRow(results);
         }
@@ -41,6 +41,7 @@ import io.jmix.flowui.component.delegate.GridDelegate;
 import io.jmix.flowui.component.grid.editor.DataGridEditor;
 import io.jmix.flowui.component.grid.editor.DataGridEditorImpl;
 import io.jmix.flowui.data.grid.DataGridItems;
+import io.jmix.flowui.data.grid.LazyLoadingDataGridItems;
 import io.jmix.flowui.kit.component.KeyCombination;
 import io.jmix.flowui.kit.component.grid.GridActionsSupport;
 import io.jmix.flowui.kit.component.grid.JmixGrid;
@@ -67,6 +68,8 @@ public class DataGrid<E> extends JmixGrid<E> implements ListDataComponent<E>, Mu
 
     protected boolean editorCreated = false;
 
+    protected Registration itemCountChangeRegistration;
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
@@ -94,7 +97,33 @@ public class DataGrid<E> extends JmixGrid<E> implements ListDataComponent<E>, Mu
             gridDelegate.setItems((DataGridItems<E>) dataProvider);
         }
 
-        return super.setItems(dataProvider);
+        if (itemCountChangeRegistration != null) {
+            itemCountChangeRegistration.remove();
+            itemCountChangeRegistration = null;
+        }
+
+        GridDataView<E> dataView = super.setItems(dataProvider);
+
+        if (dataProvider instanceof LazyLoadingDataGridItems) {
+            LazyLoadingDataGridItems<E> lazyItems = (LazyLoadingDataGridItems<E>) dataProvider;
+            itemCountChangeRegistration = lazyItems.addItemCountChangeListener(event ->
+                    updateItemCountMode(event.getCount()));
+            updateItemCountMode(lazyItems.getKnownCount());
+        }
+
+        return dataView;
+    }
+
+    /**
+     * Switches the grid to the undefined size mode while the total number of rows provided
+     * by {@link LazyLoadingDataGridItems} is being calculated.
+     */
+    protected void updateItemCountMode(@Nullable Integer count) {
+        if (count == null) {
+            getLazyDataView().setItemCountUnknown();
+        } else {
+            getLazyDataView().setItemCountFromDataProvider();
+        }
     }
 
     @Nullable
@@ -272,6 +301,16 @@ public class DataGrid<E> extends JmixGrid<E> implements ListDataComponent<E>, Mu
         gridDelegate.setAggregatable(aggregatable);
     }
 
+    @Override
+    public boolean isDatabaseAggregation() {
+        return gridDelegate.isDatabaseAggregation();
+    }
+
+    @Override
+    public void setDatabaseAggregation(boolean databaseAggregation) {
+        gridDelegate.setDatabaseAggregation(databaseAggregation);
+    }
+
     @Override
     public AggregationPosition getAggregationPosition() {
         return gridDelegate.getAggregationPosition();
@@ -59,6 +59,22 @@ public interface EnhancedDataGrid<T> {
      */
     void setAggregationPosition(AggregationPosition position);
 
+    /**
+     * @return true if aggregated values are calculated by the database
+     */
+    boolean isDatabaseAggregation();
+
+    /**
+     * Set to true if aggregated values should be calculated by an aggregate query over all entities matching
+     * the query, condition and parameters of the {@code CollectionLoader} of the items, instead of the entities
+     * loaded into the container. The query is executed in a background task. Aggregations with custom strategies
+     * or by non-persistent attributes are still calculated in memory, as well as all aggregations if the data
+     * module is not used or the aggregate query fails. Default value is false.
+     *
+     * @param databaseAggregation whether to calculate aggregated values by the database
+     */
+    void setDatabaseAggregation(boolean databaseAggregation);
+
     /**
      * Add an aggregation info in order to perform aggregation for column.
      *
@@ -330,6 +330,16 @@ public class TreeDataGrid<E> extends JmixTreeGrid<E> implements ListDataComponen
         gridDelegate.setAggregatable(aggregatable);
     }
 
+    @Override
+    public boolean isDatabaseAggregation() {
+        return gridDelegate.isDatabaseAggregation();
+    }
+
+    @Override
+    public void setDatabaseAggregation(boolean databaseAggregation) {
+        gridDelegate.setDatabaseAggregation(databaseAggregation);
+    }
+
     @Override
     public AggregationPosition getAggregationPosition() {
         return gridDelegate.getAggregationPosition();
@@ -17,7 +17,13 @@
 package io.jmix.flowui.data.aggregation.impl;
 
 import com.google.common.base.Preconditions;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.MetadataTools;
+import io.jmix.core.ValueLoadContext;
+import io.jmix.core.entity.KeyValueEntity;
 import io.jmix.core.metamodel.datatype.DatatypeRegistry;
+import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaPropertyPath;
 import io.jmix.core.metamodel.model.Range;
 import io.jmix.core.security.CurrentAuthentication;
@@ -31,6 +37,8 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -39,9 +47,14 @@ import java.util.function.Function;
 @Scope(BeanDefinition.SCOPE_PROTOTYPE)
 public class AggregatableDelegate<K> {
 
+    protected static final String DATABASE_AGGREGATION_ALIAS = "aggr_";
+
     protected Aggregations aggregations;
     protected CurrentAuthentication currentAuthentication;
     protected DatatypeRegistry datatypeRegistry;
+    protected DataManager dataManager;
+    protected MetadataTools metadataTools;
+    protected AggregationQuerySupport aggregationQuerySupport;
 
     protected Function<K, Object> itemProvider;
     protected BiFunction<K, MetaPropertyPath, Object> itemValueProvider;
@@ -61,6 +74,21 @@ public class AggregatableDelegate<K> {
         this.datatypeRegistry = datatypeRegistry;
     }
 
+    @Autowired
+    public void setDataManager(DataManager dataManager) {
+        this.dataManager = dataManager;
+    }
+
+    @Autowired
+    public void setMetadataTools(MetadataTools metadataTools) {
+        this.metadataTools = metadataTools;
+    }
+
+    @Autowired
+    public void setAggregationQuerySupport(AggregationQuerySupport aggregationQuerySupport) {
+        this.aggregationQuerySupport = aggregationQuerySupport;
+    }
+
     public void setItemProvider(Function<K, Object> itemProvider) {
         this.itemProvider = itemProvider;
     }
@@ -100,56 +128,199 @@ public class AggregatableDelegate<K> {
         return aggregationResults;
     }
 
+    /**
+     * Checks whether the aggregation can be calculated by the database: it must have a standard type and
+     * refer to a persistent attribute of a JPA entity, and the data module must be used to transform the query.
+     *
+     * @param aggregationInfo aggregation info
+     * @return true if {@link #aggregateValuesInDatabase(AggregationInfo[], LoadContext)} supports the aggregation
+     */
+    public boolean isDatabaseAggregationSupported(AggregationInfo aggregationInfo) {
+        MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
+        return aggregationQuerySupport.isSupported()
+                && aggregationInfo.getType() != null
+                && aggregationInfo.getType() != AggregationInfo.Type.CUSTOM
+                && aggregationInfo.getStrategy() == null
+                && propertyPath != null
+                && metadataTools.isJpaEntity(propertyPath.getMetaClass())
+                && metadataTools.isJpa(propertyPath);
+    }
+
+    /**
+     * Calculates aggregated values over all entities returned by the given load context using a single
+     * aggregate query. The first and max results of the load context are ignored, so the values take into account
+     * all rows matching the query, condition and parameters, not only the loaded ones.
+     *
+     * @param aggregationInfos aggregation infos supported by the database,
+     *                         see {@link #isDatabaseAggregationSupported(AggregationInfo)}
+     * @param loadContext      load context of the aggregated entities
+     * @return aggregated values
+     * @throws IllegalArgumentException if the query of the load context cannot be used for aggregation
+     */
+    public Map<AggregationInfo, Object> aggregateValuesInDatabase(@Nullable AggregationInfo[] aggregationInfos,
+                                                                  LoadContext<?> loadContext) {
+        Preconditions.checkNotNull(aggregationInfos, "AggregationInfos can not be null");
+        Preconditions.checkState(aggregationInfos.length != 0,
+                "Aggregation must be executed at least by one field");
+
+        LoadContext.Query query = loadContext.getQuery();
+        Preconditions.checkNotNull(query, "LoadContext must have a query");
+
+        MetaClass metaClass = loadContext.getEntityMetaClass();
+        String idSubquery = createIdSubquery(query.getQueryString(), metaClass);
+
+        List<String> expressions = new ArrayList<>(aggregationInfos.length);
+        List<String> properties = new ArrayList<>(aggregationInfos.length);
+        for (int i = 0; i < aggregationInfos.length; i++) {
+            expressions.add(createAggregateExpression(aggregationInfos[i]));
+            properties.add("value" + i);
+        }
+
+        String queryString = "select " + String.join(", ", expressions)
+                + " from " + metaClass.getName() + " " + DATABASE_AGGREGATION_ALIAS
+                + " where " + DATABASE_AGGREGATION_ALIAS + "." + metadataTools.getPrimaryKeyName(metaClass)
+                + " in (" + idSubquery + ")";
+
+        // the condition uses the entity alias of the outer query which selects from the same entity
+        ValueLoadContext valueLoadContext = ValueLoadContext.create()
+                .setQuery(ValueLoadContext.createQuery(queryString)
+                        .setParameters(query.getParameters())
+                        .setCondition(query.getCondition()))
+                .setProperties(properties)
+                .setStoreName(metaClass.getStore().getName());
+
+        List<KeyValueEntity> result = dataManager.loadValues(valueLoadContext);
+        KeyValueEntity row = result.isEmpty() ? null : result.get(0);
+
+        Map<AggregationInfo, Object> aggregationResults = new HashMap<>();
+        for (int i = 0; i < aggregationInfos.length; i++) {
+            Object value = row != null ? row.getValue(properties.get(i)) : null;
+            aggregationResults.put(aggregationInfos[i], convertDatabaseValue(aggregationInfos[i], value));
+        }
+
+        return aggregationResults;
+    }
+
+    protected String createIdSubquery(String queryString, MetaClass metaClass) {
+        // sorting is not allowed in subqueries and doesn't affect aggregated values
+        String idSubquery = aggregationQuerySupport.createIdSubquery(queryString, metaClass);
+        if (idSubquery == null) {
+            throw new IllegalArgumentException("Database aggregation requires the data module");
+        }
+        return idSubquery;
+    }
+
+    protected String createAggregateExpression(AggregationInfo aggregationInfo) {
+        MetaPropertyPath propertyPath = Objects.requireNonNull(aggregationInfo.getPropertyPath());
+        String path = DATABASE_AGGREGATION_ALIAS + "." + propertyPath.toPathString();
+
+        return switch (aggregationInfo.getType()) {
+            case SUM -> "sum(" + path + ")";
+            case AVG -> "avg(" + path + ")";
+            case MIN -> "min(" + path + ")";
+            case MAX -> "max(" + path + ")";
+            // count all rows as the in-memory aggregation does
+            case COUNT -> "count(" + DATABASE_AGGREGATION_ALIAS + ")";
+            default -> throw new IllegalArgumentException(String.format("Unsupported database aggregation type: %s",
+                    aggregationInfo.getType()));
+        };
+    }
+
+    @Nullable
+    protected Object convertDatabaseValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        if (aggregationInfo.getType() == AggregationInfo.Type.COUNT) {
+            return value != null ? ((Number) value).intValue() : 0;
+        }
+        if (!(value instanceof Number number)) {
+            return value;
+        }
+
+        Class<?> rangeJavaClass = Objects.requireNonNull(aggregationInfo.getPropertyPath()).getRangeJavaClass();
+        Aggregation<?> aggregation = aggregations.get(rangeJavaClass);
+        Class<?> resultClass = aggregation != null ? aggregation.getResultClass() : rangeJavaClass;
+
+        if (resultClass.isInstance(value)) {
+            return value;
+        } else if (resultClass == Long.class) {
+            return number.longValue();
+        } else if (resultClass == Double.class) {
+            return number.doubleValue();
+        } else if (resultClass == BigDecimal.class) {
+            return new BigDecimal(number.toString());
+        } else if (resultClass == BigInteger.class) {
+            return new BigDecimal(number.toString()).toBigInteger();
+        }
+        return value;
+    }
+
     protected Map<AggregationInfo, String> doAggregation(AggregationInfo[] aggregationInfos, Collection<K> itemIds) {
-        Map<AggregationInfo, String> aggregationResults = new HashMap<>();
+        Map<AggregationInfo, Object> values = new LinkedHashMap<>();
 
         for (AggregationInfo aggregationInfo : aggregationInfos) {
-            final Object value = doPropertyAggregation(aggregationInfo, itemIds);
+            values.put(aggregationInfo, doPropertyAggregation(aggregationInfo, itemIds));
+        }
 
-            String formattedValue;
-            if (aggregationInfo.getFormatter() != null) {
-                formattedValue = aggregationInfo.getFormatter()
-                        .apply(value);
-            } else {
-                // propertyPath could be null in case of custom aggregation
-                MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
-
-                Range range = propertyPath != null
-                        ? propertyPath.getRange()
-                        : null;
-                if (range != null && range.isDatatype()) {
-                    if (aggregationInfo.getType() != AggregationInfo.Type.COUNT) {
-                        Class<?> resultClass;
-
-                        if (aggregationInfo.getStrategy() == null) {
-                            Class<?> rangeJavaClass = propertyPath.getRangeJavaClass();
-                            Aggregation<?> aggregation = aggregations.get(rangeJavaClass);
-                            resultClass = Objects.requireNonNull(aggregation).getResultClass();
-                        } else {
-                            resultClass = aggregationInfo.getStrategy().getResultClass();
-                        }
-
-                        Locale locale = currentAuthentication.getLocale();
-                        formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
+        return formatValues(values);
+    }
+
+    /**
+     * Formats aggregated values using formatters of aggregation infos or datatypes of aggregation results.
+     *
+     * @param values aggregated values
+     * @return formatted values
+     */
+    public Map<AggregationInfo, String> formatValues(Map<AggregationInfo, Object> values) {
+        Map<AggregationInfo, String> aggregationResults = new HashMap<>();
+
+        for (Map.Entry<AggregationInfo, Object> entry : values.entrySet()) {
+            aggregationResults.put(entry.getKey(), formatValue(entry.getKey(), entry.getValue()));
+        }
+
+        return aggregationResults;
+    }
+
+    protected String formatValue(AggregationInfo aggregationInfo, @Nullable Object value) {
+        String formattedValue;
+        if (aggregationInfo.getFormatter() != null) {
+            formattedValue = aggregationInfo.getFormatter()
+                    .apply(value);
+        } else {
+            // propertyPath could be null in case of custom aggregation
+            MetaPropertyPath propertyPath = aggregationInfo.getPropertyPath();
+
+            Range range = propertyPath != null
+                    ? propertyPath.getRange()
+                    : null;
+            if (range != null && range.isDatatype()) {
+                if (aggregationInfo.getType() != AggregationInfo.Type.COUNT) {
+                    Class<?> resultClass;
+
+                    if (aggregationInfo.getStrategy() == null) {
+                        Class<?> rangeJavaClass = propertyPath.getRangeJavaClass();
+                        Aggregation<?> aggregation = aggregations.get(rangeJavaClass);
+                        resultClass = Objects.requireNonNull(aggregation).getResultClass();
                     } else {
-                        formattedValue = Objects.requireNonNull(value).toString();
+                        resultClass = aggregationInfo.getStrategy().getResultClass();
                     }
+
+                    Locale locale = currentAuthentication.getLocale();
+                    formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
                 } else {
-                    if (aggregationInfo.getStrategy() != null) {
-                        Class<?> resultClass = aggregationInfo.getStrategy().getResultClass();
+                    formattedValue = Objects.requireNonNull(value).toString();
+                }
+            } else {
+                if (aggregationInfo.getStrategy() != null) {
+                    Class<?> resultClass = aggregationInfo.getStrategy().getResultClass();
 
-                        Locale locale = currentAuthentication.getLocale();
-                        formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
-                    } else {
-                        formattedValue = Objects.requireNonNull(value).toString();
-                    }
+                    Locale locale = currentAuthentication.getLocale();
+                    formattedValue = datatypeRegistry.get(resultClass).format(value, locale);
+                } else {
+                    formattedValue = Objects.requireNonNull(value).toString();
                 }
             }
-
-            aggregationResults.put(aggregationInfo, formattedValue);
         }
 
-        return aggregationResults;
+        return formattedValue;
     }
 
     @SuppressWarnings("unchecked")
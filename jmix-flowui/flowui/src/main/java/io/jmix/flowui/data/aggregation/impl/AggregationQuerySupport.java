@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowui.data.aggregation.impl;
+
+import io.jmix.core.annotation.Internal;
+import io.jmix.core.metamodel.model.MetaClass;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transforms queries of collection loaders for calculating aggregated values by the database,
+ * see {@link AggregatableDelegate#aggregateValuesInDatabase(io.jmix.flowui.component.AggregationInfo[],
+ * io.jmix.core.LoadContext)}.
+ * <p>
+ * Queries cannot be parsed without the data module, so this implementation doesn't support the database
+ * aggregation. It is replaced by an implementation based on the JPQL query transformer if the data module is used.
+ */
+@Internal
+@Component("flowui_AggregationQuerySupport")
+public class AggregationQuerySupport {
+
+    /**
+     * @return true if {@link #createIdSubquery(String, MetaClass)} can transform queries
+     */
+    public boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * Creates a query selecting identifiers of the entities returned by the given query. The query must select
+     * entities, the result doesn't contain the {@code order by} clause, so it can be used as a subquery.
+     *
+     * @param queryString query selecting entities
+     * @param metaClass   meta-class of the selected entities
+     * @return query selecting identifiers of the entities or null if transformation of queries is not supported
+     * @throws IllegalArgumentException if the query cannot be transformed
+     */
+    @Nullable
+    public String createIdSubquery(String queryString, MetaClass metaClass) {
+        return null;
+    }
+}
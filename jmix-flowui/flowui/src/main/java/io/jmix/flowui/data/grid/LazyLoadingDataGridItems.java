@@ -0,0 +1,417 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.flowui.data.grid;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.shared.Registration;
+import io.jmix.core.DataManager;
+import io.jmix.core.LoadContext;
+import io.jmix.core.common.util.Preconditions;
+import io.jmix.flowui.backgroundtask.BackgroundTask;
+import io.jmix.flowui.backgroundtask.BackgroundWorker;
+import io.jmix.flowui.backgroundtask.TaskLifeCycle;
+import io.jmix.flowui.data.BindingState;
+import io.jmix.flowui.model.CollectionChangeType;
+import io.jmix.flowui.model.CollectionContainer;
+import io.jmix.flowui.model.CollectionLoader;
+import io.jmix.flowui.model.HasLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Data provider for {@link io.jmix.flowui.component.grid.DataGrid} that loads rows from the database on demand
+ * instead of showing the whole collection loaded into the container.
+ * <p>
+ * Rows requested by the grid are loaded by pages of {@link #getPageSize()} using the load context of the
+ * container's {@link CollectionLoader}, so the query, condition, parameters, sort and fetch plan of the loader
+ * are applied. At most {@link #getMaxCachedPages()} pages are kept in memory, least recently used pages are
+ * evicted. The container contains the rows of cached pages and the selected item, so actions and bound components
+ * work as usual for the visible rows.
+ * <p>
+ * The total number of rows is calculated by a separate background task. Until it is known, the grid works
+ * in the undefined size mode, see {@link ItemCountChangeEvent}.
+ * <p>
+ * Loading of the container by {@link CollectionLoader#load()} is prevented and causes reloading of the rows
+ * displayed by the grid instead. Loaded entities are not merged into the {@code DataContext}, so this mode
+ * is intended for read-only lists.
+ *
+ * @param <T> row item type
+ */
+public class LazyLoadingDataGridItems<T> extends ContainerDataGridItems<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(LazyLoadingDataGridItems.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int DEFAULT_MAX_CACHED_PAGES = 10;
+
+    protected static final long COUNT_TIMEOUT_SECONDS = 60;
+
+    protected CollectionLoader<T> loader;
+    protected DataManager dataManager;
+    protected BackgroundWorker backgroundWorker;
+
+    protected int pageSize = DEFAULT_PAGE_SIZE;
+    protected int maxCachedPages = DEFAULT_MAX_CACHED_PAGES;
+
+    // access-ordered to find least recently used pages
+    protected LinkedHashMap<Integer, List<T>> pages = new LinkedHashMap<>(16, 0.75f, true);
+
+    protected Integer count;
+    protected int countGeneration;
+    protected boolean countTaskStarted;
+
+    protected boolean updatingContainer;
+
+    @SuppressWarnings("unchecked")
+    public LazyLoadingDataGridItems(CollectionContainer<T> container,
+                                    DataManager dataManager,
+                                    BackgroundWorker backgroundWorker) {
+        super(container);
+        Preconditions.checkNotNullArgument(dataManager);
+        Preconditions.checkNotNullArgument(backgroundWorker);
+
+        if (!(container instanceof HasLoader)
+                || !(((HasLoader) container).getLoader() instanceof CollectionLoader)) {
+            throw new IllegalArgumentException("Container " + container + " is not loaded by a CollectionLoader");
+        }
+
+        this.loader = (CollectionLoader<T>) ((HasLoader) container).getLoader();
+        this.dataManager = dataManager;
+        this.backgroundWorker = backgroundWorker;
+
+        loader.addPreLoadListener(this::loaderPreLoad);
+    }
+
+    /**
+     * @return number of rows loaded by a single query
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Sets the number of rows loaded by a single query. Resets loaded rows.
+     */
+    public void setPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        this.pageSize = pageSize;
+        refresh();
+    }
+
+    /**
+     * @return maximum number of pages kept in memory
+     */
+    public int getMaxCachedPages() {
+        return maxCachedPages;
+    }
+
+    /**
+     * Sets the maximum number of pages kept in memory. Pages requested by the grid at once are always kept
+     * even if there are more of them.
+     */
+    public void setMaxCachedPages(int maxCachedPages) {
+        if (maxCachedPages <= 0) {
+            throw new IllegalArgumentException("Max cached pages must be positive");
+        }
+
+        this.maxCachedPages = maxCachedPages;
+    }
+
+    /**
+     * @return total number of rows if it is already calculated, {@code null} otherwise
+     */
+    @Nullable
+    public Integer getKnownCount() {
+        return count;
+    }
+
+    /**
+     * Discards loaded rows and the total number of rows, so they are loaded again when requested by the grid.
+     */
+    public void refresh() {
+        reset();
+        getEventBus().fireEvent(new ItemCountChangeEvent<>(this, null));
+        getEventBus().fireEvent(new ItemSetChangeEvent<>(this));
+    }
+
+    protected void reset() {
+        pages.clear();
+        count = null;
+        countGeneration++;
+        countTaskStarted = false;
+    }
+
+    protected void loaderPreLoad(CollectionLoader.PreLoadEvent<T> event) {
+        event.preventLoad();
+        refresh();
+    }
+
+    @Override
+    protected void containerCollectionChanged(CollectionContainer.CollectionChangeEvent<T> event) {
+        if (updatingContainer) {
+            return;
+        }
+
+        if (event.getChangeType() == CollectionChangeType.SET_ITEM) {
+            // e.g. an edited entity returned from a detail view, the rows themselves are not changed
+            for (T item : event.getChanges()) {
+                replaceCachedItem(item);
+            }
+            getEventBus().fireEvent(new ItemSetChangeEvent<>(this));
+        } else {
+            refresh();
+        }
+    }
+
+    protected void replaceCachedItem(T item) {
+        for (List<T> page : pages.values()) {
+            int index = page.indexOf(item);
+            if (index >= 0) {
+                page.set(index, item);
+            }
+        }
+    }
+
+    @Override
+    public void sort(Object[] propertyId, boolean[] ascending) {
+        loader.setSort(createSort(propertyId, ascending));
+        refresh();
+    }
+
+    @Override
+    public void resetSortOrder() {
+        loader.setSort(null);
+        refresh();
+    }
+
+    @Override
+    public boolean isInMemory() {
+        return false;
+    }
+
+    @Override
+    public int size(Query<T, Void> query) {
+        if (getState() == BindingState.INACTIVE) {
+            return 0;
+        }
+
+        if (count == null) {
+            count = Math.toIntExact(dataManager.getCount(createCountLoadContext()));
+        }
+        return count;
+    }
+
+    @Override
+    public Stream<T> fetch(Query<T, Void> query) {
+        if (getState() == BindingState.INACTIVE || query.getLimit() <= 0) {
+            return Stream.empty();
+        }
+
+        int offset = query.getOffset();
+        int end = offset + query.getLimit();
+        int firstPage = offset / pageSize;
+        int lastPage = (end - 1) / pageSize;
+
+        List<T> result = new ArrayList<>(query.getLimit());
+        Set<Integer> requestedPages = new HashSet<>();
+        boolean pagesLoaded = false;
+
+        for (int pageIndex = firstPage; pageIndex <= lastPage; pageIndex++) {
+            List<T> page = pages.get(pageIndex);
+            if (page == null) {
+                page = loadPage(pageIndex);
+                pages.put(pageIndex, page);
+                pagesLoaded = true;
+            }
+            requestedPages.add(pageIndex);
+
+            int pageStart = pageIndex * pageSize;
+            int from = Math.max(offset - pageStart, 0);
+            int to = Math.min(end - pageStart, page.size());
+            if (from < to) {
+                result.addAll(page.subList(from, to));
+            }
+
+            if (page.size() < pageSize) {
+                // the last page, so the total number of rows is known without a count query
+                count = pageStart + page.size();
+                break;
+            }
+        }
+
+        if (pagesLoaded) {
+            evictPages(requestedPages);
+            updateContainer();
+        }
+
+        if (count == null) {
+            startCountTask();
+        }
+
+        return result.stream();
+    }
+
+    protected List<T> loadPage(int pageIndex) {
+        LoadContext<T> loadContext = loader.createLoadContext();
+        LoadContext.Query query = loadContext.getQuery();
+        if (query != null) {
+            query.setFirstResult(pageIndex * pageSize);
+            query.setMaxResults(pageSize);
+        }
+
+        log.debug("Loading page {} of {}", pageIndex, container);
+
+        List<T> list;
+        Function<LoadContext<T>, List<T>> delegate = loader.getLoadDelegate();
+        if (delegate == null) {
+            list = dataManager.loadList(loadContext);
+        } else {
+            list = delegate.apply(loadContext);
+        }
+        return list == null ? new ArrayList<>() : new ArrayList<>(list);
+    }
+
+    protected void evictPages(Set<Integer> requestedPages) {
+        Iterator<Integer> iterator = pages.keySet().iterator();
+        while (pages.size() > maxCachedPages && iterator.hasNext()) {
+            if (!requestedPages.contains(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Sets the rows of cached pages to the container keeping the selected item.
+     */
+    protected void updateContainer() {
+        List<T> items = new ArrayList<>();
+        for (List<T> page : new TreeMap<>(pages).values()) {
+            items.addAll(page);
+        }
+
+        T selectedItem = container.getItemOrNull();
+        if (selectedItem != null && !items.contains(selectedItem)) {
+            items.add(selectedItem);
+        }
+
+        updatingContainer = true;
+        try {
+            container.setItems(items);
+        } finally {
+            updatingContainer = false;
+        }
+    }
+
+    protected LoadContext<T> createCountLoadContext() {
+        LoadContext<T> loadContext = loader.createLoadContext();
+        LoadContext.Query query = loadContext.getQuery();
+        if (query != null) {
+            query.setFirstResult(0);
+            query.setMaxResults(0);
+            query.setSort(null);
+        }
+        return loadContext;
+    }
+
+    protected void startCountTask() {
+        if (countTaskStarted
+                || loader.getLoadDelegate() != null
+                || UI.getCurrent() == null) {
+            // the grid stays in the undefined size mode
+            return;
+        }
+        countTaskStarted = true;
+
+        LoadContext<T> loadContext = createCountLoadContext();
+        int generation = countGeneration;
+
+        backgroundWorker.handle(new BackgroundTask<Void, Long>(COUNT_TIMEOUT_SECONDS) {
+            @Override
+            public Long run(TaskLifeCycle<Void> taskLifeCycle) {
+                return dataManager.getCount(loadContext);
+            }
+
+            @Override
+            public void done(Long result) {
+                countCalculated(generation, result);
+            }
+
+            @Override
+            public boolean handleException(Exception ex) {
+                log.warn("Unable to calculate the number of rows of {}", container, ex);
+                return true;
+            }
+        }).execute();
+    }
+
+    protected void countCalculated(int generation, long result) {
+        if (generation != countGeneration) {
+            // rows have been reset while counting
+            return;
+        }
+
+        count = Math.toIntExact(result);
+        getEventBus().fireEvent(new ItemCountChangeEvent<>(this, count));
+    }
+
+    /**
+     * Adds a listener notified when the total number of rows is calculated or reset.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Registration addItemCountChangeListener(Consumer<ItemCountChangeEvent<T>> listener) {
+        return getEventBus().addListener(ItemCountChangeEvent.class, ((Consumer) listener));
+    }
+
+    /**
+     * An event that is fired when the total number of rows is calculated or reset.
+     *
+     * @param <T> row item type
+     */
+    public static class ItemCountChangeEvent<T> extends EventObject {
+
+        protected final Integer count;
+
+        public ItemCountChangeEvent(LazyLoadingDataGridItems<T> source, @Nullable Integer count) {
+            super(source);
+            this.count = count;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public LazyLoadingDataGridItems<T> getSource() {
+            return (LazyLoadingDataGridItems<T>) super.getSource();
+        }
+
+        /**
+         * @return total number of rows or {@code null} if it is not known yet
+         */
+        @Nullable
+        public Integer getCount() {
+            return count;
+        }
+    }
+}
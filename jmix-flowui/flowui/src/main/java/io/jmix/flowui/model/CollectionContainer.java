@@ -79,6 +79,31 @@ public interface CollectionContainer<E> extends InstanceContainer<E> {
      */
     void replaceItem(E entity);
 
+    /**
+     * Returns true if the container is read-only.
+     *
+     * @see #setReadOnly(boolean)
+     */
+    default boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Sets the read-only mode of the container. A read-only container doesn't track changes of its entities,
+     * so it doesn't send {@link ItemPropertyChangeEvent}s, and throws {@link IllegalStateException} on attempts
+     * to modify its collection by {@link #getMutableItems()} or {@link #replaceItem(Object)}. Loaders don't merge
+     * entities loaded into a read-only container into {@link DataContext}.
+     * <p>
+     * The mode is intended for large lists that are only displayed.
+     *
+     * @throws UnsupportedOperationException if the container doesn't support the read-only mode
+     */
+    default void setReadOnly(boolean readOnly) {
+        if (readOnly) {
+            throw new UnsupportedOperationException(getClass().getName() + " doesn't support read-only mode");
+        }
+    }
+
     /**
      * Returns sorter object currently set for the container.
      */
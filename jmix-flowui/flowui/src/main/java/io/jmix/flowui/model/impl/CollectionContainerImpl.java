@@ -51,6 +51,8 @@ public class CollectionContainerImpl<E>
 
     protected Sorter sorter;
 
+    protected boolean readOnly;
+
     public CollectionContainerImpl(MetaClass metaClass) {
         super(metaClass);
     }
@@ -79,6 +81,8 @@ public class CollectionContainerImpl<E>
 
     @Override
     public List<E> getMutableItems() {
+        checkNotReadOnly();
+
         return new ObservableList<>(collection, idMap,
                 (changeType, changes) -> {
                     buildIdMap();
@@ -155,6 +159,7 @@ public class CollectionContainerImpl<E>
     @Override
     public void replaceItem(E entity) {
         checkNotNullArgument(entity, "entity is null");
+        checkNotReadOnly();
 
         int idx = getItemIndex(entity);
         CollectionChangeType changeType;
@@ -190,6 +195,31 @@ public class CollectionContainerImpl<E>
         return events.subscribe(CollectionChangeEvent.class, (Consumer) listener);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) {
+        if (this.readOnly == readOnly) {
+            return;
+        }
+        if (readOnly) {
+            detachListener(collection);
+            this.readOnly = true;
+        } else {
+            this.readOnly = false;
+            attachListener(collection);
+        }
+    }
+
+    protected void checkNotReadOnly() {
+        if (readOnly) {
+            throw new IllegalStateException("Container is read-only: " + this);
+        }
+    }
+
     @Nullable
     @Override
     public Sorter getSorter() {
@@ -239,17 +269,37 @@ public class CollectionContainerImpl<E>
     }
 
     protected void attachListener(Collection<E> entities) {
+        if (readOnly) {
+            return;
+        }
         for (E entity : entities) {
             attachListener(entity);
         }
     }
 
     protected void detachListener(Collection<E> entities) {
+        if (readOnly) {
+            return;
+        }
         for (E entity : entities) {
             detachListener(entity);
         }
     }
 
+    @Override
+    protected void attachListener(Object entity) {
+        if (!readOnly) {
+            super.attachListener(entity);
+        }
+    }
+
+    @Override
+    protected void detachListener(Object entity) {
+        if (!readOnly) {
+            super.detachListener(entity);
+        }
+    }
+
     protected void buildIdMap() {
         idMap.clear();
         for (int i = 0; i < collection.size(); i++) {
@@ -284,6 +334,7 @@ public class CollectionContainerImpl<E>
                 "entity=" + entityMetaClass +
                 ", view=" + fetchPlan +
                 ", size=" + collection.size() +
+                (readOnly ? ", readOnly" : "") +
                 '}';
     }
 }
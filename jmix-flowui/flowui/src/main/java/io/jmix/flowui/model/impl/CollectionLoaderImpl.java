@@ -128,7 +128,7 @@ public class CollectionLoaderImpl<E> implements CollectionLoader<E> {
         DataLoaderMonitoringInfo info = monitoringInfoProvider.apply(this);
         stopDataLoaderTimerSample(sample, meterRegistry, DataLoaderLifeCycle.LOAD, info);
 
-        if (dataContext != null) {
+        if (dataContext != null && !container.isReadOnly()) {
             List<E> mergedList = new ArrayList<>(list.size());
             for (E entity : list) {
                 mergedList.add(dataContext.merge(entity, new MergeOptions().setFresh(true)));
@@ -60,6 +60,8 @@ public class CollectionPropertyContainerImpl<E>
 
     @Override
     public List<E> getMutableItems() {
+        checkNotReadOnly();
+
         return new ObservableList<>(collection, idMap, (changeType, changes) -> {
             buildIdMap();
             clearItemIfNotExists();
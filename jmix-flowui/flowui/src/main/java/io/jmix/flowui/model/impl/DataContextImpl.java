@@ -270,7 +270,7 @@ public class DataContextImpl implements DataContextInternal {
                     && (srcNew || entityStates.isLoaded(srcEntity, propertyName))// loaded src
                     && (dstNew || entityStates.isLoaded(dstEntity, propertyName))) {// loaded dst - have to check to avoid unfetched for local properties
 
-                Object value = EntityValues.getValue(srcEntity, propertyName);
+                Object value = EntityValues.getValue(srcEntity, property);
 
                 // ignore null values in non-root source entities
                 if (!isRoot && !options.isFresh() && value == null) {
@@ -286,7 +286,7 @@ public class DataContextImpl implements DataContextInternal {
             if (property.getRange().isClass()                                               // refs and collections
                     && !(metadataTools.isMethodBased(property) && property.isReadOnly())
                     && (srcNew || entityStates.isLoaded(srcEntity, propertyName))) {        // loaded src
-                Object value = EntityValues.getValue(srcEntity, propertyName);
+                Object value = EntityValues.getValue(srcEntity, property);
 
                 // ignore null values in non-root source entities
                 if (!isRoot && !options.isFresh() && value == null) {
@@ -340,7 +340,7 @@ public class DataContextImpl implements DataContextInternal {
     protected void setPropertyValue(Object entity, MetaProperty property, @Nullable Object value, boolean checkEquals) {
         EntityPreconditions.checkEntityType(entity);
         if (!property.isReadOnly()) {
-            EntityValues.setValue(entity, property.getName(), value, checkEquals);
+            EntityValues.setValue(entity, property, value, checkEquals);
         } else {
             AnnotatedElement annotatedElement = property.getAnnotatedElement();
             if (annotatedElement instanceof Field) {
@@ -404,7 +404,7 @@ public class DataContextImpl implements DataContextInternal {
             setPropertyValue(managedEntity, property, dstList);
 
         } else {
-            Object managedValue = EntityValues.getValue(managedEntity, property.getName());
+            Object managedValue = EntityValues.getValue(managedEntity, property);
 
             List<Object> dstList = null;
             if (managedValue instanceof List) {
@@ -444,7 +444,7 @@ public class DataContextImpl implements DataContextInternal {
             setPropertyValue(managedEntity, property, dstSet);
 
         } else {
-            Object managedValue = EntityValues.getValue(managedEntity, property.getName());
+            Object managedValue = EntityValues.getValue(managedEntity, property);
 
             Set<Object> dstSet = null;
             if (managedValue instanceof Set) {
@@ -826,7 +826,7 @@ public class DataContextImpl implements DataContextInternal {
         for (MetaProperty property : metadata.getClass(entity).getProperties()) {
             if (!property.getRange().isClass() || !entityStates.isLoaded(entity, property.getName()))
                 continue;
-            Object value = EntityValues.getValue(entity, property.getName());
+            Object value = EntityValues.getValue(entity, property);
             String prefix = StringUtils.repeat("  ", level);
             if (value instanceof Entity) {
                 String str = printEntity(value, level + 1, visited);
@@ -95,6 +95,8 @@ public class KeyValueCollectionContainerImpl
 
     @Override
     public List<KeyValueEntity> getMutableItems() {
+        checkNotReadOnly();
+
         return new ObservableList<>(collection, idMap, (changeType, changes) -> {
             buildIdMap();
             clearItemIfNotExists();
@@ -33,7 +33,8 @@ public interface UserSettingsCache {
     String get(String key);
 
     /**
-     * Adds a value associated with a key to the cache and store.
+     * Adds a value associated with a key to the cache and store. Saving to the store can be delayed,
+     * see {@link io.jmix.flowui.UiViewProperties#getSettingsWriteDelay()}.
      *
      * @param key  setting identifier
      * @param value setting value
@@ -48,7 +49,14 @@ public interface UserSettingsCache {
     void delete(String key);
 
     /**
-     * Clears cache.
+     * Saves to the store the changes that are not saved yet. Does nothing by default, that is
+     * if the implementation saves changes immediately.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Clears cache. The changes that are not saved yet are saved to the store.
      */
     void clear();
 }
@@ -17,6 +17,7 @@ package io.jmix.flowui.settings;
 
 import org.springframework.lang.Nullable;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -35,6 +36,16 @@ public interface UserSettingsService {
      */
     Optional<String> load(String key);
 
+    /**
+     * Loads all settings of the current user.
+     *
+     * @return settings values by identifiers or empty optional if the implementation cannot load all settings
+     * at once, so settings must be loaded one by one using {@link #load(String)}
+     */
+    default Optional<Map<String, String>> loadAll() {
+        return Optional.empty();
+    }
+
     /**
      * Saves value for the current user.
      *
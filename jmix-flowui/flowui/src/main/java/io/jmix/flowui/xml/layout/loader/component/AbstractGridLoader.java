@@ -154,6 +154,7 @@ public abstract class AbstractGridLoader<T extends Grid & EnhancedDataGrid & Has
         // since Vaadin Framework groups columns when appending a header row, it is necessary to
         // load the aggregation after the filters
         // otherwise, when installing a filter, it will be impossible to get actual column from the public API
+        loadBoolean(element, "databaseAggregation", resultComponent::setDatabaseAggregation);
         loadBoolean(element, "aggregatable", resultComponent::setAggregatable);
     }
 
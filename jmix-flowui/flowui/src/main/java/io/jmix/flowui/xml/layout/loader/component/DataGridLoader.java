@@ -16,9 +16,12 @@
 
 package io.jmix.flowui.xml.layout.loader.component;
 
+import io.jmix.core.DataManager;
+import io.jmix.flowui.backgroundtask.BackgroundWorker;
 import io.jmix.flowui.component.grid.DataGrid;
 import io.jmix.flowui.data.grid.ContainerDataGridItems;
 import io.jmix.flowui.data.grid.EmptyDataGridItems;
+import io.jmix.flowui.data.grid.LazyLoadingDataGridItems;
 import org.dom4j.Element;
 
 public class DataGridLoader extends AbstractGridLoader<DataGrid<?>> {
@@ -32,7 +35,15 @@ public class DataGridLoader extends AbstractGridLoader<DataGrid<?>> {
     @Override
     protected void setupDataProvider(GridDataHolder holder) {
         if (holder.getContainer() != null) {
-            resultComponent.setItems(new ContainerDataGridItems(holder.getContainer()));
+            if (loadBoolean(element, "lazyLoading").orElse(false)) {
+                LazyLoadingDataGridItems items = new LazyLoadingDataGridItems(holder.getContainer(),
+                        applicationContext.getBean(DataManager.class),
+                        applicationContext.getBean(BackgroundWorker.class));
+                loadInteger(element, "lazyLoadingPageSize", items::setPageSize);
+                resultComponent.setItems(items);
+            } else {
+                resultComponent.setItems(new ContainerDataGridItems(holder.getContainer()));
+            }
         } else if (holder.getMetaClass() != null) {
             resultComponent.setItems(new EmptyDataGridItems(holder.getMetaClass()));
         }
@@ -152,6 +152,7 @@ public class DataComponentsLoaderSupport {
         } else {
             container = factory.createCollectionContainer(getEntityClass(element));
             loadFetchPlan(element, getEntityClass(element), container);
+            container.setReadOnly(loadReadOnly(element));
         }
 
         dataHolder.registerContainer(containerId, container);
@@ -323,7 +324,7 @@ public class DataComponentsLoaderSupport {
         } else {
             loader = factory.createCollectionLoader();
 
-            if (!loadReadOnly(element)) {
+            if (!loadReadOnly(element) && !container.isReadOnly()) {
                 loader.setDataContext(dataHolder.getDataContextOrNull());
             }
             loader.setContainer(((CollectionContainer) container));
@@ -17,6 +17,7 @@
 package component.grid
 
 import component.grid.view.DataGridAggregationTestView
+import io.jmix.core.DataManager
 import io.jmix.core.Metadata
 import io.jmix.flowui.UiComponents
 import io.jmix.flowui.component.AggregationInfo
@@ -25,7 +26,9 @@ import io.jmix.flowui.data.grid.ContainerDataGridItems
 import io.jmix.flowui.model.DataComponents
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.jdbc.core.JdbcTemplate
 import test_support.entity.AggregationTestEntity
+import test_support.entity.sales.Order
 import test_support.spec.FlowuiTestSpecification
 
 @SpringBootTest
@@ -37,6 +40,10 @@ class DataGridAggregationTest extends FlowuiTestSpecification {
     Metadata metadata
     @Autowired
     DataComponents dataComponents
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    JdbcTemplate jdbc
 
     @Override
     void setup() {
@@ -85,6 +92,49 @@ class DataGridAggregationTest extends FlowuiTestSpecification {
         aggregationResults.get(dataGrid.getColumnByKey("usages")) == 66 // sum
     }
 
+    def "Database aggregation falls back to loaded items without data module"() {
+        def orders = [10.5, 20, 30].collect { amount ->
+            def order = dataManager.create(Order)
+            order.number = "order-$amount"
+            order.amount = amount as BigDecimal
+            order
+        }
+        dataManager.save(orders.toArray())
+
+        def container = dataComponents.createCollectionContainer(Order)
+        def loader = dataComponents.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test_Order e order by e.number')
+        loader.setMaxResults(1)
+
+        def dataGrid = uiComponents.create(DataGrid)
+        //noinspection GroovyAssignabilityCheck
+        dataGrid.items = new ContainerDataGridItems(container)
+
+        def amountPath = metadata.getClass(Order).getPropertyPath('amount')
+        dataGrid.addColumn('amount', amountPath)
+        dataGrid.addColumn('number', metadata.getClass(Order).getPropertyPath('number'))
+        dataGrid.addAggregation(dataGrid.getColumnByKey('amount'),
+                new AggregationInfo(propertyPath: amountPath, type: AggregationInfo.Type.SUM))
+        dataGrid.addAggregation(dataGrid.getColumnByKey('number'),
+                new AggregationInfo(propertyPath: metadata.getClass(Order).getPropertyPath('number'),
+                        type: AggregationInfo.Type.COUNT))
+        dataGrid.databaseAggregation = true
+        dataGrid.aggregatable = true
+
+        when: "Only a page of orders is loaded"
+        loader.load()
+
+        then: "Aggregation results should be calculated over loaded orders because queries cannot be transformed"
+        container.items.size() == 1
+        def aggregationResults = dataGrid.getAggregationResults()
+        aggregationResults.get(dataGrid.getColumnByKey("amount")) == 10.5
+        aggregationResults.get(dataGrid.getColumnByKey("number")) == 1
+
+        cleanup:
+        jdbc.update('delete from TEST_ORDER')
+    }
+
     def addAggregatedColumn(DataGrid dataGrid, String id, AggregationInfo.Type type) {
         def metaClass = metadata.getClass(AggregationTestEntity)
 
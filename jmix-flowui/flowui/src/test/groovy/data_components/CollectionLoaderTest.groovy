@@ -20,6 +20,8 @@ import io.jmix.core.DataManager
 import io.jmix.flowui.model.CollectionContainer
 import io.jmix.flowui.model.CollectionLoader
 import io.jmix.flowui.model.DataComponents
+import io.jmix.flowui.model.DataContext
+import io.jmix.flowui.model.InstanceContainer
 import org.springframework.beans.factory.annotation.Autowired
 import test_support.entity.Foo
 import test_support.spec.DataContextSpec
@@ -121,4 +123,49 @@ class CollectionLoaderTest extends DataContextSpec {
 
         1 * preLoadListener.accept({ it.loadContext.query.queryString == 'select e from test_Foo e where e.name = :name' })
     }
+
+    def "read-only container is loaded without DataContext"() {
+        CollectionLoader<Foo> loader = factory.createCollectionLoader()
+        CollectionContainer<Foo> container = factory.createCollectionContainer(Foo)
+        DataContext dataContext = factory.createDataContext()
+        container.setReadOnly(true)
+        loader.setContainer(container)
+        loader.setDataContext(dataContext)
+
+        Consumer<InstanceContainer.ItemPropertyChangeEvent> propertyChangeListener = Mock()
+        container.addItemPropertyChangeListener(propertyChangeListener)
+
+        Foo foo = new Foo()
+        dataManager.save(foo)
+
+        when:
+
+        loader.setQuery('select e from test_Foo e')
+        loader.load()
+
+        then:
+
+        container.getItems() == [foo]
+        !dataContext.contains(container.getItems()[0])
+
+        when:
+
+        container.getItems()[0].setName('changed')
+
+        then:
+
+        0 * propertyChangeListener.accept(_)
+
+        when:
+
+        container.getMutableItems().add(new Foo())
+
+        then:
+
+        thrown(IllegalStateException)
+
+        cleanup:
+
+        deleteRecord(foo)
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package data_components
+
+import com.vaadin.flow.data.provider.Query
+import io.jmix.core.DataManager
+import io.jmix.core.Sort
+import io.jmix.flowui.backgroundtask.BackgroundWorker
+import io.jmix.flowui.data.grid.DataGridItems
+import io.jmix.flowui.data.grid.LazyLoadingDataGridItems
+import io.jmix.flowui.model.CollectionContainer
+import io.jmix.flowui.model.CollectionLoader
+import io.jmix.flowui.model.DataComponents
+import org.springframework.beans.factory.annotation.Autowired
+import test_support.entity.sales.Customer
+import test_support.spec.DataContextSpec
+
+import java.util.function.Consumer
+
+class LazyLoadingDataGridItemsTest extends DataContextSpec {
+
+    @Autowired
+    DataManager dataManager
+    @Autowired
+    DataComponents factory
+    @Autowired
+    BackgroundWorker backgroundWorker
+
+    CollectionContainer<Customer> container
+    CollectionLoader<Customer> loader
+    LazyLoadingDataGridItems<Customer> items
+
+    @Override
+    void setup() {
+        25.times {
+            def customer = dataManager.create(Customer)
+            customer.name = String.format('customer-%02d', it)
+            dataManager.save(customer)
+        }
+
+        container = factory.createCollectionContainer(Customer)
+        loader = factory.createCollectionLoader()
+        loader.setContainer(container)
+        loader.setQuery('select e from test_Customer e')
+        loader.setSort(Sort.by('name'))
+
+        items = new LazyLoadingDataGridItems<>(container, dataManager, backgroundWorker)
+        items.setPageSize(10)
+        items.setMaxCachedPages(2)
+    }
+
+    def "rows are loaded by pages"() {
+        when:
+        def firstRows = items.fetch(new Query<>(0, 5, null, null, null)).toList()
+
+        then:
+        firstRows*.name == (0..4).collect { String.format('customer-%02d', it) }
+        container.items.size() == 10
+        items.knownCount == null
+
+        when:
+        def lastRows = items.fetch(new Query<>(15, 20, null, null, null)).toList()
+
+        then:
+        lastRows*.name == (15..24).collect { String.format('customer-%02d', it) }
+        items.knownCount == 25
+    }
+
+    def "least recently used pages are evicted"() {
+        when:
+        items.fetch(new Query<>(0, 10, null, null, null)).toList()
+        items.fetch(new Query<>(10, 10, null, null, null)).toList()
+        items.fetch(new Query<>(20, 10, null, null, null)).toList()
+
+        then:
+        container.items.size() == 15
+        container.items*.name.every { it >= 'customer-10' }
+    }
+
+    def "selected item is kept in container"() {
+        items.fetch(new Query<>(0, 10, null, null, null)).toList()
+        def selected = container.items[0]
+        container.setItem(selected)
+
+        when:
+        items.fetch(new Query<>(10, 10, null, null, null)).toList()
+        items.fetch(new Query<>(20, 10, null, null, null)).toList()
+
+        then:
+        container.item == selected
+        container.items.contains(selected)
+    }
+
+    def "size is calculated by count query"() {
+        expect:
+        items.size(new Query<>()) == 25
+    }
+
+    def "loader load resets rows instead of loading container"() {
+        Consumer<DataGridItems.ItemSetChangeEvent<Customer>> listener = Mock()
+        items.addItemSetChangeListener(listener)
+
+        items.fetch(new Query<>(0, 10, null, null, null)).toList()
+
+        when:
+        loader.load()
+
+        then:
+        1 * listener.accept(_)
+        items.knownCount == null
+
+        when:
+        loader.setSort(Sort.by(Sort.Direction.DESC, 'name'))
+        loader.load()
+        def rows = items.fetch(new Query<>(0, 2, null, null, null)).toList()
+
+        then:
+        rows*.name == ['customer-24', 'customer-23']
+    }
+}
@@ -23,8 +23,11 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -144,10 +147,116 @@ public class EntityEntryEnhancingStep extends BaseEnhancingStep {
         setupHasUuid(nestedCtClass, ctClass, info);
         setupVersion(nestedCtClass, ctClass, info);
 
+        makeIndexedAttributeMethods(nestedCtClass, ctClass);
 
         nestedCtClass.writeFile(outputDir);
     }
 
+    /**
+     * Generates {@code getIndexedAttributeNames()}, {@code getAttributeValue(int)} and
+     * {@code setAttributeValue(int, Object)} methods which access attributes by index without reflection.
+     * Only attributes having exactly one public getter and one public setter of the field type are included,
+     * other attributes are accessed by name.
+     */
+    protected void makeIndexedAttributeMethods(CtClass nestedClass, CtClass ctClass)
+            throws NotFoundException, CannotCompileException {
+        List<CtField> fields = findIndexedAttributeFields(ctClass);
+        if (fields.isEmpty()) {
+            return;
+        }
+
+        StringBuilder names = new StringBuilder("{ return new java.lang.String[]{");
+        StringBuilder getter = new StringBuilder(String.format("{ %s e = (%s) getSource(); switch ($1) {",
+                ctClass.getName(), ctClass.getName()));
+        StringBuilder setter = new StringBuilder(getter);
+
+        for (int i = 0; i < fields.size(); i++) {
+            CtField field = fields.get(i);
+            String capitalizedName = StringUtils.capitalize(field.getName());
+            CtClass type = field.getType();
+
+            names.append(i == 0 ? "" : ", ").append('"').append(field.getName()).append('"');
+            getter.append(String.format(" case %d: return ($w) e.get%s();", i, capitalizedName));
+            setter.append(String.format(" case %d: e.set%s(%s); return;", i, capitalizedName, unwrapArgument(type)));
+        }
+
+        names.append("}; }");
+        getter.append(" } return super.getAttributeValue($1); }");
+        setter.append(" } super.setAttributeValue($1, $2); }");
+
+        CtClass objectClass = classPool.get(Object.class.getName());
+
+        nestedClass.addMethod(CtNewMethod.make(Modifier.PROTECTED, classPool.get("java.lang.String[]"),
+                "getIndexedAttributeNames", null, null, names.toString(), nestedClass));
+        nestedClass.addMethod(CtNewMethod.make(objectClass, "getAttributeValue",
+                new CtClass[]{CtClass.intType}, null, getter.toString(), nestedClass));
+        nestedClass.addMethod(CtNewMethod.make(CtClass.voidType, "setAttributeValue",
+                new CtClass[]{CtClass.intType, objectClass}, null, setter.toString(), nestedClass));
+
+        logger.debug(String.format("Entity %s has %d indexed attributes", ctClass.getSimpleName(), fields.size()));
+    }
+
+    protected List<CtField> findIndexedAttributeFields(CtClass ctClass) throws NotFoundException {
+        List<CtField> result = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (CtClass current = ctClass; current != null && !current.getName().equals(Object.class.getName());
+             current = current.getSuperclass()) {
+            for (CtField field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())
+                        || field.getName().startsWith("_")
+                        || !Character.isLowerCase(field.getName().charAt(0))
+                        || !names.add(field.getName())) {
+                    continue;
+                }
+                if (hasSingleAccessors(ctClass, field)) {
+                    result.add(field);
+                }
+            }
+        }
+        return result;
+    }
+
+    protected boolean hasSingleAccessors(CtClass ctClass, CtField field) throws NotFoundException {
+        String capitalizedName = StringUtils.capitalize(field.getName());
+        CtMethod getter = null;
+        CtMethod setter = null;
+        for (CtMethod method : ctClass.getMethods()) {
+            String name = method.getName();
+            if (name.equals("get" + capitalizedName) || name.equals("is" + capitalizedName)) {
+                if (method.getParameterTypes().length == 0) {
+                    if (getter != null) {
+                        return false;
+                    }
+                    getter = method;
+                }
+            } else if (name.equals("set" + capitalizedName)) {
+                if (setter != null) {
+                    return false;
+                }
+                setter = method;
+            }
+        }
+        return getter != null && setter != null
+                && getter.getName().startsWith("get")
+                && isPublicInstanceMethod(getter)
+                && isPublicInstanceMethod(setter)
+                && getter.getReturnType().equals(field.getType())
+                && setter.getParameterTypes().length == 1
+                && setter.getParameterTypes()[0].equals(field.getType());
+    }
+
+    protected boolean isPublicInstanceMethod(CtMethod method) {
+        return Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers());
+    }
+
+    protected String unwrapArgument(CtClass type) {
+        if (type.isPrimitive()) {
+            CtPrimitiveType primitiveType = (CtPrimitiveType) type;
+            return String.format("((%s) $2).%s()", primitiveType.getWrapperName(), primitiveType.getGetMethodName());
+        }
+        return String.format("(%s) $2", type.getName());
+    }
+
     @Nullable
     protected CtField findGeneratedIdField(AnnotationsInfo info) {
         CtField primaryKeyField = info.getPrimaryKey();
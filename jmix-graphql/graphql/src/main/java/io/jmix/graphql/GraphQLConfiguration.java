@@ -28,6 +28,7 @@ import io.jmix.core.Messages;
 import io.jmix.core.annotation.JmixModule;
 import io.jmix.graphql.datafetcher.MessagesDataFetcher;
 import io.jmix.graphql.datafetcher.PermissionDataFetcher;
+import io.jmix.graphql.execution.EntityDataLoaderInstrumentation;
 import io.jmix.graphql.limitation.JmixMaxQueryDepthInstrumentation;
 import io.jmix.graphql.limitation.LimitationProperties;
 import io.jmix.graphql.limitation.OperationRateLimitInstrumentation;
@@ -139,7 +140,8 @@ public class GraphQLConfiguration {
                 new SecurityInstrumentation(schemeRegistry,accessManager,messages),
                 new OperationRateLimitInstrumentation(operationRateLimitService),
                 new SpecificPermissionInstrumentation(accessManager, messages),
-                new JmixMaxQueryDepthInstrumentation(limitationProperties.getMaxQueryDepth())
+                new JmixMaxQueryDepthInstrumentation(limitationProperties.getMaxQueryDepth()),
+                new EntityDataLoaderInstrumentation()
         );
     }
 
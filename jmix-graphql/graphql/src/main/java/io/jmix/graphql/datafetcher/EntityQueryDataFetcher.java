@@ -13,6 +13,8 @@ import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.metamodel.model.MetaProperty;
 import io.jmix.core.querycondition.Condition;
 import io.jmix.core.querycondition.LogicalCondition;
+import io.jmix.graphql.execution.EntityDataLoaders;
+import io.jmix.graphql.execution.RootFieldsExecutor;
 import io.jmix.graphql.service.IdentifierService;
 import io.jmix.graphql.NamingUtils;
 import io.jmix.graphql.loader.*;
@@ -31,6 +33,7 @@ import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static io.jmix.graphql.NamingUtils.SYS_ATTR_INSTANCE_NAME;
@@ -60,6 +63,10 @@ public class EntityQueryDataFetcher {
     protected QueryDataFetcherLoader queryDataFetcherLoader;
     @Autowired
     protected IdentifierService identifierService;
+    @Autowired
+    protected EntityDataLoaders entityDataLoaders;
+    @Autowired
+    protected RootFieldsExecutor rootFieldsExecutor;
 
     private static final String GRAPHQL_ENTITY_LOADER_METHOD_NAME = GraphQLEntityDataFetcher.class.getDeclaredMethods()[0].getName();
 
@@ -67,14 +74,17 @@ public class EntityQueryDataFetcher {
 
     private static final String GRAPHQL_COUNT_LOADER_METHOD_NAME = GraphQLEntityCountDataFetcher.class.getDeclaredMethods()[0].getName();
 
+    protected final Map<Pair<Class<?>, String>, Method> customFetcherMethods = new ConcurrentHashMap<>();
+
     public DataFetcher<?> loadEntity(MetaClass metaClass) {
 
         return environment -> {
             checkCanReadEntity(metaClass);
 
             String id = environment.getArgument("id");
+            Object entityId = identifierService.parse(id, metaClass);
             LoadContext<?> lc = new LoadContext<>(metaClass);
-            lc.setId(identifierService.parse(id, metaClass));
+            lc.setId(entityId);
             FetchPlan fetchPlan = dataFetcherPlanBuilder.buildFetchPlan(metaClass.getJavaClass(), environment);
             lc.setFetchPlan(fetchPlan);
             Boolean softDeletion = environment.getArgument(NamingUtils.SOFT_DELETION);
@@ -84,12 +94,19 @@ public class EntityQueryDataFetcher {
 
             log.debug("loadEntity: with context {}", lc);
             if (queryDataFetcherLoader.getCustomEntityFetcher(metaClass.getJavaClass()) == null) {
+                if (softDeletion == null) {
+                    // loaded together with other by-id fields of the request
+                    Set<String> props = environmentUtils.getDotDelimitedProps(environment);
+                    return entityDataLoaders.load(environment, metaClass, entityId, fetchPlan)
+                            .thenApply(entity -> entity == null ? null
+                                    : responseBuilder.buildResponse((Entity) entity, fetchPlan, metaClass, props));
+                }
                 Object entity = dataManager.load(lc);
                 if (entity == null) return null;
                 return responseBuilder.buildResponse((Entity) entity, fetchPlan, metaClass, environmentUtils.getDotDelimitedProps(environment));
             } else {
                 Object bean = queryDataFetcherLoader.getCustomEntityFetcher(metaClass.getJavaClass());
-                Method method = bean.getClass().getDeclaredMethod(GRAPHQL_ENTITY_LOADER_METHOD_NAME,
+                Method method = getCustomFetcherMethod(bean, GRAPHQL_ENTITY_LOADER_METHOD_NAME,
                         GraphQLEntityDataFetcherContext.class);
                 return responseBuilder.buildResponse((Entity) method.invoke(bean,
                                 new GraphQLEntityDataFetcherContext(metaClass, id, lc, fetchPlan)), fetchPlan, metaClass,
@@ -98,7 +115,7 @@ public class EntityQueryDataFetcher {
         };
     }
 
-    public DataFetcher<List<Map<String, Object>>> loadEntities(MetaClass metaClass) {
+    public DataFetcher<?> loadEntities(MetaClass metaClass) {
 
         return environment -> {
             checkCanReadEntity(metaClass);
@@ -144,25 +161,29 @@ public class EntityQueryDataFetcher {
             if (softDeletion != null) {
                 ctx.setHint("jmix.softDeletion", softDeletion);
             }
-            List<Object> objects;
+            Set<String> props = environmentUtils.getDotDelimitedProps(environment);
             if (queryDataFetcherLoader.getCustomEntitiesFetcher(metaClass.getJavaClass()) == null) {
-                objects = dataManager.loadList(ctx);
+                return rootFieldsExecutor.execute(environment,
+                        () -> buildEntitiesResponse(metaClass, dataManager.loadList(ctx), fetchPan, props));
             } else {
                 Object bean = queryDataFetcherLoader.getCustomEntitiesFetcher(metaClass.getJavaClass());
-                Method method = bean.getClass().getDeclaredMethod(GRAPHQL_ENTITIES_LOADER_METHOD_NAME,
+                Method method = getCustomFetcherMethod(bean, GRAPHQL_ENTITIES_LOADER_METHOD_NAME,
                         GraphQLEntityListDataFetcherContext.class);
-                objects = (List<Object>) method.invoke(bean, new GraphQLEntityListDataFetcherContext(metaClass, ctx, condition,
+                List<Object> objects = (List<Object>) method.invoke(bean, new GraphQLEntityListDataFetcherContext(metaClass, ctx, condition,
                         orderByConditions, limit, offset, fetchPan));
+                return buildEntitiesResponse(metaClass, objects, fetchPan, props);
             }
+        };
+    }
 
-            Set<String> props = environmentUtils.getDotDelimitedProps(environment);
-            List<Map<String, Object>> entitiesAsMap = objects.stream()
-                    .map(e -> responseBuilder.buildResponse((Entity) e, fetchPan, metaClass, props))
-                    .collect(Collectors.toList());
+    protected List<Map<String, Object>> buildEntitiesResponse(MetaClass metaClass, List<Object> objects,
+                                                              FetchPlan fetchPlan, Set<String> props) {
+        List<Map<String, Object>> entitiesAsMap = objects.stream()
+                .map(e -> responseBuilder.buildResponse((Entity) e, fetchPlan, metaClass, props))
+                .collect(Collectors.toList());
 
-            log.debug("loadEntities return {} objects for {}", entitiesAsMap.size(), metaClass.getName());
-            return entitiesAsMap;
-        };
+        log.debug("loadEntities return {} objects for {}", entitiesAsMap.size(), metaClass.getName());
+        return entitiesAsMap;
     }
 
     /**
@@ -287,10 +308,15 @@ public class EntityQueryDataFetcher {
             }
             long count;
             if (queryDataFetcherLoader.getCustomCountFetcher(metaClass.getJavaClass()) == null) {
-                count = dataManager.getCount(lc);
+                return rootFieldsExecutor.execute(environment, () -> {
+                    long result = dataManager.getCount(lc);
+                    log.debug("countEntities return {} for {}", result, metaClass.getName());
+                    return result;
+                });
             } else {
                 Object bean = queryDataFetcherLoader.getCustomCountFetcher(metaClass.getJavaClass());
-                Method method = bean.getClass().getDeclaredMethod(GRAPHQL_COUNT_LOADER_METHOD_NAME, GraphQLEntityCountDataFetcherContext.class);
+                Method method = getCustomFetcherMethod(bean, GRAPHQL_COUNT_LOADER_METHOD_NAME,
+                        GraphQLEntityCountDataFetcherContext.class);
                 count = (Long) method.invoke(bean, new GraphQLEntityCountDataFetcherContext(metaClass, lc,
                         condition));
             }
@@ -299,6 +325,19 @@ public class EntityQueryDataFetcher {
         };
     }
 
+    /**
+     * Returns the loader method of a custom data fetcher bean. Methods are cached by bean class.
+     */
+    protected Method getCustomFetcherMethod(Object bean, String methodName, Class<?> contextClass) throws NoSuchMethodException {
+        Pair<Class<?>, String> key = new ImmutablePair<>(bean.getClass(), methodName);
+        Method method = customFetcherMethods.get(key);
+        if (method == null) {
+            method = bean.getClass().getDeclaredMethod(methodName, contextClass);
+            customFetcherMethods.put(key, method);
+        }
+        return method;
+    }
+
     // todo methods above copypasted from 'jmix-rest'
     protected void checkCanReadEntity(MetaClass metaClass) {
         CrudEntityContext entityContext = applyEntityConstraints(metaClass);
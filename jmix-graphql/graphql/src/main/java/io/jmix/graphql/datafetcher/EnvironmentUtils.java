@@ -16,10 +16,17 @@
 
 package io.jmix.graphql.datafetcher;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import graphql.GraphQLContext;
 import graphql.kickstart.servlet.context.DefaultGraphQLServletContext;
+import graphql.language.Directive;
+import graphql.language.Document;
+import graphql.language.Field;
+import graphql.language.Node;
 import graphql.schema.DataFetchingEnvironment;
 import graphql.schema.DataFetchingFieldSelectionSet;
+import graphql.schema.GraphQLTypeUtil;
 import io.jmix.core.Metadata;
 import io.jmix.core.MetadataTools;
 import io.jmix.core.metamodel.model.MetaClass;
@@ -34,8 +41,11 @@ import org.springframework.web.context.request.ServletWebRequest;
 import javax.annotation.Nullable;
 import javax.servlet.http.HttpServletRequest;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -50,6 +60,11 @@ public class EnvironmentUtils {
     @Autowired
     private Metadata metadata;
 
+    protected final Cache<Document, DocumentPropertyPaths> propertyPathsCache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(1000)
+            .build();
+
     /**
      * @param environment gql data fetch environment
      * @return true if _instanceName should be returned for query, else false
@@ -109,7 +124,23 @@ public class EnvironmentUtils {
     }
 
     public Stream<String> getPropertyPaths(DataFetchingEnvironment environment) {
-        return getPaths(environment.getSelectionSet(), "").stream();
+        Document document = environment.getDocument();
+        if (document == null) {
+            return getPaths(environment.getSelectionSet(), "").stream();
+        }
+
+        DocumentPropertyPaths documentPaths = propertyPathsCache.asMap()
+                .computeIfAbsent(document, d -> new DocumentPropertyPaths(hasConditionalDirectives(d)));
+        if (documentPaths.conditional) {
+            // selection set depends on variables
+            return getPaths(environment.getSelectionSet(), "").stream();
+        }
+
+        FieldKey key = new FieldKey(GraphQLTypeUtil.simplePrint(environment.getParentType()),
+                environment.getMergedField().getFields());
+        return documentPaths.paths
+                .computeIfAbsent(key, k -> Collections.unmodifiableList(getPaths(environment.getSelectionSet(), "")))
+                .stream();
     }
 
     public List<String> getPaths(DataFetchingFieldSelectionSet selectionSet, String currentPath) {
@@ -158,6 +189,19 @@ public class EnvironmentUtils {
         return httpServletRequest == null ? null : httpServletRequest.getRemoteAddr();
     }
 
+    protected boolean hasConditionalDirectives(Node<?> node) {
+        if (node instanceof Directive) {
+            String name = ((Directive) node).getName();
+            return "include".equals(name) || "skip".equals(name);
+        }
+        for (Node<?> child : node.getChildren()) {
+            if (hasConditionalDirectives(child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected MetaClass findMetaClassByOutTypeName(String outTypeName) {
         MetaClass result = metadata.findClass(outTypeName);
         if (result == null) {
@@ -169,5 +213,56 @@ public class EnvironmentUtils {
         return result;
     }
 
+    /**
+     * Property paths of fields of a query document. Documents are the same instances for the same query if
+     * they are cached by {@link io.jmix.graphql.preparsed.JmixPreparsedDocumentProvider}.
+     */
+    protected static class DocumentPropertyPaths {
 
+        protected final boolean conditional;
+        protected final Map<FieldKey, List<String>> paths = new ConcurrentHashMap<>();
+
+        protected DocumentPropertyPaths(boolean conditional) {
+            this.conditional = conditional;
+        }
+    }
+
+    /**
+     * Identifies a field in a document by its parent type and AST nodes.
+     */
+    protected static class FieldKey {
+
+        protected final String parentTypeName;
+        protected final List<Field> fields;
+
+        protected FieldKey(String parentTypeName, List<Field> fields) {
+            this.parentTypeName = parentTypeName;
+            this.fields = fields;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            FieldKey that = (FieldKey) o;
+            if (!parentTypeName.equals(that.parentTypeName) || fields.size() != that.fields.size()) {
+                return false;
+            }
+            for (int i = 0; i < fields.size(); i++) {
+                if (fields.get(i) != that.fields.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = parentTypeName.hashCode();
+            for (Field field : fields) {
+                result = 31 * result + System.identityHashCode(field);
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.ExecutionStrategyInstrumentationContext;
+import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionStrategyParameters;
+import org.dataloader.DataLoaderRegistry;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates a {@link RequestDataLoaderRegistry} for each request and dispatches its data loaders when all fields
+ * of a level have been fetched, so loads requested by different fields are sent as a batch.
+ */
+public class EntityDataLoaderInstrumentation extends SimpleInstrumentation {
+
+    @Override
+    public ExecutionInput instrumentExecutionInput(ExecutionInput executionInput,
+                                                   InstrumentationExecutionParameters parameters) {
+        DataLoaderRegistry registry = new RequestDataLoaderRegistry(executionInput.getDataLoaderRegistry());
+        return executionInput.transform(builder -> builder.dataLoaderRegistry(registry));
+    }
+
+    @Override
+    public ExecutionStrategyInstrumentationContext beginExecutionStrategy(InstrumentationExecutionStrategyParameters parameters) {
+        DataLoaderRegistry registry = parameters.getExecutionContext().getDataLoaderRegistry();
+        return new ExecutionStrategyInstrumentationContext() {
+            @Override
+            public void onDispatched(CompletableFuture<ExecutionResult> result) {
+                if (registry instanceof RequestDataLoaderRegistry) {
+                    registry.dispatchAll();
+                }
+            }
+
+            @Override
+            public void onCompleted(ExecutionResult result, Throwable t) {
+            }
+        };
+    }
+}
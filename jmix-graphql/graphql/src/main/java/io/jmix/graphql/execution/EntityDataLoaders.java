@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution;
+
+import graphql.schema.DataFetchingEnvironment;
+import io.jmix.core.DataManager;
+import io.jmix.core.FetchPlan;
+import io.jmix.core.LoadContext;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.metamodel.model.MetaClass;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Loads entities by ids through per-request data loaders, one for each entity. Ids requested by different fields
+ * of a query are collected and loaded by a single {@link DataManager} request per fetch plan, and each entity is
+ * loaded once per request.
+ * <p>
+ * If batch loading is disabled or the request has no {@link RequestDataLoaderRegistry}, entities are loaded
+ * immediately.
+ */
+@Component("gql_EntityDataLoaders")
+public class EntityDataLoaders {
+
+    public static final String LOADER_NAME_PREFIX = "gql_entities_";
+
+    @Autowired
+    protected DataManager dataManager;
+    @Autowired
+    protected ExecutionProperties executionProperties;
+
+    /**
+     * Loads an entity by id.
+     *
+     * @return future completed with the loaded entity or null if the entity is not found
+     */
+    public CompletableFuture<Object> load(DataFetchingEnvironment environment, MetaClass metaClass,
+                                          Object id, FetchPlan fetchPlan) {
+        DataLoader<EntityKey, Object> dataLoader = findDataLoader(environment, metaClass);
+        EntityKey key = new EntityKey(id, fetchPlan);
+        if (dataLoader == null) {
+            return CompletableFuture.completedFuture(loadEntities(metaClass, Collections.singletonList(key)).get(0));
+        }
+        return dataLoader.load(key);
+    }
+
+    @Nullable
+    protected DataLoader<EntityKey, Object> findDataLoader(DataFetchingEnvironment environment, MetaClass metaClass) {
+        DataLoaderRegistry registry = environment.getDataLoaderRegistry();
+        if (!executionProperties.isBatchLoadingEnabled() || !(registry instanceof RequestDataLoaderRegistry)) {
+            return null;
+        }
+        return registry.computeIfAbsent(LOADER_NAME_PREFIX + metaClass.getName(),
+                name -> DataLoader.newDataLoader((List<EntityKey> keys) ->
+                        CompletableFuture.completedFuture(loadEntities(metaClass, keys))));
+    }
+
+    protected List<Object> loadEntities(MetaClass metaClass, List<EntityKey> keys) {
+        Map<FetchPlan, List<Object>> idsByFetchPlan = new LinkedHashMap<>();
+        for (EntityKey key : keys) {
+            idsByFetchPlan.computeIfAbsent(key.fetchPlan, fetchPlan -> new ArrayList<>()).add(key.id);
+        }
+
+        Map<EntityKey, Object> entities = new HashMap<>();
+        for (Map.Entry<FetchPlan, List<Object>> entry : idsByFetchPlan.entrySet()) {
+            LoadContext<Object> loadContext = new LoadContext<>(metaClass)
+                    .setIds(entry.getValue())
+                    .setFetchPlan(entry.getKey());
+            for (Object entity : dataManager.loadList(loadContext)) {
+                entities.put(new EntityKey(EntityValues.getId(entity), entry.getKey()), entity);
+            }
+        }
+
+        List<Object> result = new ArrayList<>(keys.size());
+        for (EntityKey key : keys) {
+            result.add(entities.get(key));
+        }
+        return result;
+    }
+
+    protected static class EntityKey {
+
+        protected final Object id;
+        protected final FetchPlan fetchPlan;
+
+        protected EntityKey(Object id, FetchPlan fetchPlan) {
+            this.id = id;
+            this.fetchPlan = fetchPlan;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            EntityKey that = (EntityKey) o;
+            return id.equals(that.id) && fetchPlan.equals(that.fetchPlan);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, fetchPlan);
+        }
+    }
+}
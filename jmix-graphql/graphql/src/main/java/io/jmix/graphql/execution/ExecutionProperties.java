@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "jmix.graphql")
+@ConstructorBinding
+public class ExecutionProperties {
+
+    /**
+     * Whether entities requested by id in different fields of a query are loaded by a single request to
+     * {@code DataManager} per entity.
+     */
+    boolean batchLoadingEnabled;
+
+    /**
+     * Number of threads that execute root fields of queries concurrently. Default value 0 means that root fields
+     * are executed one by one in the request thread.
+     */
+    int rootFieldsPoolSize;
+
+    public ExecutionProperties(@DefaultValue("true") boolean batchLoadingEnabled,
+                               @DefaultValue("0") int rootFieldsPoolSize) {
+        this.batchLoadingEnabled = batchLoadingEnabled;
+        this.rootFieldsPoolSize = rootFieldsPoolSize;
+    }
+
+    /**
+     * @see #batchLoadingEnabled
+     */
+    public boolean isBatchLoadingEnabled() {
+        return batchLoadingEnabled;
+    }
+
+    /**
+     * @see #rootFieldsPoolSize
+     */
+    public int getRootFieldsPoolSize() {
+        return rootFieldsPoolSize;
+    }
+}
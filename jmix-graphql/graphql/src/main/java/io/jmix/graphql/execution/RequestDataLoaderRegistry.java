@@ -0,0 +1,31 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution;
+
+import org.dataloader.DataLoaderRegistry;
+
+/**
+ * Data loader registry created for a single request by {@link EntityDataLoaderInstrumentation}.
+ */
+public class RequestDataLoaderRegistry extends DataLoaderRegistry {
+
+    public RequestDataLoaderRegistry(DataLoaderRegistry registry) {
+        for (String key : registry.getKeys()) {
+            register(key, registry.getDataLoader(key));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import io.jmix.core.security.SecurityContextHelper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executes root fields of queries on a bounded thread pool, so independent root fields of a query are executed
+ * concurrently. The authentication of the request is passed to the pool threads.
+ * <p>
+ * Nested fields and all fields if the pool size is 0 are executed in the calling thread. When the pool queue is full,
+ * the calling thread executes the field too.
+ */
+@Component("gql_RootFieldsExecutor")
+public class RootFieldsExecutor implements DisposableBean {
+
+    protected static final int QUEUE_CAPACITY_PER_THREAD = 16;
+
+    @Nullable
+    protected final ExecutorService executor;
+
+    @Autowired
+    public RootFieldsExecutor(ExecutionProperties executionProperties) {
+        int poolSize = executionProperties.getRootFieldsPoolSize();
+        if (poolSize > 0) {
+            executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(poolSize * QUEUE_CAPACITY_PER_THREAD),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("jmix-graphql-root-field-%d")
+                            .setDaemon(true)
+                            .build(),
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+        } else {
+            executor = null;
+        }
+    }
+
+    public <T> CompletableFuture<T> execute(DataFetchingEnvironment environment, Callable<T> task) {
+        if (executor == null || environment.getExecutionStepInfo().getPath().getLevel() != 1) {
+            try {
+                return CompletableFuture.completedFuture(task.call());
+            } catch (Exception e) {
+                CompletableFuture<T> result = new CompletableFuture<>();
+                result.completeExceptionally(e);
+                return result;
+            }
+        }
+
+        Authentication authentication = SecurityContextHelper.getAuthentication();
+        return CompletableFuture.supplyAsync(() -> {
+            Authentication previousAuthentication = SecurityContextHelper.getAuthentication();
+            SecurityContextHelper.setAuthentication(authentication);
+            try {
+                return task.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                SecurityContextHelper.setAuthentication(previousAuthentication);
+            }
+        }, executor);
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package io.jmix.graphql.limitation;
 
+import graphql.ExecutionResult;
 import graphql.execution.instrumentation.InstrumentationContext;
 import graphql.execution.instrumentation.SimpleInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
 import graphql.execution.instrumentation.parameters.InstrumentationValidationParameters;
 import graphql.validation.ValidationError;
 import io.jmix.graphql.datafetcher.EnvironmentUtils;
@@ -34,12 +36,28 @@ public class OperationRateLimitInstrumentation extends SimpleInstrumentation {
         this.operationRateLimitService = operationRateLimitService;
     }
 
+    /**
+     * Counts the operation that failed validation, such an operation is not executed.
+     */
     @Override
-    public  InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters) {
+    public InstrumentationContext<List<ValidationError>> beginValidation(InstrumentationValidationParameters parameters) {
         return whenCompleted((errors, throwable) -> {
-            if (operationRateLimitService.isRateLimited()) {
+            if ((throwable != null || (errors != null && !errors.isEmpty()))
+                    && operationRateLimitService.isRateLimited()) {
                 operationRateLimitService.queryPerformed(EnvironmentUtils.getRemoteIPAddress(parameters.getContext()));
             }
         });
     }
+
+    /**
+     * Counts the valid operation on the beginning of execution rather than on validation, because validation
+     * is skipped for cached documents.
+     */
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecution(InstrumentationExecutionParameters parameters) {
+        if (operationRateLimitService.isRateLimited()) {
+            operationRateLimitService.queryPerformed(EnvironmentUtils.getRemoteIPAddress(parameters.getContext()));
+        }
+        return super.beginExecution(parameters);
+    }
 }
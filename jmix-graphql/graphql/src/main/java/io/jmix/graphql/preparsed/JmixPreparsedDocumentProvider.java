@@ -0,0 +1,147 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.preparsed;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caches parsed and validated query documents by query text, so the same query is parsed and validated once.
+ * <p>
+ * Also supports automatic persisted queries: a client sends the SHA-256 hash of the query in the
+ * {@code persistedQuery} extension. If the query text is absent and the hash is unknown, the
+ * {@code PersistedQueryNotFound} error is returned, and the client repeats the request with both the query and
+ * the hash.
+ */
+@Component("gql_JmixPreparsedDocumentProvider")
+public class JmixPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    public static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+    public static final String SHA256_HASH = "sha256Hash";
+
+    public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    public static final String PERSISTED_QUERY_NOT_SUPPORTED = "PersistedQueryNotSupported";
+
+    protected final PreparsedDocumentProperties properties;
+
+    protected final Cache<String, PreparsedDocumentEntry> documents;
+    protected final Cache<String, String> persistedQueries;
+
+    @Autowired
+    public JmixPreparsedDocumentProvider(PreparsedDocumentProperties properties) {
+        this.properties = properties;
+        this.documents = CacheBuilder.newBuilder()
+                .maximumSize(properties.getDocumentCacheSize())
+                .build();
+        this.persistedQueries = CacheBuilder.newBuilder()
+                .maximumSize(properties.getDocumentCacheSize())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.getDocumentCacheSize() > 0;
+    }
+
+    @Override
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput,
+                                              Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        String hash = getPersistedQueryHash(executionInput);
+        if (hash == null) {
+            return getParsedDocument(executionInput, parseAndValidateFunction);
+        }
+
+        if (!properties.isPersistedQueriesEnabled()) {
+            return new PreparsedDocumentEntry(createError(PERSISTED_QUERY_NOT_SUPPORTED, "PERSISTED_QUERY_NOT_SUPPORTED"));
+        }
+
+        String query = executionInput.getQuery();
+        if (StringUtils.isEmpty(query) || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query)) {
+            String persistedQuery = persistedQueries.getIfPresent(hash);
+            if (persistedQuery == null) {
+                return new PreparsedDocumentEntry(createError(PERSISTED_QUERY_NOT_FOUND, "PERSISTED_QUERY_NOT_FOUND"));
+            }
+            return getParsedDocument(executionInput.transform(builder -> builder.query(persistedQuery)),
+                    parseAndValidateFunction);
+        }
+
+        if (!hash.equalsIgnoreCase(Hashing.sha256().hashString(query, StandardCharsets.UTF_8).toString())) {
+            return new PreparsedDocumentEntry(createError("provided sha does not match query", "BAD_USER_INPUT"));
+        }
+        persistedQueries.put(hash, query);
+        return getParsedDocument(executionInput, parseAndValidateFunction);
+    }
+
+    /**
+     * Removes all cached documents and persisted queries.
+     */
+    public void clear() {
+        documents.invalidateAll();
+        persistedQueries.invalidateAll();
+    }
+
+    protected PreparsedDocumentEntry getParsedDocument(ExecutionInput executionInput,
+                                                       Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        String query = executionInput.getQuery();
+        PreparsedDocumentEntry entry = documents.getIfPresent(query);
+        if (entry == null) {
+            // is not cached if parsing or validation is aborted by an exception, e.g. when max query depth is exceeded
+            entry = parseAndValidateFunction.apply(executionInput);
+            // invalid documents are validated again on each request, so the validation instrumentations see them
+            if (!entry.hasErrors()) {
+                documents.put(query, entry);
+            }
+        }
+        return entry;
+    }
+
+    @Nullable
+    protected String getPersistedQueryHash(ExecutionInput executionInput) {
+        Map<String, Object> extensions = executionInput.getExtensions();
+        if (extensions == null) {
+            return null;
+        }
+        Object persistedQuery = extensions.get(PERSISTED_QUERY_EXTENSION);
+        if (persistedQuery instanceof Map) {
+            Object hash = ((Map<?, ?>) persistedQuery).get(SHA256_HASH);
+            return hash instanceof String ? (String) hash : null;
+        }
+        return null;
+    }
+
+    protected GraphQLError createError(String message, String code) {
+        return GraphqlErrorBuilder.newError()
+                .message(message)
+                .extensions(Collections.singletonMap("code", code))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.preparsed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "jmix.graphql")
+@ConstructorBinding
+public class PreparsedDocumentProperties {
+
+    /**
+     * Max number of parsed and validated query documents kept in the cache, 1000 by default. Value 0 means
+     * documents are not cached and each query is parsed and validated on every request.
+     */
+    int documentCacheSize;
+
+    /**
+     * Whether clients can send only the SHA-256 hash of a query that has been sent before (automatic persisted
+     * queries). Works only if {@link #documentCacheSize} is greater than 0.
+     */
+    boolean persistedQueriesEnabled;
+
+    public PreparsedDocumentProperties(@DefaultValue("1000") int documentCacheSize,
+                                       @DefaultValue("true") boolean persistedQueriesEnabled) {
+        this.documentCacheSize = documentCacheSize;
+        this.persistedQueriesEnabled = persistedQueriesEnabled;
+    }
+
+    /**
+     * @see #documentCacheSize
+     */
+    public int getDocumentCacheSize() {
+        return documentCacheSize;
+    }
+
+    /**
+     * @see #persistedQueriesEnabled
+     */
+    public boolean isPersistedQueriesEnabled() {
+        return persistedQueriesEnabled;
+    }
+}
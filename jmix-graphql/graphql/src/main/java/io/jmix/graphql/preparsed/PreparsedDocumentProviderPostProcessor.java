@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.preparsed;
+
+import graphql.GraphQL;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sets {@link JmixPreparsedDocumentProvider} to the {@link GraphQL} bean if caching of documents is enabled.
+ */
+@Component("gql_PreparsedDocumentProviderPostProcessor")
+public class PreparsedDocumentProviderPostProcessor implements BeanPostProcessor {
+
+    protected final ObjectProvider<JmixPreparsedDocumentProvider> documentProvider;
+
+    public PreparsedDocumentProviderPostProcessor(ObjectProvider<JmixPreparsedDocumentProvider> documentProvider) {
+        this.documentProvider = documentProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof GraphQL) {
+            JmixPreparsedDocumentProvider provider = documentProvider.getObject();
+            if (provider.isEnabled()) {
+                return ((GraphQL) bean).transform(builder -> builder.preparsedDocumentProvider(provider));
+            }
+        }
+        return bean;
+    }
+}
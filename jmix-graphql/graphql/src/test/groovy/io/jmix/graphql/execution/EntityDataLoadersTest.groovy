@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.execution
+
+import io.jmix.core.DataManager
+import io.jmix.core.LoadContext
+import io.jmix.graphql.AbstractGraphQLTest
+import io.jmix.graphql.datafetcher.EntityQueryDataFetcher
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+
+@TestPropertySource(properties = ["jmix.graphql.root-fields-pool-size=2"])
+class EntityDataLoadersTest extends AbstractGraphQLTest {
+
+    @Autowired
+    EntityDataLoaders entityDataLoaders
+    @Autowired
+    EntityQueryDataFetcher entityQueryDataFetcher
+    @Autowired
+    DataManager dataManager
+
+    List<DataManagerCall> calls = Collections.synchronizedList([])
+
+    void setup() {
+        entityDataLoaders.dataManager = recordingDataManager()
+        entityQueryDataFetcher.dataManager = recordingDataManager()
+    }
+
+    void cleanup() {
+        entityDataLoaders.dataManager = dataManager
+        entityQueryDataFetcher.dataManager = dataManager
+    }
+
+    def "by-id fields of a query are loaded together"() {
+        when:
+        def response = query("execution/cars-by-ids.gql")
+
+        then:
+        response.get('$.data.vaz._instanceName') == "VAZ - 2121"
+        response.get('$.data.zaz._instanceName') == "ZAZ - 968M"
+        response.get('$.data.vazAgain._instanceName') == "VAZ - 2121"
+        response.get('$.data.missing') == null
+        getErrors(response) == null
+
+        and: "all fields are loaded by a single request with distinct ids"
+        calls.size() == 1
+        calls[0].method == 'loadList'
+        (calls[0].args[0] as LoadContext).ids.size() == 3
+    }
+
+    def "root list and count fields are executed concurrently"() {
+        when:
+        def response = query("execution/car-list-and-count.gql")
+
+        then:
+        def cars = response.getList('$.data.scr_CarList', Map)
+        !cars.isEmpty()
+        response.get('$.data.scr_CarCount') == String.valueOf(cars.size())
+
+        and: "both fields are loaded on the pool threads"
+        calls*.method.sort() == ['getCount', 'loadList']
+        calls.every { it.threadName.startsWith('jmix-graphql-root-field-') }
+    }
+
+    DataManager recordingDataManager() {
+        InvocationHandler handler = { Object proxy, Method method, Object[] args ->
+            calls.add(new DataManagerCall(method.name, args, Thread.currentThread().name))
+            try {
+                return method.invoke(dataManager, args)
+            } catch (InvocationTargetException e) {
+                throw e.targetException
+            }
+        }
+        return Proxy.newProxyInstance(getClass().classLoader, [DataManager] as Class[], handler) as DataManager
+    }
+
+    static class DataManagerCall {
+        String method
+        Object[] args
+        String threadName
+
+        DataManagerCall(String method, Object[] args, String threadName) {
+            this.method = method
+            this.args = args
+            this.threadName = threadName
+        }
+    }
+}
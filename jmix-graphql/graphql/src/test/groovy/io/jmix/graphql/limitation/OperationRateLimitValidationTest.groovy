@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.limitation
+
+import io.jmix.graphql.AbstractGraphQLTest
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.test.context.TestPropertySource
+
+@TestPropertySource(properties = ["jmix.graphql.operation-rate-limit-per-minute=2"])
+class OperationRateLimitValidationTest extends AbstractGraphQLTest {
+
+    @Autowired
+    private OperationRateLimitService operationRateLimitService
+
+    def "operations failed validation are counted"() {
+        when:
+        def invalidResponses = (0..<2).collect { query("limitation/car-unknown-field.gql") }
+
+        then:
+        invalidResponses.every { getMessage(getErrors(it)[0].getAsJsonObject()).contains('unknownField') }
+        operationRateLimitService.isBlocked("127.0.0.1")
+
+        when:
+        def response = query("limitation/car-depth-1.gql")
+
+        then:
+        getMessage(getErrors(response)[0].getAsJsonObject()) == "Exceeded the number of allowed requests per minute"
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.graphql.preparsed
+
+import com.google.common.hash.Hashing
+import graphql.ExecutionInput
+import graphql.GraphqlErrorBuilder
+import graphql.execution.preparsed.PreparsedDocumentEntry
+import graphql.parser.Parser
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.function.Function
+
+class JmixPreparsedDocumentProviderTest extends Specification {
+
+    static final String QUERY = '{ scr_CarList { id } }'
+
+    JmixPreparsedDocumentProvider provider = new JmixPreparsedDocumentProvider(new PreparsedDocumentProperties(10, true))
+
+    int parseCount = 0
+
+    Function<ExecutionInput, PreparsedDocumentEntry> parseFunction = { ExecutionInput input ->
+        parseCount++
+        new PreparsedDocumentEntry(new Parser().parseDocument(input.query))
+    }
+
+    def "query is parsed once"() {
+        when:
+        def entry1 = provider.getDocument(ExecutionInput.newExecutionInput(QUERY).build(), parseFunction)
+        def entry2 = provider.getDocument(ExecutionInput.newExecutionInput(QUERY).build(), parseFunction)
+
+        then:
+        parseCount == 1
+        entry1.is(entry2)
+        !entry1.hasErrors()
+    }
+
+    def "document with validation errors is not cached"() {
+        Function<ExecutionInput, PreparsedDocumentEntry> invalidFunction = { ExecutionInput input ->
+            parseCount++
+            new PreparsedDocumentEntry(GraphqlErrorBuilder.newError().message('invalid').build())
+        }
+
+        when:
+        provider.getDocument(ExecutionInput.newExecutionInput(QUERY).build(), invalidFunction)
+        def entry = provider.getDocument(ExecutionInput.newExecutionInput(QUERY).build(), invalidFunction)
+
+        then:
+        parseCount == 2
+        entry.hasErrors()
+    }
+
+    def "persisted query is found by hash"() {
+        def hash = Hashing.sha256().hashString(QUERY, StandardCharsets.UTF_8).toString()
+        def extensions = [persistedQuery: [version: 1, sha256Hash: hash]]
+
+        when:
+        def notFound = provider.getDocument(hashOnlyInput(extensions), parseFunction)
+
+        then:
+        notFound.hasErrors()
+        notFound.errors[0].message == JmixPreparsedDocumentProvider.PERSISTED_QUERY_NOT_FOUND
+
+        when:
+        provider.getDocument(ExecutionInput.newExecutionInput(QUERY).extensions(extensions).build(), parseFunction)
+        def found = provider.getDocument(hashOnlyInput(extensions), parseFunction)
+
+        then:
+        !found.hasErrors()
+        found.document != null
+        parseCount == 1
+    }
+
+    def "persisted query with wrong hash is rejected"() {
+        def extensions = [persistedQuery: [version: 1, sha256Hash: 'abc']]
+
+        when:
+        def entry = provider.getDocument(ExecutionInput.newExecutionInput(QUERY).extensions(extensions).build(), parseFunction)
+
+        then:
+        entry.hasErrors()
+        parseCount == 0
+    }
+
+    private static ExecutionInput hashOnlyInput(Map<String, Object> extensions) {
+        ExecutionInput.newExecutionInput('').extensions(extensions).build()
+    }
+}
@@ -19,9 +19,11 @@ package io.jmix.localfs;
 import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.CoreProperties;
+import io.jmix.core.FileMetadata;
 import io.jmix.core.FileRef;
 import io.jmix.core.FileStorage;
 import io.jmix.core.FileStorageException;
+import io.jmix.core.RangeFileStorage;
 import io.jmix.core.TimeSource;
 import io.jmix.core.UuidProvider;
 import io.jmix.core.annotation.Internal;
@@ -29,6 +31,7 @@ import jakarta.annotation.PreDestroy;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,21 +42,27 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
 
 @Internal
 @Component("locfs_FileStorage")
-public class LocalFileStorage implements FileStorage {
+public class LocalFileStorage implements RangeFileStorage {
 
     private static final Logger log = LoggerFactory.getLogger(LocalFileStorage.class);
 
@@ -238,6 +247,83 @@ public class LocalFileStorage implements FileStorage {
         }
     }
 
+    @Override
+    public InputStream openStream(FileRef reference, long offset, long length) {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Offset and length must not be negative");
+        }
+        Path path = getExistingFilePath(reference);
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, READ);
+            channel.position(offset);
+            return new BoundedInputStream(Channels.newInputStream(channel), length);
+        } catch (IOException e) {
+            IOUtils.closeQuietly(channel);
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, path.toAbsolutePath().toString(), e);
+        }
+    }
+
+    @Override
+    public FileMetadata getFileMetadata(FileRef reference) {
+        Path path = getExistingFilePath(reference);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return new FileMetadata(attributes.size(), new Date(attributes.lastModifiedTime().toMillis()), null);
+        } catch (IOException e) {
+            throw new FileStorageException(FileStorageException.Type.IO_EXCEPTION, path.toAbsolutePath().toString(), e);
+        }
+    }
+
+    @Override
+    public long transferTo(FileRef reference, WritableByteChannel target) throws IOException {
+        Path path = getExistingFilePath(reference);
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            return transferTo(channel, 0, channel.size(), target);
+        }
+    }
+
+    @Override
+    public long transferTo(FileRef reference, long offset, long length, WritableByteChannel target) throws IOException {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("Offset and length must not be negative");
+        }
+        Path path = getExistingFilePath(reference);
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            long count = Math.min(length, Math.max(channel.size() - offset, 0));
+            return transferTo(channel, offset, count, target);
+        }
+    }
+
+    /**
+     * Transfers bytes using {@link FileChannel#transferTo(long, long, WritableByteChannel)}. The data is copied
+     * by the OS without user space buffers only if the target is a file or socket channel, other channels
+     * are written through an intermediate buffer.
+     */
+    protected long transferTo(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            long n = channel.transferTo(position + transferred, count - transferred, target);
+            if (n <= 0) {
+                break;
+            }
+            transferred += n;
+        }
+        return transferred;
+    }
+
+    protected Path getExistingFilePath(FileRef reference) {
+        Path relativePath = getRelativePath(reference.getPath());
+        for (Path root : getStorageRoots()) {
+            Path path = root.resolve(relativePath);
+            if (path.toFile().exists()) {
+                return path;
+            }
+        }
+        throw new FileStorageException(FileStorageException.Type.FILE_NOT_FOUND, reference.toString());
+    }
+
     @Override
     public void removeFile(FileRef reference) {
         Path[] roots = getStorageRoots();
@@ -18,6 +18,7 @@
 import io.jmix.core.FileRef
 import io.jmix.core.FileStorage
 import io.jmix.core.CoreConfiguration
+import io.jmix.core.RangeFileStorage
 import io.jmix.localfs.LocalFileStorageConfiguration
 import org.apache.commons.io.IOUtils
 import org.springframework.beans.factory.annotation.Autowired
@@ -47,6 +48,20 @@ class LocalFileStorageTest extends Specification {
         fileStorage.removeFile(fileRef)
     }
 
+    def "load part of file contents"() {
+        byte[] a = 'Test output'.getBytes()
+        FileRef fileRef = fileStorage.saveStream("test.txt", new ByteArrayInputStream(a))
+        RangeFileStorage rangeFileStorage = (RangeFileStorage) fileStorage
+
+        expect:
+        rangeFileStorage.getFileSize(fileRef) == a.length
+        rangeFileStorage.openStream(fileRef, 5, 3).withCloseable { IOUtils.toByteArray(it) } == 'out'.getBytes()
+        rangeFileStorage.openStream(fileRef, 5, 100).withCloseable { IOUtils.toByteArray(it) } == 'output'.getBytes()
+
+        cleanup:
+        fileStorage.removeFile(fileRef)
+    }
+
     def "FileRef format"() {
         when: "FileRef as URI string"
         def fileRefString = 'fs://2021/01/25/60680137-5d4a-69a0-999e-526acf141308.png?name=1.txt&testParam=foo'
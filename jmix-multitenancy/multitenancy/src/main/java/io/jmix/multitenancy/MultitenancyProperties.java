@@ -18,6 +18,9 @@ package io.jmix.multitenancy;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "jmix.multitenancy")
 public class MultitenancyProperties {
@@ -32,12 +35,42 @@ public class MultitenancyProperties {
      */
     final boolean joinSameTenantOnlyEnabled;
 
+    /**
+     * JDBC URL of tenant databases with the {@code {tenantId}} placeholder, for example
+     * {@code jdbc:postgresql://localhost/app?currentSchema={tenantId}}. If set, connections of the main data store
+     * are obtained from the database of the current user's tenant. Users without tenant work with the main database.
+     */
+    final String tenantDataSourceUrl;
+
+    /**
+     * User name of tenant databases. The {@code {tenantId}} placeholder can be used.
+     */
+    final String tenantDataSourceUsername;
+
+    /**
+     * Password of tenant databases.
+     */
+    final String tenantDataSourcePassword;
+
+    /**
+     * Time after which the connection pool of a tenant database which is not used is closed.
+     */
+    final Duration tenantDataSourceIdleTimeout;
+
     public MultitenancyProperties(
             @DefaultValue("tenantId") String tenantIdUrlParamName,
-            @DefaultValue("false") boolean joinSameTenantOnlyEnabled
+            @DefaultValue("false") boolean joinSameTenantOnlyEnabled,
+            @Nullable String tenantDataSourceUrl,
+            @Nullable String tenantDataSourceUsername,
+            @Nullable String tenantDataSourcePassword,
+            @DefaultValue("30m") Duration tenantDataSourceIdleTimeout
     ) {
         this.tenantIdUrlParamName = tenantIdUrlParamName;
         this.joinSameTenantOnlyEnabled = joinSameTenantOnlyEnabled;
+        this.tenantDataSourceUrl = tenantDataSourceUrl;
+        this.tenantDataSourceUsername = tenantDataSourceUsername;
+        this.tenantDataSourcePassword = tenantDataSourcePassword;
+        this.tenantDataSourceIdleTimeout = tenantDataSourceIdleTimeout;
     }
 
     public String getTenantIdUrlParamName() {
@@ -47,4 +80,23 @@ public class MultitenancyProperties {
     public boolean isJoinSameTenantOnlyEnabled() {
         return joinSameTenantOnlyEnabled;
     }
+
+    @Nullable
+    public String getTenantDataSourceUrl() {
+        return tenantDataSourceUrl;
+    }
+
+    @Nullable
+    public String getTenantDataSourceUsername() {
+        return tenantDataSourceUsername;
+    }
+
+    @Nullable
+    public String getTenantDataSourcePassword() {
+        return tenantDataSourcePassword;
+    }
+
+    public Duration getTenantDataSourceIdleTimeout() {
+        return tenantDataSourceIdleTimeout;
+    }
 }
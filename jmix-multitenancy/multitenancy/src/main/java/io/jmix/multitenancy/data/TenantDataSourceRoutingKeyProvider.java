@@ -0,0 +1,52 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.multitenancy.data;
+
+import com.google.common.base.Strings;
+import io.jmix.core.Stores;
+import io.jmix.data.DataSourceRoutingKeyProvider;
+import io.jmix.multitenancy.MultitenancyProperties;
+import io.jmix.multitenancy.core.TenantProvider;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Returns the current tenant id as the key of the main data store database if connections are routed to tenant
+ * databases by {@link TenantRoutingDataSource}.
+ */
+@Component("mten_TenantDataSourceRoutingKeyProvider")
+public class TenantDataSourceRoutingKeyProvider implements DataSourceRoutingKeyProvider {
+
+    private final MultitenancyProperties properties;
+    private final TenantProvider tenantProvider;
+
+    public TenantDataSourceRoutingKeyProvider(MultitenancyProperties properties, TenantProvider tenantProvider) {
+        this.properties = properties;
+        this.tenantProvider = tenantProvider;
+    }
+
+    @Nullable
+    @Override
+    public String getCurrentKey(String storeName) {
+        if (Strings.isNullOrEmpty(properties.getTenantDataSourceUrl()) || !Stores.isMain(storeName)) {
+            return null;
+        }
+        String tenantId = tenantProvider.getCurrentUserTenantId();
+        // the same as in TenantRoutingDataSource: users without tenant work with the default database
+        return tenantId == null || TenantProvider.NO_TENANT.equals(tenantId) ? null : tenantId;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.multitenancy.data;
+
+import com.google.common.base.Strings;
+import io.jmix.core.Metadata;
+import io.jmix.core.Stores;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.eclipselink.persistence.DescriptorProcessor;
+import io.jmix.eclipselink.persistence.DescriptorProcessorContext;
+import io.jmix.multitenancy.MultitenancyProperties;
+import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Disables the shared entity cache of the main data store if connections are routed to tenant databases by
+ * {@link TenantRoutingDataSource}. Entities of different tenants are loaded from different databases and can have
+ * equal ids, so a shared cache could return an entity of another tenant.
+ */
+@Component("mten_TenantRoutingCacheDescriptorProcessor")
+public class TenantRoutingCacheDescriptorProcessor implements DescriptorProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRoutingCacheDescriptorProcessor.class);
+
+    private final MultitenancyProperties properties;
+    private final Metadata metadata;
+
+    public TenantRoutingCacheDescriptorProcessor(MultitenancyProperties properties, Metadata metadata) {
+        this.properties = properties;
+        this.metadata = metadata;
+    }
+
+    @Override
+    public void process(DescriptorProcessorContext context) {
+        if (Strings.isNullOrEmpty(properties.getTenantDataSourceUrl())) {
+            return;
+        }
+
+        ClassDescriptor descriptor = context.getDescriptor();
+        MetaClass metaClass = metadata.getSession().findClass(descriptor.getJavaClass());
+        if (metaClass == null || !Stores.isMain(metaClass.getStore().getName())) {
+            return;
+        }
+
+        if (descriptor.getCacheIsolation() != CacheIsolationType.ISOLATED) {
+            log.debug("Shared cache of {} is disabled because of tenant data source routing", metaClass.getName());
+            descriptor.setCacheIsolation(CacheIsolationType.ISOLATED);
+        }
+        // see JmixEclipseLinkSessionEventListener#setCacheable()
+        metaClass.getAnnotations().remove("cacheable");
+    }
+}
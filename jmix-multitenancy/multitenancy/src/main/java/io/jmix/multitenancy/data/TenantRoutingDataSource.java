@@ -0,0 +1,270 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.multitenancy.data;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.jmix.multitenancy.core.TenantProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DataSource that routes connections to the database of the current user's tenant.
+ * <p>
+ * Tenant data sources are created on the first request of a connection for the tenant and closed after
+ * they have no open connections and are not used during the idle timeout. If the tenant is not determined,
+ * connections are obtained from the default data source.
+ * <p>
+ * Connections of tenant data sources are wrapped to track the open ones, so they must be closed by the caller
+ * as usual.
+ */
+public class TenantRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantRoutingDataSource.class);
+
+    protected final DataSource defaultDataSource;
+    protected final Supplier<String> tenantIdSupplier;
+    protected final Function<String, DataSource> dataSourceFactory;
+    protected final Duration idleTimeout;
+
+    protected final ConcurrentMap<String, TenantDataSource> tenantDataSources = new ConcurrentHashMap<>();
+
+    protected volatile ScheduledExecutorService evictionExecutor;
+
+    /**
+     * @param defaultDataSource data source for users without tenant
+     * @param tenantIdSupplier  supplier of the current tenant id, see {@link TenantProvider#getCurrentUserTenantId()}
+     * @param dataSourceFactory creates a data source for the given tenant id
+     * @param idleTimeout       time after which a data source which is not used is closed
+     */
+    public TenantRoutingDataSource(DataSource defaultDataSource,
+                                   Supplier<String> tenantIdSupplier,
+                                   Function<String, DataSource> dataSourceFactory,
+                                   Duration idleTimeout) {
+        this.defaultDataSource = defaultDataSource;
+        this.tenantIdSupplier = tenantIdSupplier;
+        this.dataSourceFactory = dataSourceFactory;
+        this.idleTimeout = idleTimeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    protected Connection getConnection(ConnectionOpener opener) throws SQLException {
+        String tenantId = tenantIdSupplier.get();
+        if (tenantId == null || TenantProvider.NO_TENANT.equals(tenantId)) {
+            return opener.open(defaultDataSource);
+        }
+
+        TenantDataSource tenantDataSource = acquireTenantDataSource(tenantId);
+        Connection connection;
+        try {
+            connection = opener.open(tenantDataSource.dataSource);
+        } catch (SQLException | RuntimeException e) {
+            tenantDataSource.release();
+            throw e;
+        }
+        return createConnectionProxy(connection, tenantDataSource);
+    }
+
+    /**
+     * Returns the data source of the given tenant counting a new open connection, so the data source
+     * is not closed until the connection is released.
+     */
+    protected TenantDataSource acquireTenantDataSource(String tenantId) {
+        while (true) {
+            TenantDataSource tenantDataSource = tenantDataSources.computeIfAbsent(tenantId, this::createTenantDataSource);
+            if (tenantDataSource.acquire()) {
+                return tenantDataSource;
+            }
+            // closed by the eviction, will be created again
+            tenantDataSources.remove(tenantId, tenantDataSource);
+        }
+    }
+
+    /**
+     * Returns ids of tenants having an open data source.
+     */
+    public Iterable<String> getActiveTenants() {
+        return tenantDataSources.keySet();
+    }
+
+    /**
+     * Closes data sources of tenants that have no open connections and were not used during the idle timeout.
+     */
+    public void evictIdleDataSources() {
+        long idleSince = System.nanoTime() - idleTimeout.toNanos();
+        for (Map.Entry<String, TenantDataSource> entry : tenantDataSources.entrySet()) {
+            TenantDataSource tenantDataSource = entry.getValue();
+            if (tenantDataSource.closeIfIdle(idleSince)) {
+                tenantDataSources.remove(entry.getKey(), tenantDataSource);
+
+                log.debug("Closing idle data source of tenant '{}'", entry.getKey());
+
+                closeDataSource(tenantDataSource.dataSource);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+        }
+        for (TenantDataSource tenantDataSource : tenantDataSources.values()) {
+            closeDataSource(tenantDataSource.dataSource);
+        }
+        tenantDataSources.clear();
+        closeDataSource(defaultDataSource);
+    }
+
+    protected TenantDataSource createTenantDataSource(String tenantId) {
+        log.debug("Creating data source of tenant '{}'", tenantId);
+
+        startEviction();
+        return new TenantDataSource(dataSourceFactory.apply(tenantId));
+    }
+
+    protected void startEviction() {
+        if (evictionExecutor == null && !idleTimeout.isZero() && !idleTimeout.isNegative()) {
+            synchronized (this) {
+                if (evictionExecutor == null) {
+                    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+                            new ThreadFactoryBuilder().setNameFormat("TenantDataSourceEviction-%d").setDaemon(true).build());
+                    long period = Math.max(1000, idleTimeout.toMillis() / 2);
+                    executor.scheduleWithFixedDelay(this::evictIdleDataSources, period, period, TimeUnit.MILLISECONDS);
+                    evictionExecutor = executor;
+                }
+            }
+        }
+    }
+
+    protected Connection createConnectionProxy(Connection connection, TenantDataSource tenantDataSource) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    tenantDataSource.release();
+                                }
+                            }
+                        default:
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+
+    protected void closeDataSource(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Unable to close data source {}", dataSource, e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    protected interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * Data source of a tenant with the count of open connections. The state is guarded by the instance lock,
+     * so a data source cannot be closed by the eviction while a connection is being obtained from it.
+     */
+    protected static class TenantDataSource {
+
+        protected final DataSource dataSource;
+        protected long lastAccessTime = System.nanoTime();
+        protected int openConnections;
+        protected boolean closed;
+
+        protected TenantDataSource(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        /**
+         * @return false if the data source is already closed
+         */
+        protected synchronized boolean acquire() {
+            if (closed) {
+                return false;
+            }
+            openConnections++;
+            lastAccessTime = System.nanoTime();
+            return true;
+        }
+
+        protected synchronized void release() {
+            openConnections--;
+            lastAccessTime = System.nanoTime();
+        }
+
+        /**
+         * Marks the data source as closed if it has no open connections and was not used since the given time.
+         *
+         * @return true if the data source must be closed by the caller
+         */
+        protected synchronized boolean closeIfIdle(long idleSince) {
+            if (closed || openConnections > 0 || lastAccessTime - idleSince >= 0) {
+                return false;
+            }
+            closed = true;
+            return true;
+        }
+    }
+}
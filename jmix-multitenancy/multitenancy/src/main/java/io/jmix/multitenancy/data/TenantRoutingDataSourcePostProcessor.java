@@ -0,0 +1,97 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.multitenancy.data;
+
+import com.google.common.base.Strings;
+import com.google.common.base.Suppliers;
+import io.jmix.multitenancy.MultitenancyProperties;
+import io.jmix.multitenancy.core.TenantProvider;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Wraps the main data source into {@link TenantRoutingDataSource} if the
+ * {@code jmix.multitenancy.tenant-data-source-url} property is set.
+ * <p>
+ * Tenant data sources are created by {@link DataSourceBuilder}, so the connection pool available in the classpath
+ * is used. The tenant databases must have the same schema as the main database. Query cache results, reserved ids
+ * and created sequences are kept separately for each tenant database using the key provided by
+ * {@link TenantDataSourceRoutingKeyProvider}. The shared entity cache of the main data store is disabled by
+ * {@link TenantRoutingCacheDescriptorProcessor}.
+ */
+@Component("mten_TenantRoutingDataSourcePostProcessor")
+public class TenantRoutingDataSourcePostProcessor implements BeanPostProcessor, BeanFactoryAware {
+
+    public static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    protected static final String TENANT_ID_PLACEHOLDER = "{tenantId}";
+    protected static final Pattern TENANT_ID_PATTERN = Pattern.compile("[\\w\\-]+");
+
+    protected BeanFactory beanFactory;
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!DATA_SOURCE_BEAN_NAME.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+            return bean;
+        }
+
+        // obtained here, not injected, to avoid early initialization of the beans by the post-processor
+        MultitenancyProperties properties = beanFactory.getBean(MultitenancyProperties.class);
+        if (Strings.isNullOrEmpty(properties.getTenantDataSourceUrl())) {
+            return bean;
+        }
+
+        Supplier<TenantProvider> tenantProvider = Suppliers.memoize(() -> beanFactory.getBean(TenantProvider.class));
+        return new TenantRoutingDataSource(dataSource,
+                () -> tenantProvider.get().getCurrentUserTenantId(),
+                tenantId -> createDataSource(properties, tenantId),
+                properties.getTenantDataSourceIdleTimeout());
+    }
+
+    protected DataSource createDataSource(MultitenancyProperties properties, String tenantId) {
+        if (!TENANT_ID_PATTERN.matcher(tenantId).matches()) {
+            throw new IllegalStateException("Tenant id '" + tenantId + "' cannot be used in data source URL");
+        }
+
+        DataSourceBuilder<?> builder = DataSourceBuilder.create()
+                .url(replaceTenantId(properties.getTenantDataSourceUrl(), tenantId));
+        if (properties.getTenantDataSourceUsername() != null) {
+            builder.username(replaceTenantId(properties.getTenantDataSourceUsername(), tenantId));
+        }
+        if (properties.getTenantDataSourcePassword() != null) {
+            builder.password(properties.getTenantDataSourcePassword());
+        }
+        return builder.build();
+    }
+
+    protected String replaceTenantId(String value, String tenantId) {
+        return value.replace(TENANT_ID_PLACEHOLDER, tenantId);
+    }
+}
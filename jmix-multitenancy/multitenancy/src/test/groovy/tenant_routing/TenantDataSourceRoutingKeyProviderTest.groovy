@@ -0,0 +1,63 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tenant_routing
+
+import io.jmix.core.Stores
+import io.jmix.multitenancy.MultitenancyProperties
+import io.jmix.multitenancy.core.TenantProvider
+import io.jmix.multitenancy.data.TenantDataSourceRoutingKeyProvider
+import spock.lang.Specification
+
+import java.time.Duration
+
+class TenantDataSourceRoutingKeyProviderTest extends Specification {
+
+    String tenantId = 'tenant1'
+
+    TenantProvider tenantProvider = Stub {
+        getCurrentUserTenantId() >> { tenantId }
+    }
+
+    def "current tenant is the key of main data store"() {
+        def provider = createProvider('jdbc:hsqldb:mem:tenant_{tenantId}')
+
+        expect:
+        provider.getCurrentKey(Stores.MAIN) == 'tenant1'
+        provider.getCurrentKey('additional') == null
+    }
+
+    def "no key for users without tenant"() {
+        def provider = createProvider('jdbc:hsqldb:mem:tenant_{tenantId}')
+        tenantId = TenantProvider.NO_TENANT
+
+        expect:
+        provider.getCurrentKey(Stores.MAIN) == null
+    }
+
+    def "no key without tenant data source url"() {
+        def provider = createProvider(null)
+
+        expect:
+        provider.getCurrentKey(Stores.MAIN) == null
+    }
+
+    TenantDataSourceRoutingKeyProvider createProvider(String tenantDataSourceUrl) {
+        def properties = new MultitenancyProperties('tenantId', false,
+                tenantDataSourceUrl, 'sa', '', Duration.ofMinutes(30))
+        return new TenantDataSourceRoutingKeyProvider(properties, tenantProvider)
+    }
+}
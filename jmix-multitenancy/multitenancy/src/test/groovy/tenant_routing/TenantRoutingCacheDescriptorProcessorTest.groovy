@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tenant_routing
+
+import io.jmix.core.Metadata
+import io.jmix.core.Stores
+import io.jmix.core.metamodel.model.MetaClass
+import io.jmix.core.metamodel.model.Session
+import io.jmix.core.metamodel.model.Store
+import io.jmix.eclipselink.persistence.DescriptorProcessorContext
+import io.jmix.multitenancy.MultitenancyProperties
+import io.jmix.multitenancy.data.TenantRoutingCacheDescriptorProcessor
+import org.eclipse.persistence.config.CacheIsolationType
+import org.eclipse.persistence.descriptors.RelationalDescriptor
+import spock.lang.Specification
+
+import java.time.Duration
+
+class TenantRoutingCacheDescriptorProcessorTest extends Specification {
+
+    Map<String, Object> annotations = [cacheable: true]
+    String storeName = Stores.MAIN
+
+    Metadata metadata = Stub {
+        getSession() >> Stub(Session) {
+            findClass(_ as Class) >> Stub(MetaClass) {
+                getName() >> 'test_Entity'
+                getAnnotations() >> annotations
+                getStore() >> Stub(Store) {
+                    getName() >> { storeName }
+                }
+            }
+        }
+    }
+
+    def "shared cache is disabled if tenant data source url is set"() {
+        def descriptor = createDescriptor()
+
+        when:
+        createProcessor('jdbc:hsqldb:mem:tenant_{tenantId}').process(new DescriptorProcessorContext(descriptor, null))
+
+        then:
+        descriptor.cacheIsolation == CacheIsolationType.ISOLATED
+        !annotations.containsKey('cacheable')
+    }
+
+    def "shared cache is kept without tenant data source url"() {
+        def descriptor = createDescriptor()
+
+        when:
+        createProcessor(null).process(new DescriptorProcessorContext(descriptor, null))
+
+        then:
+        descriptor.cacheIsolation == CacheIsolationType.SHARED
+        annotations.cacheable == true
+    }
+
+    def "shared cache of additional data store is kept"() {
+        def descriptor = createDescriptor()
+        storeName = 'additional'
+
+        when:
+        createProcessor('jdbc:hsqldb:mem:tenant_{tenantId}').process(new DescriptorProcessorContext(descriptor, null))
+
+        then:
+        descriptor.cacheIsolation == CacheIsolationType.SHARED
+        annotations.cacheable == true
+    }
+
+    TenantRoutingCacheDescriptorProcessor createProcessor(String tenantDataSourceUrl) {
+        def properties = new MultitenancyProperties('tenantId', false,
+                tenantDataSourceUrl, 'sa', '', Duration.ofMinutes(30))
+        return new TenantRoutingCacheDescriptorProcessor(properties, metadata)
+    }
+
+    static RelationalDescriptor createDescriptor() {
+        def descriptor = new RelationalDescriptor()
+        descriptor.javaClass = TestEntity
+        descriptor.cacheIsolation = CacheIsolationType.SHARED
+        return descriptor
+    }
+
+    static class TestEntity {
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tenant_routing
+
+import io.jmix.multitenancy.MultitenancyProperties
+import io.jmix.multitenancy.core.TenantProvider
+import io.jmix.multitenancy.data.TenantRoutingDataSource
+import io.jmix.multitenancy.data.TenantRoutingDataSourcePostProcessor
+import org.apache.commons.dbcp2.BasicDataSource
+import org.springframework.beans.factory.support.StaticListableBeanFactory
+import org.springframework.jdbc.core.JdbcTemplate
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.sql.SQLException
+import java.time.Duration
+
+class TenantRoutingDataSourceTest extends Specification {
+
+    String currentTenant = TenantProvider.NO_TENANT
+
+    TenantRoutingDataSourcePostProcessor postProcessor
+    TenantRoutingDataSource routingDataSource
+
+    def setup() {
+        def properties = new MultitenancyProperties('tenantId', false,
+                'jdbc:hsqldb:mem:tenant_{tenantId}', 'sa', '', Duration.ofMinutes(30))
+
+        def beanFactory = new StaticListableBeanFactory()
+        beanFactory.addBean('mten_MultitenancyProperties', properties)
+        beanFactory.addBean('mten_TenantProvider', { currentTenant } as TenantProvider)
+
+        postProcessor = new TenantRoutingDataSourcePostProcessor()
+        postProcessor.setBeanFactory(beanFactory)
+
+        routingDataSource = postProcessor.postProcessAfterInitialization(
+                createDataSource('jdbc:hsqldb:mem:main'), 'dataSource') as TenantRoutingDataSource
+    }
+
+    def cleanup() {
+        routingDataSource.close()
+    }
+
+    def "connections are obtained from database of current tenant"() {
+        def jdbc = new JdbcTemplate(routingDataSource)
+
+        when:
+        [TenantProvider.NO_TENANT, 'a', 'b'].each { tenant ->
+            currentTenant = tenant
+            jdbc.update('create table TEST_ROW (NAME varchar(50))')
+            jdbc.update('insert into TEST_ROW (NAME) values (?)', tenant)
+        }
+
+        then:
+        [TenantProvider.NO_TENANT, 'a', 'b'].each { tenant ->
+            currentTenant = tenant
+            assert jdbc.queryForList('select NAME from TEST_ROW', String) == [tenant]
+        }
+        routingDataSource.activeTenants.toSet() == ['a', 'b'] as Set
+    }
+
+    def "idle tenant data sources are closed"() {
+        def tenantDataSources = [:]
+        def dataSource = new TenantRoutingDataSource(createDataSource('jdbc:hsqldb:mem:main'),
+                { currentTenant },
+                { String tenantId -> tenantDataSources[tenantId] = createDataSource("jdbc:hsqldb:mem:idle_$tenantId") },
+                Duration.ofMillis(50))
+
+        when:
+        currentTenant = 'a'
+        dataSource.connection.close()
+        Thread.sleep(100)
+        currentTenant = 'b'
+        dataSource.connection.close()
+        dataSource.evictIdleDataSources()
+
+        then:
+        dataSource.activeTenants.toList() == ['b']
+        (tenantDataSources['a'] as BasicDataSource).closed
+        !(tenantDataSources['b'] as BasicDataSource).closed
+
+        cleanup:
+        dataSource.close()
+    }
+
+    def "tenant data source with open connections is not closed"() {
+        def tenantDataSources = [:]
+        def dataSource = new TenantRoutingDataSource(createDataSource('jdbc:hsqldb:mem:main'),
+                { currentTenant },
+                { String tenantId -> tenantDataSources[tenantId] = createDataSource("jdbc:hsqldb:mem:open_$tenantId") },
+                Duration.ofMillis(50))
+
+        when:
+        currentTenant = 'a'
+        def connection = dataSource.connection
+        Thread.sleep(100)
+        dataSource.evictIdleDataSources()
+
+        then:
+        dataSource.activeTenants.toList() == ['a']
+        !(tenantDataSources['a'] as BasicDataSource).closed
+        !connection.closed
+
+        when:
+        connection.close()
+        connection.close()
+        Thread.sleep(100)
+        dataSource.evictIdleDataSources()
+
+        then:
+        dataSource.activeTenants.toList() == []
+        (tenantDataSources['a'] as BasicDataSource).closed
+
+        when: "connection is requested after the data source is closed"
+        def jdbc = new JdbcTemplate(dataSource)
+
+        then:
+        jdbc.queryForObject('select 1 from INFORMATION_SCHEMA.SYSTEM_USERS limit 1', Integer) == 1
+        dataSource.activeTenants.toList() == ['a']
+        !(tenantDataSources['a'] as BasicDataSource).closed
+
+        cleanup:
+        dataSource.close()
+    }
+
+    def "tenant data source is released if connection cannot be obtained"() {
+        def failingDataSource = Mock(DataSource) {
+            getConnection() >> { throw new SQLException('Database is not available') }
+        }
+        def dataSource = new TenantRoutingDataSource(createDataSource('jdbc:hsqldb:mem:main'),
+                { currentTenant }, { String tenantId -> failingDataSource }, Duration.ofMillis(50))
+
+        when:
+        currentTenant = 'a'
+        dataSource.connection
+
+        then:
+        thrown(SQLException)
+
+        when:
+        Thread.sleep(100)
+        dataSource.evictIdleDataSources()
+
+        then:
+        dataSource.activeTenants.toList() == []
+
+        cleanup:
+        dataSource.close()
+    }
+
+    def "data source is not wrapped without tenant data source url"() {
+        def beanFactory = new StaticListableBeanFactory()
+        beanFactory.addBean('mten_MultitenancyProperties',
+                new MultitenancyProperties('tenantId', false, null, null, null, Duration.ofMinutes(30)))
+        def postProcessor = new TenantRoutingDataSourcePostProcessor()
+        postProcessor.setBeanFactory(beanFactory)
+        def dataSource = createDataSource('jdbc:hsqldb:mem:unwrapped')
+
+        expect:
+        postProcessor.postProcessAfterInitialization(dataSource, 'dataSource').is(dataSource)
+
+        cleanup:
+        dataSource.close()
+    }
+
+    def "tenant id is checked before using in url"() {
+        when:
+        currentTenant = 'a;shutdown=true'
+        routingDataSource.connection
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    static BasicDataSource createDataSource(String url) {
+        def dataSource = new BasicDataSource()
+        dataSource.url = url
+        dataSource.username = 'sa'
+        dataSource.password = ''
+        return dataSource
+    }
+}
@@ -31,6 +31,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Controller that performs CRUD entity operations
@@ -54,42 +55,42 @@ public class EntitiesController {
     }
 
     @GetMapping("/{entityName}")
-    public ResponseEntity<String> loadEntitiesList(@PathVariable String entityName,
-                                                   @RequestParam(required = false) String fetchPlan,
-                                                   @RequestParam(required = false) Integer limit,
-                                                   @RequestParam(required = false) Integer offset,
-                                                   @RequestParam(required = false) String sort,
-                                                   @RequestParam(required = false) Boolean returnNulls,
-                                                   @RequestParam(required = false) Boolean returnCount,
-                                                   @RequestParam(required = false) Boolean dynamicAttributes,
-                                                   @RequestParam(required = false) String modelVersion) {
+    public ResponseEntity<StreamingResponseBody> loadEntitiesList(@PathVariable String entityName,
+                                                                  @RequestParam(required = false) String fetchPlan,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestParam(required = false) Integer offset,
+                                                                  @RequestParam(required = false) String sort,
+                                                                  @RequestParam(required = false) Boolean returnNulls,
+                                                                  @RequestParam(required = false) Boolean returnCount,
+                                                                  @RequestParam(required = false) Boolean dynamicAttributes,
+                                                                  @RequestParam(required = false) String modelVersion) {
         EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.loadEntitiesList(entityName, fetchPlan,
                 limit, offset, sort, returnNulls, returnCount, dynamicAttributes, modelVersion);
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
         if (BooleanUtils.isTrue(returnCount)) {
             responseBuilder.header("X-Total-Count", entitiesSearchResult.getCount().toString());
         }
-        return responseBuilder.body(entitiesSearchResult.getJson());
+        return responseBuilder.body(entitiesSearchResult.toResponseBody());
     }
 
     @GetMapping("/{entityName}/search")
-    public ResponseEntity<String> searchEntitiesListGet(@PathVariable String entityName,
-                                                        @RequestParam String filter,
-                                                        @RequestParam(required = false) String fetchPlan,
-                                                        @RequestParam(required = false) Integer limit,
-                                                        @RequestParam(required = false) Integer offset,
-                                                        @RequestParam(required = false) String sort,
-                                                        @RequestParam(required = false) Boolean returnNulls,
-                                                        @RequestParam(required = false) Boolean returnCount,
-                                                        @RequestParam(required = false) Boolean dynamicAttributes,
-                                                        @RequestParam(required = false) String modelVersion) {
+    public ResponseEntity<StreamingResponseBody> searchEntitiesListGet(@PathVariable String entityName,
+                                                                       @RequestParam String filter,
+                                                                       @RequestParam(required = false) String fetchPlan,
+                                                                       @RequestParam(required = false) Integer limit,
+                                                                       @RequestParam(required = false) Integer offset,
+                                                                       @RequestParam(required = false) String sort,
+                                                                       @RequestParam(required = false) Boolean returnNulls,
+                                                                       @RequestParam(required = false) Boolean returnCount,
+                                                                       @RequestParam(required = false) Boolean dynamicAttributes,
+                                                                       @RequestParam(required = false) String modelVersion) {
         EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.searchEntities(entityName, filter,
                 fetchPlan, limit, offset, sort, returnNulls, returnCount, dynamicAttributes, modelVersion);
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
         if (BooleanUtils.isTrue(returnCount)) {
             responseBuilder.header("X-Total-Count", entitiesSearchResult.getCount().toString());
         }
-        return responseBuilder.body(entitiesSearchResult.getJson());
+        return responseBuilder.body(entitiesSearchResult.toResponseBody());
     }
 
     @GetMapping("/{entityName}/search/count")
@@ -100,8 +101,8 @@ public class EntitiesController {
     }
 
     @PostMapping("/{entityName}/search")
-    public ResponseEntity<String> searchEntitiesListPost(@PathVariable String entityName,
-                                                         @RequestBody String requestBodyJson) {
+    public ResponseEntity<StreamingResponseBody> searchEntitiesListPost(@PathVariable String entityName,
+                                                                        @RequestBody String requestBodyJson) {
         EntitiesSearchResult entitiesSearchResult = entitiesControllerManager.searchEntities(entityName, requestBodyJson);
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
         JsonObject requestJsonObject = new JsonParser().parse(requestBodyJson).getAsJsonObject();
@@ -109,7 +110,7 @@ public class EntitiesController {
         if (returnCount != null && returnCount.getAsBoolean()) {
             responseBuilder.header("X-Total-Count", entitiesSearchResult.getCount().toString());
         }
-        return responseBuilder.body(entitiesSearchResult.getJson());
+        return responseBuilder.body(entitiesSearchResult.toResponseBody());
     }
 
     @PostMapping("/{entityName}/search/count")
@@ -18,6 +18,7 @@ package io.jmix.rest.impl.controller;
 
 import io.jmix.rest.impl.config.RestQueriesConfiguration;
 import io.jmix.rest.impl.service.QueriesControllerManager;
+import io.jmix.rest.impl.service.filter.data.EntitiesSearchResult;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +26,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.text.ParseException;
 import java.util.List;
@@ -41,18 +43,18 @@ public class QueriesController {
     protected QueriesControllerManager queriesControllerManager;
 
     @GetMapping("/{entityName}/{queryName}")
-    public ResponseEntity<String> executeQueryGet(@PathVariable String entityName,
-                                                  @PathVariable String queryName,
-                                                  @RequestParam(required = false) Integer limit,
-                                                  @RequestParam(required = false) Integer offset,
-                                                  @RequestParam(required = false) String view,
-                                                  @RequestParam(required = false) String fetchPlan,
-                                                  @RequestParam(required = false) Boolean returnNulls,
-                                                  @RequestParam(required = false) Boolean dynamicAttributes,
-                                                  @RequestParam(required = false) Boolean returnCount,
-                                                  @RequestParam(required = false) String modelVersion,
-                                                  @RequestParam Map<String, String> params) {
-        String resultJson = queriesControllerManager.executeQueryGet(entityName, queryName, limit, offset,
+    public ResponseEntity<StreamingResponseBody> executeQueryGet(@PathVariable String entityName,
+                                                                 @PathVariable String queryName,
+                                                                 @RequestParam(required = false) Integer limit,
+                                                                 @RequestParam(required = false) Integer offset,
+                                                                 @RequestParam(required = false) String view,
+                                                                 @RequestParam(required = false) String fetchPlan,
+                                                                 @RequestParam(required = false) Boolean returnNulls,
+                                                                 @RequestParam(required = false) Boolean dynamicAttributes,
+                                                                 @RequestParam(required = false) Boolean returnCount,
+                                                                 @RequestParam(required = false) String modelVersion,
+                                                                 @RequestParam Map<String, String> params) {
+        EntitiesSearchResult result = queriesControllerManager.executeQueryGetStreaming(entityName, queryName, limit, offset,
                 StringUtils.defaultString(fetchPlan, view), returnNulls,
                 dynamicAttributes, modelVersion, params);
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
@@ -60,30 +62,30 @@ public class QueriesController {
             String count = queriesControllerManager.getCountGet(entityName, queryName, modelVersion, params);
             responseBuilder.header("X-Total-Count", count);
         }
-        return responseBuilder.body(resultJson);
+        return responseBuilder.body(result.toResponseBody());
     }
 
     @PostMapping("/{entityName}/{queryName}")
-    public ResponseEntity<String> executeQueryPost(@PathVariable String entityName,
-                                                   @PathVariable String queryName,
-                                                   @RequestParam(required = false) Integer limit,
-                                                   @RequestParam(required = false) Integer offset,
-                                                   @RequestParam(required = false) String view,
-                                                   @RequestParam(required = false) String fetchPlan,
-                                                   @RequestParam(required = false) Boolean returnNulls,
-                                                   @RequestParam(required = false) Boolean dynamicAttributes,
-                                                   @RequestParam(required = false) Boolean returnCount,
-                                                   @RequestParam(required = false) String modelVersion,
-                                                   @RequestBody String paramsJson) {
+    public ResponseEntity<StreamingResponseBody> executeQueryPost(@PathVariable String entityName,
+                                                                  @PathVariable String queryName,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestParam(required = false) Integer offset,
+                                                                  @RequestParam(required = false) String view,
+                                                                  @RequestParam(required = false) String fetchPlan,
+                                                                  @RequestParam(required = false) Boolean returnNulls,
+                                                                  @RequestParam(required = false) Boolean dynamicAttributes,
+                                                                  @RequestParam(required = false) Boolean returnCount,
+                                                                  @RequestParam(required = false) String modelVersion,
+                                                                  @RequestBody String paramsJson) {
 
-        String resultJson = queriesControllerManager.executeQueryPost(entityName, queryName, limit, offset,
+        EntitiesSearchResult result = queriesControllerManager.executeQueryPostStreaming(entityName, queryName, limit, offset,
                 StringUtils.defaultString(fetchPlan, view), returnNulls, dynamicAttributes, modelVersion, paramsJson);
         ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(HttpStatus.OK);
         if (BooleanUtils.isTrue(returnCount)) {
             String count = queriesControllerManager.getCountPost(entityName, queryName, modelVersion, paramsJson);
             responseBuilder.header("X-Total-Count", count);
         }
-        return responseBuilder.body(resultJson);
+        return responseBuilder.body(result.toResponseBody());
     }
 
     @GetMapping(value = "/{entityName}/{queryName}/count")
@@ -160,10 +160,16 @@ public class EntitiesControllerManager {
         checkCanReadEntity(metaClass);
 
         String queryString = "select e from " + entityName + " e";
-        String json = _loadEntitiesList(queryString, viewName, limit, offset, sort, returnNulls, dynamicAttributes, modelVersion,
-                metaClass, new HashMap<>());
-
-        json = restControllerUtils.transformJsonIfRequired(entityName, modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        EntitiesSearchResult.EntitiesJson entitiesJson = null;
+        String json = null;
+        if (Strings.isNullOrEmpty(modelVersion)) {
+            entitiesJson = _streamEntitiesList(queryString, viewName, limit, offset, sort, returnNulls, dynamicAttributes,
+                    metaClass, new HashMap<>());
+        } else {
+            json = _loadEntitiesList(queryString, viewName, limit, offset, sort, returnNulls, dynamicAttributes, modelVersion,
+                    metaClass, new HashMap<>());
+            json = restControllerUtils.transformJsonIfRequired(entityName, modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        }
 
         Long count = null;
         if (BooleanUtils.isTrue(returnCount)) {
@@ -171,7 +177,7 @@ public class EntitiesControllerManager {
                     .setQuery(new LoadContext.Query(queryString));
             count = dataManager.getCount(ctx);
         }
-        return new EntitiesSearchResult(json, count);
+        return entitiesJson != null ? new EntitiesSearchResult(entitiesJson, count) : new EntitiesSearchResult(json, count);
 
     }
 
@@ -209,8 +215,15 @@ public class EntitiesControllerManager {
             queryString += " where " + jpqlWhere.replace("{E}", "e");
         }
 
-        String json = _loadEntitiesList(queryString, viewName, limit, offset, sort, returnNulls,
-                dynamicAttributes, modelVersion, metaClass, queryParameters);
+        EntitiesSearchResult.EntitiesJson entitiesJson = null;
+        String json = null;
+        if (Strings.isNullOrEmpty(modelVersion)) {
+            entitiesJson = _streamEntitiesList(queryString, viewName, limit, offset, sort, returnNulls,
+                    dynamicAttributes, metaClass, queryParameters);
+        } else {
+            json = _loadEntitiesList(queryString, viewName, limit, offset, sort, returnNulls,
+                    dynamicAttributes, modelVersion, metaClass, queryParameters);
+        }
         Long count = null;
         if (BooleanUtils.isTrue(returnCount)) {
             LoadContext ctx = new LoadContext(metadata.getClass(metaClass.getJavaClass()))
@@ -221,7 +234,7 @@ public class EntitiesControllerManager {
             count = dataManager.getCount(ctx);
         }
 
-        return new EntitiesSearchResult(json, count);
+        return entitiesJson != null ? new EntitiesSearchResult(entitiesJson, count) : new EntitiesSearchResult(json, count);
     }
 
     public Long countSearchEntities(String entityName,
@@ -297,6 +310,25 @@ public class EntitiesControllerManager {
                                        @Nullable String modelVersion,
                                        MetaClass metaClass,
                                        Map<String, Object> queryParameters) {
+        String json = _streamEntitiesList(queryString, viewName, limit, offset, sort,
+                returnNulls, dynamicAttributes, metaClass, queryParameters).toJson();
+        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
+        return json;
+    }
+
+    /**
+     * Loads entities and returns them with the serializer, so they can be written to the response without building
+     * the whole JSON string. Model version transformations are not applied.
+     */
+    protected EntitiesSearchResult.EntitiesJson _streamEntitiesList(String queryString,
+                                                                  @Nullable String viewName,
+                                                                  @Nullable Integer limit,
+                                                                  @Nullable Integer offset,
+                                                                  @Nullable String sort,
+                                                                  @Nullable Boolean returnNulls,
+                                                                  @Nullable Boolean dynamicAttributes,
+                                                                  MetaClass metaClass,
+                                                                  Map<String, Object> queryParameters) {
         LoadContext<Object> ctx = new LoadContext<>(metaClass);
         String orderedQueryString = addOrderBy(queryString, sort, metaClass);
         LoadContext.Query query = new LoadContext.Query(orderedQueryString);
@@ -333,9 +365,10 @@ public class EntitiesControllerManager {
         serializationOptions.add(DO_NOT_SERIALIZE_DENIED_PROPERTY);
         if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(EntitySerializationOption.SERIALIZE_NULLS);
 
-        String json = entitySerialization.toJson(entities, view, serializationOptions.toArray(new EntitySerializationOption[0]));
-        json = restControllerUtils.transformJsonIfRequired(metaClass.getName(), modelVersion, JsonTransformationDirection.TO_VERSION, json);
-        return json;
+        FetchPlan fetchPlan = view;
+        EntitySerializationOption[] options = serializationOptions.toArray(new EntitySerializationOption[0]);
+        return new EntitiesSearchResult.EntitiesJson(entities,
+                (part, writer) -> entitySerialization.toJson(part, fetchPlan, writer, options));
     }
 
     protected String addOrderBy(String queryString, @Nullable String sort, MetaClass metaClass) {
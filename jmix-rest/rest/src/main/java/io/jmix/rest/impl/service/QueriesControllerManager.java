@@ -31,6 +31,7 @@ import io.jmix.rest.RestProperties;
 import io.jmix.rest.impl.RestControllerUtils;
 import io.jmix.rest.impl.RestParseUtils;
 import io.jmix.rest.impl.config.RestQueriesConfiguration;
+import io.jmix.rest.impl.service.filter.data.EntitiesSearchResult;
 import io.jmix.rest.exception.RestAPIException;
 import io.jmix.rest.transform.JsonTransformationDirection;
 import org.apache.commons.lang3.BooleanUtils;
@@ -105,6 +106,58 @@ public class QueriesControllerManager {
         return _executeQuery(entityName, queryName, limit, offset, viewName, returnNulls, dynamicAttributes, version, paramsMap);
     }
 
+    /**
+     * Executes the query like {@link #executeQueryGet} but returns a result which entities are serialized directly
+     * to the response if no model version is requested.
+     */
+    public EntitiesSearchResult executeQueryGetStreaming(String entityName,
+                                                         String queryName,
+                                                         @Nullable Integer limit,
+                                                         @Nullable Integer offset,
+                                                         @Nullable String viewName,
+                                                         @Nullable Boolean returnNulls,
+                                                         @Nullable Boolean dynamicAttributes,
+                                                         @Nullable String version,
+                                                         Map<String, String> params) {
+        return _executeQueryStreaming(entityName, queryName, limit, offset, viewName, returnNulls, dynamicAttributes, version, params);
+    }
+
+    /**
+     * Executes the query like {@link #executeQueryPost} but returns a result which entities are serialized directly
+     * to the response if no model version is requested.
+     */
+    public EntitiesSearchResult executeQueryPostStreaming(String entityName,
+                                                          String queryName,
+                                                          @Nullable Integer limit,
+                                                          @Nullable Integer offset,
+                                                          @Nullable String viewName,
+                                                          @Nullable Boolean returnNulls,
+                                                          @Nullable Boolean dynamicAttributes,
+                                                          @Nullable String version,
+                                                          String paramsJson) {
+        Map<String, String> paramsMap = restParseUtils.parseParamsJson(paramsJson);
+        return _executeQueryStreaming(entityName, queryName, limit, offset, viewName, returnNulls, dynamicAttributes, version, paramsMap);
+    }
+
+    protected EntitiesSearchResult _executeQueryStreaming(String entityName,
+                                                          String queryName,
+                                                          @Nullable Integer limit,
+                                                          @Nullable Integer offset,
+                                                          @Nullable String viewName,
+                                                          @Nullable Boolean returnNulls,
+                                                          @Nullable Boolean dynamicAttributes,
+                                                          @Nullable String version,
+                                                          Map<String, String> params) {
+        if (!Strings.isNullOrEmpty(version)) {
+            return new EntitiesSearchResult(
+                    _executeQuery(entityName, queryName, limit, offset, viewName, returnNulls, dynamicAttributes, version, params),
+                    null);
+        }
+        return new EntitiesSearchResult(
+                _streamQuery(entityName, queryName, limit, offset, viewName, returnNulls, dynamicAttributes, version, params),
+                null);
+    }
+
     protected String _executeQuery(String entityName,
                                    String queryName,
                                    @Nullable Integer limit,
@@ -114,6 +167,26 @@ public class QueriesControllerManager {
                                    @Nullable Boolean dynamicAttributes,
                                    @Nullable String version,
                                    Map<String, String> params) {
+        String json = _streamQuery(entityName, queryName, limit, offset, viewName,
+                returnNulls, dynamicAttributes, version, params).toJson();
+        entityName = restControllerUtils.transformEntityNameIfRequired(entityName, version, JsonTransformationDirection.FROM_VERSION);
+        json = restControllerUtils.transformJsonIfRequired(entityName, version, JsonTransformationDirection.TO_VERSION, json);
+        return json;
+    }
+
+    /**
+     * Loads entities by the query and returns them with the serializer. Model version transformations
+     * of the result are not applied.
+     */
+    protected EntitiesSearchResult.EntitiesJson _streamQuery(String entityName,
+                                                             String queryName,
+                                                             @Nullable Integer limit,
+                                                             @Nullable Integer offset,
+                                                             @Nullable String viewName,
+                                                             @Nullable Boolean returnNulls,
+                                                             @Nullable Boolean dynamicAttributes,
+                                                             @Nullable String version,
+                                                             Map<String, String> params) {
         LoadContext<?> ctx;
         entityName = restControllerUtils.transformEntityNameIfRequired(entityName, version, JsonTransformationDirection.FROM_VERSION);
         try {
@@ -135,9 +208,10 @@ public class QueriesControllerManager {
         serializationOptions.add(EntitySerializationOption.DO_NOT_SERIALIZE_DENIED_PROPERTY);
         if (BooleanUtils.isTrue(returnNulls)) serializationOptions.add(EntitySerializationOption.SERIALIZE_NULLS);
 
-        String json = entitySerializationAPI.toJson(entities, ctx.getFetchPlan(), serializationOptions.toArray(new EntitySerializationOption[0]));
-        json = restControllerUtils.transformJsonIfRequired(entityName, version, JsonTransformationDirection.TO_VERSION, json);
-        return json;
+        FetchPlan fetchPlan = ctx.getFetchPlan();
+        EntitySerializationOption[] options = serializationOptions.toArray(new EntitySerializationOption[0]);
+        return new EntitiesSearchResult.EntitiesJson(entities,
+                (part, writer) -> entitySerializationAPI.toJson(part, fetchPlan, writer, options));
     }
 
     public String getCountGet(String entityName,
@@ -16,8 +16,25 @@
 
 package io.jmix.rest.impl.service.filter.data;
 
+import io.jmix.core.security.SecurityContextHelper;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
 public class EntitiesSearchResult {
+
+    protected static final int RESPONSE_BATCH_SIZE = 100;
+
     protected String json;
+    protected EntitiesJson entitiesJson;
     protected Long count;
 
     public EntitiesSearchResult(String json, Long count) {
@@ -25,11 +42,125 @@ public class EntitiesSearchResult {
         this.count = count;
     }
 
+    /**
+     * Creates a result which entities are serialized while the response body is written, see
+     * {@link #toResponseBody()}.
+     */
+    public EntitiesSearchResult(EntitiesJson entitiesJson, Long count) {
+        this.entitiesJson = entitiesJson;
+        this.count = count;
+    }
+
     public String getJson() {
+        if (json == null && entitiesJson != null) {
+            json = entitiesJson.toJson();
+        }
         return json;
     }
 
+    /**
+     * Returns the response body containing JSON of the result. Entities are serialized in batches while the body
+     * is written, so the whole JSON is never held in memory.
+     * <p>
+     * The first batch is serialized by this method, so if serialization fails, the exception is thrown before
+     * the response is committed and an error status is returned to the client.
+     */
+    public StreamingResponseBody toResponseBody() {
+        if (json != null || entitiesJson == null) {
+            String result = getJson();
+            return outputStream -> outputStream.write(result.getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<?> entities = entitiesJson.getEntities();
+        int firstBatchEnd = Math.min(RESPONSE_BATCH_SIZE, entities.size());
+        String firstBatchJson = entitiesJson.toJson(entities.subList(0, firstBatchEnd));
+
+        // the body is written in another thread, serialization checks permissions of the current user
+        Authentication authentication = SecurityContextHelper.getAuthentication();
+        return outputStream -> {
+            Authentication previousAuthentication = SecurityContextHelper.getAuthentication();
+            SecurityContextHelper.setAuthentication(authentication);
+            try {
+                Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+                writer.write('[');
+                boolean empty = writeElements(writer, firstBatchJson, true);
+                for (int i = firstBatchEnd; i < entities.size(); i += RESPONSE_BATCH_SIZE) {
+                    List<?> batch = entities.subList(i, Math.min(i + RESPONSE_BATCH_SIZE, entities.size()));
+                    empty = writeElements(writer, entitiesJson.toJson(batch), empty);
+                }
+                writer.write(']');
+                writer.flush();
+            } finally {
+                SecurityContextHelper.setAuthentication(previousAuthentication);
+            }
+        };
+    }
+
+    /**
+     * Writes elements of the given JSON array without the enclosing brackets.
+     *
+     * @param empty whether no elements have been written yet
+     * @return whether no elements have been written after this call
+     */
+    protected boolean writeElements(Writer writer, String jsonArray, boolean empty) throws IOException {
+        String array = jsonArray.trim();
+        if (array.length() <= 2) {
+            return empty;
+        }
+        if (!empty) {
+            writer.write(',');
+        }
+        writer.write(array, 1, array.length() - 2);
+        return false;
+    }
+
     public Long getCount() {
         return count;
     }
+
+    /**
+     * Loaded entities together with the way to serialize them to a JSON array.
+     */
+    public static class EntitiesJson {
+
+        protected final List<?> entities;
+        protected final EntitiesSerializer serializer;
+
+        public EntitiesJson(List<?> entities, EntitiesSerializer serializer) {
+            this.entities = entities;
+            this.serializer = serializer;
+        }
+
+        public List<?> getEntities() {
+            return entities;
+        }
+
+        /**
+         * Returns JSON array of all entities.
+         */
+        public String toJson() {
+            return toJson(entities);
+        }
+
+        /**
+         * Returns JSON array of the given part of entities.
+         */
+        public String toJson(Collection<?> part) {
+            StringWriter writer = new StringWriter();
+            try {
+                serializer.write(part, writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return writer.toString();
+        }
+    }
+
+    /**
+     * Writes JSON array of the given entities to the writer.
+     */
+    @FunctionalInterface
+    public interface EntitiesSerializer {
+        void write(Collection<?> entities, Writer writer) throws IOException;
+    }
 }
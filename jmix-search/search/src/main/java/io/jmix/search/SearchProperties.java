@@ -54,6 +54,13 @@ public class SearchProperties {
      */
     protected final int processQueueBatchSize;
 
+    /**
+     * Amount of parallel pipelines used to process the entire indexing queue. Queue items are distributed among
+     * pipelines by entity name, so items of the same entity are always processed in order. Value 1 (default) means
+     * sequential processing.
+     */
+    protected final int processQueueParallelism;
+
     /**
      * Amount of entity instances enqueued in single batch during entity reindex process.
      */
@@ -120,6 +127,7 @@ public class SearchProperties {
             @DefaultValue("100") int maxSearchPageCount,
             @DefaultValue("100") int searchReloadEntitiesBatchSize,
             @DefaultValue("100") int processQueueBatchSize,
+            @DefaultValue("1") int processQueueParallelism,
             @DefaultValue("100") int reindexEntityEnqueueBatchSize,
             @DefaultValue("true") boolean changedEntitiesIndexingEnabled,
             @DefaultValue("true") boolean useDefaultIndexingQueueProcessingQuartzConfiguration,
@@ -136,6 +144,7 @@ public class SearchProperties {
         this.maxSearchPageCount = maxSearchPageCount;
         this.searchReloadEntitiesBatchSize = searchReloadEntitiesBatchSize;
         this.processQueueBatchSize = processQueueBatchSize;
+        this.processQueueParallelism = processQueueParallelism;
         this.reindexEntityEnqueueBatchSize = reindexEntityEnqueueBatchSize;
         this.changedEntitiesIndexingEnabled = changedEntitiesIndexingEnabled;
         this.useDefaultIndexingQueueProcessingQuartzConfiguration = useDefaultIndexingQueueProcessingQuartzConfiguration;
@@ -178,6 +187,13 @@ public class SearchProperties {
         return processQueueBatchSize;
     }
 
+    /**
+     * @see #processQueueParallelism
+     */
+    public int getProcessQueueParallelism() {
+        return processQueueParallelism;
+    }
+
     /**
      * @see #reindexEntityEnqueueBatchSize
      */
@@ -16,6 +16,8 @@
 
 package io.jmix.search.index.queue.impl;
 
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.jmix.core.*;
 import io.jmix.core.common.util.Preconditions;
 import io.jmix.core.metamodel.model.MetaClass;
@@ -37,13 +39,18 @@ import org.apache.commons.collections4.MapUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -81,6 +88,9 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
     @Autowired
     protected EntityIdsLoaderProvider entityIdsLoaderProvider;
 
+    protected volatile ExecutorService queueProcessingExecutor;
+    protected int queueProcessingExecutorParallelism;
+
     @Override
     public int emptyQueue() {
         TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
@@ -444,6 +454,12 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         try {
             authenticator.begin();
 
+            if (processEntireQueue && searchProperties.getProcessQueueParallelism() > 1) {
+                count = processQueuePipelined(batchSize, searchProperties.getProcessQueueParallelism());
+                log.debug("{} queue items have been successfully processed", count);
+                return count;
+            }
+
             List<IndexingQueueItem> queueItems;
             do {
                 List<String> unavailableEntities = indexStateRegistry.getAllUnavailableIndexedEntities();
@@ -472,14 +488,167 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         return count;
     }
 
+    /**
+     * Processes the entire queue in overlapping stages: the calling thread dequeues the next batch while
+     * previously dequeued items are reloaded and sent to the search platform by worker threads, and successfully
+     * processed items are deleted from the queue asynchronously.
+     * <p>
+     * Items of a dequeued batch are split by entity name. Each entity name is bound to one of the pipelines,
+     * items of a pipeline are processed one group after another, so the order of processing is kept for each entity.
+     * Dequeuing stops on the first failure, the items that haven't been processed remain in the queue.
+     *
+     * @param batchSize   amount of queue items dequeued at once
+     * @param parallelism amount of pipelines
+     * @return amount of successfully processed queue items
+     */
+    protected int processQueuePipelined(int batchSize, int parallelism) {
+        ExecutorService executor = getQueueProcessingExecutor(parallelism);
+        Semaphore inFlightGroups = new Semaphore(parallelism * 2);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger count = new AtomicInteger();
+        QueueItemsDeleter deleter = new QueueItemsDeleter(executor, failure);
+
+        CompletableFuture<?>[] pipelines = new CompletableFuture<?>[parallelism];
+        Arrays.fill(pipelines, CompletableFuture.completedFuture(null));
+
+        try {
+            List<IndexingQueueItem> queueItems;
+            IndexingQueueItem lastItem = null;
+            do {
+                queueItems = dequeueQueueItems(batchSize, lastItem);
+                if (queueItems.isEmpty()) {
+                    break;
+                }
+                lastItem = queueItems.get(queueItems.size() - 1);
+
+                Map<String, List<IndexingQueueItem>> itemsByEntity = queueItems.stream()
+                        .collect(Collectors.groupingBy(IndexingQueueItem::getEntityName, LinkedHashMap::new, Collectors.toList()));
+                for (Map.Entry<String, List<IndexingQueueItem>> entry : itemsByEntity.entrySet()) {
+                    int pipeline = Math.floorMod(Objects.hashCode(entry.getKey()), parallelism);
+                    List<IndexingQueueItem> group = entry.getValue();
+                    try {
+                        inFlightGroups.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failure.compareAndSet(null, e);
+                        break;
+                    }
+                    pipelines[pipeline] = pipelines[pipeline].thenRunAsync(() -> {
+                        try {
+                            if (failure.get() == null) {
+                                List<IndexingQueueItem> processedItems = authenticator.withSystem(() -> processQueueItems(group));
+                                count.addAndGet(processedItems.size());
+                                deleter.submit(processedItems);
+                            }
+                        } catch (Throwable e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            inFlightGroups.release();
+                        }
+                    }, executor);
+                }
+            } while (failure.get() == null && queueItems.size() == batchSize);
+        } finally {
+            CompletableFuture.allOf(pipelines).join();
+            deleter.flush().join();
+        }
+
+        Throwable e = failure.get();
+        if (e != null) {
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new RuntimeException("Unable to process indexing queue", e);
+        }
+        return count.get();
+    }
+
+    /**
+     * Loads the next batch of queue items for {@link #processQueuePipelined(int, int)}.
+     *
+     * @param lastItem the last item of the previous batch or null for the first batch
+     */
+    protected List<IndexingQueueItem> dequeueQueueItems(int batchSize, @Nullable IndexingQueueItem lastItem) {
+        List<String> unavailableEntities = indexStateRegistry.getAllUnavailableIndexedEntities();
+        LoadContext<IndexingQueueItem> loadContext = createDequeueLoadContext(unavailableEntities, batchSize, lastItem);
+        log.trace("Dequeue items by load context: {}", loadContext);
+        List<IndexingQueueItem> queueItems = dataManager.loadList(loadContext);
+        log.debug("Dequeued {} items: {}", queueItems.size(), queueItems);
+        return queueItems;
+    }
+
+    /**
+     * Returns the executor with the given amount of threads. The executor is recreated if the parallelism
+     * has been changed since the previous call.
+     */
+    protected synchronized ExecutorService getQueueProcessingExecutor(int parallelism) {
+        ExecutorService executor = queueProcessingExecutor;
+        if (executor == null || queueProcessingExecutorParallelism != parallelism) {
+            if (executor != null) {
+                executor.shutdown();
+            }
+            executor = Executors.newFixedThreadPool(parallelism,
+                    new ThreadFactoryBuilder().setNameFormat("IndexingQueueProcessing-%d").setDaemon(true).build());
+            queueProcessingExecutor = executor;
+            queueProcessingExecutorParallelism = parallelism;
+        }
+        return executor;
+    }
+
+    @PreDestroy
+    protected void shutdown() {
+        ExecutorService executor = queueProcessingExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Deletes provided queue items using bulk delete statements.
+     */
+    protected void deleteQueueItems(List<IndexingQueueItem> queueItems) {
+        TransactionTemplate transactionTemplate = storeAwareLocator.getTransactionTemplate(Stores.MAIN);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.executeWithoutResult(status -> {
+            EntityManager entityManager = storeAwareLocator.getEntityManager(Stores.MAIN);
+            List<UUID> ids = queueItems.stream().map(IndexingQueueItem::getId).collect(Collectors.toList());
+            for (List<UUID> idsPart : Lists.partition(ids, searchProperties.getProcessQueueBatchSize())) {
+                Query query = entityManager.createQuery("delete from search_IndexingQueue q where q.id in :ids");
+                query.setParameter("ids", idsPart);
+                query.executeUpdate();
+            }
+        });
+        log.debug("{} processed items have been deleted from queue", queueItems.size());
+    }
+
     protected LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities, int batchSize) {
+        return createDequeueLoadContext(unavailableEntities, batchSize, null);
+    }
+
+    /**
+     * Creates load context for the next batch of queue items.
+     *
+     * @param lastItem the last item of the previous batch. If provided, only items following it are loaded,
+     *                 so the items being processed at the moment are not dequeued again.
+     */
+    protected LoadContext<IndexingQueueItem> createDequeueLoadContext(List<String> unavailableEntities, int batchSize,
+                                                                      @Nullable IndexingQueueItem lastItem) {
         LoadContext.Query query = new LoadContext.Query("");
         StringBuilder sb = new StringBuilder("select q from search_IndexingQueue q");
+        List<String> conditions = new ArrayList<>(2);
         if (!unavailableEntities.isEmpty()) {
-            sb.append(" where q.entityName not in :unavailableEntities");
+            conditions.add("q.entityName not in :unavailableEntities");
             query.setParameter("unavailableEntities", unavailableEntities);
         }
-        sb.append(" order by q.createdDate asc");
+        if (lastItem != null) {
+            conditions.add("(q.createdDate > :lastCreatedDate or (q.createdDate = :lastCreatedDate and q.id > :lastId))");
+            query.setParameter("lastCreatedDate", lastItem.getCreatedDate());
+            query.setParameter("lastId", lastItem.getId());
+        }
+        if (!conditions.isEmpty()) {
+            sb.append(" where ").append(String.join(" and ", conditions));
+        }
+        sb.append(" order by q.createdDate asc, q.id asc");
         query.setQueryString(sb.toString());
         query.setMaxResults(batchSize);
 
@@ -583,6 +752,50 @@ public class JpaIndexingQueueManager implements IndexingQueueManager {
         return queueItem;
     }
 
+    /**
+     * Collects successfully processed queue items and deletes them in the background. Items submitted while
+     * a deletion is running are accumulated and deleted together by the next one.
+     */
+    protected class QueueItemsDeleter {
+        protected final Executor executor;
+        protected final AtomicReference<Throwable> failure;
+        protected final Queue<IndexingQueueItem> pendingItems = new ConcurrentLinkedQueue<>();
+        protected CompletableFuture<Void> lastDeletion = CompletableFuture.completedFuture(null);
+
+        protected QueueItemsDeleter(Executor executor, AtomicReference<Throwable> failure) {
+            this.executor = executor;
+            this.failure = failure;
+        }
+
+        protected synchronized void submit(Collection<IndexingQueueItem> queueItems) {
+            if (queueItems.isEmpty()) {
+                return;
+            }
+            pendingItems.addAll(queueItems);
+            lastDeletion = lastDeletion.thenRunAsync(this::deletePendingItems, executor);
+        }
+
+        protected synchronized CompletableFuture<Void> flush() {
+            return lastDeletion;
+        }
+
+        protected void deletePendingItems() {
+            List<IndexingQueueItem> queueItems = new ArrayList<>();
+            IndexingQueueItem item;
+            while ((item = pendingItems.poll()) != null) {
+                queueItems.add(item);
+            }
+            if (queueItems.isEmpty()) {
+                return;
+            }
+            try {
+                deleteQueueItems(queueItems);
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
     /**
      * Analyzes collection of {@link IndexingQueueItem}, determines unique entity ids
      * and splits them among two disjoint groups: for index and for delete.
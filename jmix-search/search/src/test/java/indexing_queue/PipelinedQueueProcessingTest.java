@@ -0,0 +1,195 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package indexing_queue;
+
+import io.jmix.core.security.SystemAuthenticator;
+import io.jmix.search.index.queue.entity.IndexingQueueItem;
+import io.jmix.search.index.queue.impl.IndexingOperation;
+import io.jmix.search.index.queue.impl.JpaIndexingQueueManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PipelinedQueueProcessingTest {
+
+    private PipelineTestQueueManager queueManager;
+
+    @BeforeEach
+    public void setUp() {
+        queueManager = new PipelineTestQueueManager();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        queueManager.shutdownExecutor();
+    }
+
+    @Test
+    public void testItemsOfEntityAreProcessedInQueueOrder() {
+        List<IndexingQueueItem> queue = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            queue.add(createItem("entity" + (i % 3), i));
+        }
+        queueManager.queue.addAll(queue);
+
+        int processed = queueManager.processPipelined(4, 3);
+
+        assertEquals(30, processed);
+        for (String entityName : Arrays.asList("entity0", "entity1", "entity2")) {
+            List<String> expected = queue.stream()
+                    .filter(item -> item.getEntityName().equals(entityName))
+                    .map(IndexingQueueItem::getEntityId)
+                    .collect(Collectors.toList());
+            assertEquals(expected, queueManager.processedIds.get(entityName));
+        }
+        assertEquals(new HashSet<>(queue), new HashSet<>(queueManager.deletedItems));
+    }
+
+    @Test
+    public void testPartialLastBatchStopsDequeuing() {
+        for (int i = 0; i < 10; i++) {
+            queueManager.queue.add(createItem("entity" + (i % 2), i));
+        }
+
+        int processed = queueManager.processPipelined(4, 2);
+
+        assertEquals(10, processed);
+        assertEquals(3, queueManager.dequeueCount.get());
+        assertEquals(10, queueManager.deletedItems.size());
+    }
+
+    @Test
+    public void testProcessingFailureStopsDequeuing() {
+        for (int i = 0; i < 20; i++) {
+            queueManager.queue.add(createItem("entity" + (i % 2), i));
+        }
+        queueManager.failingEntity = "entity1";
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> queueManager.processPipelined(4, 2));
+
+        assertEquals("Processing failed", exception.getMessage());
+        assertTrue(queueManager.deletedItems.stream().allMatch(item -> item.getEntityName().equals("entity0")));
+        assertFalse(queueManager.processedIds.containsKey("entity1"));
+    }
+
+    @Test
+    public void testDeleterFailureIsReported() {
+        for (int i = 0; i < 8; i++) {
+            queueManager.queue.add(createItem("entity" + (i % 2), i));
+        }
+        queueManager.deletionFails = true;
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> queueManager.processPipelined(4, 2));
+
+        assertEquals("Deletion failed", exception.getMessage());
+        assertTrue(queueManager.deletedItems.isEmpty());
+    }
+
+    @Test
+    public void testExecutorIsRecreatedWhenParallelismChanges() {
+        ExecutorService executor1 = queueManager.getExecutor(2);
+        ExecutorService executor2 = queueManager.getExecutor(2);
+        ExecutorService executor3 = queueManager.getExecutor(4);
+
+        assertSame(executor1, executor2);
+        assertNotSame(executor1, executor3);
+        assertTrue(executor1.isShutdown());
+        assertFalse(executor3.isShutdown());
+    }
+
+    private IndexingQueueItem createItem(String entityName, int index) {
+        IndexingQueueItem item = new IndexingQueueItem();
+        item.setId(UUID.randomUUID());
+        item.setEntityName(entityName);
+        item.setEntityId(entityName + "-" + index);
+        item.setOperation(IndexingOperation.INDEX);
+        return item;
+    }
+
+    private static class PipelineTestQueueManager extends JpaIndexingQueueManager {
+
+        final List<IndexingQueueItem> queue = new ArrayList<>();
+        final Map<String, List<String>> processedIds = new ConcurrentHashMap<>();
+        final List<IndexingQueueItem> deletedItems = new CopyOnWriteArrayList<>();
+        final AtomicInteger dequeueCount = new AtomicInteger();
+        volatile String failingEntity;
+        volatile boolean deletionFails;
+
+        PipelineTestQueueManager() {
+            authenticator = mock(SystemAuthenticator.class);
+            when(authenticator.withSystem(any())).thenAnswer(invocation ->
+                    ((SystemAuthenticator.AuthenticatedOperation<?>) invocation.getArgument(0)).call());
+        }
+
+        int processPipelined(int batchSize, int parallelism) {
+            return processQueuePipelined(batchSize, parallelism);
+        }
+
+        ExecutorService getExecutor(int parallelism) {
+            return getQueueProcessingExecutor(parallelism);
+        }
+
+        void shutdownExecutor() {
+            shutdown();
+        }
+
+        @Override
+        protected List<IndexingQueueItem> dequeueQueueItems(int batchSize, @Nullable IndexingQueueItem lastItem) {
+            dequeueCount.incrementAndGet();
+            int start = lastItem == null ? 0 : queue.indexOf(lastItem) + 1;
+            return new ArrayList<>(queue.subList(start, Math.min(start + batchSize, queue.size())));
+        }
+
+        @Override
+        protected List<IndexingQueueItem> processQueueItems(List<IndexingQueueItem> queueItems) {
+            String entityName = queueItems.get(0).getEntityName();
+            if (entityName.equals(failingEntity)) {
+                throw new RuntimeException("Processing failed");
+            }
+            try {
+                // let the pipelines overlap
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            List<String> ids = processedIds.computeIfAbsent(entityName, k -> new CopyOnWriteArrayList<>());
+            queueItems.forEach(item -> ids.add(item.getEntityId()));
+            return queueItems;
+        }
+
+        @Override
+        protected void deleteQueueItems(List<IndexingQueueItem> queueItems) {
+            if (deletionFails) {
+                throw new RuntimeException("Deletion failed");
+            }
+            deletedItems.addAll(queueItems);
+        }
+    }
+}
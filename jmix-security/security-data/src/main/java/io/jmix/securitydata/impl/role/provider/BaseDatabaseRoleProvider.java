@@ -22,31 +22,57 @@ import io.jmix.core.FetchPlanBuilder;
 import io.jmix.core.Metadata;
 import io.jmix.core.UnconstrainedDataManager;
 import io.jmix.core.accesscontext.CrudEntityContext;
+import io.jmix.core.cluster.ClusterApplicationEventPublisher;
+import io.jmix.core.entity.EntityValues;
+import io.jmix.core.security.SystemAuthenticator;
 import io.jmix.security.model.BaseRole;
 import io.jmix.security.role.RoleProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 
 import org.springframework.lang.Nullable;
-import java.util.Collection;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
  * Base role provider that gets resource roles/row level roles from the database.
+ * <p>
+ * Role entities with their policies are loaded by a single query on the first request of a role and kept
+ * in a snapshot. A request of roles selects only ids of the roles available in the current context
+ * (e.g. for the current tenant) and takes the entities from the snapshot. When a role or its policy is changed,
+ * only the changed roles are reloaded to the snapshot on all cluster nodes, see
+ * {@link #refreshRolesInCluster(Collection)}. Other nodes publish the local event created by
+ * {@link #createRoleModifiedEvent()} after reloading, so the caches of roles built from the previous snapshot
+ * are cleared. Role objects are built from the entities on each request, because role repositories modify
+ * the returned roles.
  */
 public abstract class BaseDatabaseRoleProvider<T extends BaseRole> implements RoleProvider<T> {
 
+    private static final Logger log = LoggerFactory.getLogger(BaseDatabaseRoleProvider.class);
+
     protected UnconstrainedDataManager dataManager;
     protected Metadata metadata;
     protected AccessManager accessManager;
+    protected ObjectProvider<SystemAuthenticator> systemAuthenticatorProvider;
+    protected ClusterApplicationEventPublisher clusterApplicationEventPublisher;
+    protected ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Identifies this provider instance in {@link DatabaseRolesChangedEvent}, so the own events are skipped.
+     */
+    protected final String instanceId = UUID.randomUUID().toString();
+
+    protected volatile RoleEntitiesSnapshot snapshot;
+    protected final Object snapshotLock = new Object();
 
     @Override
     public Collection<T> getAllRoles() {
-        return dataManager.load(getRoleClass())
-                .all()
-                .fetchPlan(this::buildFetchPlan)
-                .list()
-                .stream()
+        return findRoleEntities("", Collections.emptyMap()).stream()
                 .map(this::buildRole)
                 .collect(Collectors.toList());
     }
@@ -54,13 +80,18 @@ public abstract class BaseDatabaseRoleProvider<T extends BaseRole> implements Ro
     @Nullable
     @Override
     public T findRoleByCode(String code) {
-        return dataManager.load(getRoleClass())
-                .query(buildFindByCodeQuery())
-                .parameter("code", code)
-                .fetchPlan(this::buildFetchPlan)
-                .optional()
+        List<Object> entities = findRoleEntities(buildFindByCodeQuery(), Collections.singletonMap("code", code));
+        return entities.isEmpty() ? null : buildRole(entities.get(0));
+    }
+
+    @Override
+    public Collection<T> findRolesByCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return findRoleEntities(buildFindByCodesQuery(), Collections.singletonMap("codes", codes)).stream()
                 .map(this::buildRole)
-                .orElse(null);
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -83,6 +114,88 @@ public abstract class BaseDatabaseRoleProvider<T extends BaseRole> implements Ro
         return true;
     }
 
+    /**
+     * Reloads role entities with the given ids to the snapshot. Roles that are not found are removed from
+     * the snapshot.
+     *
+     * @param roleIds ids of role entities
+     */
+    public void refreshRoles(Collection<?> roleIds) {
+        if (roleIds.isEmpty()) {
+            return;
+        }
+        synchronized (snapshotLock) {
+            RoleEntitiesSnapshot currentSnapshot = snapshot;
+            if (currentSnapshot == null) {
+                return;
+            }
+
+            Map<Object, Object> entitiesById = new HashMap<>(currentSnapshot.entitiesById);
+            entitiesById.keySet().removeAll(roleIds);
+            for (Object entity : loadRoleEntities(buildFindByIdsQuery(), roleIds)) {
+                entitiesById.put(EntityValues.getId(entity), entity);
+            }
+            snapshot = new RoleEntitiesSnapshot(currentSnapshot.version + 1, entitiesById);
+
+            log.debug("Refreshed {} roles, snapshot version {}", roleIds.size(), snapshot.version);
+        }
+    }
+
+    /**
+     * Reloads role entities with the given ids to the snapshot of this provider and sends
+     * {@link DatabaseRolesChangedEvent}, so the roles are reloaded on other cluster nodes too.
+     *
+     * @param roleIds ids of role entities
+     */
+    public void refreshRolesInCluster(Collection<?> roleIds) {
+        if (roleIds.isEmpty()) {
+            return;
+        }
+        refreshRoles(roleIds);
+        clusterApplicationEventPublisher.publish(new DatabaseRolesChangedEvent(this,
+                metadata.getClass(getRoleClass()).getName(), roleIds, instanceId));
+    }
+
+    /**
+     * Reloads to the snapshot the role of the given policy entity on all cluster nodes.
+     *
+     * @param policyId  id of the policy entity
+     * @param oldRoleId id of the previous role of the policy if the policy is moved to another role or deleted
+     */
+    public void refreshRolesOfPolicy(Object policyId, @Nullable Object oldRoleId) {
+        Set<Object> roleIds = new HashSet<>();
+        if (oldRoleId != null) {
+            roleIds.add(oldRoleId);
+        }
+        String policyEntityName = metadata.getClass(getPolicyClass()).getName();
+        dataManager.loadValue("select e.role.id from " + policyEntityName + " e where e.id = :id", Object.class)
+                .parameter("id", policyId)
+                .optional()
+                .ifPresent(roleIds::add);
+        refreshRolesInCluster(roleIds);
+    }
+
+    @EventListener
+    public void onDatabaseRolesChanged(DatabaseRolesChangedEvent event) {
+        if (instanceId.equals(event.getOriginId())
+                || !metadata.getClass(getRoleClass()).getName().equals(event.getRoleEntityName())) {
+            return;
+        }
+        log.debug("Refreshing {} roles changed on another node", event.getRoleIds().size());
+        refreshRoles(event.getRoleIds());
+        // the caches must be cleared after the snapshot is refreshed, otherwise outdated roles can be cached again
+        eventPublisher.publishEvent(createRoleModifiedEvent());
+    }
+
+    /**
+     * Removes the snapshot, so all role entities are loaded again on the next request.
+     */
+    public void invalidateSnapshot() {
+        synchronized (snapshotLock) {
+            snapshot = null;
+        }
+    }
+
     @Autowired
     public void setDataManager(UnconstrainedDataManager dataManager) {
         this.dataManager = dataManager;
@@ -98,13 +211,142 @@ public abstract class BaseDatabaseRoleProvider<T extends BaseRole> implements Ro
         this.accessManager = accessManager;
     }
 
+    @Autowired
+    public void setSystemAuthenticatorProvider(ObjectProvider<SystemAuthenticator> systemAuthenticatorProvider) {
+        this.systemAuthenticatorProvider = systemAuthenticatorProvider;
+    }
+
+    @Autowired
+    public void setClusterApplicationEventPublisher(ClusterApplicationEventPublisher clusterApplicationEventPublisher) {
+        this.clusterApplicationEventPublisher = clusterApplicationEventPublisher;
+    }
+
+    @Autowired
+    public void setEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Creates the event which clears caches of the roles provided by this provider, e.g. in role repositories.
+     */
+    protected abstract ApplicationEvent createRoleModifiedEvent();
+
+    /**
+     * Returns entities of roles matching the given condition that are available in the current context.
+     *
+     * @param condition  query condition, e.g. {@link #buildFindByCodesQuery()}, or empty string for all roles
+     * @param parameters parameters of the condition
+     */
+    protected List<Object> findRoleEntities(String condition, Map<String, Object> parameters) {
+        String roleEntityName = metadata.getClass(getRoleClass()).getName();
+        List<Object> ids = dataManager.loadValue("select e.id from " + roleEntityName + " e " + condition,
+                        Object.class)
+                .setParameters(parameters)
+                .list();
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        RoleEntitiesSnapshot currentSnapshot = getSnapshot();
+        List<Object> missingIds = ids.stream()
+                .filter(id -> !currentSnapshot.entitiesById.containsKey(id))
+                .collect(Collectors.toList());
+        if (!missingIds.isEmpty()) {
+            // the role is committed but the snapshot is not refreshed yet
+            refreshRoles(missingIds);
+        }
+
+        Map<Object, Object> entitiesById = getSnapshot().entitiesById;
+        List<Object> entities = new ArrayList<>(ids.size());
+        for (Object id : ids) {
+            Object entity = entitiesById.get(id);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    protected RoleEntitiesSnapshot getSnapshot() {
+        RoleEntitiesSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            synchronized (snapshotLock) {
+                currentSnapshot = snapshot;
+                if (currentSnapshot == null) {
+                    Map<Object, Object> entitiesById = new HashMap<>();
+                    for (Object entity : loadRoleEntities(null, null)) {
+                        entitiesById.put(EntityValues.getId(entity), entity);
+                    }
+                    currentSnapshot = new RoleEntitiesSnapshot(0, entitiesById);
+                    snapshot = currentSnapshot;
+
+                    log.debug("Loaded {} roles of {}", entitiesById.size(), getRoleClass().getSimpleName());
+                }
+            }
+        }
+        return currentSnapshot;
+    }
+
+    /**
+     * Loads role entities with the system authentication, so roles of all tenants are available.
+     *
+     * @param query query condition or null to load all roles
+     * @param ids   value of the {@code ids} query parameter
+     */
+    protected List<?> loadRoleEntities(@Nullable String query, @Nullable Collection<?> ids) {
+        return systemAuthenticatorProvider.getObject().withSystem(() -> {
+            if (query == null) {
+                return dataManager.load(getRoleClass())
+                        .all()
+                        .fetchPlan(this::buildFetchPlan)
+                        .list();
+            }
+            return dataManager.load(getRoleClass())
+                    .query(query)
+                    .parameter("ids", ids)
+                    .fetchPlan(this::buildFetchPlan)
+                    .list();
+        });
+    }
+
     protected abstract T buildRole(Object entity);
 
     protected abstract Class<?> getRoleClass();
 
+    /**
+     * Returns the class of policy entities having the {@code role} reference to the role entity.
+     */
+    protected abstract Class<?> getPolicyClass();
+
     protected abstract void buildFetchPlan(FetchPlanBuilder fetchPlanBuilder);
 
     protected String buildFindByCodeQuery() {
         return "where e.code = :code";
     }
+
+    protected String buildFindByCodesQuery() {
+        return "where e.code in :codes";
+    }
+
+    protected String buildFindByIdsQuery() {
+        return "where e.id in :ids";
+    }
+
+    /**
+     * Immutable snapshot of role entities by id. The version is incremented on each refresh.
+     */
+    protected static class RoleEntitiesSnapshot {
+
+        protected final long version;
+        protected final Map<Object, Object> entitiesById;
+
+        protected RoleEntitiesSnapshot(long version, Map<Object, Object> entitiesById) {
+            this.version = version;
+            this.entitiesById = Collections.unmodifiableMap(entitiesById);
+        }
+
+        public long getVersion() {
+            return version;
+        }
+    }
 }
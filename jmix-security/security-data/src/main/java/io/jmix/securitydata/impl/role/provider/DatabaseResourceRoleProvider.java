@@ -18,12 +18,14 @@ package io.jmix.securitydata.impl.role.provider;
 
 import io.jmix.core.FetchPlan;
 import io.jmix.core.FetchPlanBuilder;
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
 import io.jmix.security.model.ResourcePolicy;
 import io.jmix.security.model.ResourceRole;
 import io.jmix.security.model.RoleSource;
 import io.jmix.security.role.ResourceRoleProvider;
 import io.jmix.securitydata.entity.ResourcePolicyEntity;
 import io.jmix.securitydata.entity.ResourceRoleEntity;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
@@ -44,6 +46,16 @@ public class DatabaseResourceRoleProvider extends BaseDatabaseRoleProvider<Resou
         return ResourceRoleEntity.class;
     }
 
+    @Override
+    protected Class<?> getPolicyClass() {
+        return ResourcePolicyEntity.class;
+    }
+
+    @Override
+    protected ApplicationEvent createRoleModifiedEvent() {
+        return new ResourceRoleModifiedEvent(this);
+    }
+
     @Override
     protected void buildFetchPlan(FetchPlanBuilder fetchPlanBuilder) {
         fetchPlanBuilder
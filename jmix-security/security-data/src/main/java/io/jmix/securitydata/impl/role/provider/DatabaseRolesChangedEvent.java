@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.securitydata.impl.role.provider;
+
+import io.jmix.core.cluster.ClusterApplicationEvent;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cluster event sent when role entities or their policies are changed, so {@link BaseDatabaseRoleProvider}
+ * reloads the roles to its snapshot on each cluster node.
+ */
+public class DatabaseRolesChangedEvent extends ClusterApplicationEvent {
+
+    private static final long serialVersionUID = 4306934171851472367L;
+
+    protected final String roleEntityName;
+    protected final Set<Object> roleIds;
+    protected final String originId;
+
+    public DatabaseRolesChangedEvent(Object source, String roleEntityName, Collection<?> roleIds, String originId) {
+        super(source);
+        this.roleEntityName = roleEntityName;
+        this.roleIds = Collections.unmodifiableSet(new LinkedHashSet<>(roleIds));
+        this.originId = originId;
+    }
+
+    /**
+     * @return name of the role entity
+     */
+    public String getRoleEntityName() {
+        return roleEntityName;
+    }
+
+    /**
+     * @return ids of the changed role entities
+     */
+    public Set<Object> getRoleIds() {
+        return roleIds;
+    }
+
+    /**
+     * @return id of the role provider instance which sent the event
+     */
+    public String getOriginId() {
+        return originId;
+    }
+
+    @Override
+    public Object getCoalescingKey() {
+        return List.of(roleEntityName, roleIds, originId);
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseRolesChangedEvent{" +
+                "roleEntityName='" + roleEntityName + '\'' +
+                ", roleIds=" + roleIds +
+                '}';
+    }
+}
@@ -18,11 +18,13 @@ package io.jmix.securitydata.impl.role.provider;
 
 import io.jmix.core.FetchPlan;
 import io.jmix.core.FetchPlanBuilder;
+import io.jmix.security.impl.role.event.RowLevelRoleModifiedEvent;
 import io.jmix.security.model.*;
 import io.jmix.security.role.RowLevelRoleProvider;
 import io.jmix.securitydata.entity.RowLevelPolicyEntity;
 import io.jmix.securitydata.entity.RowLevelRoleEntity;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.scripting.ScriptEvaluator;
 import org.springframework.scripting.support.StaticScriptSource;
 import org.springframework.stereotype.Component;
@@ -53,6 +55,16 @@ public class DatabaseRowLevelRoleProvider extends BaseDatabaseRoleProvider<RowLe
         return RowLevelRoleEntity.class;
     }
 
+    @Override
+    protected Class<?> getPolicyClass() {
+        return RowLevelPolicyEntity.class;
+    }
+
+    @Override
+    protected ApplicationEvent createRoleModifiedEvent() {
+        return new RowLevelRoleModifiedEvent(this);
+    }
+
     @Override
     protected void buildFetchPlan(FetchPlanBuilder fetchPlanBuilder) {
         fetchPlanBuilder
@@ -103,12 +115,12 @@ public class DatabaseRowLevelRoleProvider extends BaseDatabaseRoleProvider<RowLe
     }
 
     public RowLevelBiPredicate<Object, ApplicationContext> createPredicateFromScript(String script) {
+        StaticScriptSource scriptSource = new StaticScriptSource(script.replace("{E}", "__entity__"));
         return (entity, applicationContext) -> {
-            String modifiedScript = script.replace("{E}", "__entity__");
             Map<String, Object> arguments = new HashMap<>();
             arguments.put("__entity__", entity);
             arguments.put("applicationContext", applicationContext);
-            return Boolean.TRUE.equals(scriptEvaluator.evaluate(new StaticScriptSource(modifiedScript), arguments));
+            return Boolean.TRUE.equals(scriptEvaluator.evaluate(scriptSource, arguments));
         };
     }
 }
\ No newline at end of file
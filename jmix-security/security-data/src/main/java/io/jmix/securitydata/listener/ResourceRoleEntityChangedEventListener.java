@@ -16,34 +16,44 @@
 
 package io.jmix.securitydata.listener;
 
+import io.jmix.core.Id;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
 import io.jmix.securitydata.entity.ResourcePolicyEntity;
 import io.jmix.securitydata.entity.ResourceRoleEntity;
+import io.jmix.securitydata.impl.role.provider.DatabaseResourceRoleProvider;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Collections;
+
 /**
- * Listener is fired when {@link ResourceRoleEntity} or {@link ResourcePolicyEntity} is changed. Listener job is to send
- * the {@link ResourceRoleModifiedEvent}.
+ * Listener is fired when {@link ResourceRoleEntity} or {@link ResourcePolicyEntity} is changed. Listener job is to refresh
+ * changed roles in the {@link DatabaseResourceRoleProvider} and send the {@link ResourceRoleModifiedEvent}.
  */
 @Component("sec_ResourceRoleEntityChangedEventListener")
 public class ResourceRoleEntityChangedEventListener {
 
     private ApplicationEventPublisher eventPublisher;
+    private DatabaseResourceRoleProvider roleProvider;
 
-    public ResourceRoleEntityChangedEventListener(ApplicationEventPublisher eventPublisher) {
+    public ResourceRoleEntityChangedEventListener(ApplicationEventPublisher eventPublisher,
+                                                  DatabaseResourceRoleProvider roleProvider) {
         this.eventPublisher = eventPublisher;
+        this.roleProvider = roleProvider;
     }
 
     @TransactionalEventListener
     void onResourceRoleEntityChanged(EntityChangedEvent<ResourceRoleEntity> event) {
+        roleProvider.refreshRolesInCluster(Collections.singleton(event.getEntityId().getValue()));
         publishRoleModifiedEvent();
     }
 
     @TransactionalEventListener
     void onResourcePolicyEntityChanged(EntityChangedEvent<ResourcePolicyEntity> event) {
+        Id<?> oldRoleId = event.getChanges().getOldReferenceId("role");
+        roleProvider.refreshRolesOfPolicy(event.getEntityId().getValue(), oldRoleId == null ? null : oldRoleId.getValue());
         publishRoleModifiedEvent();
     }
 
@@ -16,6 +16,7 @@
 
 package io.jmix.securitydata.listener;
 
+import io.jmix.core.Id;
 import io.jmix.core.event.EntityChangedEvent;
 import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
 import io.jmix.security.impl.role.event.RowLevelRoleModifiedEvent;
@@ -23,30 +24,39 @@ import io.jmix.securitydata.entity.ResourcePolicyEntity;
 import io.jmix.securitydata.entity.ResourceRoleEntity;
 import io.jmix.securitydata.entity.RowLevelPolicyEntity;
 import io.jmix.securitydata.entity.RowLevelRoleEntity;
+import io.jmix.securitydata.impl.role.provider.DatabaseRowLevelRoleProvider;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.Collections;
+
 /**
- * Listener is fired when {@link RowLevelRoleEntity} or {@link RowLevelPolicyEntity} is changed. Listener job is to send
- * the {@link RowLevelRoleModifiedEvent}.
+ * Listener is fired when {@link RowLevelRoleEntity} or {@link RowLevelPolicyEntity} is changed. Listener job is to refresh
+ * changed roles in the {@link DatabaseRowLevelRoleProvider} and send the {@link RowLevelRoleModifiedEvent}.
  */
 @Component("sec_RowLevelRoleEntityChangedEventListener")
 public class RowLevelRoleEntityChangedEventListener {
 
     private ApplicationEventPublisher eventPublisher;
+    private DatabaseRowLevelRoleProvider roleProvider;
 
-    public RowLevelRoleEntityChangedEventListener(ApplicationEventPublisher eventPublisher) {
+    public RowLevelRoleEntityChangedEventListener(ApplicationEventPublisher eventPublisher,
+                                                  DatabaseRowLevelRoleProvider roleProvider) {
         this.eventPublisher = eventPublisher;
+        this.roleProvider = roleProvider;
     }
 
     @TransactionalEventListener
     void onRowLevelRoleEntityChanged(EntityChangedEvent<RowLevelRoleEntity> event) {
+        roleProvider.refreshRolesInCluster(Collections.singleton(event.getEntityId().getValue()));
         publishRoleModifiedEvent();
     }
 
     @TransactionalEventListener
     void onRowLevelPolicyEntityChanged(EntityChangedEvent<RowLevelPolicyEntity> event) {
+        Id<?> oldRoleId = event.getChanges().getOldReferenceId("role");
+        roleProvider.refreshRolesOfPolicy(event.getEntityId().getValue(), oldRoleId == null ? null : oldRoleId.getValue());
         publishRoleModifiedEvent();
     }
 
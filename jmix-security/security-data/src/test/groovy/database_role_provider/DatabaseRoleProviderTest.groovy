@@ -21,11 +21,13 @@ import io.jmix.core.Metadata
 import io.jmix.core.SaveContext
 import io.jmix.core.UnconstrainedDataManager
 import io.jmix.security.model.*
+import io.jmix.security.role.ResourceRoleRepository
 import io.jmix.securitydata.entity.ResourcePolicyEntity
 import io.jmix.securitydata.entity.ResourceRoleEntity
 import io.jmix.securitydata.entity.RowLevelPolicyEntity
 import io.jmix.securitydata.entity.RowLevelRoleEntity
 import io.jmix.securitydata.impl.role.provider.DatabaseResourceRoleProvider
+import io.jmix.securitydata.impl.role.provider.DatabaseRolesChangedEvent
 import io.jmix.securitydata.impl.role.provider.DatabaseRowLevelRoleProvider
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.context.ApplicationContext
@@ -49,6 +51,9 @@ class DatabaseRoleProviderTest extends SecurityDataSpecification {
     @Autowired
     ApplicationContext applicationContext
 
+    @Autowired
+    ResourceRoleRepository resourceRoleRepository
+
     def setup() {
         prepareTestData()
     }
@@ -124,6 +129,95 @@ class DatabaseRoleProviderTest extends SecurityDataSpecification {
         }
     }
 
+    def "find resource roles by codes"() {
+        when:
+        def roles = databaseResourceRoleProvider.findRolesByCodes(['role1', 'unknown'])
+
+        then:
+        roles.size() == 1
+        roles[0].code == 'role1'
+        roles[0].resourcePolicies.size() == 2
+    }
+
+    def "changed role is refreshed"() {
+        given:
+        databaseResourceRoleProvider.getRoleByCode('role1')
+
+        ResourceRoleEntity role1 = dataManager.load(ResourceRoleEntity)
+                .query('e.code = ?1', 'role1')
+                .one()
+
+        when:
+        dataManager.save(createResourcePolicyEntity(ResourcePolicyType.SCREEN, 'screen3',
+                ResourcePolicy.DEFAULT_ACTION, ResourcePolicy.DEFAULT_EFFECT, 'policyGroup3', role1))
+
+        role1.name = 'Role1 changed'
+        role1 = dataManager.save(role1)
+
+        ResourceRole role = databaseResourceRoleProvider.getRoleByCode('role1')
+
+        then:
+        role.name == 'Role1 changed'
+        role.resourcePolicies.size() == 3
+
+        when:
+        dataManager.remove(role1)
+
+        then:
+        databaseResourceRoleProvider.findRoleByCode('role1') == null
+    }
+
+    def "all roles are taken from snapshot"() {
+        given:
+        databaseResourceRoleProvider.getAllRoles()
+        def snapshot = databaseResourceRoleProvider.snapshot
+
+        when: "the role is changed bypassing the entity listeners"
+        jdbcTemplate.update("update SEC_RESOURCE_ROLE set NAME = 'Role1 changed' where CODE = 'role1'")
+        def roles = databaseResourceRoleProvider.getAllRoles()
+
+        then:
+        databaseResourceRoleProvider.snapshot.is(snapshot)
+        roles*.name == ['Role1']
+    }
+
+    def "roles changed on another node are refreshed"() {
+        given:
+        databaseResourceRoleProvider.getRoleByCode('role1')
+        def role1Id = dataManager.load(ResourceRoleEntity).query('e.code = ?1', 'role1').one().id
+
+        jdbcTemplate.update("update SEC_RESOURCE_ROLE set NAME = 'Role1 changed' where CODE = 'role1'")
+
+        when: "the event is sent by the provider itself"
+        applicationContext.publishEvent(new DatabaseRolesChangedEvent(this, 'sec_ResourceRoleEntity', [role1Id],
+                databaseResourceRoleProvider.instanceId))
+
+        then:
+        databaseResourceRoleProvider.getRoleByCode('role1').name == 'Role1'
+
+        when: "the event is received from another node"
+        applicationContext.publishEvent(new DatabaseRolesChangedEvent(this, 'sec_ResourceRoleEntity', [role1Id],
+                UUID.randomUUID().toString()))
+
+        then:
+        databaseResourceRoleProvider.getRoleByCode('role1').name == 'Role1 changed'
+    }
+
+    def "role repository cache is cleared when roles are changed on another node"() {
+        given:
+        resourceRoleRepository.getRoleByCode('role1')
+        def role1Id = dataManager.load(ResourceRoleEntity).query('e.code = ?1', 'role1').one().id
+
+        jdbcTemplate.update("update SEC_RESOURCE_ROLE set NAME = 'Role1 changed' where CODE = 'role1'")
+
+        when:
+        applicationContext.publishEvent(new DatabaseRolesChangedEvent(this, 'sec_ResourceRoleEntity', [role1Id],
+                UUID.randomUUID().toString()))
+
+        then:
+        resourceRoleRepository.getRoleByCode('role1').name == 'Role1 changed'
+    }
+
     def "predicate created from script"() {
         when:
         RowLevelRole role2 = databaseRowLevelRoleProvider.getRoleByCode('role2')
@@ -22,6 +22,7 @@ import io.jmix.core.Stores;
 import io.jmix.core.annotation.JmixModule;
 import io.jmix.core.cluster.ClusterApplicationEventChannelSupplier;
 import io.jmix.core.cluster.LocalApplicationEventChannelSupplier;
+import io.jmix.core.impl.CachingGroovyScriptEvaluator;
 import io.jmix.core.impl.JmixMessageSource;
 import io.jmix.core.repository.EnableJmixDataRepositories;
 import io.jmix.core.security.InMemoryUserRepository;
@@ -32,6 +33,7 @@ import io.jmix.data.persistence.DbmsSpecifics;
 import io.jmix.eclipselink.EclipselinkConfiguration;
 import io.jmix.security.SecurityConfiguration;
 import io.jmix.security.StandardSecurityConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
 import liquibase.integration.spring.SpringLiquibase;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.springframework.cache.CacheManager;
@@ -42,7 +44,6 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaVendorAdapter;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.scripting.ScriptEvaluator;
-import org.springframework.scripting.groovy.GroovyScriptEvaluator;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -113,8 +114,8 @@ public class SecurityDataTestConfiguration {
     }
 
     @Bean
-    public ScriptEvaluator scriptEvaluator() {
-        return new GroovyScriptEvaluator();
+    public ScriptEvaluator scriptEvaluator(MeterRegistry meterRegistry) {
+        return new CachingGroovyScriptEvaluator(100, meterRegistry);
     }
 
     @Bean
@@ -16,27 +16,39 @@
 
 package io.jmix.security.impl.constraint;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.jmix.core.ExtendedEntities;
 import io.jmix.core.metamodel.model.MetaClass;
 import io.jmix.core.security.ClientDetails;
 import io.jmix.core.security.CurrentAuthentication;
 import io.jmix.security.constraint.PolicyStore;
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent;
+import io.jmix.security.impl.role.event.RowLevelRoleModifiedEvent;
 import io.jmix.security.model.*;
 import io.jmix.security.role.ResourceRoleRepository;
 import io.jmix.security.role.RoleGrantedAuthorityUtils;
 import io.jmix.security.role.RowLevelRoleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.lang.Nullable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+/**
+ * Policy store of the current authentication.
+ * <p>
+ * Policies of all roles of an authentication are compiled into {@link CompiledPolicies} on the first access and
+ * cached until the authentication is garbage collected or any role is modified.
+ */
 @Component("sec_AuthenticationPolicyStore")
 public class AuthenticationPolicyStore implements PolicyStore {
 
@@ -54,131 +66,135 @@ public class AuthenticationPolicyStore implements PolicyStore {
     @Autowired
     protected RoleGrantedAuthorityUtils roleGrantedAuthorityUtils;
 
+    // weak keys are compared by identity
+    protected Cache<Authentication, CompiledPolicies> compiledPoliciesCache = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    protected AtomicLong generation = new AtomicLong();
+
     @Override
     public Stream<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
-        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        Set<String> suitableMetaClassNames = new HashSet<>();
-        suitableMetaClassNames.add(metaClass.getName());
-        if (originalMetaClass != null) {
-            suitableMetaClassNames.add(originalMetaClass.getName());
-            for (MetaClass ancestor : originalMetaClass.getAncestors()) {
-                suitableMetaClassNames.add(ancestor.getName());
-            }
-        }
-        for (MetaClass ancestor : metaClass.getAncestors()) {
-            suitableMetaClassNames.add(ancestor.getName());
-        }
-
-        return extractRowLevelPoliciesFromAuthentication(rowLevelRole ->
-                suitableMetaClassNames.stream()
-                                .flatMap(metaClassName ->
-                                        rowLevelRole.getAllRowLevelPoliciesIndex().getRowLevelPoliciesByEntityName(metaClassName).stream())
-        );
+        return getCompiledPolicies().getRowLevelPolicies(metaClass).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityResourcePolicies(MetaClass metaClass) {
-        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole -> {
-            Set<String> resources = new HashSet<>();
-            resources.add(metaClass.getName());
-            if (originalMetaClass != null) {
-                resources.add(originalMetaClass.getName());
-            }
-            return getPoliciesStreamByTypeAndResources(resourceRole, ResourcePolicyType.ENTITY, resources);
-        });
+        return getCompiledPolicies().getEntityResourcePolicies(metaClass).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityResourcePoliciesByWildcard(String wildcard) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-            getPoliciesStreamByTypeAndResources(resourceRole,
-                    ResourcePolicyType.ENTITY,
-                    Set.of(wildcard))
-        );
+        return getCompiledPolicies().getResourcePolicies(ResourcePolicyType.ENTITY, wildcard).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityAttributesResourcePolicies(MetaClass metaClass, String attribute) {
-        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole -> {
-            Set<String> resources = new HashSet<>();
-            resources.add(metaClass.getName() + "." + attribute);
-            if (originalMetaClass != null) {
-                resources.add(originalMetaClass.getName() + "." + attribute);
-            }
-            return getPoliciesStreamByTypeAndResources(resourceRole, ResourcePolicyType.ENTITY_ATTRIBUTE, resources);
-        });
+        return getCompiledPolicies().getEntityAttributeResourcePolicies(metaClass, attribute).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getEntityAttributesResourcePoliciesByWildcard(String entityWildcard, String attributeWildcard) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.ENTITY_ATTRIBUTE,
-                        Set.of(entityWildcard + "." + attributeWildcard)));
+        return getCompiledPolicies()
+                .getResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE, entityWildcard + "." + attributeWildcard)
+                .stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getSpecificResourcePolicies(String resourceName) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.SPECIFIC,
-                        Set.of(resourceName)));
+        return getCompiledPolicies().getResourcePolicies(ResourcePolicyType.SPECIFIC, resourceName).stream();
     }
 
     @Override
     public Stream<ResourcePolicy> getGraphQLResourcePolicies(String resourceName) {
-        return extractResourcePoliciesFromAuthenticationByScope(resourceRole ->
-                getPoliciesStreamByTypeAndResources(resourceRole,
-                        ResourcePolicyType.GRAPHQL,
-                        Set.of(resourceName)));
+        return getCompiledPolicies().getResourcePolicies(ResourcePolicyType.GRAPHQL, resourceName).stream();
     }
 
-    protected Stream<ResourcePolicy> extractResourcePoliciesFromAuthenticationByScope(Function<ResourceRole, Stream<ResourcePolicy>> extractor) {
-        Stream<ResourcePolicy> stream = Stream.empty();
-
+    /**
+     * Returns policies of the current authentication compiled for fast permission checks.
+     */
+    public CompiledPolicies getCompiledPolicies() {
         Authentication authentication = currentAuthentication.getAuthentication();
+        long currentGeneration = generation.get();
+
+        CompiledPolicies compiledPolicies = compiledPoliciesCache.getIfPresent(authentication);
+        if (compiledPolicies == null || compiledPolicies.getGeneration() != currentGeneration) {
+            compiledPolicies = compilePolicies(authentication, currentGeneration);
+            compiledPoliciesCache.put(authentication, compiledPolicies);
+        }
+        return compiledPolicies;
+    }
+
+    /**
+     * Removes compiled policies of all authentications, so they are compiled again using actual roles.
+     */
+    public void invalidateCache() {
+        generation.incrementAndGet();
+        compiledPoliciesCache.invalidateAll();
+    }
+
+    @EventListener
+    public void onResourceRoleModified(ResourceRoleModifiedEvent event) {
+        invalidateCache();
+    }
+
+    @EventListener
+    public void onRowLevelRoleModified(RowLevelRoleModifiedEvent event) {
+        invalidateCache();
+    }
+
+    protected CompiledPolicies compilePolicies(Authentication authentication, long generation) {
+        return new CompiledPolicies(getResourceRoles(authentication), getRowLevelRoles(authentication),
+                extendedEntities, generation);
+    }
+
+    protected List<ResourceRole> getResourceRoles(Authentication authentication) {
+        List<ResourceRole> resourceRoles = new ArrayList<>();
         String scope = getScope(authentication);
+        String defaultRolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
         for (GrantedAuthority authority : authentication.getAuthorities()) {
-            if (authority.getAuthority() != null) {
-                String roleCode = authority.getAuthority();
-                String defaultRolePrefix = roleGrantedAuthorityUtils.getDefaultRolePrefix();
-                if (roleCode.startsWith(defaultRolePrefix)) {
-                    roleCode = roleCode.substring(defaultRolePrefix.length());
-                    ResourceRole resourceRole = resourceRoleRepository.getRoleByCode(roleCode);
-                    if (isAppliedForScope(resourceRole, scope)) {
-                        Stream<ResourcePolicy> extractedStream = extractor.apply(resourceRole);
-                        if (extractedStream != null) {
-                            stream = Stream.concat(stream, extractedStream);
-                        }
-                    }
+            String roleCode = authority.getAuthority();
+            if (roleCode != null && roleCode.startsWith(defaultRolePrefix)) {
+                ResourceRole resourceRole = resourceRoleRepository.getRoleByCode(roleCode.substring(defaultRolePrefix.length()));
+                if (isAppliedForScope(resourceRole, scope)) {
+                    resourceRoles.add(resourceRole);
                 }
             }
         }
+        return resourceRoles;
+    }
+
+    protected List<RowLevelRole> getRowLevelRoles(Authentication authentication) {
+        List<RowLevelRole> rowLevelRoles = new ArrayList<>();
+        String defaultRowLevelRolePrefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
+        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+            String roleName = grantedAuthority.getAuthority();
+            if (roleName != null && roleName.startsWith(defaultRowLevelRolePrefix)) {
+                rowLevelRoles.add(rowLevelRoleRepository.getRoleByCode(roleName.substring(defaultRowLevelRolePrefix.length())));
+            }
+        }
+        return rowLevelRoles;
+    }
 
+    protected Stream<ResourcePolicy> extractResourcePoliciesFromAuthenticationByScope(Function<ResourceRole, Stream<ResourcePolicy>> extractor) {
+        Stream<ResourcePolicy> stream = Stream.empty();
+        for (ResourceRole resourceRole : getResourceRoles(currentAuthentication.getAuthentication())) {
+            Stream<ResourcePolicy> extractedStream = extractor.apply(resourceRole);
+            if (extractedStream != null) {
+                stream = Stream.concat(stream, extractedStream);
+            }
+        }
         return stream;
     }
 
     protected Stream<RowLevelPolicy> extractRowLevelPoliciesFromAuthentication(Function<RowLevelRole, Stream<RowLevelPolicy>> extractor) {
         Stream<RowLevelPolicy> stream = Stream.empty();
-
-        Authentication authentication = currentAuthentication.getAuthentication();
-        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
-            if (grantedAuthority.getAuthority() != null) {
-                String roleName = grantedAuthority.getAuthority();
-                String defaultRowLevelRolePrefix = roleGrantedAuthorityUtils.getDefaultRowLevelRolePrefix();
-                if (roleName.startsWith(defaultRowLevelRolePrefix)) {
-                    roleName = roleName.substring(defaultRowLevelRolePrefix.length());
-                    RowLevelRole rowLevelRole = rowLevelRoleRepository.getRoleByCode(roleName);
-                    Stream<RowLevelPolicy> extractedStream = extractor.apply(rowLevelRole);
-                    if (extractedStream != null) {
-                        stream = Stream.concat(stream, extractedStream);
-                    }
-                }
+        for (RowLevelRole rowLevelRole : getRowLevelRoles(currentAuthentication.getAuthentication())) {
+            Stream<RowLevelPolicy> extractedStream = extractor.apply(rowLevelRole);
+            if (extractedStream != null) {
+                stream = Stream.concat(stream, extractedStream);
             }
         }
-
         return stream;
     }
 
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.jmix.security.impl.constraint;
+
+import io.jmix.core.ExtendedEntities;
+import io.jmix.core.metamodel.model.MetaClass;
+import io.jmix.core.metamodel.model.MetaProperty;
+import io.jmix.security.model.*;
+import org.springframework.lang.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Policies of an authentication prepared for fast permission checks.
+ * <p>
+ * Resource policies of all roles of the authentication are merged by type and resource, row-level policies are
+ * grouped by entity. Permissions for entity operations and attributes are computed once per meta-class and stored
+ * as bits, attribute bits are indexed by {@link MetaProperty#getOrdinal()}.
+ * <p>
+ * Instances are immutable after creation except for lazily computed per meta-class data.
+ *
+ * @see AuthenticationPolicyStore#getCompiledPolicies()
+ */
+public class CompiledPolicies {
+
+    protected static final String WILDCARD = "*";
+
+    protected final ExtendedEntities extendedEntities;
+    protected final long generation;
+
+    protected final Map<String, Map<String, List<ResourcePolicy>>> resourcePolicies = new HashMap<>();
+    protected final Map<String, List<RowLevelPolicy>> rowLevelPolicies = new HashMap<>();
+
+    protected final ConcurrentMap<MetaClass, List<RowLevelPolicy>> rowLevelPoliciesByMetaClass = new ConcurrentHashMap<>();
+    protected final ConcurrentMap<MetaClass, EntityPermissions> entityPermissions = new ConcurrentHashMap<>();
+
+    public CompiledPolicies(Collection<ResourceRole> resourceRoles,
+                            Collection<RowLevelRole> rowLevelRoles,
+                            ExtendedEntities extendedEntities,
+                            long generation) {
+        this.extendedEntities = extendedEntities;
+        this.generation = generation;
+
+        for (ResourceRole resourceRole : resourceRoles) {
+            for (ResourcePolicy policy : resourceRole.getAllResourcePolicies()) {
+                resourcePolicies.computeIfAbsent(policy.getType(), type -> new HashMap<>())
+                        .computeIfAbsent(policy.getResource(), resource -> new ArrayList<>())
+                        .add(policy);
+            }
+        }
+        for (RowLevelRole rowLevelRole : rowLevelRoles) {
+            for (RowLevelPolicy policy : rowLevelRole.getAllRowLevelPolicies()) {
+                rowLevelPolicies.computeIfAbsent(policy.getEntityName(), entityName -> new ArrayList<>())
+                        .add(policy);
+            }
+        }
+    }
+
+    /**
+     * @return value of the role modification counter at the moment of compilation
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns policies of the given type and resource.
+     */
+    public List<ResourcePolicy> getResourcePolicies(String policyType, String resource) {
+        Map<String, List<ResourcePolicy>> policiesByResource = resourcePolicies.get(policyType);
+        if (policiesByResource == null) {
+            return Collections.emptyList();
+        }
+        List<ResourcePolicy> policies = policiesByResource.get(resource);
+        return policies == null ? Collections.emptyList() : policies;
+    }
+
+    /**
+     * Returns entity policies of the given meta-class and its original meta-class if the entity is extended.
+     */
+    public List<ResourcePolicy> getEntityResourcePolicies(MetaClass metaClass) {
+        return getPoliciesOfClassResource(ResourcePolicyType.ENTITY, metaClass, "");
+    }
+
+    /**
+     * Returns entity attribute policies of the given meta-class and its original meta-class if the entity is extended.
+     *
+     * @param attribute attribute name or {@code *}
+     */
+    public List<ResourcePolicy> getEntityAttributeResourcePolicies(MetaClass metaClass, String attribute) {
+        return getPoliciesOfClassResource(ResourcePolicyType.ENTITY_ATTRIBUTE, metaClass, "." + attribute);
+    }
+
+    /**
+     * Returns row-level policies of the given meta-class, its original meta-class and their ancestors.
+     */
+    public List<RowLevelPolicy> getRowLevelPolicies(MetaClass metaClass) {
+        if (rowLevelPolicies.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return rowLevelPoliciesByMetaClass.computeIfAbsent(metaClass, this::collectRowLevelPolicies);
+    }
+
+    public boolean isEntityOperationPermitted(MetaClass metaClass, EntityPolicyAction action) {
+        return getEntityPermissions(metaClass).isOperationPermitted(action);
+    }
+
+    /**
+     * Returns true if any of the given actions is permitted for the attribute.
+     */
+    public boolean isEntityAttrPermitted(MetaProperty metaProperty, EntityAttributePolicyAction[] actions) {
+        EntityPermissions permissions = getEntityPermissions(metaProperty.getDomain());
+        int ordinal = metaProperty.getOrdinal();
+        if (!permissions.hasAttribute(metaProperty)) {
+            // the property has no ordinal in its domain, compute without caching
+            return computeEntityAttrPermitted(metaProperty.getDomain(), metaProperty.getName(), actions);
+        }
+        for (EntityAttributePolicyAction action : actions) {
+            if (permissions.isAttributePermitted(ordinal, action)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected EntityPermissions getEntityPermissions(MetaClass metaClass) {
+        return entityPermissions.computeIfAbsent(metaClass, this::computeEntityPermissions);
+    }
+
+    protected EntityPermissions computeEntityPermissions(MetaClass metaClass) {
+        int operations = 0;
+        for (EntityPolicyAction action : EntityPolicyAction.values()) {
+            if (computeEntityOperationPermitted(metaClass, action)) {
+                operations |= 1 << action.ordinal();
+            }
+        }
+
+        int size = 0;
+        for (MetaProperty property : metaClass.getProperties()) {
+            if (property.getDomain() == metaClass) {
+                size = Math.max(size, property.getOrdinal() + 1);
+            }
+        }
+        MetaProperty[] properties = new MetaProperty[size];
+        BitSet view = new BitSet(size);
+        BitSet modify = new BitSet(size);
+        for (MetaProperty property : metaClass.getProperties()) {
+            int ordinal = property.getOrdinal();
+            if (property.getDomain() != metaClass || ordinal < 0) {
+                continue;
+            }
+            properties[ordinal] = property;
+            view.set(ordinal, computeEntityAttrPermitted(metaClass, property.getName(),
+                    new EntityAttributePolicyAction[]{EntityAttributePolicyAction.VIEW}));
+            modify.set(ordinal, computeEntityAttrPermitted(metaClass, property.getName(),
+                    new EntityAttributePolicyAction[]{EntityAttributePolicyAction.MODIFY}));
+        }
+        return new EntityPermissions(operations, properties, view, modify);
+    }
+
+    protected boolean computeEntityOperationPermitted(MetaClass metaClass, EntityPolicyAction action) {
+        return isAnyAllowed(getEntityResourcePolicies(metaClass), action.getId(), EntityPolicyAction.ALL.getId())
+                || isAnyAllowed(getResourcePolicies(ResourcePolicyType.ENTITY, WILDCARD), action.getId(),
+                EntityPolicyAction.ALL.getId());
+    }
+
+    protected boolean computeEntityAttrPermitted(MetaClass metaClass, String name, EntityAttributePolicyAction[] actions) {
+        for (EntityAttributePolicyAction action : actions) {
+            if (isAnyAllowed(getEntityAttributeResourcePolicies(metaClass, name), action.getId(), null)
+                    || isAnyAllowed(getEntityAttributeResourcePolicies(metaClass, WILDCARD), action.getId(), null)
+                    || isAnyAllowed(getResourcePolicies(ResourcePolicyType.ENTITY_ATTRIBUTE, WILDCARD + "." + WILDCARD),
+                    action.getId(), null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected boolean isAnyAllowed(List<ResourcePolicy> policies, String action, @Nullable String allAction) {
+        for (ResourcePolicy policy : policies) {
+            if (ResourcePolicyEffect.ALLOW.equals(policy.getEffect())
+                    && (action.equals(policy.getAction()) || (allAction != null && allAction.equals(policy.getAction())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected List<ResourcePolicy> getPoliciesOfClassResource(String policyType, MetaClass metaClass, String suffix) {
+        List<ResourcePolicy> policies = getResourcePolicies(policyType, metaClass.getName() + suffix);
+        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
+        if (originalMetaClass == null || originalMetaClass.getName().equals(metaClass.getName())) {
+            return policies;
+        }
+        List<ResourcePolicy> originalPolicies = getResourcePolicies(policyType, originalMetaClass.getName() + suffix);
+        if (originalPolicies.isEmpty()) {
+            return policies;
+        }
+        if (policies.isEmpty()) {
+            return originalPolicies;
+        }
+        List<ResourcePolicy> result = new ArrayList<>(policies.size() + originalPolicies.size());
+        result.addAll(policies);
+        result.addAll(originalPolicies);
+        return result;
+    }
+
+    protected List<RowLevelPolicy> collectRowLevelPolicies(MetaClass metaClass) {
+        Set<String> suitableMetaClassNames = new LinkedHashSet<>();
+        suitableMetaClassNames.add(metaClass.getName());
+        MetaClass originalMetaClass = extendedEntities.getOriginalMetaClass(metaClass);
+        if (originalMetaClass != null) {
+            suitableMetaClassNames.add(originalMetaClass.getName());
+            for (MetaClass ancestor : originalMetaClass.getAncestors()) {
+                suitableMetaClassNames.add(ancestor.getName());
+            }
+        }
+        for (MetaClass ancestor : metaClass.getAncestors()) {
+            suitableMetaClassNames.add(ancestor.getName());
+        }
+
+        List<RowLevelPolicy> result = new ArrayList<>();
+        for (String metaClassName : suitableMetaClassNames) {
+            List<RowLevelPolicy> policies = rowLevelPolicies.get(metaClassName);
+            if (policies != null) {
+                result.addAll(policies);
+            }
+        }
+        return result.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Permissions of an entity: allowed operations as bits of {@link EntityPolicyAction#ordinal()} and allowed
+     * attribute actions as bits of {@link MetaProperty#getOrdinal()}.
+     */
+    protected static class EntityPermissions {
+
+        protected final int operations;
+        protected final MetaProperty[] properties;
+        protected final BitSet view;
+        protected final BitSet modify;
+
+        protected EntityPermissions(int operations, MetaProperty[] properties, BitSet view, BitSet modify) {
+            this.operations = operations;
+            this.properties = properties;
+            this.view = view;
+            this.modify = modify;
+        }
+
+        protected boolean isOperationPermitted(EntityPolicyAction action) {
+            return (operations & (1 << action.ordinal())) != 0;
+        }
+
+        protected boolean hasAttribute(MetaProperty metaProperty) {
+            int ordinal = metaProperty.getOrdinal();
+            return ordinal >= 0 && ordinal < properties.length && properties[ordinal] == metaProperty;
+        }
+
+        protected boolean isAttributePermitted(int ordinal, EntityAttributePolicyAction action) {
+            return action == EntityAttributePolicyAction.MODIFY ? modify.get(ordinal) : view.get(ordinal);
+        }
+    }
+}
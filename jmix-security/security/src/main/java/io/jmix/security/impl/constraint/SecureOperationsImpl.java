@@ -32,6 +32,11 @@ import java.util.Objects;
 @Component("sec_SecureOperations")
 public class SecureOperationsImpl implements SecureOperations {
 
+    protected static final EntityAttributePolicyAction[] READ_ATTRIBUTE_ACTIONS =
+            {EntityAttributePolicyAction.VIEW, EntityAttributePolicyAction.MODIFY};
+    protected static final EntityAttributePolicyAction[] UPDATE_ATTRIBUTE_ACTIONS =
+            {EntityAttributePolicyAction.MODIFY};
+
     public boolean isEntityCreatePermitted(MetaClass metaClass, PolicyStore policyStore) {
         return isEntityOperationPermitted(metaClass, EntityPolicyAction.CREATE, policyStore);
     }
@@ -53,6 +58,9 @@ public class SecureOperationsImpl implements SecureOperations {
 
     protected boolean isEntityOperationPermitted(MetaClass metaClass, EntityPolicyAction entityPolicyAction,
                                                  PolicyStore policyStore) {
+        if (policyStore instanceof AuthenticationPolicyStore authenticationPolicyStore) {
+            return authenticationPolicyStore.getCompiledPolicies().isEntityOperationPermitted(metaClass, entityPolicyAction);
+        }
 
         boolean result = policyStore.getEntityResourcePolicies(metaClass)
                 .anyMatch(policy -> isEntityOperationPermitted(policy, entityPolicyAction));
@@ -74,9 +82,7 @@ public class SecureOperationsImpl implements SecureOperations {
     @Override
     public boolean isEntityAttrReadPermitted(MetaPropertyPath metaPropertyPath, PolicyStore policyStore) {
         for (MetaProperty metaProperty : metaPropertyPath.getMetaProperties()) {
-            if (!isEntityAttrPermitted(metaProperty.getDomain(), metaProperty.getName(),
-                    new EntityAttributePolicyAction[]{EntityAttributePolicyAction.VIEW, EntityAttributePolicyAction.MODIFY},
-                    policyStore)) {
+            if (!isEntityAttrPermitted(metaProperty, READ_ATTRIBUTE_ACTIONS, policyStore)) {
                 return false;
             }
         }
@@ -86,15 +92,22 @@ public class SecureOperationsImpl implements SecureOperations {
     @Override
     public boolean isEntityAttrUpdatePermitted(MetaPropertyPath metaPropertyPath, PolicyStore policyStore) {
         for (MetaProperty metaProperty : metaPropertyPath.getMetaProperties()) {
-            if (!isEntityAttrPermitted(metaProperty.getDomain(), metaProperty.getName(),
-                    new EntityAttributePolicyAction[]{EntityAttributePolicyAction.MODIFY},
-                    policyStore)) {
+            if (!isEntityAttrPermitted(metaProperty, UPDATE_ATTRIBUTE_ACTIONS, policyStore)) {
                 return false;
             }
         }
         return true;
     }
 
+    protected boolean isEntityAttrPermitted(MetaProperty metaProperty,
+                                            EntityAttributePolicyAction[] policyActions,
+                                            PolicyStore policyStore) {
+        if (policyStore instanceof AuthenticationPolicyStore authenticationPolicyStore) {
+            return authenticationPolicyStore.getCompiledPolicies().isEntityAttrPermitted(metaProperty, policyActions);
+        }
+        return isEntityAttrPermitted(metaProperty.getDomain(), metaProperty.getName(), policyActions, policyStore);
+    }
+
     @SuppressWarnings("BooleanMethodIsAlwaysInverted")
     protected boolean isEntityAttrPermitted(MetaClass metaClass, String name,
                                             EntityAttributePolicyAction[] policyActions,
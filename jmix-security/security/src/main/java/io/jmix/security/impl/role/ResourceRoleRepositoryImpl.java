@@ -30,6 +30,7 @@ import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component("sec_ResourceRoleRepository")
 public class ResourceRoleRepositoryImpl implements ResourceRoleRepository {
@@ -38,6 +39,8 @@ public class ResourceRoleRepositoryImpl implements ResourceRoleRepository {
 
     private final CacheOperations cacheOperations;
 
+    private final AtomicLong generation = new AtomicLong();
+
     private Cache rolesCache;
 
     private final RoleRepositoryProviderUtils<ResourceRole> roleRepositoryProviderUtils;
@@ -61,7 +64,8 @@ public class ResourceRoleRepositoryImpl implements ResourceRoleRepository {
 
     @Override
     public ResourceRole findRoleByCode(String roleCode) {
-        return cacheOperations.get(rolesCache, roleCode, () ->
+        long currentGeneration = generation.get();
+        ResourceRole result = cacheOperations.get(rolesCache, roleCode, () ->
                 roleRepositoryProviderUtils.findRoleByCodeExcludeVisited(roleCode,
                         new HashSet<>(),
                         (role, childRole) -> {
@@ -69,6 +73,11 @@ public class ResourceRoleRepositoryImpl implements ResourceRoleRepository {
                             allPolicies.addAll(childRole.getAllResourcePolicies());
                             role.setAllResourcePolicies(allPolicies);
                         }));
+        if (generation.get() != currentGeneration) {
+            // the role could be built from outdated roles of providers and put to the cache after it was cleared
+            rolesCache.evict(roleCode);
+        }
+        return result;
     }
 
     @Override
@@ -92,6 +101,7 @@ public class ResourceRoleRepositoryImpl implements ResourceRoleRepository {
 
     @Override
     public void invalidateCache() {
+        generation.incrementAndGet();
         rolesCache.clear();
     }
 }
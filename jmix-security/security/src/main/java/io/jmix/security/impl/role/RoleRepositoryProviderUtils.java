@@ -25,6 +25,12 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -61,26 +67,78 @@ public class RoleRepositoryProviderUtils<T extends BaseRole> {
         return roles;
     }
 
+    /**
+     * Finds roles with the given codes. Each provider is requested for all codes not found by the previous
+     * providers at once, see {@link RoleProvider#findRolesByCodes(Collection)}.
+     *
+     * @return roles by codes
+     */
+    public Map<String, T> findRolesByCodes(Collection<String> roleCodes) {
+        Map<String, T> roles = new LinkedHashMap<>();
+        Set<String> remainingCodes = new LinkedHashSet<>(roleCodes);
+        for (RoleProvider<T> roleProvider : roleProviders) {
+            if (remainingCodes.isEmpty()) {
+                break;
+            }
+            for (T role : roleProvider.findRolesByCodes(remainingCodes)) {
+                if (remainingCodes.remove(role.getCode())) {
+                    roles.put(role.getCode(), role);
+                }
+            }
+        }
+        return roles;
+    }
+
     @Nullable
     public T findRoleByCodeExcludeVisited(String roleCode, Set<String> visited, BiConsumer<T, T> roleMergingOperation) {
-        visited.add(roleCode);
+        Map<String, T> roles = findRoleHierarchy(roleCode, visited);
+        return mergeChildRoles(roleCode, visited, roles, roleMergingOperation);
+    }
 
-        for (RoleProvider<T> roleProvider : roleProviders) {
-            T role = roleProvider.findRoleByCode(roleCode);
-            if (role != null) {
+    /**
+     * Finds the role with the given code and all its descendants. Roles of each level of the hierarchy
+     * are requested at once.
+     */
+    protected Map<String, T> findRoleHierarchy(String roleCode, Set<String> excludedCodes) {
+        Map<String, T> roles = new HashMap<>();
+        Set<String> requestedCodes = new HashSet<>(excludedCodes);
+        Set<String> codes = Collections.singleton(roleCode);
+        while (!codes.isEmpty()) {
+            requestedCodes.addAll(codes);
+            Map<String, T> levelRoles = findRolesByCodes(codes);
+            roles.putAll(levelRoles);
+
+            Set<String> childCodes = new LinkedHashSet<>();
+            for (T role : levelRoles.values()) {
                 if (role.getChildRoles() != null) {
                     for (String childCode : role.getChildRoles()) {
-                        if (!visited.contains(childCode)) {
-                            T childRole = findRoleByCodeExcludeVisited(childCode, visited, roleMergingOperation);
-                            if (childRole != null) {
-                                roleMergingOperation.accept(role, childRole);
-                            }
+                        if (!requestedCodes.contains(childCode)) {
+                            childCodes.add(childCode);
                         }
                     }
                 }
-                return role;
+            }
+            codes = childCodes;
+        }
+        return roles;
+    }
+
+    @Nullable
+    protected T mergeChildRoles(String roleCode, Set<String> visited, Map<String, T> roles,
+                                BiConsumer<T, T> roleMergingOperation) {
+        visited.add(roleCode);
+
+        T role = roles.get(roleCode);
+        if (role != null && role.getChildRoles() != null) {
+            for (String childCode : role.getChildRoles()) {
+                if (!visited.contains(childCode)) {
+                    T childRole = mergeChildRoles(childCode, visited, roles, roleMergingOperation);
+                    if (childRole != null) {
+                        roleMergingOperation.accept(role, childRole);
+                    }
+                }
             }
         }
-        return null;
+        return role;
     }
 }
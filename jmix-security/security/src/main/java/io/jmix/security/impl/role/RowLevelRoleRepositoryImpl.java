@@ -30,6 +30,7 @@ import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Component("sec_RowLevelRoleRepository")
 public class RowLevelRoleRepositoryImpl implements RowLevelRoleRepository {
@@ -40,6 +41,8 @@ public class RowLevelRoleRepositoryImpl implements RowLevelRoleRepository {
 
     private final CacheOperations cacheOperations;
 
+    private final AtomicLong generation = new AtomicLong();
+
     private final RoleRepositoryProviderUtils<RowLevelRole> roleRepositoryProviderUtils;
 
     public RowLevelRoleRepositoryImpl(CacheManager cacheManager,
@@ -61,7 +64,8 @@ public class RowLevelRoleRepositoryImpl implements RowLevelRoleRepository {
 
     @Override
     public RowLevelRole findRoleByCode(String roleCode) {
-        return cacheOperations.get(rolesCache, roleCode,
+        long currentGeneration = generation.get();
+        RowLevelRole result = cacheOperations.get(rolesCache, roleCode,
                 () -> roleRepositoryProviderUtils.findRoleByCodeExcludeVisited(roleCode,
                         new HashSet<>(),
                         (role, childRole) -> {
@@ -69,6 +73,11 @@ public class RowLevelRoleRepositoryImpl implements RowLevelRoleRepository {
                             allPolicies.addAll(childRole.getAllRowLevelPolicies());
                             role.setAllRowLevelPolicies(allPolicies);
                         }));
+        if (generation.get() != currentGeneration) {
+            // the role could be built from outdated roles of providers and put to the cache after it was cleared
+            rolesCache.evict(roleCode);
+        }
+        return result;
     }
 
     @Override
@@ -92,6 +101,7 @@ public class RowLevelRoleRepositoryImpl implements RowLevelRoleRepository {
 
     @Override
     public void invalidateCache() {
+        generation.incrementAndGet();
         rolesCache.clear();
     }
 }
@@ -19,7 +19,9 @@ package io.jmix.security.role;
 import io.jmix.security.model.BaseRole;
 
 import org.springframework.lang.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -37,6 +39,22 @@ public interface RoleProvider<T extends BaseRole> {
     @Nullable
     T findRoleByCode(String code);
 
+    /**
+     * Returns roles with the given codes. Codes of roles that are not found are skipped.
+     * <p>
+     * Providers that load roles from an external source should override this method to get all roles at once.
+     */
+    default Collection<T> findRolesByCodes(Collection<String> codes) {
+        List<T> roles = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            T role = findRoleByCode(code);
+            if (role != null) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+
     boolean deleteRole(T role);
 
     Collection<T> getAllRoles();
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package policy_store
+
+import io.jmix.core.Metadata
+import io.jmix.security.constraint.SecureOperations
+import io.jmix.security.impl.constraint.AuthenticationPolicyStore
+import io.jmix.security.impl.role.event.ResourceRoleModifiedEvent
+import io.jmix.security.role.RoleGrantedAuthorityUtils
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import test_support.SecuritySpecification
+import test_support.entity.TestCustomer
+import test_support.entity.TestOrder
+
+class AuthenticationPolicyStoreTest extends SecuritySpecification {
+
+    @Autowired
+    AuthenticationPolicyStore policyStore
+
+    @Autowired
+    SecureOperations secureOperations
+
+    @Autowired
+    RoleGrantedAuthorityUtils roleGrantedAuthorityUtils
+
+    @Autowired
+    ApplicationEventPublisher eventPublisher
+
+    @Autowired
+    Metadata metadata
+
+    def setup() {
+        def authority = roleGrantedAuthorityUtils.createResourceRoleGrantedAuthority('TestDifferentResourcePoliciesOnMethodRole')
+        SecurityContextHolder.context.authentication = new UsernamePasswordAuthenticationToken('user1', null, [authority])
+    }
+
+    def cleanup() {
+        SecurityContextHolder.clearContext()
+    }
+
+    def "permissions are computed from compiled policies"() {
+        def orderClass = metadata.getClass(TestOrder)
+
+        expect:
+        secureOperations.isEntityCreatePermitted(orderClass, policyStore)
+        secureOperations.isEntityReadPermitted(orderClass, policyStore)
+        !secureOperations.isEntityUpdatePermitted(orderClass, policyStore)
+        !secureOperations.isEntityReadPermitted(metadata.getClass(TestCustomer), policyStore)
+
+        secureOperations.isEntityAttrReadPermitted(orderClass.getPropertyPath('number'), policyStore)
+        secureOperations.isEntityAttrUpdatePermitted(orderClass.getPropertyPath('number'), policyStore)
+        !secureOperations.isEntityAttrReadPermitted(orderClass.getPropertyPath('id'), policyStore)
+
+        secureOperations.isSpecificPermitted('app.order.someSpecificStuff', policyStore)
+        !secureOperations.isSpecificPermitted('app.order.unknownStuff', policyStore)
+
+        policyStore.getEntityResourcePolicies(orderClass).count() == 2
+    }
+
+    def "compiled policies are cached for authentication until roles are modified"() {
+        when:
+        def compiledPolicies = policyStore.compiledPolicies
+
+        then:
+        policyStore.compiledPolicies.is(compiledPolicies)
+
+        when:
+        eventPublisher.publishEvent(new ResourceRoleModifiedEvent(this))
+
+        then:
+        !policyStore.compiledPolicies.is(compiledPolicies)
+    }
+
+    def "compiled policies are separate for each authentication"() {
+        def compiledPolicies = policyStore.compiledPolicies
+
+        when:
+        SecurityContextHolder.context.authentication = new UsernamePasswordAuthenticationToken('user2', null, [])
+
+        then:
+        !policyStore.compiledPolicies.is(compiledPolicies)
+        !secureOperations.isEntityReadPermitted(metadata.getClass(TestOrder), policyStore)
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024 Haulmont.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package role_repository
+
+import io.jmix.security.impl.role.RoleRepositoryProviderUtils
+import io.jmix.security.model.ResourcePolicy
+import io.jmix.security.model.ResourcePolicyType
+import io.jmix.security.model.ResourceRole
+import io.jmix.security.role.ResourceRoleProvider
+import spock.lang.Specification
+
+class RoleRepositoryProviderUtilsTest extends Specification {
+
+    TestRoleProvider firstProvider = new TestRoleProvider(
+            root: ['child1', 'child2'],
+            child1: ['grandchild'],
+            child2: ['root'])
+
+    TestRoleProvider secondProvider = new TestRoleProvider(
+            child2: [],
+            grandchild: [],
+            other: [])
+
+    RoleRepositoryProviderUtils<ResourceRole> utils = new RoleRepositoryProviderUtils<>([firstProvider, secondProvider])
+
+    def "child roles of each level are requested at once"() {
+        when:
+        def role = utils.findRoleByCodeExcludeVisited('root', new HashSet<>(), this.&mergePolicies)
+
+        then:
+        role.code == 'root'
+        role.allResourcePolicies*.resource.toSet() == ['root', 'child1', 'child2', 'grandchild'] as Set
+
+        firstProvider.requests == [['root'], ['child1', 'child2'], ['grandchild']]
+        secondProvider.requests == [['grandchild']]
+    }
+
+    def "roles are searched in next providers only if not found"() {
+        when:
+        def roles = utils.findRolesByCodes(['child2', 'other', 'unknown'])
+
+        then:
+        roles.keySet() == ['child2', 'other'] as Set
+        roles.child2.childRoles == ['root'] as Set
+        secondProvider.requests == [['other', 'unknown']]
+    }
+
+    static void mergePolicies(ResourceRole role, ResourceRole childRole) {
+        def allPolicies = new ArrayList<>(role.allResourcePolicies)
+        allPolicies.addAll(childRole.allResourcePolicies)
+        role.allResourcePolicies = allPolicies
+    }
+
+    static class TestRoleProvider implements ResourceRoleProvider {
+
+        Map<String, List<String>> childRolesByCode
+        List<List<String>> requests = []
+
+        TestRoleProvider(Map<String, List<String>> childRolesByCode) {
+            this.childRolesByCode = childRolesByCode
+        }
+
+        @Override
+        ResourceRole findRoleByCode(String code) {
+            throw new UnsupportedOperationException('Roles must be requested by codes')
+        }
+
+        @Override
+        Collection<ResourceRole> findRolesByCodes(Collection<String> codes) {
+            requests << codes.toList()
+            return codes.findAll { childRolesByCode.containsKey(it) }.collect { createRole(it) }
+        }
+
+        @Override
+        boolean deleteRole(ResourceRole role) {
+            return false
+        }
+
+        @Override
+        Collection<ResourceRole> getAllRoles() {
+            return childRolesByCode.keySet().collect { createRole(it) }
+        }
+
+        ResourceRole createRole(String code) {
+            def role = new ResourceRole()
+            role.code = code
+            role.name = code
+            role.childRoles = childRolesByCode[code].toSet()
+            role.resourcePolicies = [ResourcePolicy.builder(ResourcePolicyType.SCREEN, code).build()]
+            return role
+        }
+    }
+}